@@ -0,0 +1,84 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.ecs.EntityStore;
+import com.example.demo.ecs.LifetimeSystem;
+import com.example.demo.ecs.MovementSystem;
+import com.example.demo.ecs.World;
+import com.example.demo.model.Faction;
+import com.example.demo.utils.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the systems of the entity-component-system core and its full tick, for entity
+ * counts well beyond what the actor classes handle.
+ * <p>
+ * Entities crawl slowly enough to stay inside the world for the whole iteration, so the lifetime
+ * and bounds check visits every one of them without draining the store. The world is rebuilt
+ * before every measurement iteration, as in {@link TickPipelineBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityTickBenchmark {
+
+    private static final double WORLD_WIDTH = 1300;
+    private static final double WORLD_HEIGHT = 750;
+    private static final int PROJECTILE = 1;
+
+    @Param({"1000", "10000", "50000"})
+    public int entityCount;
+
+    private World world;
+    private MovementSystem movement;
+    private LifetimeSystem lifetime;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GameRandom random = new GameRandom(42);
+        movement = new MovementSystem();
+        lifetime = new LifetimeSystem(-WORLD_WIDTH, -WORLD_HEIGHT, 2 * WORLD_WIDTH, 2 * WORLD_HEIGHT);
+        world = new World().addSystem(movement).addSystem(lifetime);
+
+        EntityStore store = world.getStore();
+        for (int i = 0; i < entityCount; i++) {
+            int id = store.create(random.nextDouble(GameRandom.Stream.SPAWNING) * WORLD_WIDTH,
+                    random.nextDouble(GameRandom.Stream.SPAWNING) * WORLD_HEIGHT, 30, 20);
+            store.setFaction(id, Faction.ENEMY);
+            store.setKind(id, PROJECTILE);
+            store.setHealth(id, 1);
+            store.setVelocity(id, i % 2 == 0 ? -0.01 : 0.01, 0);
+        }
+    }
+
+    @Benchmark
+    public void movement() {
+        movement.update(world.getStore());
+    }
+
+    @Benchmark
+    public void lifetime() {
+        lifetime.update(world.getStore());
+    }
+
+    @Benchmark
+    public void fullTick() {
+        world.tick();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.factory.BasicFighterPlaneFactory;
+import com.example.demo.actors.factory.ProjectileFactory;
+import com.example.demo.actors.plane.BasicFighterPlane;
+import com.example.demo.actors.plane.UserPlane;
+import com.example.demo.managers.ActorManager;
+import com.example.demo.ecs.EntityStore;
+import com.example.demo.managers.CollisionManager;
+import com.example.demo.managers.EnemyFireManager;
+import com.example.demo.managers.EnemyManager;
+import com.example.demo.rendering.RenderMode;
+import com.example.demo.sounds.SoundManager;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.SpriteCache;
+import javafx.scene.Group;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the managers used by a level, populated with a given number of enemies and user
+ * projectiles spread over the screen, without creating a window or starting the game loop.
+ * <p>
+ * Like the headless runner, the fixture uses placeholder sprites, mutes sound effects and draws
+ * nothing, so it runs without the JavaFX toolkit or a display.
+ * </p>
+ */
+class TickFixture {
+
+    static final double SCREEN_WIDTH = 1300;
+    static final double SCREEN_HEIGHT = 750;
+    private static final double ENEMY_MAXIMUM_Y_POSITION = SCREEN_HEIGHT - 150;
+    private static final long SEED = 42;
+
+    final Group root = new Group();
+    final ActorManager actorManager = new ActorManager(RenderMode.HEADLESS);
+    final UserPlane user;
+    final CollisionManager collisionManager;
+    final EnemyFireManager enemyFireManager;
+    final EnemyManager enemyManager;
+
+    private final SplittableRandom random = new SplittableRandom(SEED);
+
+    /**
+     * Creates a fixture holding the given number of enemies and the same number of user projectiles.
+     *
+     * @param actorCount The number of enemies and of user projectiles to create.
+     */
+    TickFixture(int actorCount) {
+        useHeadlessMode();
+        GameRandom.setSessionSeed(SEED); // Same spawn and fire decisions on every run
+        user = new UserPlane(5);
+        actorManager.addFriendlyUnit(user, root);
+        collisionManager = new CollisionManager(actorManager, user, root, SCREEN_WIDTH, SCREEN_HEIGHT);
+        collisionManager.setScreenShakeEnabled(false);
+        enemyFireManager = new EnemyFireManager(collisionManager, RenderMode.HEADLESS, SCREEN_WIDTH, SCREEN_HEIGHT);
+        enemyManager = new EnemyManager(actorManager, root, new BasicFighterPlaneFactory(),
+                SCREEN_WIDTH, ENEMY_MAXIMUM_Y_POSITION, 1.0, actorCount, enemyFireManager);
+
+        for (int i = 0; i < actorCount; i++) {
+            actorManager.addEnemyUnit(new BasicFighterPlane(randomX(), randomY()), root);
+            addUserProjectile();
+        }
+    }
+
+    /**
+     * Adds one user projectile at a random position.
+     */
+    void addUserProjectile() {
+        actorManager.addUserProjectile(
+                ProjectileFactory.createProjectile(ProjectileFactory.ProjectileType.USER, randomX(), randomY()), root);
+    }
+
+    /**
+     * Removes the most recently added enemy, so that the next {@link EnemyManager#spawnEnemies()}
+     * has room to spawn one.
+     */
+    void removeNewestEnemy() {
+        List<ActiveActorDestructible> enemies = actorManager.getEnemyUnits();
+        enemies.get(enemies.size() - 1).destroy();
+        actorManager.cleanUpDestroyedActors(root);
+    }
+
+    /**
+     * Removes every enemy projectile, both the boss's actors and the fighters' entities.
+     */
+    void clearEnemyFire() {
+        actorManager.getEnemyProjectiles().forEach(ActiveActorDestructible::destroy);
+        actorManager.cleanUpDestroyedActors(root);
+        EntityStore store = enemyFireManager.getStore();
+        for (int i = 0; i < store.size(); i++) {
+            store.destroy(store.idAt(i));
+        }
+        store.removeDestroyed();
+    }
+
+    /**
+     * Runs the same phases as {@code LevelParent.updateScene}, minus input and UI, followed by render sync.
+     */
+    void tick() {
+        enemyManager.spawnEnemies();
+        enemyManager.generateEnemyFire();
+        actorManager.updateActors();
+        collisionManager.handleAllCollisions();
+        enemyFireManager.tick();
+        actorManager.cleanUpDestroyedActors(root);
+        actorManager.syncNodes();
+        enemyFireManager.syncNodes();
+    }
+
+    private double randomX() {
+        return random.nextDouble() * SCREEN_WIDTH;
+    }
+
+    private double randomY() {
+        return random.nextDouble() * ENEMY_MAXIMUM_Y_POSITION;
+    }
+
+    /**
+     * Switches to placeholder sprites and silent sound effects, as the headless runner does.
+     */
+    private static void useHeadlessMode() {
+        SpriteCache.getInstance().setPlaceholderImages(true);
+        SoundManager.getInstance().muteSoundEffects();
+    }
+}
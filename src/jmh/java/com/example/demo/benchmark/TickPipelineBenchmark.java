@@ -0,0 +1,139 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each phase of the game tick and the full tick, for a range of actor counts.
+ * <p>
+ * The fixture is rebuilt before every measurement iteration so that actors drifting off-screen
+ * do not change the workload across iterations. The phases that add actors are measured on
+ * fixtures reset before every invocation instead, so each invocation starts from the same
+ * state: {@link #spawnEnemies(SpawnFixture)} always has room for one enemy, and
+ * {@link #generateEnemyFire(FireFixture)} never piles its shots onto the previous invocation's.
+ * Run with the {@code jmh} Maven profile; allocation rates are reported by the GC profiler.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TickPipelineBenchmark {
+
+    private static final int CLEANUP_STRIDE = 10; // Destroy every tenth projectile per cleanup
+
+    @Param({"10", "100", "1000", "10000"})
+    public int actorCount;
+
+    private TickFixture fixture;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = new TickFixture(actorCount);
+    }
+
+    @Benchmark
+    public void updateActors() {
+        fixture.actorManager.updateActors();
+    }
+
+    /**
+     * Destroys a tenth of the user projectiles, cleans them up and replaces them, so every
+     * invocation removes the same number of actors.
+     */
+    @Benchmark
+    public void cleanUpDestroyedActors() {
+        List<ActiveActorDestructible> projectiles = fixture.actorManager.getUserProjectiles();
+        int destroyed = 0;
+        for (int i = 0; i < projectiles.size(); i += CLEANUP_STRIDE) {
+            projectiles.get(i).destroy();
+            destroyed++;
+        }
+        fixture.actorManager.cleanUpDestroyedActors(fixture.root);
+        for (int i = 0; i < destroyed; i++) {
+            fixture.addUserProjectile();
+        }
+    }
+
+    @Benchmark
+    public void handleAllCollisions() {
+        fixture.collisionManager.handleAllCollisions();
+    }
+
+    @Benchmark
+    public void spawnEnemies(SpawnFixture state) {
+        state.fixture.enemyManager.spawnEnemies();
+    }
+
+    @Benchmark
+    public void generateEnemyFire(FireFixture state) {
+        state.fixture.enemyManager.generateEnemyFire();
+    }
+
+    @Benchmark
+    public void fullTick() {
+        fixture.tick();
+    }
+
+    /**
+     * A full fixture with one enemy removed before every invocation, so that spawning always
+     * creates an enemy instead of finding the screen full.
+     */
+    @State(Scope.Thread)
+    public static class SpawnFixture {
+
+        @Param({"10", "100", "1000", "10000"})
+        public int actorCount;
+
+        TickFixture fixture;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            fixture = new TickFixture(actorCount);
+        }
+
+        @Setup(Level.Invocation)
+        public void makeRoom() {
+            fixture.removeNewestEnemy();
+        }
+    }
+
+    /**
+     * A full fixture whose enemy fire is cleared before every invocation, so every invocation
+     * fires from the same enemies into an empty sky.
+     */
+    @State(Scope.Thread)
+    public static class FireFixture {
+
+        @Param({"10", "100", "1000", "10000"})
+        public int actorCount;
+
+        TickFixture fixture;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            fixture = new TickFixture(actorCount);
+        }
+
+        @Setup(Level.Invocation)
+        public void clearFire() {
+            fixture.clearEnemyFire();
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.demo.actors;
 
+import com.example.demo.events.GameEventLog;
+import com.example.demo.model.ActorBody;
+import com.example.demo.model.CollisionMask;
+import com.example.demo.model.HitBoxes;
+import com.example.demo.model.HitShape;
+import com.example.demo.utils.CollisionMaskCache;
+import com.example.demo.utils.atlas.AtlasSprite;
+import com.example.demo.utils.atlas.SpriteAtlas;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-
 /**
  * Represents an active, drawable actor in the game.
  * <p>
@@ -11,35 +19,89 @@ import javafx.scene.image.ImageView;
  * including image initialization, positioning, and movement logic. Subclasses must implement
  * specific behavior by overriding the {@link #updatePosition()} method.
  * </p>
+ * <p>
+ * The simulated state of the actor lives in an {@link ActorBody}; movement only changes the body.
+ * A standalone actor pushes every change into its node straight away. Once an actor is owned by
+ * the game loop its render sync is deferred, and {@link #syncNode()} pushes the body into the
+ * node's layout and translate properties once per frame.
+ * </p>
+ * <p>
+ * An actor is hit anywhere in its body's bounding box unless it is given a {@link HitShape}, in
+ * which case its {@link HitBoxes} are recomputed once per tick by {@link #updateHitBoxes()}.
+ * Hits can further be narrowed to the sprite's opaque pixels with its {@link CollisionMask}.
+ * </p>
  */
 public abstract class ActiveActor extends ImageView {
 
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	private final ActorBody body;
+	private HitBoxes hitBoxes; // Null when the body's bounding box is the hit area
+	private CollisionMask collisionMask; // Null when the sprite has no transparent pixels
+	private boolean renderSyncDeferred;
+
 	// Constructor
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super();
-		initializeImage(imageName);
+		this.body = new ActorBody(initialXPos, initialYPos);
+		initializeImage(IMAGE_LOCATION + imageName, 0, imageHeight);
+		this.collisionMask = CollisionMaskCache.getInstance().getMask(IMAGE_LOCATION + imageName, imageHeight);
 		setPosition(initialXPos, initialYPos);
-		setSize(imageHeight);
+		setSize(0, imageHeight);
 	}
 
 	/**
-	 * Initializes the image for the actor.
-	 * If the specified image is not found, a placeholder image is used.
+	 * Replaces the actor's sprite, fitted into the given box with its aspect ratio preserved, and
+	 * resizes the body to the area the sprite is drawn in. The actor is then hit anywhere in its body.
+	 * If the image is not found, the actor keeps its current sprite, size and hit shape.
 	 *
-	 * @param imageName the name of the image file
-	 */
-	private void initializeImage(String imageName) {
-		java.net.URL imageUrl = getClass().getResource(IMAGE_LOCATION + imageName);
-		if (imageUrl == null) {
-			System.err.println("Image resource not found: " + IMAGE_LOCATION + imageName);
-			this.setImage(new Image("path_to_default_placeholder_image"));
-		} else {
-			this.setImage(new Image(imageUrl.toExternalForm()));
+	 * @param resourcePath the absolute classpath location of the image
+	 * @param fitWidth     the width of the box, or 0 to leave it unconstrained
+	 * @param fitHeight    the height of the box, or 0 to leave it unconstrained
+	 */
+	public void setSprite(String resourcePath, double fitWidth, double fitHeight) {
+		setSprite(resourcePath, fitWidth, fitHeight, null);
+	}
+
+	/**
+	 * Replaces the actor's sprite and the shape it can be hit in, which is traced from that sprite,
+	 * and narrows hits to the new sprite's {@link CollisionMask}.
+	 * If the image is not found, the actor keeps its current sprite, size, hit shape and mask.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @param fitWidth     the width of the box, or 0 to leave it unconstrained
+	 * @param fitHeight    the height of the box, or 0 to leave it unconstrained
+	 * @param hitShape     the shape of the sprite, or null to hit the whole body
+	 */
+	public void setSprite(String resourcePath, double fitWidth, double fitHeight, HitShape hitShape) {
+		if (initializeImage(resourcePath, fitWidth, fitHeight)) {
+			setSize(fitWidth, fitHeight);
+			setHitShape(hitShape);
+			collisionMask = CollisionMaskCache.getInstance().getMask(resourcePath, (int) Math.round(body.getHeight()));
 		}
 	}
 
+	/**
+	 * Initializes the image for the actor from the shared {@link SpriteAtlas}, so every actor
+	 * shows a region of the same atlas texture.
+	 * If the specified image is not found, the actor's image is left unchanged, and the missing image
+	 * is reported once through {@link GameEventLog#warnOnce(String)}.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @param fitWidth     the width the image is displayed at, or 0
+	 * @param fitHeight    the height the image is displayed at, or 0
+	 * @return true if the image was found
+	 */
+	private boolean initializeImage(String resourcePath, double fitWidth, double fitHeight) {
+		AtlasSprite sprite = SpriteAtlas.getInstance().getSprite(resourcePath, fitWidth, fitHeight);
+		if (sprite == null) {
+			GameEventLog.getInstance().warnOnce("Image resource not found: " + resourcePath);
+			return false;
+		}
+		sprite.applyTo(this);
+		return true;
+	}
+
 	/**
 	 * Sets the initial position of the actor.
 	 *
@@ -47,18 +109,40 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos the initial Y position
 	 */
 	private void setPosition(double initialXPos, double initialYPos) {
+		body.setOrigin(initialXPos, initialYPos);
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 	}
 
 	/**
-	 * Sets the size of the actor while preserving the aspect ratio.
+	 * Fits the actor into a box while preserving the aspect ratio, and sizes the body to match.
 	 *
-	 * @param imageHeight the desired height of the image
+	 * @param fitWidth  the width of the box, or 0 to leave it unconstrained
+	 * @param fitHeight the height of the box, or 0 to leave it unconstrained
 	 */
-	private void setSize(int imageHeight) {
-		this.setFitHeight(imageHeight);
+	private void setSize(double fitWidth, double fitHeight) {
+		this.setFitWidth(fitWidth);
+		this.setFitHeight(fitHeight);
 		this.setPreserveRatio(true);
+		Image image = getImage();
+		Rectangle2D viewport = getViewport();
+		double spriteWidth = viewport != null ? viewport.getWidth() : image != null ? image.getWidth() : 0;
+		double spriteHeight = viewport != null ? viewport.getHeight() : image != null ? image.getHeight() : 0;
+		if (spriteWidth <= 0 || spriteHeight <= 0) {
+			body.setSize(0, 0);
+			return;
+		}
+		double scale = Double.POSITIVE_INFINITY;
+		if (fitWidth > 0) {
+			scale = fitWidth / spriteWidth;
+		}
+		if (fitHeight > 0) {
+			scale = Math.min(scale, fitHeight / spriteHeight);
+		}
+		if (scale == Double.POSITIVE_INFINITY) {
+			scale = 1; // Natural size
+		}
+		body.setSize(spriteWidth * scale, spriteHeight * scale);
 	}
 
 	/**
@@ -73,7 +157,8 @@ public abstract class ActiveActor extends ImageView {
 	 * @param horizontalMove the amount to move horizontally
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		body.moveBy(horizontalMove, 0);
+		syncIfImmediate();
 	}
 
 	/**
@@ -82,6 +167,142 @@ public abstract class ActiveActor extends ImageView {
 	 * @param verticalMove the amount to move vertically
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		body.moveBy(0, verticalMove);
+		syncIfImmediate();
+	}
+
+	/**
+	 * Places the actor at a new origin, clearing any movement applied so far.
+	 *
+	 * @param xPosition the new X position
+	 * @param yPosition the new Y position
+	 */
+	protected void placeAt(double xPosition, double yPosition) {
+		body.setOrigin(xPosition, yPosition);
+		syncNode();
+	}
+
+	/**
+	 * Sets the horizontal offset of the actor from its origin.
+	 *
+	 * @param offsetX the new horizontal offset
+	 */
+	protected void setOffsetX(double offsetX) {
+		body.setOffsetX(offsetX);
+		syncIfImmediate();
+	}
+
+	/**
+	 * Sets the vertical offset of the actor from its origin.
+	 *
+	 * @param offsetY the new vertical offset
+	 */
+	protected void setOffsetY(double offsetY) {
+		body.setOffsetY(offsetY);
+		syncIfImmediate();
+	}
+
+	/**
+	 * @return the simulated X position of the actor's top-left corner
+	 */
+	public double getPositionX() {
+		return body.getX();
+	}
+
+	/**
+	 * @return the simulated Y position of the actor's top-left corner
+	 */
+	public double getPositionY() {
+		return body.getY();
+	}
+
+	/**
+	 * Retrieves the simulation state of the actor.
+	 *
+	 * @return the actor's {@link ActorBody}
+	 */
+	public ActorBody getBody() {
+		return body;
+	}
+
+	/**
+	 * Retrieves the boxes the actor can be hit in, as of the last {@link #updateHitBoxes()}.
+	 *
+	 * @return the actor's {@link HitBoxes}, or null if the whole body is the hit area
+	 */
+	public HitBoxes getHitBoxes() {
+		return hitBoxes;
+	}
+
+	/**
+	 * Retrieves the opaque pixels of the actor's sprite at its display size, placed at the body's
+	 * top-left corner.
+	 *
+	 * @return the actor's {@link CollisionMask}, or null if the whole body is opaque
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	/**
+	 * Places the actor's hit shape at its body's current position. Called once per tick after the
+	 * actor has moved.
+	 */
+	public void updateHitBoxes() {
+		if (hitBoxes != null) {
+			hitBoxes.update(body);
+		}
+	}
+
+	/**
+	 * Gives the actor a hit shape in place of its body's bounding box. The shape belongs to the
+	 * current sprite; {@link #setSprite(String, double, double, HitShape)} replaces both together.
+	 *
+	 * @param shape the shape the actor can be hit in, or null to hit the whole body
+	 */
+	protected void setHitShape(HitShape shape) {
+		hitBoxes = shape != null ? new HitBoxes(shape) : null;
+		updateHitBoxes();
+	}
+
+	/**
+	 * Chooses whether changes to the body are pushed into the node immediately or only when
+	 * {@link #syncNode()} is called. Switching back to immediate sync pushes the current state.
+	 *
+	 * @param deferred true to defer render sync to the game loop
+	 */
+	public void setRenderSyncDeferred(boolean deferred) {
+		this.renderSyncDeferred = deferred;
+		if (!deferred) {
+			syncNode();
+		}
+	}
+
+	/**
+	 * Pushes the body's position into the node's layout and translate properties.
+	 * Properties that already hold the right value are left untouched.
+	 */
+	public void syncNode() {
+		if (getLayoutX() != body.getOriginX()) {
+			setLayoutX(body.getOriginX());
+		}
+		if (getLayoutY() != body.getOriginY()) {
+			setLayoutY(body.getOriginY());
+		}
+		if (getTranslateX() != body.getOffsetX()) {
+			setTranslateX(body.getOffsetX());
+		}
+		if (getTranslateY() != body.getOffsetY()) {
+			setTranslateY(body.getOffsetY());
+		}
+	}
+
+	/**
+	 * Pushes the body into the node unless render sync is deferred.
+	 */
+	private void syncIfImmediate() {
+		if (!renderSyncDeferred) {
+			syncNode();
+		}
 	}
 }
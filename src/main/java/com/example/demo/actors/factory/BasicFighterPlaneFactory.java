@@ -2,16 +2,13 @@ package com.example.demo.actors.factory;
 
 import com.example.demo.actors.plane.BasicFighterPlane;
 import com.example.demo.actors.plane.FighterPlane;
-
-import java.util.Random;
+import com.example.demo.utils.GameRandom;
 
 /**
  * Factory class for creating instances of {@link BasicFighterPlane}.
  * This factory generates enemy planes with randomized positions within specified screen boundaries.
  */
 public class BasicFighterPlaneFactory implements FighterPlaneFactory {
-    private final Random random = new Random();
-
     /**
      * Creates a new {@link FighterPlane} enemy at a random vertical position within the allowable range.
      *
@@ -21,7 +18,7 @@ public class BasicFighterPlaneFactory implements FighterPlaneFactory {
      */
     @Override
     public FighterPlane createEnemy(double screenWidth, double enemyMaximumYPosition) {
-        double yPosition = random.nextDouble() * enemyMaximumYPosition;
+        double yPosition = GameRandom.current().nextDouble(GameRandom.Stream.SPAWNING) * enemyMaximumYPosition;
         return new BasicFighterPlane(screenWidth, yPosition); // Replace with your actual concrete FighterPlane subclass
     }
 }
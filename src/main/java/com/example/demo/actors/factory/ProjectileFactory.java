@@ -7,9 +7,17 @@ import com.example.demo.actors.projectile.EnemyProjectile;
 
 /**
  * Factory class for creating projectiles based on their type.
+ * <p>
+ * In pooled mode (the default) projectiles are taken from a {@link ProjectilePool} and
+ * destroyed projectiles are handed back through {@link #releaseProjectile(Projectile)},
+ * so sustained fire reuses a bounded set of nodes instead of allocating new ones.
+ * </p>
  */
 public class ProjectileFactory {
 
+    private static final ProjectilePool pool = new ProjectilePool();
+    private static boolean poolingEnabled = true;
+
     /**
      * Enumeration of projectile types.
      */
@@ -28,6 +36,21 @@ public class ProjectileFactory {
      * @return The created projectile instance.
      */
     public static Projectile createProjectile(ProjectileType type, double initialXPos, double initialYPos) {
+        if (poolingEnabled) {
+            return pool.acquire(type, initialXPos, initialYPos);
+        }
+        return newProjectile(type, initialXPos, initialYPos);
+    }
+
+    /**
+     * Allocates a brand-new projectile, bypassing the pool.
+     *
+     * @param type         The type of projectile to create.
+     * @param initialXPos  The initial X position of the projectile.
+     * @param initialYPos  The initial Y position of the projectile.
+     * @return The newly allocated projectile instance.
+     */
+    static Projectile newProjectile(ProjectileType type, double initialXPos, double initialYPos) {
         switch (type) {
             case BOSS:
                 return new BossProjectile(initialYPos); // BossProjectile only requires Y
@@ -39,4 +62,45 @@ public class ProjectileFactory {
                 throw new IllegalArgumentException("Unsupported projectile type: " + type);
         }
     }
+
+    /**
+     * Returns a destroyed projectile for reuse. Has no effect when pooling is disabled.
+     *
+     * @param projectile The projectile that has been removed from the game.
+     */
+    public static void releaseProjectile(Projectile projectile) {
+        if (poolingEnabled) {
+            pool.release(projectile);
+        }
+    }
+
+    /**
+     * Enables or disables pooled projectile creation. Disabling the pool drops any idle projectiles.
+     *
+     * @param enabled true to reuse projectiles, false to allocate a new one for every shot.
+     */
+    public static void setPoolingEnabled(boolean enabled) {
+        poolingEnabled = enabled;
+        if (!enabled) {
+            pool.clear();
+        }
+    }
+
+    /**
+     * Checks whether projectiles are currently pooled.
+     *
+     * @return true if pooling is enabled, false otherwise.
+     */
+    public static boolean isPoolingEnabled() {
+        return poolingEnabled;
+    }
+
+    /**
+     * Retrieves the projectile pool, for configuring capacities or reading metrics.
+     *
+     * @return The shared {@link ProjectilePool}.
+     */
+    public static ProjectilePool getPool() {
+        return pool;
+    }
 }
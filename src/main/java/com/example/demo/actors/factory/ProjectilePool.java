@@ -0,0 +1,185 @@
+package com.example.demo.actors.factory;
+
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.actors.projectile.Projectile;
+import com.example.demo.actors.projectile.UserProjectile;
+import com.example.demo.actors.factory.ProjectileFactory.ProjectileType;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps per-type free lists of destroyed projectiles so they can be reused instead of allocated.
+ * <p>
+ * Projectiles are returned to the pool once they have been removed from the scene and are reset
+ * before being handed out again. Each free list is bounded by a configurable capacity; projectiles
+ * released into a full list are left for the garbage collector. The pool records how often each
+ * type had to fall back to allocation because its free list was empty.
+ * </p>
+ */
+public class ProjectilePool {
+
+    private static final int DEFAULT_USER_CAPACITY = 64;
+    private static final int DEFAULT_ENEMY_CAPACITY = 64;
+    private static final int DEFAULT_BOSS_CAPACITY = 16;
+
+    private final Map<ProjectileType, ArrayDeque<Projectile>> freeLists = new EnumMap<>(ProjectileType.class);
+    private final Map<ProjectileType, Integer> capacities = new EnumMap<>(ProjectileType.class);
+
+    private final long[] createdCounts = new long[ProjectileType.values().length];
+    private final long[] reusedCounts = new long[ProjectileType.values().length];
+    private final long[] exhaustedCounts = new long[ProjectileType.values().length];
+    private final long[] discardedCounts = new long[ProjectileType.values().length];
+
+    /**
+     * Constructs a pool with the default capacity for each projectile type.
+     */
+    public ProjectilePool() {
+        for (ProjectileType type : ProjectileType.values()) {
+            freeLists.put(type, new ArrayDeque<>());
+        }
+        capacities.put(ProjectileType.USER, DEFAULT_USER_CAPACITY);
+        capacities.put(ProjectileType.ENEMY, DEFAULT_ENEMY_CAPACITY);
+        capacities.put(ProjectileType.BOSS, DEFAULT_BOSS_CAPACITY);
+    }
+
+    /**
+     * Returns a projectile of the given type positioned at the given coordinates, reusing a pooled
+     * instance when one is available.
+     *
+     * @param type        The type of projectile to acquire.
+     * @param initialXPos The initial X position of the projectile.
+     * @param initialYPos The initial Y position of the projectile.
+     * @return A projectile ready to be added to the scene.
+     */
+    public Projectile acquire(ProjectileType type, double initialXPos, double initialYPos) {
+        Projectile projectile = freeLists.get(type).pollLast();
+        if (projectile != null) {
+            reusedCounts[type.ordinal()]++;
+            projectile.reset(initialXPos, initialYPos);
+            return projectile;
+        }
+
+        if (capacities.get(type) > 0) {
+            exhaustedCounts[type.ordinal()]++;
+        }
+        createdCounts[type.ordinal()]++;
+        return ProjectileFactory.newProjectile(type, initialXPos, initialYPos);
+    }
+
+    /**
+     * Returns a destroyed projectile to its free list. The projectile must already have been
+     * removed from the scene graph and from every actor list.
+     *
+     * @param projectile The projectile to recycle.
+     */
+    public void release(Projectile projectile) {
+        ProjectileType type = typeOf(projectile);
+        if (type == null) {
+            return; // Not a projectile type managed by the pool
+        }
+
+        ArrayDeque<Projectile> freeList = freeLists.get(type);
+        if (freeList.size() >= capacities.get(type)) {
+            discardedCounts[type.ordinal()]++;
+            return;
+        }
+        freeList.addLast(projectile);
+    }
+
+    /**
+     * Sets the maximum number of idle projectiles retained for a type. Shrinking the capacity
+     * drops surplus idle projectiles immediately.
+     *
+     * @param type     The projectile type to configure.
+     * @param capacity The maximum number of idle projectiles to keep; 0 disables reuse for the type.
+     */
+    public void setCapacity(ProjectileType type, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative: " + capacity);
+        }
+        capacities.put(type, capacity);
+        ArrayDeque<Projectile> freeList = freeLists.get(type);
+        while (freeList.size() > capacity) {
+            freeList.pollFirst();
+        }
+    }
+
+    /**
+     * Drops every idle projectile and resets the metrics.
+     */
+    public void clear() {
+        freeLists.values().forEach(ArrayDeque::clear);
+        for (int i = 0; i < createdCounts.length; i++) {
+            createdCounts[i] = 0;
+            reusedCounts[i] = 0;
+            exhaustedCounts[i] = 0;
+            discardedCounts[i] = 0;
+        }
+    }
+
+    /**
+     * @param type The projectile type.
+     * @return The maximum number of idle projectiles retained for the type.
+     */
+    public int getCapacity(ProjectileType type) {
+        return capacities.get(type);
+    }
+
+    /**
+     * @param type The projectile type.
+     * @return The number of idle projectiles currently waiting for reuse.
+     */
+    public int getAvailableCount(ProjectileType type) {
+        return freeLists.get(type).size();
+    }
+
+    /**
+     * @param type The projectile type.
+     * @return The number of projectiles allocated because no pooled instance was available.
+     */
+    public long getCreatedCount(ProjectileType type) {
+        return createdCounts[type.ordinal()];
+    }
+
+    /**
+     * @param type The projectile type.
+     * @return The number of acquisitions served from the free list.
+     */
+    public long getReusedCount(ProjectileType type) {
+        return reusedCounts[type.ordinal()];
+    }
+
+    /**
+     * @param type The projectile type.
+     * @return The number of acquisitions that found the free list empty.
+     */
+    public long getExhaustedCount(ProjectileType type) {
+        return exhaustedCounts[type.ordinal()];
+    }
+
+    /**
+     * @param type The projectile type.
+     * @return The number of released projectiles dropped because the free list was full.
+     */
+    public long getDiscardedCount(ProjectileType type) {
+        return discardedCounts[type.ordinal()];
+    }
+
+    /**
+     * Determines the pool type of a projectile instance.
+     */
+    private ProjectileType typeOf(Projectile projectile) {
+        Class<?> projectileClass = projectile.getClass();
+        if (projectileClass == BossProjectile.class) {
+            return ProjectileType.BOSS;
+        } else if (projectileClass == EnemyProjectile.class) {
+            return ProjectileType.ENEMY;
+        } else if (projectileClass == UserProjectile.class) {
+            return ProjectileType.USER;
+        }
+        return null; // Subclasses may carry extra state and are never recycled
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.actors.factory.ProjectileFactory;
 
 /**
  * Represents a basic enemy fighter plane in the game.
@@ -25,7 +25,20 @@ public class BasicFighterPlane extends FighterPlane {
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        return new EnemyProjectile(getProjectileXPosition(10), getProjectileYPosition(20)); // Customize offsets as needed
+        return ProjectileFactory.createProjectile(ProjectileFactory.ProjectileType.ENEMY,
+                getProjectileXPosition(10), getProjectileYPosition(20)); // Customize offsets as needed
+    }
+
+    /**
+     * Fires a projectile from the same position as {@link #fireProjectile()}, handing its position to the handler.
+     *
+     * @param handler The receiver of the shot.
+     * @return true, as the plane's shots can always go to a handler.
+     */
+    @Override
+    public boolean fireShot(ShotHandler handler) {
+        handler.fire(getProjectileXPosition(10), getProjectileYPosition(20));
+        return true;
     }
 
     /**
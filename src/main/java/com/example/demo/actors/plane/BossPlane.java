@@ -5,7 +5,11 @@ import java.util.*;
 import com.example.demo.actors.factory.ProjectileFactory;
 import com.example.demo.utils.HealthBar;
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.model.ActorBody;
+import com.example.demo.model.HitBoxes;
+import com.example.demo.model.HitShape;
 import com.example.demo.powerups.ShieldImage;
+import com.example.demo.utils.GameRandom;
 import javafx.geometry.Bounds;
 import javafx.geometry.BoundingBox;
 import javafx.scene.effect.Glow;
@@ -22,7 +26,7 @@ import javafx.scene.shape.Rectangle;
  */
 public class BossPlane extends FighterPlane {
 
-	private static final String IMAGE_NAME = "bossPlane.png";
+	private static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
@@ -38,6 +42,11 @@ public class BossPlane extends FighterPlane {
 	private static final int Y_POSITION_LOWER_BOUND = 475;
 	private static final int MAX_FRAMES_WITH_SHIELD = 100;
 	private static final int SHIELD_COOLDOWN = 300;
+	// Fuselage and wings, canopy and tail fin, and ventral fin, traced from bossplane.png's opaque area
+	private static final HitShape HIT_SHAPE = HitShape.of(
+			0.16, 0.47, 0.86, 0.58,
+			0.52, 0.43, 0.82, 0.47,
+			0.50, 0.58, 0.62, 0.62);
 
 	private final List<Integer> movePattern; // List of vertical movement patterns
 	private final HealthBar healthBar;       // Displays the boss's health
@@ -64,6 +73,7 @@ public class BossPlane extends FighterPlane {
 		framesSinceShieldDeactivated = SHIELD_COOLDOWN;
 		isShielded = false;
 		initializeMovePattern();
+		setHitShape(HIT_SHAPE);
 
 		// Initialize health bar
 		healthBar = new HealthBar(200, 20); // Width: 200, Height: 20
@@ -86,11 +96,11 @@ public class BossPlane extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
+		double initialOffsetY = getBody().getOffsetY();
 		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
+		double currentPosition = getPositionY();
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY); // Revert if out of bounds
+			setOffsetY(initialOffsetY); // Revert if out of bounds
 		}
 	}
 
@@ -104,8 +114,8 @@ public class BossPlane extends FighterPlane {
 		updateShield();
 
 		// Update health bar position
-		double healthBarX = getLayoutX() + getTranslateX();
-		double healthBarY = getLayoutY() + getTranslateY() - 20; // Position above the boss
+		double healthBarX = getPositionX();
+		double healthBarY = getPositionY() - 20; // Position above the boss
 		healthBar.updatePosition(healthBarX, healthBarY);
 
 		// Apply shield effect
@@ -113,8 +123,8 @@ public class BossPlane extends FighterPlane {
 
 		if (isShielded) {
 			shieldImage.showShield();
-			shieldImage.setLayoutX(getLayoutX() + getTranslateX() - shieldImage.getFitWidth() / 2);
-			shieldImage.setLayoutY(getLayoutY() + getTranslateY() - shieldImage.getFitHeight() / 2);
+			shieldImage.setLayoutX(getPositionX() - shieldImage.getFitWidth() / 2);
+			shieldImage.setLayoutY(getPositionY() - shieldImage.getFitHeight() / 2);
 			shieldImage.toFront();
 		} else {
 			shieldImage.hideShield();
@@ -135,7 +145,7 @@ public class BossPlane extends FighterPlane {
 			// Use ProjectileFactory to create the BossProjectile
 			return ProjectileFactory.createProjectile(
 					ProjectileFactory.ProjectileType.BOSS,
-					getLayoutX() + getTranslateX(), // X is fixed for BossProjectile
+					getPositionX(), // X is fixed for BossProjectile
 					projectileY
 			);
 		}
@@ -159,20 +169,28 @@ public class BossPlane extends FighterPlane {
 	}
 
 	/**
-	 * Provides a custom hitbox for the boss with padding applied.
+	 * Provides the outline of the boss's hit boxes as of the last tick. Allocates a new box, so
+	 * collision checks read {@link #getHitBoxes()} instead.
 	 *
-	 * @return a BoundingBox representing the custom hitbox
+	 * @return a BoundingBox enclosing every hit box, or the body if its sprite has no hit shape,
+	 * empty if the boss cannot be hit
 	 */
 	public Bounds getCustomHitbox() {
-		Bounds originalBounds = super.getBoundsInParent();
-
-		double paddingX = 100;
-		double paddingY = 100;
+		HitBoxes hitBoxes = getHitBoxes();
+		if (hitBoxes == null) {
+			ActorBody body = getBody();
+			return body.hasArea()
+					? new BoundingBox(body.getMinX(), body.getMinY(), body.getWidth(), body.getHeight())
+					: new BoundingBox(0, 0, -1, -1);
+		}
+		if (hitBoxes.isEmpty()) {
+			return new BoundingBox(0, 0, -1, -1);
+		}
 		return new BoundingBox(
-				originalBounds.getMinX() + paddingX,
-				originalBounds.getMinY() + paddingY,
-				originalBounds.getWidth() - 2 * paddingX,
-				originalBounds.getHeight() - 2 * paddingY
+				hitBoxes.getBoundsMinX(),
+				hitBoxes.getBoundsMinY(),
+				hitBoxes.getBoundsMaxX() - hitBoxes.getBoundsMinX(),
+				hitBoxes.getBoundsMaxY() - hitBoxes.getBoundsMinY()
 		);
 	}
 
@@ -208,7 +226,7 @@ public class BossPlane extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		GameRandom.current().shuffle(GameRandom.Stream.BOSS, movePattern);
 	}
 
 	/**
@@ -248,7 +266,7 @@ public class BossPlane extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern); // Shuffle the movement pattern
+			GameRandom.current().shuffle(GameRandom.Stream.BOSS, movePattern); // Shuffle the movement pattern
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -268,7 +286,7 @@ public class BossPlane extends FighterPlane {
 	 * @return true if the boss fires a projectile, false otherwise
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return GameRandom.current().chance(GameRandom.Stream.BOSS, BOSS_FIRE_RATE);
 	}
 
 	/**
@@ -281,7 +299,7 @@ public class BossPlane extends FighterPlane {
 	 * @return the Y position for the boss's projectile
 	 */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		return getPositionY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 
@@ -295,7 +313,7 @@ public class BossPlane extends FighterPlane {
 	 * @return true if the shield should activate, false otherwise
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return GameRandom.current().chance(GameRandom.Stream.BOSS, BOSS_SHIELD_PROBABILITY);
 	}
 
 	/**
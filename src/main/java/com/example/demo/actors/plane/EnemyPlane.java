@@ -2,6 +2,7 @@ package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.factory.ProjectileFactory;
+import com.example.demo.utils.GameRandom;
 
 
 /**
@@ -42,16 +43,39 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) { // Keep the fire rate logic
-			double randomOffsetX = -100 + Math.random() * 20; // Randomize X offset
-			double randomOffsetY = -30 + Math.random() * 60;  // Randomize Y offset
-			double projectileX = getProjectileXPosition(randomOffsetX);
-			double projectileY = getProjectileYPosition(randomOffsetY);
+		if (GameRandom.current().chance(GameRandom.Stream.ENEMY_FIRE, FIRE_RATE)) { // Keep the fire rate logic
+			double projectileX = randomProjectileXPosition();
+			double projectileY = randomProjectileYPosition();
 			return ProjectileFactory.createProjectile(ProjectileFactory.ProjectileType.ENEMY, projectileX, projectileY);
 		}
 		return null; // No projectile fired
 	}
 
+	/**
+	 * Fires a projectile at the same rate and from the same randomized position as
+	 * {@link #fireProjectile()}, drawing the same random numbers, but hands its position to the handler.
+	 *
+	 * @param handler the receiver of the shot
+	 * @return true, as the plane's shots can always go to a handler
+	 */
+	@Override
+	public boolean fireShot(ShotHandler handler) {
+		if (GameRandom.current().chance(GameRandom.Stream.ENEMY_FIRE, FIRE_RATE)) {
+			double projectileX = randomProjectileXPosition();
+			double projectileY = randomProjectileYPosition();
+			handler.fire(projectileX, projectileY);
+		}
+		return true;
+	}
+
+	private double randomProjectileXPosition() {
+		return getProjectileXPosition(GameRandom.current().nextDouble(GameRandom.Stream.ENEMY_FIRE, -100, -80)); // Randomize X offset
+	}
+
+	private double randomProjectileYPosition() {
+		return getProjectileYPosition(GameRandom.current().nextDouble(GameRandom.Stream.ENEMY_FIRE, -30, 30)); // Randomize Y offset
+	}
+
 
 	/**
 	 * Updates the enemy plane's state, including position and potential firing of projectiles.
@@ -1,6 +1,7 @@
 package com.example.demo.actors.plane;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.events.GameEventLog;
 
 /**
  * Represents a fighter plane in the game that can take damage and fire projectiles.
@@ -8,8 +9,20 @@ import com.example.demo.actors.ActiveActorDestructible;
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
-	private int health;
-	private final int maxHealth;
+	/**
+	 * Receives the shots of fighters whose projectiles are not run as actors.
+	 */
+	@FunctionalInterface
+	public interface ShotHandler {
+
+		/**
+		 * Fires a projectile from the given position.
+		 *
+		 * @param x the X position of the projectile's top-left corner
+		 * @param y the Y position of the projectile's top-left corner
+		 */
+		void fire(double x, double y);
+	}
 
 	/**
 	 * Constructs a FighterPlane with the specified parameters.
@@ -22,8 +35,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
-		this.health = health;
-		this.maxHealth = health; // Set maxHealth equal to the initial health
+		getBody().initializeHealth(health); // Max health starts equal to the initial health
 	}
 
 	/**
@@ -34,14 +46,27 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public abstract ActiveActorDestructible fireProjectile();
 
+	/**
+	 * Fires the plane's shot, if it fires this tick, by handing the projectile's position to a
+	 * handler instead of creating a projectile actor. Planes whose projectiles can only be actors
+	 * fire nothing here and return false, and are fired through {@link #fireProjectile()} instead.
+	 *
+	 * @param handler the receiver of the shot
+	 * @return true if the plane's shots go to the handler, whether or not it fired this tick
+	 */
+	public boolean fireShot(ShotHandler handler) {
+		return false;
+	}
+
 	/**
 	 * Reduces the plane's health by one when it takes damage.
 	 * If the health reaches zero, the plane is destroyed.
 	 */
 	@Override
 	public void takeDamage() {
-		health--;
-		if (isHealthAtZero()) {
+		boolean destroyed = getBody().damage();
+		GameEventLog.getInstance().recordDamage(getBody().getFaction(), getBody().getHealth());
+		if (destroyed) {
 			this.destroy();
 		}
 	}
@@ -53,7 +78,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the X position for the projectile
 	 */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getPositionX() + xPositionOffset;
 	}
 
 	/**
@@ -63,16 +88,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the Y position for the projectile
 	 */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
-	}
-
-	/**
-	 * Checks if the fighter plane's health has reached zero.
-	 *
-	 * @return true if health is zero, false otherwise
-	 */
-	private boolean isHealthAtZero() {
-		return health <= 0;
+		return getPositionY() + yPositionOffset;
 	}
 
 	/**
@@ -81,7 +97,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the current health
 	 */
 	public int getHealth() {
-		return health;
+		return getBody().getHealth();
 	}
 
 	/**
@@ -90,6 +106,6 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the maximum health
 	 */
 	public int getMaxHealth() {
-		return maxHealth;
+		return getBody().getMaxHealth();
 	}
 }
@@ -48,23 +48,23 @@ public class UserPlane extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
-		double initialTranslateX = getTranslateX();
+		double initialOffsetY = getBody().getOffsetY();
+		double initialOffsetX = getBody().getOffsetX();
 
 		// Apply velocity to position
 		moveVertically(verticalVelocity * VELOCITY_SCALE);
 		moveHorizontally(horizontalVelocity * VELOCITY_SCALE);
 
 		// Check bounds for vertical movement
-		double newPositionY = getLayoutY() + getTranslateY();
+		double newPositionY = getPositionY();
 		if (newPositionY < Y_UPPER_BOUND || newPositionY > Y_LOWER_BOUND) {
-			setTranslateY(initialTranslateY); // Revert if out of bounds
+			setOffsetY(initialOffsetY); // Revert if out of bounds
 		}
 
 		// Check bounds for horizontal movement
-		double newPositionX = getLayoutX() + getTranslateX();
+		double newPositionX = getPositionX();
 		if (newPositionX < X_LEFT_BOUND || newPositionX > X_RIGHT_BOUND) {
-			setTranslateX(initialTranslateX); // Revert if out of bounds
+			setOffsetX(initialOffsetX); // Revert if out of bounds
 		}
 
 		// Decelerate when no input
@@ -106,8 +106,8 @@ public class UserPlane extends FighterPlane {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		double currentX = getLayoutX() + getTranslateX();
-		double currentY = getLayoutY() + getTranslateY();
+		double currentX = getPositionX();
+		double currentY = getPositionY();
 
 		if (spreadshotCount > 0) {
 			List<ActiveActorDestructible> spreadshotProjectiles = createSpreadshotProjectiles(currentX, currentY);
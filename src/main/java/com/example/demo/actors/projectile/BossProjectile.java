@@ -23,6 +23,18 @@ public class BossProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
 	}
 
+	/**
+	 * Resets the BossProjectile for reuse. Boss projectiles always start from the same X position,
+	 * so only the Y position is taken from the caller.
+	 *
+	 * @param initialXPos ignored; boss projectiles start at a fixed X position
+	 * @param initialYPos the new initial Y position of the projectile
+	 */
+	@Override
+	public void reset(double initialXPos, double initialYPos) {
+		super.reset(INITIAL_X_POSITION, initialYPos);
+	}
+
 	/**
 	 * Updates the position of the BossProjectile by moving it horizontally to the left.
 	 */
@@ -31,6 +43,16 @@ public class BossProjectile extends Projectile {
 		moveHorizontally(HORIZONTAL_VELOCITY);
 	}
 
+	/**
+	 * Returns the constant horizontal velocity of the BossProjectile.
+	 *
+	 * @return the horizontal displacement per tick
+	 */
+	@Override
+	public double getHorizontalVelocity() {
+		return HORIZONTAL_VELOCITY;
+	}
+
 	/**
 	 * Updates the state of the BossProjectile, including its position.
 	 * <p>
@@ -10,8 +10,8 @@ package com.example.demo.actors.projectile;
 public class EnemyProjectile extends Projectile {
 
 	private static final String IMAGE_NAME = "enemyFire.png"; // Name of the projectile image
-	private static final int IMAGE_HEIGHT = 50;              // Height of the projectile image
-	private static final int HORIZONTAL_VELOCITY = -10;      // Speed of horizontal movement
+	public static final int IMAGE_HEIGHT = 50;               // Height of the projectile image
+	public static final int HORIZONTAL_VELOCITY = -10;       // Speed of horizontal movement
 
 	/**
 	 * Constructs an EnemyProjectile with the specified initial position.
@@ -31,6 +31,16 @@ public class EnemyProjectile extends Projectile {
 		moveHorizontally(HORIZONTAL_VELOCITY);
 	}
 
+	/**
+	 * Returns the constant horizontal velocity of the EnemyProjectile.
+	 *
+	 * @return the horizontal displacement per tick
+	 */
+	@Override
+	public double getHorizontalVelocity() {
+		return HORIZONTAL_VELOCITY;
+	}
+
 	/**
 	 * Updates the state of the EnemyProjectile, including its position.
 	 * <p>
@@ -37,6 +37,36 @@ public abstract class Projectile extends ActiveActorDestructible {
 		this.destroy(); // Mark the projectile as destroyed
 	}
 
+	/**
+	 * Prepares a pooled projectile for reuse at a new starting position.
+	 * <p>
+	 * Clears any movement applied since the projectile was fired, revives it and makes it
+	 * visible again so it behaves exactly like a newly constructed projectile.
+	 * </p>
+	 *
+	 * @param initialXPos the new initial X position of the projectile
+	 * @param initialYPos the new initial Y position of the projectile
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		placeAt(initialXPos, initialYPos);
+		setDestroyed(false);
+		setVisible(true);
+	}
+
+	/**
+	 * Returns the horizontal distance the projectile travels each tick.
+	 * <p>
+	 * Continuous collision detection uses this to reconstruct the path covered since the
+	 * previous tick. Projectiles that do not move in a straight line report 0 and are only
+	 * tested at their current position.
+	 * </p>
+	 *
+	 * @return the horizontal displacement per tick
+	 */
+	public double getHorizontalVelocity() {
+		return 0;
+	}
+
 	/**
 	 * Abstract method for updating the projectile's position.
 	 * <p>
@@ -31,6 +31,16 @@ public class UserProjectile extends Projectile {
 		moveHorizontally(HORIZONTAL_VELOCITY);
 	}
 
+	/**
+	 * Returns the constant horizontal velocity of the UserProjectile.
+	 *
+	 * @return the horizontal displacement per tick
+	 */
+	@Override
+	public double getHorizontalVelocity() {
+		return HORIZONTAL_VELOCITY;
+	}
+
 	/**
 	 * Updates the state of the UserProjectile, including its position.
 	 * <p>
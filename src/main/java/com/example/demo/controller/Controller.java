@@ -2,22 +2,30 @@ package com.example.demo.controller;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.lang.reflect.Constructor;
 
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.events.GameEventLog;
+import com.example.demo.levels.LevelFactory;
 import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelPreloader;
+import com.example.demo.replay.ReplaySession;
+import com.example.demo.utils.GameRandom;
 
 
 /**
  * Controls the game's flow by managing transitions between levels and handling property change events.
- * This class dynamically loads and navigates between levels using reflection.
+ * This class dynamically loads and navigates between levels, given as level class names or level files.
  */
 public class Controller implements PropertyChangeListener {
 
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne";
+	/**
+	 * The system property naming the level the game starts at, as a level class name or a level file.
+	 */
+	public static final String START_LEVEL_PROPERTY = "demo.startLevel";
+
 	private final Stage stage;
 
 	/**
@@ -27,28 +35,33 @@ public class Controller implements PropertyChangeListener {
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		LevelPreloader.getInstance().preload(LevelFactory.assetsOf(LevelFactory.FIRST_LEVEL)); // Load level one while the menu is shown
 	}
 
 	/**
-	 * Launches the game starting at level one.
+	 * Launches the game starting at level one, or at the level named by the {@code demo.startLevel}
+	 * system property, or at the starting level of a recording being replayed.
 	 */
 	public void launchGame() {
 		stage.show();
 		try {
-			goToLevel(LEVEL_ONE_CLASS_NAME);
-		} catch (ReflectiveOperationException e) {
+			String startLevel = System.getProperty(START_LEVEL_PROPERTY, LevelFactory.FIRST_LEVEL);
+			String firstLevel = ReplaySession.getInstance().begin(startLevel); // Before the level draws any random number
+			GameEventLog.getInstance().recordSessionStart(GameRandom.getSessionSeed()); // Replaying sets the seed
+			goToLevel(firstLevel);
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
 			showErrorAlert("Error launching game", e);
 		}
 	}
 
 	/**
-	 * Navigates to the specified level by dynamically loading its class.
+	 * Navigates to the specified level by dynamically loading its class or level file.
 	 *
-	 * @param className The fully qualified class name of the level to load.
+	 * @param levelName The fully qualified class name or the level file of the level to load.
 	 * @throws ReflectiveOperationException If an error occurs during class loading or instantiation.
 	 */
-	private void goToLevel(String className) throws ReflectiveOperationException {
-		LevelParent level = instantiateLevel(className);
+	private void goToLevel(String levelName) throws ReflectiveOperationException {
+		LevelParent level = LevelFactory.create(levelName, stage.getHeight(), stage.getWidth());
 		level.addPropertyChangeListener(this);
 
 		Scene scene = level.initializeScene();
@@ -58,19 +71,6 @@ public class Controller implements PropertyChangeListener {
 	}
 
 
-	/**
-	 * Instantiates a level dynamically using reflection.
-	 *
-	 * @param className The fully qualified class name of the level to instantiate.
-	 * @return An instance of the LevelParent class.
-	 * @throws ReflectiveOperationException If an error occurs during instantiation.
-	 */
-	private LevelParent instantiateLevel(String className) throws ReflectiveOperationException {
-		Class<?> levelClass = Class.forName(className);
-		Constructor<?> constructor = levelClass.getConstructor(double.class, double.class);
-		return (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-	}
-
 	/**
 	 * Handles property change events to navigate to a new level.
 	 *
@@ -81,7 +81,7 @@ public class Controller implements PropertyChangeListener {
 		String nextLevelClass = (String) evt.getNewValue();
 		try {
 			goToLevel(nextLevelClass);
-		} catch (ReflectiveOperationException e) {
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
 			showErrorAlert("Error loading next level", e);
 		}
 	}
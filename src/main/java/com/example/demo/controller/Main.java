@@ -2,6 +2,8 @@ package com.example.demo.controller;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import com.example.demo.events.GameEventLog;
+import com.example.demo.replay.ReplaySession;
 import com.example.demo.screens.MenuView;
 
 /**
@@ -27,6 +29,15 @@ public class Main extends Application {
 		initializeAndShowMenu(stage);
 	}
 
+	/**
+	 * Called when the application exits. Saves the recording of a session that was quit before it ended.
+	 */
+	@Override
+	public void stop() {
+		ReplaySession.getInstance().finish();
+		GameEventLog.getInstance().close(); // Write out the events still buffered
+	}
+
 	/**
 	 * Configures the primary stage with title, dimensions, and other settings.
 	 *
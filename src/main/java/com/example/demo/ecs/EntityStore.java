@@ -0,0 +1,433 @@
+package com.example.demo.ecs;
+
+import com.example.demo.model.Faction;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for the components of every entity in a {@link World}.
+ * <p>
+ * Each component is a primitive array indexed by the entity's position in the store, and live
+ * entities are packed at the front, so systems walk the arrays linearly from 0 to {@link #size()}
+ * without following references. Entities are referred to from outside by an id that stays valid
+ * while they move around the arrays; an id combines a slot with a generation, so the id of a
+ * removed entity never matches the entity that reuses its slot. A slot whose generation has run
+ * out is retired rather than wrapped around, so an old id cannot come back to life.
+ * </p>
+ * <p>
+ * Destroying an entity only marks it. {@link #removeDestroyed()} then compacts the arrays in a
+ * single pass at the end of the tick, keeping the order of the survivors so systems see entities
+ * in the same order every run.
+ * </p>
+ */
+public final class EntityStore {
+
+    /**
+     * Returned in place of an id or index when there is no entity.
+     */
+    public static final int NO_ENTITY = -1;
+
+    /**
+     * The lifetime of an entity that only dies by damage or by leaving the world.
+     */
+    public static final int UNLIMITED_LIFETIME = 0;
+
+    /**
+     * Receives the ids of entities as they are removed from the store.
+     */
+    @FunctionalInterface
+    public interface RemovalListener {
+
+        /**
+         * Called for each entity removed by {@link #removeDestroyed()}.
+         *
+         * @param id The id of the removed entity.
+         */
+        void entityRemoved(int id);
+    }
+
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_LIMIT = 1 << 11; // 20 + 11 bits keeps ids positive
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final Faction[] FACTIONS = Faction.values();
+
+    // Components, indexed by position; package-private so systems can walk them directly
+    double[] x;
+    double[] y;
+    double[] velocityX;
+    double[] velocityY;
+    double[] width;
+    double[] height;
+    int[] health;
+    byte[] faction;
+    byte[] kind;
+    int[] lifetime; // Ticks left, or UNLIMITED_LIFETIME
+    boolean[] destroyed;
+    int[] idAt;
+    int size;
+
+    // Id bookkeeping, indexed by slot
+    private int[] indexOfSlot;
+    private int[] generationOfSlot;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int slotCount;
+
+    private RemovalListener removalListener = id -> { };
+
+    /**
+     * Constructs an empty store.
+     */
+    public EntityStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty store with room for the given number of entities before it grows.
+     *
+     * @param initialCapacity The number of entities to allocate arrays for; must be positive.
+     */
+    public EntityStore(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+        }
+        allocate(initialCapacity);
+        indexOfSlot = new int[initialCapacity];
+        generationOfSlot = new int[initialCapacity];
+        freeSlots = new int[initialCapacity];
+    }
+
+    /**
+     * Sets the listener told about removed entities, such as the render system detaching their nodes.
+     *
+     * @param removalListener The listener, or null for none.
+     */
+    public void setRemovalListener(RemovalListener removalListener) {
+        this.removalListener = removalListener != null ? removalListener : id -> { };
+    }
+
+    /**
+     * Creates an entity at the given position with the given size. Other components start at zero:
+     * no velocity, no health, {@link Faction#NEUTRAL}, kind 0 and unlimited lifetime.
+     *
+     * @param x      The X coordinate of the entity's top-left corner.
+     * @param y      The Y coordinate of the entity's top-left corner.
+     * @param width  The entity's width.
+     * @param height The entity's height.
+     * @return The new entity's id.
+     */
+    public int create(double x, double y, double width, double height) {
+        if (size == idAt.length) {
+            grow();
+        }
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : newSlot();
+        int id = generationOfSlot[slot] << SLOT_BITS | slot;
+        int index = size++;
+        indexOfSlot[slot] = index;
+        idAt[index] = id;
+
+        this.x[index] = x;
+        this.y[index] = y;
+        velocityX[index] = 0;
+        velocityY[index] = 0;
+        this.width[index] = width;
+        this.height[index] = height;
+        health[index] = 0;
+        faction[index] = (byte) Faction.NEUTRAL.ordinal();
+        kind[index] = 0;
+        lifetime[index] = UNLIMITED_LIFETIME;
+        destroyed[index] = false;
+        return id;
+    }
+
+    private int newSlot() {
+        if (slotCount == indexOfSlot.length) {
+            int capacity = indexOfSlot.length * 2;
+            if (capacity > SLOT_MASK + 1) {
+                throw new IllegalStateException("Too many entities: " + slotCount);
+            }
+            indexOfSlot = Arrays.copyOf(indexOfSlot, capacity);
+            generationOfSlot = Arrays.copyOf(generationOfSlot, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Marks an entity for removal at the end of the tick. Destroying it again has no effect.
+     *
+     * @param id The entity's id.
+     */
+    public void destroy(int id) {
+        destroyed[indexOf(id)] = true;
+    }
+
+    /**
+     * Removes every destroyed entity in one pass, keeping the order of the others, and tells the
+     * removal listener about each one.
+     *
+     * @return The number of entities removed.
+     */
+    public int removeDestroyed() {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (destroyed[i]) {
+                int id = idAt[i];
+                int slot = id & SLOT_MASK;
+                indexOfSlot[slot] = NO_ENTITY;
+                if (generationOfSlot[slot] + 1 < GENERATION_LIMIT) {
+                    generationOfSlot[slot]++;
+                    freeSlots[freeSlotCount++] = slot;
+                } // Otherwise the slot is retired, as its next generation would repeat an old id
+                removalListener.entityRemoved(id);
+            } else {
+                if (kept != i) {
+                    moveEntity(i, kept);
+                }
+                kept++;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    private void moveEntity(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        health[to] = health[from];
+        faction[to] = faction[from];
+        kind[to] = kind[from];
+        lifetime[to] = lifetime[from];
+        destroyed[to] = false;
+        idAt[to] = idAt[from];
+        indexOfSlot[idAt[to] & SLOT_MASK] = to;
+    }
+
+    /**
+     * Determines whether an id refers to an entity still in the store. Destroyed entities count
+     * until the end of the tick.
+     *
+     * @param id The id to check.
+     * @return true if the entity has not been removed.
+     */
+    public boolean contains(int id) {
+        int slot = id & SLOT_MASK;
+        return id >= 0 && slot < slotCount && generationOfSlot[slot] == id >>> SLOT_BITS && indexOfSlot[slot] != NO_ENTITY;
+    }
+
+    /**
+     * Finds an entity's current position in the component arrays.
+     *
+     * @param id The entity's id.
+     * @return The entity's index.
+     * @throws IllegalArgumentException If the entity has been removed.
+     */
+    public int indexOf(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("No such entity: " + id);
+        }
+        return indexOfSlot[id & SLOT_MASK];
+    }
+
+    /**
+     * Returns the id of the entity at a position in the component arrays.
+     *
+     * @param index The position, between 0 and {@link #size()} - 1.
+     * @return The entity's id.
+     */
+    public int idAt(int index) {
+        return idAt[index];
+    }
+
+    /**
+     * Returns the slot part of an id, a small number unique among the live entities that can
+     * index side tables such as the render system's nodes.
+     *
+     * @param id The entity's id.
+     * @return The entity's slot.
+     */
+    public static int slotOf(int id) {
+        return id & SLOT_MASK;
+    }
+
+    /**
+     * @return The number of entities, including those destroyed this tick.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of entities the arrays can hold before they grow.
+     */
+    public int capacity() {
+        return idAt.length;
+    }
+
+    // ==================== Component access by id =====================
+
+    /**
+     * Sets the distance the entity moves on each tick.
+     *
+     * @param id        The entity's id.
+     * @param velocityX The horizontal distance per tick.
+     * @param velocityY The vertical distance per tick.
+     */
+    public void setVelocity(int id, double velocityX, double velocityY) {
+        int index = indexOf(id);
+        this.velocityX[index] = velocityX;
+        this.velocityY[index] = velocityY;
+    }
+
+    /**
+     * Sets the entity's health. An entity whose health drops to zero from damage is destroyed.
+     *
+     * @param id     The entity's id.
+     * @param health The entity's health.
+     */
+    public void setHealth(int id, int health) {
+        this.health[indexOf(id)] = health;
+    }
+
+    /**
+     * Sets the side the entity fights for. Only entities of opposing sides collide.
+     *
+     * @param id      The entity's id.
+     * @param faction The entity's faction.
+     */
+    public void setFaction(int id, Faction faction) {
+        this.faction[indexOf(id)] = (byte) faction.ordinal();
+    }
+
+    /**
+     * Tags the entity with a game-defined archetype, such as "enemy plane" or "boss projectile",
+     * used to pick its sprite and how it is scored.
+     *
+     * @param id   The entity's id.
+     * @param kind The archetype, between 0 and 127.
+     */
+    public void setKind(int id, int kind) {
+        this.kind[indexOf(id)] = (byte) kind;
+    }
+
+    /**
+     * Limits how long the entity lives.
+     *
+     * @param id    The entity's id.
+     * @param ticks The number of ticks before it is destroyed, or {@link #UNLIMITED_LIFETIME}.
+     */
+    public void setLifetime(int id, int ticks) {
+        lifetime[indexOf(id)] = ticks;
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The X coordinate of the entity's top-left corner.
+     */
+    public double getX(int id) {
+        return x[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The Y coordinate of the entity's top-left corner.
+     */
+    public double getY(int id) {
+        return y[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The distance the entity moves along X on each tick.
+     */
+    public double getVelocityX(int id) {
+        return velocityX[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The entity's width.
+     */
+    public double getWidth(int id) {
+        return width[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The entity's height.
+     */
+    public double getHeight(int id) {
+        return height[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The entity's health.
+     */
+    public int getHealth(int id) {
+        return health[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The side the entity fights for.
+     */
+    public Faction getFaction(int id) {
+        return FACTIONS[faction[indexOf(id)]];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return The entity's game-defined archetype.
+     */
+    public int getKind(int id) {
+        return kind[indexOf(id)];
+    }
+
+    /**
+     * @param id The entity's id.
+     * @return true if the entity has been destroyed this tick and will be removed at its end.
+     */
+    public boolean isDestroyed(int id) {
+        return destroyed[indexOf(id)];
+    }
+
+    // ==================== Storage =====================
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        velocityX = new double[capacity];
+        velocityY = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        health = new int[capacity];
+        faction = new byte[capacity];
+        kind = new byte[capacity];
+        lifetime = new int[capacity];
+        destroyed = new boolean[capacity];
+        idAt = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = idAt.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        health = Arrays.copyOf(health, capacity);
+        faction = Arrays.copyOf(faction, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        lifetime = Arrays.copyOf(lifetime, capacity);
+        destroyed = Arrays.copyOf(destroyed, capacity);
+        idAt = Arrays.copyOf(idAt, capacity);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.ecs;
+
+/**
+ * A pass over the entities of a {@link World}.
+ * <p>
+ * A system reads and writes the component arrays of an {@link EntityStore} in index order. It
+ * may create entities, which are appended after the ones present when it started, and destroy
+ * them, which only marks them; it must not remove entities itself.
+ * </p>
+ */
+@FunctionalInterface
+public interface EntitySystem {
+
+    /**
+     * Runs the system over every entity.
+     *
+     * @param store The entities' components.
+     */
+    void update(EntityStore store);
+}
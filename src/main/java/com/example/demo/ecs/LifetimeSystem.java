@@ -0,0 +1,46 @@
+package com.example.demo.ecs;
+
+/**
+ * Destroys entities whose lifetime has run out or that have left the world's bounds entirely.
+ */
+public final class LifetimeSystem implements EntitySystem {
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    /**
+     * Constructs a lifetime system for a world of the given bounds.
+     *
+     * @param minX The left edge of the world.
+     * @param minY The top edge of the world.
+     * @param maxX The right edge of the world.
+     * @param maxY The bottom edge of the world.
+     */
+    public LifetimeSystem(double minX, double minY, double maxX, double maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    @Override
+    public void update(EntityStore store) {
+        double[] x = store.x;
+        double[] y = store.y;
+        double[] width = store.width;
+        double[] height = store.height;
+        int[] lifetime = store.lifetime;
+        boolean[] destroyed = store.destroyed;
+        int size = store.size;
+        for (int i = 0; i < size; i++) {
+            if (lifetime[i] != EntityStore.UNLIMITED_LIFETIME && --lifetime[i] <= 0) {
+                destroyed[i] = true;
+            }
+            if (x[i] + width[i] < minX || x[i] > maxX || y[i] + height[i] < minY || y[i] > maxY) {
+                destroyed[i] = true;
+            }
+        }
+    }
+}
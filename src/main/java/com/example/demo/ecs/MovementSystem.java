@@ -0,0 +1,20 @@
+package com.example.demo.ecs;
+
+/**
+ * Moves every entity by its velocity.
+ */
+public final class MovementSystem implements EntitySystem {
+
+    @Override
+    public void update(EntityStore store) {
+        double[] x = store.x;
+        double[] y = store.y;
+        double[] velocityX = store.velocityX;
+        double[] velocityY = store.velocityY;
+        int size = store.size;
+        for (int i = 0; i < size; i++) {
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.ecs;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Draws entities by syncing their positions into scene graph nodes once per frame.
+ * <p>
+ * Each entity is shown by at most one node, created on the first sync by a factory given the
+ * entity's kind, so entities spawned by systems are drawn without the systems knowing about
+ * JavaFX. Only the nodes' layout properties are written, and only when they changed. The node of
+ * a removed entity is hidden and kept on a free list for its kind, and the next entity of that
+ * kind shows it again, so sustained fire reuses a bounded set of nodes instead of creating one per
+ * entity and detaching it afterwards.
+ * </p>
+ */
+public final class RenderSyncSystem implements EntitySystem {
+
+    private final Group root;
+    private final IntFunction<Node> nodeFactory;
+    private final Map<Integer, ArrayDeque<Node>> freeNodesOfKind = new HashMap<>();
+    private Node[] nodeOfSlot = new Node[256];
+    private byte[] kindOfSlot = new byte[256];
+    private boolean[] createdForSlot = new boolean[256]; // Also set when the factory gave no node
+    private int nodeCount;
+    private int freeNodeCount;
+
+    /**
+     * Constructs a render system that takes back the nodes of entities removed from the store.
+     *
+     * @param store       The store whose entities are drawn.
+     * @param root        The group nodes are added to.
+     * @param nodeFactory Creates the node for an entity of the given kind, or returns null if such
+     *                    entities are not drawn.
+     */
+    public RenderSyncSystem(EntityStore store, Group root, IntFunction<Node> nodeFactory) {
+        this.root = root;
+        this.nodeFactory = nodeFactory;
+        store.setRemovalListener(this::entityRemoved);
+    }
+
+    @Override
+    public void update(EntityStore store) {
+        int size = store.size;
+        List<Node> createdNodes = null;
+        for (int i = 0; i < size; i++) {
+            int slot = EntityStore.slotOf(store.idAt[i]);
+            ensureSlot(slot);
+            Node node = nodeOfSlot[slot];
+            if (node == null && !createdForSlot[slot]) {
+                createdForSlot[slot] = true;
+                node = reuseNode(store.kind[i]);
+                if (node == null) {
+                    node = nodeFactory.apply(store.kind[i]);
+                    if (node != null) {
+                        if (createdNodes == null) {
+                            createdNodes = new ArrayList<>();
+                        }
+                        createdNodes.add(node);
+                    }
+                }
+                if (node != null) {
+                    nodeOfSlot[slot] = node;
+                    kindOfSlot[slot] = store.kind[i];
+                    nodeCount++;
+                }
+            }
+            if (node != null) {
+                if (node.getLayoutX() != store.x[i]) {
+                    node.setLayoutX(store.x[i]);
+                }
+                if (node.getLayoutY() != store.y[i]) {
+                    node.setLayoutY(store.y[i]);
+                }
+            }
+        }
+        if (createdNodes != null) {
+            root.getChildren().addAll(createdNodes); // One bulk scene graph update
+        }
+    }
+
+    /**
+     * Takes a hidden node of the given kind off its free list and shows it again.
+     *
+     * @param kind The entity's kind.
+     * @return The node, or null if none is free.
+     */
+    private Node reuseNode(byte kind) {
+        ArrayDeque<Node> freeNodes = freeNodesOfKind.get((int) kind);
+        Node node = freeNodes != null ? freeNodes.pollLast() : null;
+        if (node != null) {
+            freeNodeCount--;
+            node.setVisible(true);
+        }
+        return node;
+    }
+
+    private void entityRemoved(int id) {
+        int slot = EntityStore.slotOf(id);
+        if (slot >= nodeOfSlot.length) {
+            return; // Removed before it was ever synced
+        }
+        Node node = nodeOfSlot[slot];
+        if (node != null) {
+            node.setVisible(false);
+            freeNodesOfKind.computeIfAbsent((int) kindOfSlot[slot], kind -> new ArrayDeque<>()).addLast(node);
+            freeNodeCount++;
+            nodeOfSlot[slot] = null;
+            nodeCount--;
+        }
+        createdForSlot[slot] = false;
+    }
+
+    private void ensureSlot(int slot) {
+        if (slot >= nodeOfSlot.length) {
+            int capacity = Math.max(slot + 1, nodeOfSlot.length * 2);
+            nodeOfSlot = Arrays.copyOf(nodeOfSlot, capacity);
+            kindOfSlot = Arrays.copyOf(kindOfSlot, capacity);
+            createdForSlot = Arrays.copyOf(createdForSlot, capacity);
+        }
+    }
+
+    /**
+     * @return The number of entities currently shown by a node.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return The number of hidden nodes waiting to be reused.
+     */
+    public int getFreeNodeCount() {
+        return freeNodeCount;
+    }
+}
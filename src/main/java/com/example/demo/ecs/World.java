@@ -0,0 +1,100 @@
+package com.example.demo.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An entity-component-system simulation: an {@link EntityStore} and the systems run over it.
+ * <p>
+ * {@link #tick()} runs the simulation systems in the order they were added and then removes the
+ * entities destroyed during the tick. {@link #render()} runs the render systems, such as a
+ * {@link RenderSyncSystem}, and is meant to be called once per frame after the simulation, as the
+ * game loop does for actors. Systems are plain functions of the store, so game code can add its
+ * own between the built-in ones, as the enemy fire does for its hits:
+ * </p>
+ * <pre>
+ * World world = new World()
+ *         .addSystem(new MovementSystem())
+ *         .addSystem(entities -&gt; collisionManager.handleEnemyFireCollisions(entities, mask))
+ *         .addSystem(new LifetimeSystem(0, 0, screenWidth, screenHeight));
+ * </pre>
+ */
+public final class World {
+
+    private final EntityStore store;
+    private final List<EntitySystem> systems = new ArrayList<>();
+    private final List<EntitySystem> renderSystems = new ArrayList<>();
+    private long tickCount;
+
+    /**
+     * Constructs an empty world.
+     */
+    public World() {
+        this(new EntityStore());
+    }
+
+    /**
+     * Constructs a world over an existing store.
+     *
+     * @param store The store holding the world's entities.
+     */
+    public World(EntityStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Adds a system to run on each tick, after the systems already added.
+     *
+     * @param system The system.
+     * @return This world.
+     */
+    public World addSystem(EntitySystem system) {
+        systems.add(system);
+        return this;
+    }
+
+    /**
+     * Adds a system to run on each frame, after the render systems already added.
+     *
+     * @param system The system.
+     * @return This world.
+     */
+    public World addRenderSystem(EntitySystem system) {
+        renderSystems.add(system);
+        return this;
+    }
+
+    /**
+     * Runs one simulation step and removes the entities destroyed during it.
+     */
+    public void tick() {
+        for (int i = 0; i < systems.size(); i++) {
+            systems.get(i).update(store);
+        }
+        store.removeDestroyed();
+        tickCount++;
+    }
+
+    /**
+     * Runs the render systems.
+     */
+    public void render() {
+        for (int i = 0; i < renderSystems.size(); i++) {
+            renderSystems.get(i).update(store);
+        }
+    }
+
+    /**
+     * @return The world's entities.
+     */
+    public EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return The number of ticks run.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
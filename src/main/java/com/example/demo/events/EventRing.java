@@ -0,0 +1,105 @@
+package com.example.demo.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free ring buffer of game events for one producer thread and one consumer thread.
+ * <p>
+ * Events are stored field by field in preallocated arrays, so offering an event allocates nothing.
+ * The producer publishes a slot by advancing the tail after writing it, and the consumer frees slots
+ * by advancing the head after reading them. When the buffer is full the event is dropped rather
+ * than making the producer wait.
+ * </p>
+ */
+class EventRing {
+
+    /**
+     * Receives the events drained from the ring.
+     */
+    interface Sink {
+        void accept(long timeNanos, GameEventType type, int firstValue, int secondValue);
+    }
+
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    private final int mask;
+    private final long[] times;
+    private final byte[] types;
+    private final int[] firstValues;
+    private final int[] secondValues;
+    private final AtomicLong head = new AtomicLong(); // Next slot to read; written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write; written by the producer
+    private long cachedHead; // The producer's last view of the head
+
+    /**
+     * Constructs a ring.
+     *
+     * @param capacity The number of events held; a power of two.
+     */
+    EventRing(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.times = new long[capacity];
+        this.types = new byte[capacity];
+        this.firstValues = new int[capacity];
+        this.secondValues = new int[capacity];
+    }
+
+    /**
+     * Adds an event. Must only be called from the producer thread.
+     *
+     * @return true if the event was added, false if the ring was full.
+     */
+    boolean offer(long timeNanos, GameEventType type, int firstValue, int secondValue) {
+        long position = tail.get();
+        if (position - cachedHead > mask) {
+            cachedHead = head.getAcquire();
+            if (position - cachedHead > mask) {
+                return false;
+            }
+        }
+        int slot = (int) (position & mask);
+        times[slot] = timeNanos;
+        types[slot] = (byte) type.ordinal();
+        firstValues[slot] = firstValue;
+        secondValues[slot] = secondValue;
+        tail.setRelease(position + 1); // Publish the slot
+        return true;
+    }
+
+    /**
+     * Passes the events currently in the ring to the sink, oldest first, and frees their slots.
+     * Must only be called from the consumer thread.
+     *
+     * @param sink     The receiver of the events.
+     * @param maxCount The maximum number of events to drain.
+     * @return The number of events drained.
+     */
+    int drain(Sink sink, int maxCount) {
+        long position = head.get();
+        long available = Math.min(tail.getAcquire() - position, maxCount);
+        for (long i = 0; i < available; i++) {
+            int slot = (int) ((position + i) & mask);
+            sink.accept(times[slot], TYPES[types[slot]], firstValues[slot], secondValues[slot]);
+        }
+        head.setRelease(position + available); // Hand the slots back to the producer
+        return (int) available;
+    }
+
+    /**
+     * @return The number of events waiting to be drained.
+     */
+    int size() {
+        long position = head.getAcquire(); // Read first so the tail can never be behind it
+        return (int) (tail.getAcquire() - position);
+    }
+
+    /**
+     * @return The number of events the ring holds.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
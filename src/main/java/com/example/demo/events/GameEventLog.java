@@ -0,0 +1,395 @@
+package com.example.demo.events;
+
+import com.example.demo.managers.GameStateManager;
+import com.example.demo.model.Faction;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Records typed game events and writes them off the game thread.
+ * <p>
+ * The game records kills, damage, spawns, power-ups, state changes, the session seed and the
+ * progress of recordings and replays through the {@code record}
+ * methods, which only copy a few numbers into an {@link EventRing} and never block or allocate.
+ * A background writer thread drains the ring and writes one JSON object per line (NDJSON) to the
+ * log file, and echoes the lines to the console if asked to. Both outputs are opt-in:
+ * </p>
+ * <pre>
+ * -Ddemo.eventLog=logs/events.ndjson
+ * -Ddemo.eventLog.console=true
+ * </pre>
+ * <p>
+ * With neither set, recording an event does nothing. Events arriving while the ring is full are
+ * dropped and counted. The {@code record} methods are meant to be called from the game thread only.
+ * </p>
+ * <p>
+ * Warnings such as missing resources go through {@link #warnOnce(String)}, which prints each one
+ * to the console a single time and only when console output is on.
+ * </p>
+ */
+public class GameEventLog {
+
+    /**
+     * The system property naming the NDJSON file events are written to.
+     */
+    public static final String LOG_FILE_PROPERTY = "demo.eventLog";
+
+    /**
+     * The system property that echoes events to the console when set to {@code true}.
+     */
+    public static final String CONSOLE_PROPERTY = "demo.eventLog.console";
+
+    /**
+     * Enumeration of the power-ups that can be collected.
+     */
+    public enum PowerUpKind {
+        DEFAULT,
+        SPREADSHOT
+    }
+
+    private static final int RING_CAPACITY = 4096;
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final Faction[] FACTIONS = Faction.values();
+    private static final GameStateManager.GameState[] STATES = GameStateManager.GameState.values();
+    private static final PowerUpKind[] POWER_UPS = PowerUpKind.values();
+
+    private static GameEventLog instance; // Singleton instance
+
+    private final EventRing ring;
+    private final Writer output;
+    private final PrintStream console;
+    private final LongSupplier clock;
+    private final long startTime;
+    private final boolean enabled;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Set<String> reportedWarnings = ConcurrentHashMap.newKeySet();
+    private final StringBuilder line = new StringBuilder(96); // Only used by the draining thread
+    private Thread writerThread;
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs an event log.
+     *
+     * @param output   The writer events are written to, or null for none.
+     * @param console  The stream events are echoed to, or null for none.
+     * @param capacity The number of events buffered; a power of two.
+     * @param clock    The source of nanosecond timestamps.
+     */
+    GameEventLog(Writer output, PrintStream console, int capacity, LongSupplier clock) {
+        this.ring = new EventRing(capacity);
+        this.output = output;
+        this.console = console;
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
+        this.enabled = output != null || console != null;
+    }
+
+    /**
+     * Returns the singleton instance of GameEventLog, configured from the system properties and
+     * with its writer thread started if any output is enabled.
+     *
+     * @return The singleton instance of GameEventLog.
+     */
+    public static synchronized GameEventLog getInstance() {
+        if (instance == null) {
+            instance = new GameEventLog(openLogFile(), Boolean.getBoolean(CONSOLE_PROPERTY) ? System.out : null,
+                    RING_CAPACITY, System::nanoTime);
+            instance.start();
+        }
+        return instance;
+    }
+
+    /**
+     * Records that enemies were destroyed.
+     *
+     * @param totalKills The kill count after the kill.
+     */
+    public void recordKill(int totalKills) {
+        record(GameEventType.KILL, totalKills, 0);
+    }
+
+    /**
+     * Records that a plane took damage.
+     *
+     * @param faction The side the plane is on.
+     * @param health  The plane's health after the damage.
+     */
+    public void recordDamage(Faction faction, int health) {
+        record(GameEventType.DAMAGE, faction.ordinal(), health);
+    }
+
+    /**
+     * Records that a unit entered the level.
+     *
+     * @param faction      The side the unit is on.
+     * @param enemyCount   The number of enemy units after the spawn.
+     */
+    public void recordSpawn(Faction faction, int enemyCount) {
+        record(GameEventType.SPAWN, faction.ordinal(), enemyCount);
+    }
+
+    /**
+     * Records that the user collected a power-up.
+     *
+     * @param kind The kind of power-up.
+     */
+    public void recordPowerUp(PowerUpKind kind) {
+        record(GameEventType.POWER_UP, kind.ordinal(), 0);
+    }
+
+    /**
+     * Records a change of game state.
+     *
+     * @param from The previous state, or null if there was none.
+     * @param to   The new state.
+     */
+    public void recordStateChange(GameStateManager.GameState from, GameStateManager.GameState to) {
+        record(GameEventType.STATE_CHANGE, from != null ? from.ordinal() : -1, to.ordinal());
+    }
+
+    /**
+     * Records the start of a game session.
+     *
+     * @param seed The session seed, with which the session can be replayed.
+     */
+    public void recordSessionStart(long seed) {
+        record(GameEventType.SESSION_START, (int) (seed >>> 32), (int) seed);
+    }
+
+    /**
+     * Records that a recording started to be replayed.
+     *
+     * @param tickCount The number of ticks in the recording.
+     */
+    public void recordReplayStart(int tickCount) {
+        record(GameEventType.REPLAY_START, tickCount, 0);
+    }
+
+    /**
+     * Records that a replay ran out of recorded input.
+     *
+     * @param tickCount The number of ticks replayed.
+     */
+    public void recordReplayEnd(int tickCount) {
+        record(GameEventType.REPLAY_END, tickCount, 0);
+    }
+
+    /**
+     * Records that the input of a session was saved to its recording file.
+     *
+     * @param tickCount The number of ticks recorded.
+     */
+    public void recordRecordingSaved(int tickCount) {
+        record(GameEventType.RECORDING_SAVED, tickCount, 0);
+    }
+
+    /**
+     * Prints a warning to the console the first time it is given. Does nothing unless console
+     * output is on, so a missing resource does not write to the console every time it is looked up.
+     *
+     * @param message The warning.
+     */
+    public void warnOnce(String message) {
+        if (console != null && reportedWarnings.add(message)) {
+            console.println("WARN " + message);
+        }
+    }
+
+    /**
+     * @return true if events are written anywhere.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The number of events dropped because the writer fell behind.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Stops the writer thread and writes out every buffered event. Later events are ignored.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            drainAll();
+        }
+        closeOutput();
+    }
+
+    /**
+     * Copies an event into the ring, counting it as dropped if the ring is full.
+     */
+    private void record(GameEventType type, int firstValue, int secondValue) {
+        if (!enabled || closed) {
+            return;
+        }
+        if (!ring.offer(clock.getAsLong() - startTime, type, firstValue, secondValue)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Starts the writer thread if any output is enabled.
+     */
+    private void start() {
+        if (!enabled) {
+            return;
+        }
+        writerThread = new Thread(this::runWriter, "event-log");
+        writerThread.setDaemon(true); // Never keep the application alive
+        writerThread.start();
+    }
+
+    /**
+     * Drains the ring until the log is closed, flushing the output whenever it runs empty.
+     */
+    private void runWriter() {
+        while (!closed) {
+            if (ring.drain(this::write, DRAIN_BATCH) == 0) {
+                flushOutput();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drainAll();
+    }
+
+    /**
+     * Writes out every buffered event and flushes the output. Must be called from the draining thread.
+     */
+    void drainAll() {
+        while (ring.drain(this::write, DRAIN_BATCH) > 0) {
+            // Keep draining until the ring is empty
+        }
+        flushOutput();
+    }
+
+    /**
+     * Formats an event as a JSON line and writes it to the enabled outputs.
+     */
+    private void write(long timeNanos, GameEventType type, int firstValue, int secondValue) {
+        line.setLength(0);
+        appendJson(line, timeNanos, type, firstValue, secondValue);
+        try {
+            if (output != null) {
+                output.append(line).append('\n');
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write event log: " + e.getMessage());
+        }
+        if (console != null) {
+            console.println(line);
+        }
+    }
+
+    /**
+     * Appends an event as a JSON object, with enum values written by name.
+     *
+     * @param json        The builder to append to.
+     * @param timeNanos   The time of the event since the log started, in nanoseconds.
+     * @param type        The type of event.
+     * @param firstValue  The event's first value.
+     * @param secondValue The event's second value.
+     */
+    static void appendJson(StringBuilder json, long timeNanos, GameEventType type, int firstValue, int secondValue) {
+        json.append("{\"t\":").append(timeNanos / 1_000).append(",\"type\":\"").append(type).append('"');
+        if (type == GameEventType.SESSION_START) {
+            long seed = (long) firstValue << 32 | (secondValue & 0xFFFFFFFFL); // Rejoin the halves of the seed
+            json.append(",\"").append(type.getFirstField()).append("\":").append(seed);
+        } else {
+            appendField(json, type, type.getFirstField(), firstValue);
+            if (type.getSecondField() != null) {
+                appendField(json, type, type.getSecondField(), secondValue);
+            }
+        }
+        json.append('}');
+    }
+
+    /**
+     * Appends one value, decoding the enum ordinals used by the event type.
+     */
+    private static void appendField(StringBuilder json, GameEventType type, String field, int value) {
+        json.append(",\"").append(field).append("\":");
+        Enum<?>[] names = switch (type) {
+            case DAMAGE, SPAWN -> field.equals("faction") ? FACTIONS : null;
+            case POWER_UP -> POWER_UPS;
+            case STATE_CHANGE -> STATES;
+            default -> null;
+        };
+        if (names == null) {
+            json.append(value);
+        } else if (value >= 0 && value < names.length) {
+            json.append('"').append(names[value].name()).append('"');
+        } else {
+            json.append("null");
+        }
+    }
+
+    private void flushOutput() {
+        try {
+            if (output != null) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not flush event log: " + e.getMessage());
+        }
+    }
+
+    private void closeOutput() {
+        try {
+            if (output != null) {
+                output.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not close event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the log file named by the system property.
+     *
+     * @return The writer, or null if no log file was requested or it cannot be opened.
+     */
+    private static Writer openLogFile() {
+        String file = System.getProperty(LOG_FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(file);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            return Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Could not open event log '" + file + "': " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.events;
+
+/**
+ * Enumeration of the kinds of event recorded in the {@link GameEventLog}.
+ * <p>
+ * Every event carries two integer values whose meaning depends on its type; the names they are
+ * written under are given by {@link #getFirstField()} and {@link #getSecondField()}, except for
+ * {@link #SESSION_START}, whose 64-bit seed is split across both values.
+ * </p>
+ */
+public enum GameEventType {
+    KILL("kills", null),
+    DAMAGE("faction", "health"),
+    SPAWN("faction", "enemies"),
+    POWER_UP("powerUp", null),
+    STATE_CHANGE("from", "to"),
+    SESSION_START("seed", null),
+    REPLAY_START("ticks", null),
+    REPLAY_END("ticks", null),
+    RECORDING_SAVED("ticks", null);
+
+    private final String firstField;
+    private final String secondField;
+
+    GameEventType(String firstField, String secondField) {
+        this.firstField = firstField;
+        this.secondField = secondField;
+    }
+
+    /**
+     * @return The name of the event's first value.
+     */
+    public String getFirstField() {
+        return firstField;
+    }
+
+    /**
+     * @return The name of the event's second value, or null if the event only has one.
+     */
+    public String getSecondField() {
+        return secondField;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.plane.BossPlane;
+import com.example.demo.levels.plan.LevelPlan;
+import com.example.demo.powerups.SpreadshotPowerUp;
+import com.example.demo.screens.LevelView;
+import com.example.demo.sounds.SoundManager;
+import com.example.demo.utils.GameRandom;
+
+/**
+ * A level built from a {@link LevelPlan} rather than written as a class, so new levels can be
+ * added as level files without rebuilding the game.
+ * <p>
+ * Enemies are spawned from the plan's wave timeline. If the plan has a boss, it enters once the
+ * timeline has finished and the screen is clear, and destroying it completes the level; otherwise
+ * reaching the kill target does. Power-ups are dropped from the plan's power-up table.
+ * </p>
+ */
+public class DataDrivenLevel extends LevelParent {
+
+    private static final int BOSS_SPRITE_HEIGHT = 300;
+
+    private final LevelPlan plan;
+    private final BossPlane boss; // Null if the plan has no boss
+    private final SoundManager soundManager;
+    private boolean bossSpawned = false;
+
+    /**
+     * Constructs a level from a plan.
+     *
+     * @param plan         The level's plan.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     */
+    public DataDrivenLevel(LevelPlan plan, double screenHeight, double screenWidth) {
+        super(DataDrivenLevel.class.getName() + ':' + plan.getName(), plan.getBackground(), screenHeight, screenWidth,
+                plan.getPlayerHealth(), plan.getKillTarget(), plan.getWaves());
+        this.plan = plan;
+        this.boss = plan.getBoss() != null ? createBoss(plan.getBoss()) : null;
+        this.soundManager = SoundManager.getInstance();
+    }
+
+    /**
+     * Lists the images and music a plan's level needs, so they can be preloaded, including the HUD
+     * and the player's plane shared by every level.
+     *
+     * @param plan The level's plan.
+     * @return The level's assets.
+     */
+    public static LevelAssets assetsOf(LevelPlan plan) {
+        LevelAssets assets = new LevelAssets(plan.getMusic())
+                .image(plan.getBackground())
+                .image("/com/example/demo/images/pause.png", 50, 50)
+                .image("/com/example/demo/images/music.png", 30, 30)
+                .image("/com/example/demo/images/unmutemusic.png", 30, 30)
+                .image("/com/example/demo/images/speaker.png", 30, 30)
+                .image("/com/example/demo/images/unmuteeffect.png", 30, 30)
+                .sprite("/com/example/demo/images/heart.png", 0, 50)
+                .sprite("userplane.png", 150)
+                .sprite("userfire.png", 125);
+        if (plan.getWaves() != null) {
+            assets.sprite("enemyplane.png", 150).sprite("enemyplane.png", 50).sprite("enemyFire.png", 50);
+        }
+        if (plan.getBoss() != null) {
+            if (plan.getBoss().imagePath() == null) {
+                assets.sprite("bossplane.png", BOSS_SPRITE_HEIGHT);
+            } else {
+                assets.actorSprite(plan.getBoss().imagePath(), plan.getBoss().width(), plan.getBoss().height());
+            }
+            assets.sprite("fireball.png", 75).sprite("/com/example/demo/images/shield.png", 200, 200);
+        }
+        if (!plan.getPowerUps().isEmpty()) {
+            assets.sprite("spreadshot.png", 40);
+        }
+        return assets;
+    }
+
+    /**
+     * Creates the boss, replacing its sprite if the plan names its own. A replacement sprite is hit
+     * anywhere in its opaque pixels, and a missing one leaves the standard boss in place.
+     *
+     * @param bossPlan The plan's boss.
+     * @return A configured boss.
+     */
+    private static BossPlane createBoss(LevelPlan.Boss bossPlan) {
+        BossPlane boss = new BossPlane();
+        if (bossPlan.imagePath() != null) {
+            boss.setSprite(bossPlan.imagePath(), bossPlan.width(), bossPlan.height());
+        }
+        return boss;
+    }
+
+    /**
+     * Plays the level's music and adds the user's plane to the scene.
+     */
+    @Override
+    protected void initializeFriendlyUnits() {
+        if (plan.getMusic() != null) {
+            playLevelMusic(plan.getMusic());
+        }
+        addUserToGameplayLayer();
+    }
+
+    /**
+     * Checks if the game is over, either by user loss or by completing the level.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            soundManager.stopBackgroundMusic();
+            loseGame();
+        } else if (isLevelComplete()) {
+            soundManager.stopBackgroundMusic();
+            advance();
+        }
+    }
+
+    /**
+     * Determines if the level's goal has been met.
+     *
+     * @return true if the boss is destroyed, or for a level without a boss, if the kill target is reached.
+     */
+    private boolean isLevelComplete() {
+        return boss != null ? boss.isDestroyed() : getKillCount() >= plan.getKillTarget();
+    }
+
+    /**
+     * Moves on to the plan's next level, or wins the game if there is none.
+     */
+    private void advance() {
+        if (plan.getNextLevel() == null) {
+            winGame();
+            return;
+        }
+        try {
+            goToNextLevel(LevelFactory.create(plan.getNextLevel(), getScreenHeight(), getScreenWidth()));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create level " + plan.getNextLevel(), e);
+        }
+    }
+
+    /**
+     * Spawns enemies from the wave timeline, the boss once the waves are over, and power-ups.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        if (plan.getWaves() != null) {
+            super.spawnEnemyUnits();
+        }
+        if (boss != null && !bossSpawned && getCurrentNumberOfEnemies() == 0
+                && (plan.getWaves() == null || isWaveTimelineFinished())) {
+            spawnBoss();
+        }
+        spawnPowerUps();
+    }
+
+    /**
+     * Spawns the boss with its health bar and shield.
+     */
+    private void spawnBoss() {
+        addEnemyUnit(boss);
+        getRoot().getChildren().addAll(boss.getHealthBarBackground(), boss.getHealthBar());
+        getRoot().getChildren().add(boss.getShieldImage());
+        bossSpawned = true;
+    }
+
+    /**
+     * Rolls each row of the power-up table and drops the power-ups that come up, at a random
+     * position within the left half of the screen.
+     */
+    private void spawnPowerUps() {
+        GameRandom random = GameRandom.current();
+        for (LevelPlan.PowerUpChance powerUp : plan.getPowerUps()) {
+            if (random.chance(GameRandom.Stream.POWER_UPS, powerUp.probability())) {
+                double x = random.nextDouble(GameRandom.Stream.POWER_UPS) * (getScreenWidth() / 2);
+                addPowerUp(switch (powerUp.type()) {
+                    case SPREADSHOT -> new SpreadshotPowerUp(x, 0);
+                });
+            }
+        }
+    }
+
+    /**
+     * Preloads the next level while this one is played.
+     *
+     * @return The next level's assets, or null if there is none or it does not declare them.
+     */
+    @Override
+    protected LevelAssets getNextLevelAssets() {
+        String next = plan.getNextLevel();
+        return next != null ? LevelFactory.assetsOf(next) : null;
+    }
+
+    /**
+     * Instantiates the level's view, with a heart for each point of the player's starting health.
+     *
+     * @return a LevelView object
+     */
+    @Override
+    protected LevelView instantiateLevelView() {
+        return new LevelView(getRoot(), getUser().getHealth());
+    }
+
+    /**
+     * @return The plan this level was built from.
+     */
+    public LevelPlan getPlan() {
+        return plan;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.levels;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists the images and music a level needs, so they can be loaded before the level is built.
+ * <p>
+ * Entries must use the same resource paths and sizes the level's actors and views request,
+ * otherwise the preloaded copies are not the ones looked up. Declared with a fluent style:
+ * </p>
+ * <pre>
+ * new LevelAssets(LEVEL_TWO_MUSIC)
+ *         .image(BACKGROUND_IMAGE_NAME)
+ *         .sprite("fireball.png", 75);
+ * </pre>
+ */
+public final class LevelAssets {
+
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    private final String musicPath;
+    private final List<ImageRequest> images = new ArrayList<>();
+
+    /**
+     * Constructs an asset list.
+     *
+     * @param musicPath The background music of the level, or null if it has none.
+     */
+    public LevelAssets(String musicPath) {
+        this.musicPath = musicPath;
+    }
+
+    /**
+     * Adds an image shown at its natural size, such as a background.
+     *
+     * @param resourcePath The absolute classpath location of the image.
+     * @return This asset list.
+     */
+    public LevelAssets image(String resourcePath) {
+        images.add(new ImageRequest(resourcePath, 0, 0, false, false));
+        return this;
+    }
+
+    /**
+     * Adds an image decoded to fit the given size, such as a button icon.
+     *
+     * @param resourcePath The absolute classpath location of the image.
+     * @param width        The width the image is requested at, or 0.
+     * @param height       The height the image is requested at, or 0.
+     * @return This asset list.
+     */
+    public LevelAssets image(String resourcePath, double width, double height) {
+        images.add(new ImageRequest(resourcePath, width, height, false, false));
+        return this;
+    }
+
+    /**
+     * Adds a sprite shown through the {@link com.example.demo.utils.atlas.SpriteAtlas}, such as a
+     * heart or the boss shield.
+     *
+     * @param resourcePath The absolute classpath location of the image.
+     * @param width        The width the sprite is requested at, or 0.
+     * @param height       The height the sprite is requested at, or 0.
+     * @return This asset list.
+     */
+    public LevelAssets sprite(String resourcePath, double width, double height) {
+        images.add(new ImageRequest(resourcePath, width, height, true, false));
+        return this;
+    }
+
+    /**
+     * Adds a sprite an actor is switched to with
+     * {@link com.example.demo.actors.ActiveActor#setSprite(String, double, double)}, such as a
+     * replacement boss image. Like other actor sprites, its collision mask is built with it.
+     *
+     * @param resourcePath The absolute classpath location of the image.
+     * @param width        The width of the box the sprite is fitted into, or 0.
+     * @param height       The height of the box the sprite is fitted into, or 0.
+     * @return This asset list.
+     */
+    public LevelAssets actorSprite(String resourcePath, double width, double height) {
+        images.add(new ImageRequest(resourcePath, width, height, true, true));
+        return this;
+    }
+
+    /**
+     * Adds an actor sprite, named and sized as the actor passes it to
+     * {@link com.example.demo.actors.ActiveActor}.
+     *
+     * @param imageName The file name of the sprite.
+     * @param height    The height the actor is displayed at.
+     * @return This asset list.
+     */
+    public LevelAssets sprite(String imageName, int height) {
+        images.add(new ImageRequest(IMAGE_LOCATION + imageName, 0, height, true, true));
+        return this;
+    }
+
+    /**
+     * @return The background music of the level, or null if it has none.
+     */
+    public String getMusicPath() {
+        return musicPath;
+    }
+
+    /**
+     * @return The images of the level, in the order they were added.
+     */
+    public List<ImageRequest> getImages() {
+        return Collections.unmodifiableList(images);
+    }
+
+    /**
+     * One image to load, with the size it is requested at.
+     */
+    public static final class ImageRequest {
+        private final String resourcePath;
+        private final double width;
+        private final double height;
+        private final boolean packed;
+        private final boolean actorSprite;
+
+        private ImageRequest(String resourcePath, double width, double height, boolean packed, boolean actorSprite) {
+            this.resourcePath = resourcePath;
+            this.width = width;
+            this.height = height;
+            this.packed = packed;
+            this.actorSprite = actorSprite;
+        }
+
+        public String getResourcePath() {
+            return resourcePath;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        /**
+         * @return true if the image is shown through the sprite atlas rather than on its own.
+         */
+        public boolean isPacked() {
+            return packed;
+        }
+
+        /**
+         * @return true if the image is an actor sprite, whose collision mask is built along with it.
+         */
+        public boolean isActorSprite() {
+            return actorSprite;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.levels;
+
+import com.example.demo.levels.plan.LevelPlanLoader;
+
+/**
+ * Creates levels from the names used to refer to them in recordings, level files and the
+ * controller: either a level file or the fully qualified name of a {@link LevelParent} subclass.
+ */
+public final class LevelFactory {
+
+    /**
+     * The file name ending that marks a level name as a level file.
+     */
+    public static final String LEVEL_FILE_SUFFIX = ".level";
+
+    /**
+     * The level the game starts at unless told otherwise.
+     */
+    public static final String FIRST_LEVEL = "/com/example/demo/levels/levelone.level";
+
+    private static final String ASSETS_FIELD = "ASSETS";
+
+    private LevelFactory() {
+        // Utility class
+    }
+
+    /**
+     * Determines whether a level name refers to a level file.
+     *
+     * @param level The level name.
+     * @return true if the level is described by a level file, false if it is a class name.
+     */
+    public static boolean isLevelFile(String level) {
+        return level.endsWith(LEVEL_FILE_SUFFIX);
+    }
+
+    /**
+     * Creates a level. Level files are loaded through the {@link LevelPlanLoader}, so each file is
+     * only compiled once; classes are instantiated by reflection.
+     *
+     * @param level        A level file location, or the class name of a level with a
+     *                     {@code (double screenHeight, double screenWidth)} constructor.
+     * @param screenHeight Height of the game window.
+     * @param screenWidth  Width of the game window.
+     * @return The level.
+     * @throws ReflectiveOperationException If the level class cannot be instantiated.
+     * @throws IllegalArgumentException     If the level file does not exist or is not valid.
+     */
+    public static LevelParent create(String level, double screenHeight, double screenWidth) throws ReflectiveOperationException {
+        if (isLevelFile(level)) {
+            return new DataDrivenLevel(LevelPlanLoader.getInstance().load(level), screenHeight, screenWidth);
+        }
+        Class<?> levelClass = Class.forName(level);
+        return (LevelParent) levelClass.getConstructor(double.class, double.class).newInstance(screenHeight, screenWidth);
+    }
+
+    /**
+     * Lists the images and music a level needs, so they can be preloaded. Level files are read
+     * through the {@link LevelPlanLoader}; level classes declare theirs in a static {@code ASSETS} field.
+     *
+     * @param level A level file location or a level class name.
+     * @return The level's assets, or null if a level class does not declare them.
+     * @throws IllegalArgumentException If the level file does not exist or is not valid.
+     */
+    public static LevelAssets assetsOf(String level) {
+        if (isLevelFile(level)) {
+            return DataDrivenLevel.assetsOf(LevelPlanLoader.getInstance().load(level));
+        }
+        try {
+            Object assets = Class.forName(level).getField(ASSETS_FIELD).get(null);
+            return assets instanceof LevelAssets levelAssets ? levelAssets : null;
+        } catch (ReflectiveOperationException e) {
+            return null; // Nothing to preload; a missing class is reported when the level is created
+        }
+    }
+}
@@ -5,19 +5,33 @@ import java.beans.PropertyChangeSupport;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.factory.BasicFighterPlaneFactory;
+import com.example.demo.actors.plane.BasicFighterPlane;
+import com.example.demo.actors.plane.EnemyPlane;
 import com.example.demo.actors.plane.UserPlane;
+import com.example.demo.profiling.TickPhase;
+import com.example.demo.rendering.RenderMode;
+import com.example.demo.rendering.SpriteBatchRenderer;
+import com.example.demo.profiling.TickProfiler;
 import com.example.demo.screens.*;
 import com.example.demo.sounds.SoundManager;
+import com.example.demo.events.GameEventLog;
+import com.example.demo.levels.waves.EnemyType;
+import com.example.demo.levels.waves.WaveScheduler;
+import com.example.demo.levels.waves.WaveTimeline;
 import com.example.demo.utils.KillCountDisplay;
+import com.example.demo.utils.ProfilerOverlay;
 import com.example.demo.managers.ActorManager;
 import com.example.demo.managers.GameLoopManager;
 import com.example.demo.managers.GameStateManager;
 import com.example.demo.managers.CollisionManager;
 import com.example.demo.managers.InputManager;
 import com.example.demo.managers.PauseManager;
+import com.example.demo.managers.RenderInterpolator;
 import com.example.demo.managers.SceneManager;
+import com.example.demo.managers.EnemyFireManager;
 import com.example.demo.managers.EnemyManager;
 import com.example.demo.managers.EventHandler;
+import com.example.demo.utils.GameRandom;
 
 import javafx.scene.Group;
 import javafx.scene.Scene;
@@ -40,6 +54,12 @@ public abstract class LevelParent {
 	// Constants
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 	private static final int MILLISECOND_DELAY = 50;
+	public static final String RENDER_MODE_PROPERTY = "demo.renderMode"; // Selects the default render mode
+
+	/**
+	 * Name of the property change fired with the next level when a headless level advances.
+	 */
+	public static final String NEXT_LEVEL_PROPERTY = "nextLevel";
 
 	// Core Properties
 	private final double screenHeight;
@@ -50,15 +70,23 @@ public abstract class LevelParent {
 	private final SceneManager sceneManager;
 	private final KillCountDisplay killCountDisplay;
 
-	private final ActorManager actorManager = new ActorManager();
+	private final RenderMode renderMode;
+	private final SpriteBatchRenderer spriteBatchRenderer; // Only used in canvas mode
+	private final ActorManager actorManager;
 	private final GameLoopManager gameLoopManager;
 	private final GameStateManager gameStateManager = GameStateManager.getInstance();
 	private final CollisionManager collisionManager;
 	private final InputManager inputManager;
 	private final PauseManager pauseManager;
 	private final EnemyManager enemyManager;
+	private final EnemyFireManager enemyFireManager;
+	private final WaveScheduler waveScheduler; // Null when the level has no wave timeline
 	private final SoundManager soundManager;
+	private final GameEventLog eventLog = GameEventLog.getInstance();
 	private final EventHandler eventHandler;
+	private final RenderInterpolator renderInterpolator = new RenderInterpolator();
+	private final TickProfiler tickProfiler = new TickProfiler();
+	private final ProfilerOverlay profilerOverlay = new ProfilerOverlay(10, 130);
 
 	private final PropertyChangeSupport support = new PropertyChangeSupport(this);
 
@@ -81,12 +109,66 @@ public abstract class LevelParent {
 	 */
 
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, int targetKillCount) {
+		this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, targetKillCount, defaultRenderMode());
+	}
+
+	/**
+	 * Constructs a base class for levels in the game that draws its actors in the given render mode.
+	 *
+	 * @param backgroundImageName Path to the background image resource for the level.
+	 * @param screenHeight        Height of the game window.
+	 * @param screenWidth         Width of the game window.
+	 * @param playerInitialHealth The starting health of the player's plane.
+	 * @param targetKillCount     The number of kills required to complete the level.
+	 * @param renderMode          How gameplay actors are drawn.
+	 */
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, int targetKillCount,
+					   RenderMode renderMode) {
+		this(null, backgroundImageName, screenHeight, screenWidth, playerInitialHealth, targetKillCount, renderMode, null);
+	}
+
+	/**
+	 * Constructs a level described by data rather than by its class, in the default render mode.
+	 *
+	 * @param levelName           The name the level's random numbers are seeded from.
+	 * @param backgroundImageName Path to the background image resource for the level.
+	 * @param screenHeight        Height of the game window.
+	 * @param screenWidth         Width of the game window.
+	 * @param playerInitialHealth The starting health of the player's plane.
+	 * @param targetKillCount     The number of kills required to complete the level.
+	 * @param waveTimeline        The timeline that spawns the level's enemies, or null to use {@link #getWaveTimelinePath()}.
+	 */
+	protected LevelParent(String levelName, String backgroundImageName, double screenHeight, double screenWidth,
+						  int playerInitialHealth, int targetKillCount, WaveTimeline waveTimeline) {
+		this(levelName, backgroundImageName, screenHeight, screenWidth, playerInitialHealth, targetKillCount,
+				defaultRenderMode(), waveTimeline);
+	}
+
+	/**
+	 * Constructs a base class for levels in the game.
+	 *
+	 * @param levelName           The name the level's random numbers are seeded from, or null for the class name.
+	 * @param backgroundImageName Path to the background image resource for the level.
+	 * @param screenHeight        Height of the game window.
+	 * @param screenWidth         Width of the game window.
+	 * @param playerInitialHealth The starting health of the player's plane.
+	 * @param targetKillCount     The number of kills required to complete the level.
+	 * @param renderMode          How gameplay actors are drawn.
+	 * @param waveTimeline        The timeline that spawns the level's enemies, or null to use {@link #getWaveTimelinePath()}.
+	 */
+	private LevelParent(String levelName, String backgroundImageName, double screenHeight, double screenWidth,
+						int playerInitialHealth, int targetKillCount, RenderMode renderMode, WaveTimeline waveTimeline) {
+		GameRandom.startLevel(levelName != null ? levelName : getClass().getName()); // Before any subsystem draws a random number
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.renderMode = renderMode;
+		this.actorManager = new ActorManager(renderMode);
+		this.spriteBatchRenderer = renderMode == RenderMode.CANVAS ? new SpriteBatchRenderer(screenWidth, screenHeight) : null;
 
 		this.gameLoopManager = GameLoopManager.getInstance();
-		this.gameLoopManager.initialize(Duration.millis(MILLISECOND_DELAY), this::updateScene);
+		this.gameLoopManager.initialize(Duration.millis(MILLISECOND_DELAY), this::runSimulationStep);
+		this.gameLoopManager.setRenderTask(this::renderFrame);
 		this.soundManager = SoundManager.getInstance();
 
 		// Pass 'this' (current LevelParent instance)
@@ -104,8 +186,10 @@ public abstract class LevelParent {
 
 		this.killCountDisplay = new KillCountDisplay(600, 55, targetKillCount);
 		this.countdownOverlay = new CountdownOverlay(sceneManager.getRoot(), screenWidth, screenHeight);
-		this.collisionManager = new CollisionManager(actorManager, user, sceneManager.getRoot(), screenWidth);
+		this.collisionManager = new CollisionManager(actorManager, user, sceneManager.getRoot(), screenWidth, screenHeight);
+		this.collisionManager.setScreenShakeEnabled(renderMode != RenderMode.HEADLESS);
 		this.inputManager = new InputManager(user, this);
+		this.enemyFireManager = new EnemyFireManager(collisionManager, renderMode, screenWidth, screenHeight);
 		this.enemyManager = new EnemyManager(
 				actorManager,
 				sceneManager.getRoot(),
@@ -113,11 +197,34 @@ public abstract class LevelParent {
 				screenWidth,                    // Pass screenWidth
 				enemyMaximumYPosition,          // Pass enemyMaximumYPosition
 				0.25,                           // Spawn probability
-				10                              // Max enemies
+				10,                             // Max enemies
+				enemyFireManager                // Runs the fighters' shots as entities
 		);
+		if (waveTimeline == null && getWaveTimelinePath() != null) {
+			waveTimeline = WaveTimeline.load(getWaveTimelinePath());
+		}
+		this.waveScheduler = waveTimeline == null ? null : waveTimeline.schedule(1000.0 / MILLISECOND_DELAY, GameRandom.current());
 		this.eventHandler = new EventHandler(pauseManager, this);
 	}
 
+	/**
+	 * Reads the render mode used when a level does not choose one, from the {@code demo.renderMode}
+	 * system property.
+	 *
+	 * @return The render mode named by the property, or {@link RenderMode#SCENE_GRAPH} if it is unset or invalid.
+	 */
+	private static RenderMode defaultRenderMode() {
+		String value = System.getProperty(RENDER_MODE_PROPERTY);
+		if (value != null) {
+			try {
+				return RenderMode.valueOf(value.trim().toUpperCase());
+			} catch (IllegalArgumentException e) {
+				System.err.println("Unknown render mode '" + value + "', using " + RenderMode.SCENE_GRAPH);
+			}
+		}
+		return RenderMode.SCENE_GRAPH;
+	}
+
 	/**
 	 * Initializes the timeline that controls the game loop.
 	 * The timeline runs indefinitely and invokes the updateScene method at fixed intervals.
@@ -131,10 +238,50 @@ public abstract class LevelParent {
 	protected abstract void checkIfGameOver();
 
 	/**
-	 * Spawns enemy units using the EnemyManager.
+	 * Spawns enemy units from the level's wave timeline, or using the EnemyManager if the level
+	 * has none.
 	 */
 	protected void spawnEnemyUnits() {
-		enemyManager.spawnEnemies();
+		if (waveScheduler != null) {
+			waveScheduler.advance(getCurrentNumberOfEnemies(), this::spawnScheduledEnemy);
+		} else {
+			enemyManager.spawnEnemies();
+		}
+	}
+
+	/**
+	 * Returns the classpath location of the wave timeline that spawns this level's enemies.
+	 * Called once while the level is constructed.
+	 *
+	 * @return The timeline resource path, or null to spawn enemies at random using the EnemyManager.
+	 */
+	protected String getWaveTimelinePath() {
+		return null;
+	}
+
+	/**
+	 * Determines whether the level's wave timeline has spawned its last enemy.
+	 *
+	 * @return true if the timeline is finished, false if it is still running, loops or the level has none.
+	 */
+	protected boolean isWaveTimelineFinished() {
+		return waveScheduler != null && waveScheduler.isFinished();
+	}
+
+	/**
+	 * Spawns an enemy released by the wave timeline at the right edge of the screen.
+	 *
+	 * @param type The enemy to spawn.
+	 * @param lane The lane to spawn it in; lanes are spread evenly over the enemy area.
+	 */
+	private void spawnScheduledEnemy(EnemyType type, int lane) {
+		int laneCount = waveScheduler.getLaneCount();
+		double y = laneCount > 1 ? lane * enemyMaximumYPosition / (laneCount - 1) : 0;
+		ActiveActorDestructible enemy = switch (type) {
+			case FIGHTER -> new EnemyPlane(screenWidth, y);
+			case BASIC_FIGHTER -> new BasicFighterPlane(screenWidth, y);
+		};
+		addEnemyUnit(enemy);
 	}
 
 	/**
@@ -151,9 +298,16 @@ public abstract class LevelParent {
 	 */
 	public Scene initializeScene() {
 		Scene scene = sceneManager.initializeScene();
+		if (spriteBatchRenderer != null) {
+			sceneManager.getRoot().getChildren().add(1, spriteBatchRenderer.getCanvas()); // Just above the background
+		}
 		initializeFriendlyUnits(); // Add the user plane and other units
+		if (renderMode == RenderMode.SCENE_GRAPH) {
+			sceneManager.getRoot().getChildren().add(enemyFireManager.getLayer()); // Enemy fire entities are drawn here
+		}
 		levelView.showHeartDisplay(); // Show health or level-related UI
 		sceneManager.getRoot().getChildren().add(killCountDisplay.getDisplay()); // Add the kill count display to the root
+		sceneManager.getRoot().getChildren().add(profilerOverlay.getDisplay()); // Hidden until toggled
 		inputManager.initializeInputHandlers(scene);
 		sceneManager.addPauseButton(this::pauseGame); // Add pause button
 		return scene;
@@ -176,6 +330,46 @@ public abstract class LevelParent {
 			gameStateManager.changeState(GameStateManager.GameState.PLAYING);
 			gameLoopManager.start();
 		});
+		LevelPreloader.getInstance().preload(getNextLevelAssets()); // Load the next level while this one runs
+		soundManager.prepareBackgroundMusicAsync( // Result screens and the menu switch music without loading
+				SoundManager.GAME_OVER_MUSIC, SoundManager.WIN_GAME_MUSIC, SoundManager.MENU_MUSIC);
+	}
+
+	/**
+	 * Starts the level without a window, countdown or game loop, so that it can be stepped with
+	 * {@link #advanceTick()}. Used to simulate {@link RenderMode#HEADLESS} levels.
+	 */
+	public void startSimulation() {
+		initializeFriendlyUnits();
+		gameStateManager.changeState(GameStateManager.GameState.PLAYING);
+	}
+
+	/**
+	 * Runs one simulation step immediately, outside the game loop.
+	 */
+	public void advanceTick() {
+		runSimulationStep();
+	}
+
+	/**
+	 * Converts a time into a number of simulation ticks, so that timed events happen on the same
+	 * tick whether the level is drawn or simulated headless.
+	 *
+	 * @param duration The time.
+	 * @return The number of ticks, rounded to the nearest one.
+	 */
+	protected static int toTicks(Duration duration) {
+		return (int) Math.round(duration.toMillis() / MILLISECOND_DELAY);
+	}
+
+	/**
+	 * Returns the assets of the level that follows this one, so they can be loaded in the
+	 * background while this level is played.
+	 *
+	 * @return The next level's assets, or null if this is the last level.
+	 */
+	protected LevelAssets getNextLevelAssets() {
+		return null;
 	}
 
 	/**
@@ -184,7 +378,7 @@ public abstract class LevelParent {
 	 * @param musicFilePath The file path of the music to play.
 	 */
 	protected void playLevelMusic(String musicFilePath) {
-		if (!soundManager.isBackgroundMusicMuted()) {
+		if (renderMode != RenderMode.HEADLESS && !soundManager.isBackgroundMusicMuted()) {
 			soundManager.playBackgroundMusic(musicFilePath);
 		}
 	}
@@ -192,6 +386,67 @@ public abstract class LevelParent {
 	// ==================== Game Loop =====================
 	// Methods that define and update the game loop, including actor updates, collisions, and UI refresh.
 
+	/**
+	 * Runs one fixed simulation step. The simulation only reads actor bodies, so once it has run
+	 * the render sync pushes every body into its node and the resulting positions are captured,
+	 * letting rendering interpolate between consecutive steps.
+	 */
+	private void runSimulationStep() {
+		tickProfiler.beginTick();
+		updateScene();
+		tickProfiler.endTick();
+		profilerOverlay.update(tickProfiler);
+		actorManager.syncNodes();
+		enemyFireManager.syncNodes();
+		if (renderMode != RenderMode.HEADLESS) {
+			captureActorStates(); // Nothing is drawn, so there is nothing to interpolate
+		}
+	}
+
+	/**
+	 * Draws a frame: moves actors between their previous and current simulated positions and,
+	 * in canvas mode, draws them onto the canvas.
+	 *
+	 * @param alpha The interpolation factor between the previous and the current simulation step.
+	 */
+	private void renderFrame(double alpha) {
+		renderInterpolator.apply(alpha);
+		enemyFireManager.interpolate(alpha);
+		if (spriteBatchRenderer != null) {
+			spriteBatchRenderer.render(actorManager, enemyFireManager);
+		}
+	}
+
+	/**
+	 * Adds the user's plane to the gameplay layer if it is not already there. In canvas mode the
+	 * plane is drawn by the sprite batch, so no node is added.
+	 */
+	protected void addUserToGameplayLayer() {
+		if (renderMode == RenderMode.SCENE_GRAPH && user.getParent() != sceneManager.getRoot()) {
+			sceneManager.getRoot().getChildren().add(user);
+		}
+	}
+
+	/**
+	 * @return How this level draws its gameplay actors.
+	 */
+	public RenderMode getRenderMode() {
+		return renderMode;
+	}
+
+	/**
+	 * Captures the simulated positions of every actor for render interpolation.
+	 */
+	private void captureActorStates() {
+		renderInterpolator.beginCapture();
+		renderInterpolator.capture(actorManager.getFriendlyUnits());
+		renderInterpolator.capture(actorManager.getEnemyUnits());
+		renderInterpolator.capture(actorManager.getUserProjectiles());
+		renderInterpolator.capture(actorManager.getEnemyProjectiles());
+		renderInterpolator.capture(actorManager.getPowerUps());
+		renderInterpolator.endCapture();
+	}
+
 	/**
 	 * The primary game loop method. Updates game logic, handles collisions, cleans up destroyed actors,
 	 * updates UI elements, and checks game-over conditions.
@@ -199,12 +454,21 @@ public abstract class LevelParent {
 
 	private void updateScene() {
 		inputManager.processInput();
+		tickProfiler.mark(TickPhase.INPUT);
 		updateEnemyUnits();
+		tickProfiler.mark(TickPhase.ENEMY_UPDATE);
 		actorManager.updateActors();
+		tickProfiler.mark(TickPhase.ACTOR_UPDATE);
 		collisionManager.handleAllCollisions();
+		tickProfiler.mark(TickPhase.COLLISIONS);
+		enemyFireManager.tick(); // Moves the fighters' shots and hits the user with them
+		tickProfiler.mark(TickPhase.ENEMY_FIRE);
 		actorManager.cleanUpDestroyedActors(sceneManager.getRoot());
+		tickProfiler.mark(TickPhase.CLEANUP);
 		updateUIElements();
+		tickProfiler.mark(TickPhase.UI);
 		checkIfGameOver();
+		tickProfiler.mark(TickPhase.GAME_OVER_CHECK);
 	}
 
 	/**
@@ -242,10 +506,10 @@ public abstract class LevelParent {
 	 * Updates the kill count based on destroyed enemies and refreshes the kill count display.
 	 */
 	private void updateKillCount() {
-		int kills = currentNumberOfEnemies - actorManager.getEnemyUnits().size();
+		int kills = currentNumberOfEnemies - actorManager.getEnemyUnitCount();
 		for (int i = 0; i < kills; i++) {
 			killCountDisplay.incrementKillCount();
-			System.out.println("Enemy destroyed! Total kills: " + killCountDisplay.getKillCount());
+			eventLog.recordKill(killCountDisplay.getKillCount());
 		}
 	}
 
@@ -257,11 +521,17 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Advances to the next level.
+	 * Advances to the next level. A headless level has no stage to show the next level on, so it
+	 * hands the next level to its listeners as a {@link #NEXT_LEVEL_PROPERTY} change instead.
 	 *
 	 * @param nextLevel The next level to transition to.
 	 */
 	public void goToNextLevel(LevelParent nextLevel) {
+		if (renderMode == RenderMode.HEADLESS) {
+			gameLoopManager.stop();
+			support.firePropertyChange(NEXT_LEVEL_PROPERTY, this, nextLevel);
+			return;
+		}
 		try {
 			gameLoopManager.stop();
 			sceneManager.getRoot().getChildren().clear(); // Clear the current root to avoid duplicates
@@ -287,6 +557,22 @@ public abstract class LevelParent {
 		sceneManager.showErrorDialog(message);
 	}
 
+	/**
+	 * Shows or hides the overlay of per-phase tick timings.
+	 */
+	public void toggleProfilerOverlay() {
+		profilerOverlay.toggle();
+	}
+
+	/**
+	 * Retrieves the tick profiler for the level.
+	 *
+	 * @return The {@link TickProfiler} timing each phase of the level's game loop.
+	 */
+	public TickProfiler getTickProfiler() {
+		return tickProfiler;
+	}
+
 	/**
 	 * Retrieves the kill count display for the level.
 	 *
@@ -331,7 +617,7 @@ public abstract class LevelParent {
 	 * @return The number of enemy units currently active in the level.
 	 */
 	protected int getCurrentNumberOfEnemies() {
-		return actorManager.getEnemyUnits().size();
+		return actorManager.getEnemyUnitCount();
 	}
 
 
@@ -399,6 +685,14 @@ public abstract class LevelParent {
 		return user;
 	}
 
+	public int getUserHealth() {
+		return user.getHealth();
+	}
+
+	public int getKillCount() {
+		return killCountDisplay.getKillCount();
+	}
+
 	public Group getRoot() {
 		return sceneManager.getRoot();
 	}
@@ -0,0 +1,121 @@
+package com.example.demo.levels;
+
+import com.example.demo.sounds.SoundManager;
+import com.example.demo.utils.CollisionMaskCache;
+import com.example.demo.utils.SpriteCache;
+import com.example.demo.utils.atlas.SpriteAtlas;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the assets of an upcoming level in the background while the current one is running.
+ * <p>
+ * Images are decoded into the {@link SpriteCache}, the collision masks of actor sprites are built
+ * into the {@link CollisionMaskCache}, and the background music player is prepared by the
+ * {@link SoundManager} on a single daemon thread. Sprites are then packed into the
+ * {@link SpriteAtlas} on the JavaFX application thread, since the atlas texture may already be on
+ * screen. When the level is built, every lookup is served from memory and the swap only has to
+ * create and attach nodes.
+ * </p>
+ */
+public class LevelPreloader {
+
+    private static LevelPreloader instance; // Singleton instance
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "level-preloader");
+        thread.setDaemon(true); // Never keep the application alive
+        return thread;
+    });
+    private final Map<LevelAssets, CompletableFuture<Void>> preloads = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private LevelPreloader() {
+    }
+
+    /**
+     * Returns the singleton instance of the LevelPreloader.
+     *
+     * @return The singleton instance of LevelPreloader.
+     */
+    public static synchronized LevelPreloader getInstance() {
+        if (instance == null) {
+            instance = new LevelPreloader();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts loading the given assets in the background. Assets already preloaded, or being
+     * preloaded, are not loaded again.
+     *
+     * @param assets The assets of the upcoming level, or null for none.
+     * @return A future completed once the images are decoded and the music is prepared.
+     */
+    public CompletableFuture<Void> preload(LevelAssets assets) {
+        if (assets == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return preloads.computeIfAbsent(assets, this::startPreload);
+    }
+
+    /**
+     * Submits the background work for a set of assets.
+     *
+     * @param assets The assets to load.
+     * @return A future completed once the background work has finished.
+     */
+    private CompletableFuture<Void> startPreload(LevelAssets assets) {
+        return CompletableFuture.runAsync(() -> load(assets), executor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        System.err.println("Level preloading failed: " + error.getMessage());
+                        preloads.remove(assets); // Allow a retry
+                    } else {
+                        Platform.runLater(() -> pack(assets));
+                    }
+                });
+    }
+
+    /**
+     * Decodes every image, builds the masks of actor sprites at the height they are decoded at,
+     * and prepares the music. Runs on the preloader thread.
+     *
+     * @param assets The assets to load.
+     */
+    private void load(LevelAssets assets) {
+        SpriteCache cache = SpriteCache.getInstance();
+        for (LevelAssets.ImageRequest image : assets.getImages()) {
+            Image decoded = cache.getImage(image.getResourcePath(), image.getWidth(), image.getHeight());
+            if (decoded != null && image.isActorSprite()) {
+                CollisionMaskCache.getInstance().getMask(image.getResourcePath(), (int) Math.round(decoded.getHeight()));
+            }
+        }
+        if (assets.getMusicPath() != null) {
+            SoundManager.getInstance().prepareBackgroundMusic(assets.getMusicPath());
+        }
+    }
+
+    /**
+     * Packs the decoded sprites into the atlas. Runs on the JavaFX application thread.
+     *
+     * @param assets The assets whose sprites to pack.
+     */
+    private void pack(LevelAssets assets) {
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        for (LevelAssets.ImageRequest image : assets.getImages()) {
+            if (image.isPacked()) {
+                atlas.getSprite(image.getResourcePath(), image.getWidth(), image.getHeight());
+            }
+        }
+    }
+}
@@ -3,11 +3,11 @@ package com.example.demo.levels;
 import com.example.demo.screens.LevelView;
 import com.example.demo.sounds.SoundManager;
 import com.example.demo.powerups.SpreadshotPowerUp;
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.BossPlane;
-import com.example.demo.actors.plane.EnemyPlane;
 import com.example.demo.actors.plane.UserPlane;
-import javafx.scene.image.Image;
+import com.example.demo.model.HitShape;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.rendering.RenderMode;
 import javafx.scene.text.Text;
 import javafx.scene.text.Font;
 import javafx.scene.paint.Color;
@@ -23,18 +23,38 @@ public class LevelThree extends LevelParent {
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background4.jpg";
     private static final int PLAYER_INITIAL_HEALTH = 5;
     private static final int TARGET_KILL_COUNT = 24; // Total kills needed before boss
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.25; // Probability of spawning enemies
+    private static final String WAVE_TIMELINE = "/com/example/demo/waves/levelthree.waves"; // Three waves of 5, 8 and 11
     private static final double POWER_UP_SPAWN_PROBABILITY = 0.02; // Probability of spawning power-ups
     private static final String FINAL_BOSS_IMAGE = "/com/example/demo/images/jetplane.png";
+    private static final int FINAL_BOSS_WIDTH = 500;
+    private static final int FINAL_BOSS_HEIGHT = 300;
+    // Fuselage and upper wing, lower wing, nose, fin and rear wingtip, traced from jetplane.png's opaque area
+    private static final HitShape FINAL_BOSS_HIT_SHAPE = HitShape.of(
+            0.12, 0.34, 0.82, 0.60,
+            0.08, 0.60, 0.68, 0.80,
+            0.82, 0.40, 0.98, 0.62,
+            0.66, 0.18, 0.96, 0.34,
+            0.12, 0.28, 0.26, 0.34);
+    private static final Duration FINAL_BOSS_MESSAGE_STEP = Duration.seconds(1); // Fade in, zoom, fade out
+    private static final int FINAL_BOSS_ENTRANCE_TICKS = toTicks(FINAL_BOSS_MESSAGE_STEP.multiply(3));
+
+    /**
+     * Images and music used by Level Three.
+     */
+    public static final LevelAssets ASSETS = new LevelAssets(SoundManager.LEVEL_THREE_MUSIC)
+            .image(BACKGROUND_IMAGE_NAME)
+            .sprite("bossplane.png", 300)
+            .actorSprite(FINAL_BOSS_IMAGE, FINAL_BOSS_WIDTH, FINAL_BOSS_HEIGHT)
+            .sprite("fireball.png", 75)
+            .sprite("/com/example/demo/images/shield.png", 200, 200)
+            .sprite("spreadshot.png", 40);
 
     private final BossPlane finalBoss; // The final boss of the level
     private final SoundManager soundManager; // Handles background music and sounds
     protected javafx.animation.SequentialTransition finalBossMessageTimeline;
-    private int currentWave; // Current wave number
-    private int totalSpawnedEnemies; // Total number of spawned enemies
-    private final int[] waveEnemyCounts = {5, 8, 11}; // Number of enemies per wave
     private boolean finalBossMessageDisplayed = false; // Tracks if boss entry message is displayed
     private boolean finalBossSpawned = false; // Tracks if the final boss has been spawned
+    private int ticksUntilFinalBoss = FINAL_BOSS_ENTRANCE_TICKS; // Counted down once the message is displayed
 
     /**
      * Constructs the LevelThree instance.
@@ -46,8 +66,6 @@ public class LevelThree extends LevelParent {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, TARGET_KILL_COUNT);
         this.finalBoss = createFinalBoss();
         this.soundManager = SoundManager.getInstance();
-        this.currentWave = 0;
-        this.totalSpawnedEnemies = 0;
     }
 
     /**
@@ -57,9 +75,7 @@ public class LevelThree extends LevelParent {
      */
     private BossPlane createFinalBoss() {
         BossPlane boss = new BossPlane();
-        boss.setImage(new Image(getClass().getResource(FINAL_BOSS_IMAGE).toExternalForm()));
-        boss.setFitHeight(300);
-        boss.setFitWidth(500);
+        boss.setSprite(FINAL_BOSS_IMAGE, FINAL_BOSS_WIDTH, FINAL_BOSS_HEIGHT, FINAL_BOSS_HIT_SHAPE); // Keeps the boss's own if missing
         return boss;
     }
 
@@ -78,7 +94,7 @@ public class LevelThree extends LevelParent {
     private void addUserToScene() {
         UserPlane user = getUser();
         user.setLevelParent(this);
-        getRoot().getChildren().add(user);
+        addUserToGameplayLayer();
     }
 
     /**
@@ -128,80 +144,35 @@ public class LevelThree extends LevelParent {
     }
 
     /**
-     * Spawns enemy units and power-ups in the level. Spawns the boss once all waves are cleared.
+     * Spawns enemy units from the wave timeline and power-ups in the level. Announces the boss
+     * once all waves are cleared, and spawns it when the announcement has run its course.
      */
     @Override
     protected void spawnEnemyUnits() {
-        if (totalSpawnedEnemies < TARGET_KILL_COUNT) {
-            spawnWaveEnemies();
-        } else if (getCurrentNumberOfEnemies() == 0 && !finalBossSpawned) {
+        super.spawnEnemyUnits();
+        if (isWaveTimelineFinished() && getCurrentNumberOfEnemies() == 0 && !finalBossSpawned) {
             displayFinalBossMessage();
         }
+        advanceFinalBossEntrance();
 
         spawnPowerUpsRandomly();
     }
 
     /**
-     * Spawns enemies for the current wave.
-     */
-    private void spawnWaveEnemies() {
-        int remainingEnemiesToSpawn = getRemainingEnemiesToSpawn();
-
-        for (int i = 0; i < remainingEnemiesToSpawn; i++) {
-            if (shouldSpawnEnemy()) {
-                spawnEnemy();
-            }
-        }
-
-        moveToNextWaveIfComplete();
-    }
-
-    /**
-     * Determines how many enemies should be spawned for the current wave.
-     *
-     * @return the number of enemies to spawn
-     */
-    private int getRemainingEnemiesToSpawn() {
-        int enemiesInCurrentWave = waveEnemyCounts[currentWave];
-        int remainingEnemiesInWave = enemiesInCurrentWave - getCurrentNumberOfEnemies();
-        int remainingOverallEnemies = TARGET_KILL_COUNT - totalSpawnedEnemies;
-
-        return Math.min(remainingEnemiesInWave, remainingOverallEnemies);
-    }
-
-    /**
-     * Determines whether to spawn an enemy based on a random chance.
+     * Spawns enemies from Level Three's wave timeline.
      *
-     * @return true if an enemy should be spawned, false otherwise
+     * @return The wave timeline resource path.
      */
-    private boolean shouldSpawnEnemy() {
-        return Math.random() < ENEMY_SPAWN_PROBABILITY;
-    }
-
-    /**
-     * Spawns a single enemy plane at a random vertical position.
-     */
-    private void spawnEnemy() {
-        double yPosition = Math.random() * getEnemyMaximumYPosition();
-        ActiveActorDestructible enemy = new EnemyPlane(getScreenWidth(), yPosition);
-        addEnemyUnit(enemy);
-        totalSpawnedEnemies++;
-    }
-
-    /**
-     * Advances to the next wave if all enemies in the current wave are cleared.
-     */
-    private void moveToNextWaveIfComplete() {
-        if (getCurrentNumberOfEnemies() == 0 && totalSpawnedEnemies < TARGET_KILL_COUNT) {
-            currentWave++;
-        }
+    @Override
+    protected String getWaveTimelinePath() {
+        return WAVE_TIMELINE;
     }
 
     /**
      * Spawns power-ups randomly during the level.
      */
     private void spawnPowerUpsRandomly() {
-        if (Math.random() < POWER_UP_SPAWN_PROBABILITY) {
+        if (GameRandom.current().chance(GameRandom.Stream.POWER_UPS, POWER_UP_SPAWN_PROBABILITY)) {
             spawnSpreadshotPowerUp();
         }
     }
@@ -210,20 +181,40 @@ public class LevelThree extends LevelParent {
      * Spawns a spreadshot power-up at a random position within the left half of the screen.
      */
     private void spawnSpreadshotPowerUp() {
-        double x = Math.random() * (getScreenWidth() / 2);
+        double x = GameRandom.current().nextDouble(GameRandom.Stream.POWER_UPS) * (getScreenWidth() / 2);
         addPowerUp(new SpreadshotPowerUp(x, 0));
     }
 
     /**
-     * Displays a message announcing the final boss and spawns the boss.
+     * Displays a message announcing the final boss, and starts counting down the ticks until it enters.
      */
     protected void displayFinalBossMessage() {
         if (!finalBossMessageDisplayed) {
-            showFinalBossMessage();
+            if (getRenderMode() != RenderMode.HEADLESS) {
+                showFinalBossMessage(); // The message is an animation, which needs the JavaFX pulse
+            }
             finalBossMessageDisplayed = true;
         }
     }
 
+    /**
+     * Spawns the final boss once the message has been displayed for {@link #FINAL_BOSS_ENTRANCE_TICKS}
+     * ticks. The entrance is timed by the simulation rather than by the message's animation, so
+     * headless runs and replays spawn the boss on the same tick as the game does.
+     */
+    private void advanceFinalBossEntrance() {
+        if (finalBossMessageDisplayed && !finalBossSpawned && --ticksUntilFinalBoss <= 0) {
+            spawnFinalBoss();
+        }
+    }
+
+    /**
+     * @return True if the final boss has entered the level.
+     */
+    boolean isFinalBossSpawned() {
+        return finalBossSpawned;
+    }
+
     /**
      * Creates and displays the final boss entry message with animations.
      */
@@ -232,10 +223,7 @@ public class LevelThree extends LevelParent {
         getRoot().getChildren().add(bossMessage);
 
         finalBossMessageTimeline = createFinalBossMessageAnimation(bossMessage);
-        finalBossMessageTimeline.setOnFinished(event -> {
-            getRoot().getChildren().remove(bossMessage);
-            spawnFinalBoss();
-        });
+        finalBossMessageTimeline.setOnFinished(event -> getRoot().getChildren().remove(bossMessage));
 
         finalBossMessageTimeline.play();
     }
@@ -284,17 +272,17 @@ public class LevelThree extends LevelParent {
      * @return a configured SequentialTransition object
      */
     private javafx.animation.SequentialTransition createFinalBossMessageAnimation(Text bossMessage) {
-        javafx.animation.FadeTransition fadeIn = new javafx.animation.FadeTransition(Duration.seconds(1), bossMessage);
+        javafx.animation.FadeTransition fadeIn = new javafx.animation.FadeTransition(FINAL_BOSS_MESSAGE_STEP, bossMessage);
         fadeIn.setFromValue(0);
         fadeIn.setToValue(1);
 
-        javafx.animation.ScaleTransition zoomIn = new javafx.animation.ScaleTransition(Duration.seconds(1), bossMessage);
+        javafx.animation.ScaleTransition zoomIn = new javafx.animation.ScaleTransition(FINAL_BOSS_MESSAGE_STEP, bossMessage);
         zoomIn.setFromX(0.9);
         zoomIn.setFromY(0.9);
         zoomIn.setToX(1.1);
         zoomIn.setToY(1.1);
 
-        javafx.animation.FadeTransition fadeOut = new javafx.animation.FadeTransition(Duration.seconds(1), bossMessage);
+        javafx.animation.FadeTransition fadeOut = new javafx.animation.FadeTransition(FINAL_BOSS_MESSAGE_STEP, bossMessage);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
 
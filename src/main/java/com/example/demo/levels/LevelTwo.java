@@ -16,6 +16,15 @@ public class LevelTwo extends LevelParent {
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 	private static final int TARGET_KILL_COUNT = 1;
 
+	/**
+	 * Images and music used by Level Two.
+	 */
+	public static final LevelAssets ASSETS = new LevelAssets(SoundManager.LEVEL_TWO_MUSIC)
+			.image(BACKGROUND_IMAGE_NAME)
+			.sprite("bossplane.png", 300)
+			.sprite("fireball.png", 75)
+			.sprite("/com/example/demo/images/shield.png", 200, 200);
+
 	private final BossPlane boss;
 	private final SoundManager soundManager;
 
@@ -60,7 +69,7 @@ public class LevelTwo extends LevelParent {
 	 * Adds the user's plane to the scene.
 	 */
 	private void addUserPlaneToScene() {
-		getRoot().getChildren().add(getUser());
+		addUserToGameplayLayer();
 	}
 
 	/**
@@ -151,6 +160,16 @@ public class LevelTwo extends LevelParent {
 		getRoot().getChildren().addAll(boss.getHealthBarBackground(), boss.getHealthBar());
 	}
 
+	/**
+	 * Preloads {@link LevelThree} while this level is played.
+	 *
+	 * @return The assets of {@link LevelThree}.
+	 */
+	@Override
+	protected LevelAssets getNextLevelAssets() {
+		return LevelThree.ASSETS;
+	}
+
 	/**
 	 * Instantiate the level-specific view (UI elements)
 	 *
@@ -0,0 +1,383 @@
+package com.example.demo.levels.plan;
+
+import com.example.demo.levels.waves.WaveTimeline;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * An immutable description of a level: its look, its rules and what it spawns.
+ * <p>
+ * Plans are written as level files, one directive per line; blank lines and text after {@code #}
+ * are ignored:
+ * </p>
+ * <pre>
+ * name Skirmish                                    # Shown in logs (default "Custom level")
+ * background /com/example/demo/images/background4.jpg
+ * music /com/example/demo/audios/levelthreemusic.mp3
+ * health 5                                         # Player hearts (default 5)
+ * kills 12                                         # Kills to complete the level
+ * boss /com/example/demo/images/jetplane.png 500 300  # Or 'boss default'
+ * powerup SPREADSHOT 0.02                          # Chance of a drop on each tick
+ * next com.example.demo.levels.LevelTwo            # Level class or level file; omit to win
+ * waves                                            # The rest of the file is a wave timeline
+ * wave after-clear
+ * spawn 1.0 FIGHTER WEDGE 5 3 0.6
+ * </pre>
+ * <p>
+ * A level with a boss is completed when the boss is destroyed, and the boss enters once the wave
+ * timeline has finished and the screen is clear. Otherwise the level is completed when the kill
+ * target is reached. Plans are compiled once and cached in binary form by {@link LevelPlanLoader}.
+ * </p>
+ *
+ * @see WaveTimeline
+ */
+public final class LevelPlan {
+
+    private static final int MAGIC = 0x4C56504C; // "LVPL"
+    private static final int VERSION = 2; // 2: wave timelines hold max-alive
+    private static final String DEFAULT_NAME = "Custom level";
+    private static final int DEFAULT_PLAYER_HEALTH = 5;
+
+    /**
+     * The boss of a level.
+     *
+     * @param imagePath The absolute classpath location of the boss image, or null for the standard boss.
+     * @param width     The width the boss is displayed at, or 0 for the standard size.
+     * @param height    The height the boss is displayed at, or 0 for the standard size.
+     */
+    public record Boss(String imagePath, double width, double height) {
+    }
+
+    /**
+     * One row of the power-up table.
+     *
+     * @param type        The power-up to drop.
+     * @param probability The chance of dropping it on each tick, between 0 and 1.
+     */
+    public record PowerUpChance(PowerUpType type, double probability) {
+    }
+
+    private final String name;
+    private final String background;
+    private final String music;
+    private final int playerHealth;
+    private final int killTarget;
+    private final Boss boss;
+    private final List<PowerUpChance> powerUps;
+    private final String nextLevel;
+    private final WaveTimeline waves;
+
+    private LevelPlan(String name, String background, String music, int playerHealth, int killTarget,
+                      Boss boss, List<PowerUpChance> powerUps, String nextLevel, WaveTimeline waves) {
+        this.name = name;
+        this.background = background;
+        this.music = music;
+        this.playerHealth = playerHealth;
+        this.killTarget = killTarget;
+        this.boss = boss;
+        this.powerUps = List.copyOf(powerUps);
+        this.nextLevel = nextLevel;
+        this.waves = waves;
+    }
+
+    /**
+     * Compiles a level file.
+     *
+     * @param text The level file's text.
+     * @return The compiled plan.
+     * @throws IllegalArgumentException If the file is incomplete or a line is malformed.
+     */
+    public static LevelPlan parse(String text) {
+        String name = DEFAULT_NAME;
+        String background = null;
+        String music = null;
+        int playerHealth = DEFAULT_PLAYER_HEALTH;
+        int killTarget = 0;
+        Boss boss = null;
+        List<PowerUpChance> powerUps = new ArrayList<>();
+        String nextLevel = null;
+        WaveTimeline waves = null;
+
+        String[] lines = text.split("\r?\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            int lineNumber = i + 1;
+            int comment = lines[i].indexOf('#');
+            String line = (comment < 0 ? lines[i] : lines[i].substring(0, comment)).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] words = line.split("\\s+");
+            String value = line.substring(words[0].length()).trim();
+            switch (words[0].toLowerCase(Locale.ROOT)) {
+                case "name" -> name = requireValue(value, words[0], lineNumber);
+                case "background" -> background = requireValue(value, words[0], lineNumber);
+                case "music" -> music = requireValue(value, words[0], lineNumber);
+                case "health" -> playerHealth = parsePositive(value, lineNumber);
+                case "kills" -> killTarget = parsePositive(value, lineNumber);
+                case "boss" -> boss = parseBoss(words, lineNumber);
+                case "powerup" -> powerUps.add(parsePowerUp(words, lineNumber));
+                case "next" -> nextLevel = requireValue(value, words[0], lineNumber);
+                case "waves" -> {
+                    if (words.length > 1) {
+                        throw error(lineNumber, "'waves' starts the wave timeline on the next line");
+                    }
+                    // Blank lines keep the timeline's line numbers in step with the level file
+                    String timeline = "\n".repeat(lineNumber) + String.join("\n", List.of(lines).subList(lineNumber, lines.length));
+                    waves = WaveTimeline.parse(timeline);
+                    i = lines.length;
+                }
+                default -> throw error(lineNumber, "unknown directive '" + words[0] + "'");
+            }
+        }
+
+        if (background == null) {
+            throw new IllegalArgumentException("Level file has no 'background'.");
+        }
+        if (killTarget == 0) {
+            if (boss == null) {
+                throw new IllegalArgumentException("Level file needs a 'kills' target or a 'boss'.");
+            }
+            killTarget = 1;
+        }
+        if (waves == null && boss == null) {
+            throw new IllegalArgumentException("Level file spawns no enemies: add 'waves' or a 'boss'.");
+        }
+        return new LevelPlan(name, background, music, playerHealth, killTarget, boss, powerUps, nextLevel, waves);
+    }
+
+    private static Boss parseBoss(String[] words, int lineNumber) {
+        if (words.length == 2 && words[1].equalsIgnoreCase("default")) {
+            return new Boss(null, 0, 0);
+        }
+        if (words.length != 4) {
+            throw error(lineNumber, "expected 'boss default' or 'boss <image> <width> <height>'");
+        }
+        return new Boss(words[1], parseSize(words[2], lineNumber), parseSize(words[3], lineNumber));
+    }
+
+    private static PowerUpChance parsePowerUp(String[] words, int lineNumber) {
+        if (words.length != 3) {
+            throw error(lineNumber, "expected 'powerup <type> <chance per tick>'");
+        }
+        PowerUpType type;
+        try {
+            type = PowerUpType.valueOf(words[1].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw error(lineNumber, "unknown power-up '" + words[1] + "'");
+        }
+        try {
+            double probability = Double.parseDouble(words[2]);
+            if (probability >= 0 && probability <= 1) {
+                return new PowerUpChance(type, probability);
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw error(lineNumber, "'" + words[2] + "' is not a chance between 0 and 1");
+    }
+
+    private static String requireValue(String value, String directive, int lineNumber) {
+        if (value.isEmpty()) {
+            throw error(lineNumber, "'" + directive + "' needs a value");
+        }
+        return value;
+    }
+
+    private static int parsePositive(String word, int lineNumber) {
+        try {
+            int value = Integer.parseInt(word);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw error(lineNumber, "'" + word + "' is not a positive number");
+    }
+
+    private static double parseSize(String word, int lineNumber) {
+        try {
+            double size = Double.parseDouble(word);
+            if (size > 0 && Double.isFinite(size)) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw error(lineNumber, "'" + word + "' is not a size in pixels");
+    }
+
+    private static IllegalArgumentException error(int lineNumber, String message) {
+        return new IllegalArgumentException("Level file line " + lineNumber + ": " + message);
+    }
+
+    /**
+     * Writes the plan in the binary form kept by the plan cache. The stream is flushed but not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(name);
+        data.writeUTF(background);
+        writeOptional(data, music);
+        data.writeInt(playerHealth);
+        data.writeInt(killTarget);
+        data.writeBoolean(boss != null);
+        if (boss != null) {
+            writeOptional(data, boss.imagePath());
+            data.writeDouble(boss.width());
+            data.writeDouble(boss.height());
+        }
+        data.writeShort(powerUps.size());
+        for (PowerUpChance powerUp : powerUps) {
+            data.writeByte(powerUp.type().ordinal());
+            data.writeDouble(powerUp.probability());
+        }
+        writeOptional(data, nextLevel);
+        data.writeBoolean(waves != null);
+        if (waves != null) {
+            waves.writeTo(data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a plan written by {@link #writeTo}.
+     *
+     * @param in The stream to read from.
+     * @return The plan read.
+     * @throws IOException If reading fails or the stream does not hold a valid plan.
+     */
+    public static LevelPlan readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a compiled level plan.");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported level plan version: " + version);
+        }
+        String name = data.readUTF();
+        String background = data.readUTF();
+        String music = readOptional(data);
+        int playerHealth = data.readInt();
+        int killTarget = data.readInt();
+        if (playerHealth <= 0 || killTarget <= 0) {
+            throw new IOException("Invalid health " + playerHealth + " or kill target " + killTarget);
+        }
+        Boss boss = data.readBoolean() ? new Boss(readOptional(data), data.readDouble(), data.readDouble()) : null;
+        int powerUpCount = data.readUnsignedShort();
+        PowerUpType[] types = PowerUpType.values();
+        List<PowerUpChance> powerUps = new ArrayList<>(powerUpCount);
+        for (int i = 0; i < powerUpCount; i++) {
+            int type = data.readUnsignedByte();
+            if (type >= types.length) {
+                throw new IOException("Invalid power-up type: " + type);
+            }
+            powerUps.add(new PowerUpChance(types[type], data.readDouble()));
+        }
+        String nextLevel = readOptional(data);
+        WaveTimeline waves = data.readBoolean() ? WaveTimeline.readFrom(data) : null;
+        return new LevelPlan(name, background, music, playerHealth, killTarget, boss, powerUps, nextLevel, waves);
+    }
+
+    private static void writeOptional(DataOutputStream data, String value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeUTF(value);
+        }
+    }
+
+    private static String readOptional(DataInputStream data) throws IOException {
+        return data.readBoolean() ? data.readUTF() : null;
+    }
+
+    /**
+     * @return The level's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The classpath location of the background image.
+     */
+    public String getBackground() {
+        return background;
+    }
+
+    /**
+     * @return The classpath location of the background music, or null for none.
+     */
+    public String getMusic() {
+        return music;
+    }
+
+    /**
+     * @return The player's starting health.
+     */
+    public int getPlayerHealth() {
+        return playerHealth;
+    }
+
+    /**
+     * @return The number of kills that completes a level without a boss.
+     */
+    public int getKillTarget() {
+        return killTarget;
+    }
+
+    /**
+     * @return The level's boss, or null if it has none.
+     */
+    public Boss getBoss() {
+        return boss;
+    }
+
+    /**
+     * @return The power-up table, in the order it was written.
+     */
+    public List<PowerUpChance> getPowerUps() {
+        return powerUps;
+    }
+
+    /**
+     * @return The level class name or level file that follows this level, or null if completing it wins the game.
+     */
+    public String getNextLevel() {
+        return nextLevel;
+    }
+
+    /**
+     * @return The wave timeline that spawns the level's enemies, or null if only the boss is fought.
+     */
+    public WaveTimeline getWaves() {
+        return waves;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LevelPlan plan
+                && name.equals(plan.name) && background.equals(plan.background) && Objects.equals(music, plan.music)
+                && playerHealth == plan.playerHealth && killTarget == plan.killTarget && Objects.equals(boss, plan.boss)
+                && powerUps.equals(plan.powerUps) && Objects.equals(nextLevel, plan.nextLevel)
+                && Objects.equals(waves, plan.waves);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, background, music, playerHealth, killTarget, boss, powerUps, nextLevel, waves);
+    }
+}
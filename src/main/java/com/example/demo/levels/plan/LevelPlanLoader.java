@@ -0,0 +1,205 @@
+package com.example.demo.levels.plan;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Loads level files into {@link LevelPlan}s, compiling each file only once.
+ * <p>
+ * Plans are keyed by the SHA-256 hash of the file's bytes. A plan already loaded in this session
+ * is returned from memory; otherwise the compiled binary form is read from the cache directory if
+ * an earlier session stored it there, and only a file never seen before, or edited since, is
+ * parsed. The cache directory is named by the {@code demo.levelCache} system property, defaults
+ * to {@code .sky-battle/level-plans} in the user's home directory, so other users cannot plant
+ * plans in it, and is disabled by an empty value. A damaged or outdated cache file is compiled
+ * again and replaced.
+ * </p>
+ */
+public class LevelPlanLoader {
+
+    /**
+     * The system property naming the directory compiled plans are cached in.
+     */
+    public static final String CACHE_DIRECTORY_PROPERTY = "demo.levelCache";
+
+    private static final String CACHE_FILE_SUFFIX = ".plan";
+
+    private static LevelPlanLoader instance; // Singleton instance
+
+    private final Path cacheDirectory; // Null when plans are only kept in memory
+    private final Map<String, LevelPlan> plans = new HashMap<>(); // By source hash
+    private int compileCount;
+    private int cacheFileHitCount;
+
+    /**
+     * Constructs a loader that caches compiled plans in the given directory.
+     *
+     * @param cacheDirectory The cache directory, or null to keep plans in memory only.
+     */
+    LevelPlanLoader(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Returns the singleton instance of the LevelPlanLoader.
+     *
+     * @return The singleton instance of LevelPlanLoader.
+     */
+    public static synchronized LevelPlanLoader getInstance() {
+        if (instance == null) {
+            instance = new LevelPlanLoader(defaultCacheDirectory());
+        }
+        return instance;
+    }
+
+    private static Path defaultCacheDirectory() {
+        String value = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        if (value == null) {
+            return Path.of(System.getProperty("user.home"), ".sky-battle", "level-plans");
+        }
+        return value.isBlank() ? null : Path.of(value);
+    }
+
+    /**
+     * Loads a level file.
+     *
+     * @param location The absolute classpath location of the file, or a path on disk.
+     * @return The file's plan.
+     * @throws IllegalArgumentException If the file does not exist or is not a valid level file.
+     * @throws UncheckedIOException     If the file cannot be read.
+     */
+    public LevelPlan load(String location) {
+        return load(readSource(location));
+    }
+
+    /**
+     * Loads the plan of a level file's contents.
+     *
+     * @param source The bytes of the level file.
+     * @return The plan.
+     * @throws IllegalArgumentException If the contents are not a valid level file.
+     */
+    public synchronized LevelPlan load(byte[] source) {
+        String hash = hash(source);
+        LevelPlan plan = plans.get(hash);
+        if (plan != null) {
+            return plan;
+        }
+        Path cacheFile = cacheDirectory != null ? cacheDirectory.resolve(hash + CACHE_FILE_SUFFIX) : null;
+        plan = cacheFile != null ? readCacheFile(cacheFile) : null;
+        if (plan != null) {
+            cacheFileHitCount++;
+        } else {
+            plan = LevelPlan.parse(new String(source, StandardCharsets.UTF_8));
+            compileCount++;
+            if (cacheFile != null) {
+                writeCacheFile(cacheFile, plan);
+            }
+        }
+        plans.put(hash, plan);
+        return plan;
+    }
+
+    /**
+     * @return The number of level files parsed, rather than found in a cache.
+     */
+    public synchronized int getCompileCount() {
+        return compileCount;
+    }
+
+    /**
+     * @return The number of plans read from the cache directory.
+     */
+    public synchronized int getCacheFileHitCount() {
+        return cacheFileHitCount;
+    }
+
+    /**
+     * Forgets the plans kept in memory. The cache directory is left as it is.
+     */
+    public synchronized void clear() {
+        plans.clear();
+    }
+
+    /**
+     * Computes the key a level file's plan is cached under.
+     *
+     * @param source The bytes of the level file.
+     * @return The SHA-256 hash of the bytes, in lowercase hex.
+     */
+    static String hash(byte[] source) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(source));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Required on every Java platform
+        }
+    }
+
+    private static byte[] readSource(String location) {
+        try {
+            if (location.startsWith("/")) {
+                try (InputStream in = LevelPlanLoader.class.getResourceAsStream(location)) {
+                    if (in != null) {
+                        return in.readAllBytes();
+                    }
+                }
+            }
+            return Files.readAllBytes(Path.of(location));
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Level file not found: " + location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read level file " + location, e);
+        }
+    }
+
+    private static LevelPlan readCacheFile(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(cacheFile))) {
+            return LevelPlan.readFrom(in);
+        } catch (IOException e) {
+            System.err.println("Ignoring level plan cache file " + cacheFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores a plan through a temporary file, so a concurrent reader never sees half a plan.
+     */
+    private static void writeCacheFile(Path cacheFile, LevelPlan plan) {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path temporary = Files.createTempFile(cacheFile.getParent(), "plan", ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                    plan.writeTo(out);
+                }
+                try {
+                    Files.move(temporary, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not cache level plan in " + cacheFile + ": " + e.getMessage());
+        }
+    }
+}
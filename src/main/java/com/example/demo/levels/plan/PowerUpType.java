@@ -0,0 +1,8 @@
+package com.example.demo.levels.plan;
+
+/**
+ * Enumeration of the power-ups a {@link LevelPlan} can drop.
+ */
+public enum PowerUpType {
+    SPREADSHOT
+}
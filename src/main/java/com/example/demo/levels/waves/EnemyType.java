@@ -0,0 +1,9 @@
+package com.example.demo.levels.waves;
+
+/**
+ * Enumeration of the enemies a {@link WaveTimeline} can spawn.
+ */
+public enum EnemyType {
+    FIGHTER,
+    BASIC_FIGHTER
+}
@@ -0,0 +1,70 @@
+package com.example.demo.levels.waves;
+
+/**
+ * Enumeration of the ways a group of enemies in a {@link WaveTimeline} is laid out.
+ * <p>
+ * A group names a base lane, a count and an interval. The formation turns them into the lane and
+ * delay of each enemy in the group.
+ * </p>
+ */
+public enum Formation {
+
+    /**
+     * Every enemy in the base lane, one after another at the interval.
+     */
+    STREAM,
+
+    /**
+     * All enemies at once in adjacent lanes starting at the base lane, shifted up if they would
+     * run past the last lane.
+     */
+    COLUMN,
+
+    /**
+     * The first enemy in the base lane, then pairs above and below it, each pair one interval
+     * after the previous one.
+     */
+    WEDGE,
+
+    /**
+     * Every enemy in a random lane, one after another at the interval.
+     */
+    SCATTER;
+
+    /**
+     * Computes the lane of one enemy in a group.
+     *
+     * @param index      The enemy's position in the group, from 0.
+     * @param count      The number of enemies in the group.
+     * @param baseLane   The group's base lane.
+     * @param laneCount  The number of lanes.
+     * @param randomLane A random lane, used by {@link #SCATTER}.
+     * @return The enemy's lane, between 0 and {@code laneCount - 1}.
+     */
+    int laneOf(int index, int count, int baseLane, int laneCount, int randomLane) {
+        return switch (this) {
+            case STREAM -> baseLane;
+            case COLUMN -> Math.max(0, Math.min(baseLane, laneCount - count)) + index % laneCount;
+            case WEDGE -> {
+                int step = (index + 1) / 2;
+                int lane = index % 2 == 1 ? baseLane - step : baseLane + step;
+                yield Math.floorMod(lane, laneCount); // Wings that run off an edge wrap to the other side
+            }
+            case SCATTER -> randomLane;
+        };
+    }
+
+    /**
+     * Computes how many intervals after the group's time an enemy spawns.
+     *
+     * @param index The enemy's position in the group, from 0.
+     * @return The number of intervals to wait.
+     */
+    int delayOf(int index) {
+        return switch (this) {
+            case STREAM, SCATTER -> index;
+            case COLUMN -> 0;
+            case WEDGE -> (index + 1) / 2;
+        };
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.demo.levels.waves;
+
+import com.example.demo.utils.GameRandom;
+
+import java.util.List;
+
+/**
+ * Releases the spawns of a {@link WaveTimeline} as the level's ticks go by.
+ * <p>
+ * Every spawn is expanded and sorted when the scheduler is built, so a tick only compares the
+ * next entry's time against the wave clock and pops entries that are due; nothing is searched
+ * while the level runs. Random lanes are the only thing rolled: a group's when its wave starts,
+ * and a {@link Formation#SCATTER} enemy's when it is released, so a looping timeline does not
+ * repeat the lanes of its first pass. A wave marked {@code after-clear} holds its clock at zero
+ * until no enemy is left on screen, and the clock also stops whenever releasing the next due spawn
+ * would put more than the timeline's {@code max-alive} enemies on screen.
+ * </p>
+ */
+public final class WaveScheduler {
+
+    /**
+     * Receives the enemies the scheduler releases.
+     */
+    @FunctionalInterface
+    public interface SpawnHandler {
+
+        /**
+         * Spawns one enemy.
+         *
+         * @param type The enemy to spawn.
+         * @param lane The lane to spawn it in, between 0 and the lane count - 1.
+         */
+        void spawn(EnemyType type, int lane);
+    }
+
+    private static final EnemyType[] TYPES = EnemyType.values();
+    private static final Formation[] FORMATIONS = Formation.values();
+
+    // Spawns of all waves, wave by wave, each wave sorted by tick
+    private final long[] tickOf;
+    private final byte[] typeOf;
+    private final byte[] formationOf;
+    private final int[] groupSizeOf;
+    private final int[] indexOf; // Position in its group
+    private final int[] groupOf;
+    private final int[] waveEnd; // Index after the last spawn of each wave
+
+    // Groups of all waves, wave by wave
+    private final int[] groupLane; // As written, or RANDOM_LANE
+    private final int[] baseLane; // As resolved for the current pass
+    private final int[] groupsEnd; // Index after the last group of each wave
+
+    private final boolean[] afterClear;
+    private final boolean loop;
+    private final int maxAlive;
+    private final int laneCount;
+    private final GameRandom random;
+
+    private int wave;
+    private int next;
+    private long waveTick;
+    private boolean waitingForClear;
+    private boolean finished;
+    private int spawnedCount;
+
+    /**
+     * Constructs a scheduler.
+     *
+     * @param spawnsByWave The spawns of each wave, sorted by tick, each as {tick, type, formation,
+     *                     group size, position in the group, group}.
+     * @param afterClear   Whether each wave waits for an empty screen.
+     * @param groupLane    The lane of each group, or {@link WaveTimeline#RANDOM_LANE}.
+     * @param groupsEnd    The index after the last group of each wave.
+     * @param loop         Whether the timeline starts again after its last wave.
+     * @param maxAlive     The most enemies allowed on screen, or {@link Integer#MAX_VALUE} for no limit.
+     * @param laneCount    The number of lanes.
+     * @param random       The generator random lanes are drawn from.
+     */
+    WaveScheduler(List<List<long[]>> spawnsByWave, List<Boolean> afterClear, int[] groupLane, int[] groupsEnd,
+                  boolean loop, int maxAlive, int laneCount, GameRandom random) {
+        int total = spawnsByWave.stream().mapToInt(List::size).sum();
+        tickOf = new long[total];
+        typeOf = new byte[total];
+        formationOf = new byte[total];
+        groupSizeOf = new int[total];
+        indexOf = new int[total];
+        groupOf = new int[total];
+        waveEnd = new int[spawnsByWave.size()];
+        this.afterClear = new boolean[spawnsByWave.size()];
+        int index = 0;
+        for (int w = 0; w < spawnsByWave.size(); w++) {
+            for (long[] spawn : spawnsByWave.get(w)) {
+                tickOf[index] = spawn[0];
+                typeOf[index] = (byte) spawn[1];
+                formationOf[index] = (byte) spawn[2];
+                groupSizeOf[index] = (int) spawn[3];
+                indexOf[index] = (int) spawn[4];
+                groupOf[index] = (int) spawn[5];
+                index++;
+            }
+            waveEnd[w] = index;
+            this.afterClear[w] = afterClear.get(w);
+        }
+        this.groupLane = groupLane;
+        this.baseLane = new int[groupLane.length];
+        this.groupsEnd = groupsEnd;
+        this.loop = loop;
+        this.maxAlive = maxAlive;
+        this.laneCount = laneCount;
+        this.random = random;
+        waitingForClear = this.afterClear[0];
+        resolveGroupLanes();
+    }
+
+    /**
+     * Advances the timeline by one tick and spawns every enemy that is due.
+     *
+     * @param enemiesOnScreen The number of enemies currently alive, used by {@code after-clear} waves
+     *                        and the {@code max-alive} limit.
+     * @param handler         Receives the enemies to spawn.
+     */
+    public void advance(int enemiesOnScreen, SpawnHandler handler) {
+        if (finished) {
+            return;
+        }
+        if (waitingForClear) {
+            if (enemiesOnScreen > 0) {
+                return;
+            }
+            waitingForClear = false;
+        }
+        int end = waveEnd[wave];
+        int alive = enemiesOnScreen;
+        while (next < end && tickOf[next] <= waveTick) {
+            if (alive >= maxAlive) {
+                return; // Hold the clock until enemies leave, so the held spawns keep their spacing
+            }
+            handler.spawn(TYPES[typeOf[next]], laneOf(next));
+            next++;
+            spawnedCount++;
+            alive++;
+        }
+        waveTick++;
+        if (next == end) {
+            startNextWave();
+        }
+    }
+
+    private void startNextWave() {
+        if (wave + 1 < waveEnd.length) {
+            wave++;
+        } else if (loop) {
+            wave = 0;
+            next = 0;
+        } else {
+            finished = true;
+            return;
+        }
+        waveTick = 0;
+        waitingForClear = afterClear[wave];
+        resolveGroupLanes();
+    }
+
+    /**
+     * Draws the lanes of the current wave's groups that have a random lane.
+     */
+    private void resolveGroupLanes() {
+        for (int group = wave == 0 ? 0 : groupsEnd[wave - 1]; group < groupsEnd[wave]; group++) {
+            baseLane[group] = groupLane[group] == WaveTimeline.RANDOM_LANE ? randomLane() : groupLane[group];
+        }
+    }
+
+    /**
+     * Lays out one spawn in its group's formation, drawing its lane if it is scattered.
+     *
+     * @param spawn The index of the spawn.
+     * @return The lane to spawn it in.
+     */
+    private int laneOf(int spawn) {
+        Formation formation = FORMATIONS[formationOf[spawn]];
+        int lane = baseLane[groupOf[spawn]];
+        return formation.laneOf(indexOf[spawn], groupSizeOf[spawn], lane, laneCount,
+                formation == Formation.SCATTER ? randomLane() : lane);
+    }
+
+    private int randomLane() {
+        return random.nextInt(GameRandom.Stream.SPAWNING, laneCount);
+    }
+
+    /**
+     * @return true once a non-looping timeline has spawned its last enemy.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return The number of enemies spawned so far.
+     */
+    public int getSpawnedCount() {
+        return spawnedCount;
+    }
+
+    /**
+     * @return The index of the wave currently being spawned, from 0.
+     */
+    public int getWaveIndex() {
+        return wave;
+    }
+
+    /**
+     * @return The number of spawns in one pass through the timeline.
+     */
+    public int size() {
+        return tickOf.length;
+    }
+
+    /**
+     * @return The number of lanes across the enemy area.
+     */
+    public int getLaneCount() {
+        return laneCount;
+    }
+}
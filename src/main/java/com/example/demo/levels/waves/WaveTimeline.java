@@ -0,0 +1,394 @@
+package com.example.demo.levels.waves;
+
+import com.example.demo.utils.GameRandom;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A declarative description of when, where and how enemies enter a level.
+ * <p>
+ * A timeline is written one directive per line; blank lines and text after {@code #} are ignored:
+ * </p>
+ * <pre>
+ * lanes 8                                  # Number of lanes across the enemy area (default 8)
+ * loop                                     # Start again from the first wave after the last one
+ * max-alive 5                              # Hold spawns while 5 enemies are on screen (default no limit)
+ * wave                                     # Starts right after the previous wave's last spawn
+ * spawn 1.0 FIGHTER STREAM 3 2 0.5         # time, type, formation, count, lane, interval
+ * wave after-clear                         # Starts once no enemy is left on screen
+ * spawn 0.5 FIGHTER WEDGE 5 random 0.4
+ * </pre>
+ * <p>
+ * Spawn times are in seconds from the start of their wave, intervals in seconds between the
+ * enemies of a group. While {@code max-alive} enemies are on screen the timeline's clock stops, so
+ * spawns that fall due are held back rather than dropped. The lane is a number from 0 or {@code random}. Random lanes are drawn from
+ * the level's {@link GameRandom.Stream#SPAWNING} stream as the timeline plays, a group's lane when
+ * its wave starts and each {@link Formation#SCATTER} enemy's lane when it spawns, so every pass of
+ * a looping timeline is laid out afresh while a seeded session still spawns the same waves.
+ * </p>
+ */
+public final class WaveTimeline {
+
+    private static final int DEFAULT_LANE_COUNT = 8;
+    private static final int NO_LIMIT = 0;
+    static final int RANDOM_LANE = -1;
+
+    /**
+     * One {@code spawn} line.
+     */
+    record Group(double time, EnemyType type, Formation formation, int count, int lane, double interval) {
+    }
+
+    /**
+     * One {@code wave} and the groups it spawns.
+     */
+    record Wave(boolean afterClear, List<Group> groups) {
+    }
+
+    private final int laneCount;
+    private final boolean loop;
+    private final int maxAlive; // Or NO_LIMIT
+    private final List<Wave> waves;
+
+    private WaveTimeline(int laneCount, boolean loop, int maxAlive, List<Wave> waves) {
+        this.laneCount = laneCount;
+        this.loop = loop;
+        this.maxAlive = maxAlive;
+        this.waves = waves;
+    }
+
+    /**
+     * Loads a timeline from the classpath.
+     *
+     * @param resourcePath The absolute classpath location of the timeline.
+     * @return The parsed timeline.
+     * @throws IllegalArgumentException If the resource does not exist or is malformed.
+     */
+    public static WaveTimeline load(String resourcePath) {
+        InputStream in = WaveTimeline.class.getResourceAsStream(resourcePath);
+        if (in == null) {
+            throw new IllegalArgumentException("Wave timeline not found: " + resourcePath);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read wave timeline " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Parses a timeline.
+     *
+     * @param text The timeline text.
+     * @return The parsed timeline.
+     * @throws IllegalArgumentException If the timeline spawns nothing or a line is malformed.
+     */
+    public static WaveTimeline parse(String text) {
+        try {
+            return parse(new StringReader(text));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Cannot happen when reading a string
+        }
+    }
+
+    private static WaveTimeline parse(Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        int laneCount = DEFAULT_LANE_COUNT;
+        boolean loop = false;
+        int maxAlive = NO_LIMIT;
+        List<Wave> waves = new ArrayList<>();
+        List<Group> groups = null;
+        boolean afterClear = false;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String[] words = (comment < 0 ? line : line.substring(0, comment)).trim().split("\\s+");
+            if (words[0].isEmpty()) {
+                continue;
+            }
+            switch (words[0].toLowerCase(Locale.ROOT)) {
+                case "lanes" -> {
+                    expectWords(words, 2, lineNumber);
+                    laneCount = parsePositive(words[1], lineNumber);
+                }
+                case "loop" -> loop = true;
+                case "max-alive" -> {
+                    expectWords(words, 2, lineNumber);
+                    maxAlive = parsePositive(words[1], lineNumber);
+                }
+                case "wave" -> {
+                    if (groups != null && !groups.isEmpty()) {
+                        waves.add(new Wave(afterClear, List.copyOf(groups)));
+                    }
+                    groups = new ArrayList<>();
+                    afterClear = words.length > 1 && words[1].equalsIgnoreCase("after-clear");
+                    if (words.length > 2 || (words.length == 2 && !afterClear)) {
+                        throw error(lineNumber, "expected 'wave' or 'wave after-clear'");
+                    }
+                }
+                case "spawn" -> {
+                    if (groups == null) {
+                        groups = new ArrayList<>(); // Spawns before the first 'wave' form an implicit one
+                    }
+                    groups.add(parseGroup(words, lineNumber));
+                }
+                default -> throw error(lineNumber, "unknown directive '" + words[0] + "'");
+            }
+        }
+        if (groups != null && !groups.isEmpty()) {
+            waves.add(new Wave(afterClear, List.copyOf(groups)));
+        }
+        if (waves.isEmpty()) {
+            throw new IllegalArgumentException("Wave timeline spawns no enemies.");
+        }
+        for (Wave wave : waves) {
+            for (Group group : wave.groups()) {
+                if (group.lane() >= laneCount) {
+                    throw new IllegalArgumentException("Lane " + group.lane() + " is outside the " + laneCount + " lanes.");
+                }
+            }
+        }
+        return new WaveTimeline(laneCount, loop, maxAlive, List.copyOf(waves));
+    }
+
+    private static Group parseGroup(String[] words, int lineNumber) {
+        if (words.length != 6 && words.length != 7) {
+            throw error(lineNumber, "expected 'spawn <time> <type> <formation> <count> <lane> [interval]'");
+        }
+        double time = parseSeconds(words[1], lineNumber);
+        EnemyType type = parseEnum(EnemyType.class, words[2], lineNumber);
+        Formation formation = parseEnum(Formation.class, words[3], lineNumber);
+        int count = parsePositive(words[4], lineNumber);
+        int lane = words[5].equalsIgnoreCase("random") ? RANDOM_LANE : parseLane(words[5], lineNumber);
+        double interval = words.length == 7 ? parseSeconds(words[6], lineNumber) : 0;
+        return new Group(time, type, formation, count, lane, interval);
+    }
+
+    /**
+     * Expands every group into individual spawns and orders them into a queue for a level running
+     * at the given tick rate. Random lanes are left for the scheduler to draw as it plays.
+     *
+     * @param ticksPerSecond The number of simulation ticks per second.
+     * @param random         The level's random number generator, which random lanes are drawn from.
+     * @return A scheduler that releases the spawns tick by tick.
+     */
+    public WaveScheduler schedule(double ticksPerSecond, GameRandom random) {
+        List<List<long[]>> spawnsByWave = new ArrayList<>();
+        List<Integer> groupLanes = new ArrayList<>();
+        for (Wave wave : waves) {
+            List<long[]> spawns = new ArrayList<>();
+            for (Group group : wave.groups()) {
+                int groupIndex = groupLanes.size();
+                groupLanes.add(group.formation() == Formation.SCATTER ? 0 : group.lane()); // Scatter ignores its base lane
+                for (int i = 0; i < group.count(); i++) {
+                    double seconds = group.time() + group.formation().delayOf(i) * group.interval();
+                    spawns.add(new long[] {Math.round(seconds * ticksPerSecond), group.type().ordinal(),
+                            group.formation().ordinal(), group.count(), i, groupIndex});
+                }
+            }
+            spawns.sort((a, b) -> Long.compare(a[0], b[0])); // Stable, so ties keep their written order
+            spawnsByWave.add(spawns);
+        }
+        int[] groupsEnd = new int[waves.size()];
+        for (int w = 0, end = 0; w < waves.size(); w++) {
+            end += waves.get(w).groups().size();
+            groupsEnd[w] = end;
+        }
+        return new WaveScheduler(spawnsByWave, waves.stream().map(Wave::afterClear).toList(),
+                groupLanes.stream().mapToInt(Integer::intValue).toArray(), groupsEnd, loop,
+                maxAlive == NO_LIMIT ? Integer.MAX_VALUE : maxAlive, laneCount, random);
+    }
+
+    /**
+     * Writes the timeline in a compact binary form that {@link #readFrom} reads back without
+     * parsing. The stream is not flushed or closed.
+     *
+     * @param data The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    public void writeTo(DataOutputStream data) throws IOException {
+        data.writeShort(laneCount);
+        data.writeBoolean(loop);
+        data.writeInt(maxAlive);
+        data.writeShort(waves.size());
+        for (Wave wave : waves) {
+            data.writeBoolean(wave.afterClear());
+            data.writeShort(wave.groups().size());
+            for (Group group : wave.groups()) {
+                data.writeDouble(group.time());
+                data.writeByte(group.type().ordinal());
+                data.writeByte(group.formation().ordinal());
+                data.writeInt(group.count());
+                data.writeInt(group.lane());
+                data.writeDouble(group.interval());
+            }
+        }
+    }
+
+    /**
+     * Reads a timeline written by {@link #writeTo}.
+     *
+     * @param data The stream to read from.
+     * @return The timeline read.
+     * @throws IOException If reading fails or the stream does not hold a valid timeline.
+     */
+    public static WaveTimeline readFrom(DataInputStream data) throws IOException {
+        int laneCount = data.readUnsignedShort();
+        boolean loop = data.readBoolean();
+        int maxAlive = data.readInt();
+        int waveCount = data.readUnsignedShort();
+        if (laneCount == 0 || waveCount == 0 || maxAlive < 0) {
+            throw new IOException("Invalid wave timeline: " + laneCount + " lanes, " + waveCount + " waves, "
+                    + maxAlive + " enemies alive at most");
+        }
+        List<Wave> waves = new ArrayList<>(waveCount);
+        for (int w = 0; w < waveCount; w++) {
+            boolean afterClear = data.readBoolean();
+            int groupCount = data.readUnsignedShort();
+            List<Group> groups = new ArrayList<>(groupCount);
+            for (int g = 0; g < groupCount; g++) {
+                double time = data.readDouble();
+                EnemyType type = readConstant(EnemyType.values(), data.readUnsignedByte());
+                Formation formation = readConstant(Formation.values(), data.readUnsignedByte());
+                int count = data.readInt();
+                int lane = data.readInt();
+                double interval = data.readDouble();
+                if (count <= 0 || lane < RANDOM_LANE || lane >= laneCount) {
+                    throw new IOException("Invalid spawn group: " + count + " enemies in lane " + lane);
+                }
+                groups.add(new Group(time, type, formation, count, lane, interval));
+            }
+            waves.add(new Wave(afterClear, List.copyOf(groups)));
+        }
+        return new WaveTimeline(laneCount, loop, maxAlive, List.copyOf(waves));
+    }
+
+    private static <E extends Enum<E>> E readConstant(E[] constants, int ordinal) throws IOException {
+        if (ordinal >= constants.length) {
+            throw new IOException("Invalid " + constants.getClass().getComponentType().getSimpleName() + ": " + ordinal);
+        }
+        return constants[ordinal];
+    }
+
+    /**
+     * @return The number of lanes across the enemy area.
+     */
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    /**
+     * @return true if the timeline starts again after its last wave.
+     */
+    public boolean isLooping() {
+        return loop;
+    }
+
+    /**
+     * @return The most enemies the timeline lets on screen at once, or 0 if there is no limit.
+     */
+    public int getMaxAlive() {
+        return maxAlive;
+    }
+
+    /**
+     * @return The number of waves.
+     */
+    public int getWaveCount() {
+        return waves.size();
+    }
+
+    /**
+     * @return The number of enemies spawned by one pass through the timeline.
+     */
+    public int getEnemyCount() {
+        int count = 0;
+        for (Wave wave : waves) {
+            for (Group group : wave.groups()) {
+                count += group.count();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof WaveTimeline timeline
+                && laneCount == timeline.laneCount && loop == timeline.loop && maxAlive == timeline.maxAlive
+                && waves.equals(timeline.waves);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(laneCount, loop, maxAlive, waves);
+    }
+
+    private static void expectWords(String[] words, int count, int lineNumber) {
+        if (words.length != count) {
+            throw error(lineNumber, "expected " + (count - 1) + " value(s) after '" + words[0] + "'");
+        }
+    }
+
+    private static double parseSeconds(String word, int lineNumber) {
+        try {
+            double seconds = Double.parseDouble(word);
+            if (seconds >= 0 && Double.isFinite(seconds)) {
+                return seconds;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw error(lineNumber, "'" + word + "' is not a time in seconds");
+    }
+
+    private static int parsePositive(String word, int lineNumber) {
+        try {
+            int value = Integer.parseInt(word);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw error(lineNumber, "'" + word + "' is not a positive number");
+    }
+
+    private static int parseLane(String word, int lineNumber) {
+        try {
+            int lane = Integer.parseInt(word);
+            if (lane >= 0) {
+                return lane;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw error(lineNumber, "'" + word + "' is not a lane number or 'random'");
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String word, int lineNumber) {
+        try {
+            return Enum.valueOf(type, word.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw error(lineNumber, "unknown " + type.getSimpleName() + " '" + word + "'");
+        }
+    }
+
+    private static IllegalArgumentException error(int lineNumber, String message) {
+        return new IllegalArgumentException("Wave timeline line " + lineNumber + ": " + message);
+    }
+}
@@ -1,13 +1,43 @@
 package com.example.demo.managers;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.factory.ProjectileFactory;
+import com.example.demo.actors.projectile.Projectile;
+import com.example.demo.events.GameEventLog;
+import com.example.demo.model.Faction;
+import com.example.demo.rendering.RenderMode;
 import javafx.scene.Group;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Manages the lifecycle of all actors in the game, including friendly units, enemies, projectiles, and power-ups.
+ * <p>
+ * Read access does not copy: the getters return unmodifiable live views of the internal lists,
+ * the count accessors return list sizes, and the {@code forEach} visitors walk a list by index.
+ * Visitors only visit the actors present when the visit started, so an actor added to the same
+ * list during the visit is picked up on the next tick instead of causing a
+ * {@link java.util.ConcurrentModificationException}.
+ * </p>
+ * <p>
+ * Registered actors are tracked in an identity set, so duplicate checks on registration are
+ * constant time. Destroyed actors are removed by compacting each list in a single pass and then
+ * detaching all of them from the scene graph in one bulk update.
+ * </p>
+ * <p>
+ * Registered actors defer their render sync: updates only change their {@link com.example.demo.model.ActorBody},
+ * and {@link #syncNodes()} pushes every body into its node once per frame.
+ * </p>
+ * <p>
+ * In {@link RenderMode#CANVAS} actors are tracked but never attached to the scene graph; they are
+ * drawn by a {@link com.example.demo.rendering.SpriteBatchRenderer} instead. In
+ * {@link RenderMode#HEADLESS} they are tracked but not drawn at all.
+ * </p>
  */
 public class ActorManager {
 
@@ -17,18 +47,55 @@ public class ActorManager {
     private final List<ActiveActorDestructible> enemyProjectiles = new ArrayList<>();
     private final List<ActiveActorDestructible> powerUps = new ArrayList<>();
 
+    private final List<ActiveActorDestructible> friendlyUnitsView = Collections.unmodifiableList(friendlyUnits);
+    private final List<ActiveActorDestructible> enemyUnitsView = Collections.unmodifiableList(enemyUnits);
+    private final List<ActiveActorDestructible> userProjectilesView = Collections.unmodifiableList(userProjectiles);
+    private final List<ActiveActorDestructible> enemyProjectilesView = Collections.unmodifiableList(enemyProjectiles);
+    private final List<ActiveActorDestructible> powerUpsView = Collections.unmodifiableList(powerUps);
+
+    private final Set<ActiveActorDestructible> registeredActors = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ActiveActorDestructible> destroyedActors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final boolean attachNodes; // Whether actors are added to the scene graph
+    private final GameEventLog eventLog = GameEventLog.getInstance();
+
+    /**
+     * Constructs an ActorManager that adds actors to the scene graph.
+     */
+    public ActorManager() {
+        this(RenderMode.SCENE_GRAPH);
+    }
+
+    /**
+     * Constructs an ActorManager for the given render mode.
+     *
+     * @param renderMode How the managed actors are drawn.
+     */
+    public ActorManager(RenderMode renderMode) {
+        this.attachNodes = renderMode == RenderMode.SCENE_GRAPH;
+    }
+
     /**
-     * Adds an actor to the specified list and the scene graph.
+     * Adds an actor to the specified list and, in {@link RenderMode#SCENE_GRAPH}, the scene graph.
      *
-     * @param actor The actor to add.
-     * @param list  The list to track the actor.
-     * @param root  The scene graph root group.
+     * @param actor   The actor to add.
+     * @param list    The list to track the actor.
+     * @param faction The faction the actor fights for.
+     * @param root    The scene graph root group.
+     * @return true if the actor was added, false if it was already managed.
      */
-    private void addActor(ActiveActorDestructible actor, List<ActiveActorDestructible> list, Group root) {
-        if (!list.contains(actor) && !root.getChildren().contains(actor)) {
+    private boolean addActor(ActiveActorDestructible actor, List<ActiveActorDestructible> list, Faction faction, Group root) {
+        if (!registeredActors.contains(actor) && actor.getParent() != root) {
+            registeredActors.add(actor);
+            actor.getBody().setFaction(faction);
+            actor.setRenderSyncDeferred(true);
             list.add(actor);
-            root.getChildren().add(actor);
+            if (attachNodes) {
+                root.getChildren().add(actor);
+            }
+            return true;
         }
+        return false;
     }
 
     /**
@@ -38,7 +105,7 @@ public class ActorManager {
      * @param root The scene graph root group.
      */
     public void addFriendlyUnit(ActiveActorDestructible unit, Group root) {
-        addActor(unit, friendlyUnits, root);
+        addActor(unit, friendlyUnits, Faction.FRIENDLY, root);
     }
 
     /**
@@ -48,7 +115,9 @@ public class ActorManager {
      * @param root The scene graph root group.
      */
     public void addEnemyUnit(ActiveActorDestructible unit, Group root) {
-        addActor(unit, enemyUnits, root);
+        if (addActor(unit, enemyUnits, Faction.ENEMY, root)) {
+            eventLog.recordSpawn(Faction.ENEMY, enemyUnits.size());
+        }
     }
 
     /**
@@ -58,7 +127,7 @@ public class ActorManager {
      * @param root       The scene graph root group.
      */
     public void addUserProjectile(ActiveActorDestructible projectile, Group root) {
-        addActor(projectile, userProjectiles, root);
+        addActor(projectile, userProjectiles, Faction.FRIENDLY, root);
     }
 
     /**
@@ -68,7 +137,7 @@ public class ActorManager {
      * @param root       The scene graph root group.
      */
     public void addEnemyProjectile(ActiveActorDestructible projectile, Group root) {
-        addActor(projectile, enemyProjectiles, root);
+        addActor(projectile, enemyProjectiles, Faction.ENEMY, root);
     }
 
     /**
@@ -78,7 +147,7 @@ public class ActorManager {
      * @param root    The scene graph root group.
      */
     public void addPowerUp(ActiveActorDestructible powerUp, Group root) {
-        addActor(powerUp, powerUps, root);
+        addActor(powerUp, powerUps, Faction.NEUTRAL, root);
     }
 
     /**
@@ -98,7 +167,30 @@ public class ActorManager {
      * @param list The list of actors to update.
      */
     private void updateActorList(List<ActiveActorDestructible> list) {
-        list.forEach(ActiveActorDestructible::updateActor);
+        visit(list, ActorManager::updateActor);
+    }
+
+    /**
+     * Starts a new tick on the actor's body, updates the actor and places its hit boxes.
+     *
+     * @param actor The actor to update.
+     */
+    private static void updateActor(ActiveActorDestructible actor) {
+        actor.getBody().beginTick();
+        actor.updateActor();
+        actor.updateHitBoxes();
+    }
+
+    /**
+     * Pushes the simulated state of every actor into its node. Called once per frame after the
+     * simulation has run.
+     */
+    public void syncNodes() {
+        visit(friendlyUnits, ActiveActorDestructible::syncNode);
+        visit(enemyUnits, ActiveActorDestructible::syncNode);
+        visit(userProjectiles, ActiveActorDestructible::syncNode);
+        visit(enemyProjectiles, ActiveActorDestructible::syncNode);
+        visit(powerUps, ActiveActorDestructible::syncNode);
     }
 
     /**
@@ -107,70 +199,198 @@ public class ActorManager {
      * @param root The scene graph root group.
      */
     public void cleanUpDestroyedActors(Group root) {
-        cleanUpList(friendlyUnits, root);
-        cleanUpList(enemyUnits, root);
-        cleanUpList(userProjectiles, root);
-        cleanUpList(enemyProjectiles, root);
-        cleanUpList(powerUps, root);
+        compactList(friendlyUnits);
+        compactList(enemyUnits);
+        compactList(userProjectiles);
+        compactList(enemyProjectiles);
+        compactList(powerUps);
+        if (destroyedActors.isEmpty()) {
+            return;
+        }
+
+        if (attachNodes) {
+            root.getChildren().removeAll(destroyedActors); // One bulk scene graph update
+        }
+        registeredActors.removeAll(destroyedActors);
+        destroyedActors.forEach(actor -> actor.setRenderSyncDeferred(false));
+        recycleProjectiles(destroyedActors);
+        destroyedActors.clear();
     }
 
     /**
-     * Helper method to clean up destroyed actors from a specific list and the scene graph.
+     * Removes destroyed actors from a list in a single pass, keeping the order of the survivors,
+     * and collects them for removal from the scene graph.
      *
-     * @param list The list of actors to clean up.
-     * @param root The scene graph root group.
+     * @param list The list of actors to compact.
      */
-    private void cleanUpList(List<ActiveActorDestructible> list, Group root) {
-        // Use toList() for compatibility with Java 16+.
-        List<ActiveActorDestructible> destroyed = list.stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .toList();
-        root.getChildren().removeAll(destroyed);
-        list.removeAll(destroyed);
+    private void compactList(List<ActiveActorDestructible> list) {
+        int size = list.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            ActiveActorDestructible actor = list.get(i);
+            if (actor.isDestroyed()) {
+                destroyedActors.add(actor);
+            } else {
+                if (kept != i) {
+                    list.set(kept, actor);
+                }
+                kept++;
+            }
+        }
+        if (kept < size) {
+            list.subList(kept, size).clear();
+        }
+    }
+
+    /**
+     * Hands destroyed projectiles back to the {@link ProjectileFactory} pool once they are
+     * no longer referenced by the scene graph or any actor list.
+     *
+     * @param destroyed The actors that were just removed.
+     */
+    private void recycleProjectiles(Set<ActiveActorDestructible> destroyed) {
+        for (ActiveActorDestructible actor : destroyed) {
+            if (actor instanceof Projectile projectile) {
+                ProjectileFactory.releaseProjectile(projectile);
+            }
+        }
     }
 
     /**
      * Getter for enemy units.
      *
-     * @return A list of enemy units.
+     * @return An unmodifiable live view of the enemy units.
      */
     public List<ActiveActorDestructible> getEnemyUnits() {
-        return new ArrayList<>(enemyUnits); // Return a copy to prevent external modifications.
+        return enemyUnitsView;
     }
 
     /**
      * Getter for user projectiles.
      *
-     * @return A list of user projectiles.
+     * @return An unmodifiable live view of the user projectiles.
      */
     public List<ActiveActorDestructible> getUserProjectiles() {
-        return new ArrayList<>(userProjectiles); // Return a copy to prevent external modifications.
+        return userProjectilesView;
     }
 
     /**
      * Getter for enemy projectiles.
      *
-     * @return A list of enemy projectiles.
+     * @return An unmodifiable live view of the enemy projectiles.
      */
     public List<ActiveActorDestructible> getEnemyProjectiles() {
-        return new ArrayList<>(enemyProjectiles); // Return a copy to prevent external modifications.
+        return enemyProjectilesView;
     }
 
     /**
      * Getter for friendly units.
      *
-     * @return A list of friendly units.
+     * @return An unmodifiable live view of the friendly units.
      */
     public List<ActiveActorDestructible> getFriendlyUnits() {
-        return new ArrayList<>(friendlyUnits); // Return a copy to prevent external modifications.
+        return friendlyUnitsView;
     }
 
     /**
      * Getter for power-ups.
      *
-     * @return A list of power-ups.
+     * @return An unmodifiable live view of the power-ups.
      */
     public List<ActiveActorDestructible> getPowerUps() {
-        return new ArrayList<>(powerUps); // Return a copy to prevent external modifications.
+        return powerUpsView;
+    }
+
+    /**
+     * @return The number of enemy units.
+     */
+    public int getEnemyUnitCount() {
+        return enemyUnits.size();
+    }
+
+    /**
+     * @return The number of user projectiles.
+     */
+    public int getUserProjectileCount() {
+        return userProjectiles.size();
+    }
+
+    /**
+     * @return The number of enemy projectiles.
+     */
+    public int getEnemyProjectileCount() {
+        return enemyProjectiles.size();
+    }
+
+    /**
+     * @return The number of friendly units.
+     */
+    public int getFriendlyUnitCount() {
+        return friendlyUnits.size();
+    }
+
+    /**
+     * @return The number of power-ups.
+     */
+    public int getPowerUpCount() {
+        return powerUps.size();
+    }
+
+    /**
+     * Visits every enemy unit.
+     *
+     * @param visitor The callback invoked for each enemy unit.
+     */
+    public void forEachEnemyUnit(Consumer<? super ActiveActorDestructible> visitor) {
+        visit(enemyUnits, visitor);
+    }
+
+    /**
+     * Visits every user projectile.
+     *
+     * @param visitor The callback invoked for each user projectile.
+     */
+    public void forEachUserProjectile(Consumer<? super ActiveActorDestructible> visitor) {
+        visit(userProjectiles, visitor);
+    }
+
+    /**
+     * Visits every enemy projectile.
+     *
+     * @param visitor The callback invoked for each enemy projectile.
+     */
+    public void forEachEnemyProjectile(Consumer<? super ActiveActorDestructible> visitor) {
+        visit(enemyProjectiles, visitor);
+    }
+
+    /**
+     * Visits every friendly unit.
+     *
+     * @param visitor The callback invoked for each friendly unit.
+     */
+    public void forEachFriendlyUnit(Consumer<? super ActiveActorDestructible> visitor) {
+        visit(friendlyUnits, visitor);
+    }
+
+    /**
+     * Visits every power-up.
+     *
+     * @param visitor The callback invoked for each power-up.
+     */
+    public void forEachPowerUp(Consumer<? super ActiveActorDestructible> visitor) {
+        visit(powerUps, visitor);
+    }
+
+    /**
+     * Walks a list by index, visiting only the actors present when the walk started.
+     *
+     * @param list    The list to walk.
+     * @param visitor The callback invoked for each actor.
+     */
+    private static void visit(List<ActiveActorDestructible> list, Consumer<? super ActiveActorDestructible> visitor) {
+        int count = list.size();
+        for (int i = 0; i < count && i < list.size(); i++) {
+            visitor.accept(list.get(i));
+        }
     }
 }
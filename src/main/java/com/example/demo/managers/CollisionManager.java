@@ -3,6 +3,16 @@ package com.example.demo.managers;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.plane.BossPlane;
 import com.example.demo.actors.plane.UserPlane;
+import com.example.demo.actors.projectile.Projectile;
+import com.example.demo.ecs.EntityStore;
+import com.example.demo.events.GameEventLog;
+import com.example.demo.managers.collision.Broadphase;
+import com.example.demo.managers.collision.BruteForceBroadphase;
+import com.example.demo.managers.collision.SpatialHashBroadphase;
+import com.example.demo.managers.collision.SweptAabb;
+import com.example.demo.model.ActorBody;
+import com.example.demo.model.CollisionMask;
+import com.example.demo.model.HitBoxes;
 import com.example.demo.powerups.PowerUp;
 import com.example.demo.powerups.SpreadshotPowerUp;
 import com.example.demo.sounds.SoundManager;
@@ -11,26 +21,64 @@ import javafx.animation.Timeline;
 import javafx.scene.Group;
 import javafx.util.Duration;
 
-import java.util.List;
-
 /**
  * Manages collision detection and handling between various game objects.
  * <p>
  * This class handles interactions such as:
  * - Enemy penetration of defenses
  * - User projectiles hitting enemies
- * - Enemy projectiles hitting the user
+ * - Enemy projectiles hitting the user, including the enemy fire entities of an {@link EnemyFireManager}
  * - Plane-to-plane collisions
  * - Power-up collection
  * </p>
+ * <p>
+ * Enemy units are indexed in a {@link Broadphase} once per tick so projectiles and planes are only
+ * tested against enemies near them. A uniform-grid spatial hash is used by default; the original
+ * all-pairs check remains available as {@link BroadphaseMode#BRUTE_FORCE} for comparison.
+ * </p>
+ * <p>
+ * With continuous collision enabled (the default), projectiles are tested along the path they
+ * covered since the previous tick rather than only at their current position, so fast projectiles
+ * cannot skip over thin hitboxes when the simulation runs at a low tick rate.
+ * </p>
+ * <p>
+ * All tests run against each actor's {@link ActorBody} rather than the JavaFX node bounds.
+ * Projectiles hit actors that have a hit shape, such as the boss, only inside their cached
+ * {@link HitBoxes}.
+ * </p>
+ * <p>
+ * With pixel-perfect collision enabled (the default), pairs whose boxes overlap are then tested
+ * against the {@link CollisionMask}s of their sprites, so transparent corners of a sprite never
+ * register a hit. Swept projectiles are tested at steps along their path from the point where the
+ * boxes first touch.
+ * </p>
  */
 public class CollisionManager {
 
     private final ActorManager actorManager;
     private final SoundManager soundManager;
+    private final GameEventLog eventLog = GameEventLog.getInstance();
     private final UserPlane user;
     private final Group root;
     private final double screenWidth;
+    private final double screenHeight;
+
+    private Broadphase<ActiveActorDestructible> enemyBroadphase;
+    private BroadphaseMode broadphaseMode;
+    private boolean continuousCollisionEnabled = true;
+    private boolean pixelPerfectCollisionEnabled = true;
+    private boolean screenShakeEnabled = true;
+
+    private ActiveActorDestructible earliestHit;
+    private double earliestHitTime;
+
+    /**
+     * Enumeration of the available broadphase implementations.
+     */
+    public enum BroadphaseMode {
+        BRUTE_FORCE,
+        SPATIAL_HASH
+    }
 
     /**
      * Constructs a {@link CollisionManager} instance.
@@ -39,24 +87,106 @@ public class CollisionManager {
      * @param user         The user's plane.
      * @param root         The root {@link Group} for the game scene.
      * @param screenWidth  The width of the screen.
+     * @param screenHeight The height of the screen.
      */
-    public CollisionManager(ActorManager actorManager, UserPlane user, Group root, double screenWidth) {
+    public CollisionManager(ActorManager actorManager, UserPlane user, Group root, double screenWidth, double screenHeight) {
         this.actorManager = actorManager;
         this.soundManager = SoundManager.getInstance();
         this.user = user;
         this.root = root;
         this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        setBroadphaseMode(BroadphaseMode.SPATIAL_HASH);
+    }
+
+    /**
+     * Selects the broadphase used to find candidate collision pairs.
+     *
+     * @param mode The broadphase implementation to use.
+     */
+    public void setBroadphaseMode(BroadphaseMode mode) {
+        switch (mode) {
+            case BRUTE_FORCE -> enemyBroadphase = new BruteForceBroadphase<>();
+            case SPATIAL_HASH -> enemyBroadphase = new SpatialHashBroadphase<>(screenWidth, screenHeight);
+            default -> throw new IllegalArgumentException("Unsupported broadphase mode: " + mode);
+        }
+        this.broadphaseMode = mode;
+    }
+
+    /**
+     * Retrieves the broadphase currently used to find candidate collision pairs.
+     *
+     * @return The active {@link BroadphaseMode}.
+     */
+    public BroadphaseMode getBroadphaseMode() {
+        return broadphaseMode;
+    }
+
+    /**
+     * Enables or disables testing the opaque pixels of sprites after their boxes overlap.
+     *
+     * @param enabled true to require overlapping opaque pixels for a hit, false to hit on box overlap.
+     */
+    public void setPixelPerfectCollisionEnabled(boolean enabled) {
+        this.pixelPerfectCollisionEnabled = enabled;
+    }
+
+    /**
+     * @return true if hits require overlapping opaque pixels.
+     */
+    public boolean isPixelPerfectCollisionEnabled() {
+        return pixelPerfectCollisionEnabled;
+    }
+
+    /**
+     * Enables or disables continuous (swept) collision detection for projectiles.
+     *
+     * @param enabled true to test the path covered since the previous tick, false to test only
+     *                the current position.
+     */
+    public void setContinuousCollisionEnabled(boolean enabled) {
+        this.continuousCollisionEnabled = enabled;
+    }
+
+    /**
+     * @return true if projectiles are tested along the path covered since the previous tick.
+     */
+    public boolean isContinuousCollisionEnabled() {
+        return continuousCollisionEnabled;
+    }
+
+    /**
+     * Enables or disables shaking the screen when the user is hit. The shake is an animation,
+     * so it is disabled when the level is simulated without the JavaFX pulse.
+     *
+     * @param enabled true to shake the screen on hits.
+     */
+    public void setScreenShakeEnabled(boolean enabled) {
+        this.screenShakeEnabled = enabled;
     }
 
     /**
      * Handles all types of collisions in the game.
      */
     public void handleAllCollisions() {
+        rebuildEnemyBroadphase();
         handleEnemyPenetration();
         handleUserProjectileCollisions();
         handleEnemyProjectileCollisions();
         handlePlaneCollisions();
         handlePowerUpCollisions();
+        handleProjectilesOutOfBounds();
+    }
+
+    /**
+     * Indexes every enemy unit by its body's bounds for this tick's collision queries.
+     */
+    private void rebuildEnemyBroadphase() {
+        enemyBroadphase.clear();
+        actorManager.forEachEnemyUnit(enemy -> {
+            ActorBody body = enemy.getBody();
+            enemyBroadphase.insert(enemy, body.getMinX(), body.getMinY(), body.getMaxX(), body.getMaxY());
+        });
     }
 
     /**
@@ -64,11 +194,31 @@ public class CollisionManager {
      * Reduces the user's health and destroys the enemy.
      */
     private void handleEnemyPenetration() {
-        for (ActiveActorDestructible enemy : actorManager.getEnemyUnits()) {
+        actorManager.forEachEnemyUnit(enemy -> {
             if (enemyHasPenetratedDefenses(enemy)) {
                 user.takeDamage();
                 enemy.destroy();
             }
+        });
+    }
+
+    /**
+     * Destroys projectiles that have left the screen so they are cleaned up (and recycled)
+     * instead of travelling forever.
+     */
+    private void handleProjectilesOutOfBounds() {
+        actorManager.forEachUserProjectile(this::destroyIfOutOfBounds);
+        actorManager.forEachEnemyProjectile(this::destroyIfOutOfBounds);
+    }
+
+    /**
+     * Destroys a projectile if it has left the screen.
+     *
+     * @param projectile The projectile to check.
+     */
+    private void destroyIfOutOfBounds(ActiveActorDestructible projectile) {
+        if (isOutOfBounds(projectile)) {
+            projectile.destroy();
         }
     }
 
@@ -76,30 +226,239 @@ public class CollisionManager {
      * Handles collisions between user projectiles and enemy units, including bosses.
      */
     private void handleUserProjectileCollisions() {
-        handleCollisions(actorManager.getUserProjectiles(), actorManager.getEnemyUnits());
+        actorManager.forEachUserProjectile(this::handleCollisions);
+    }
+
+    /**
+     * Handles generic collisions between a projectile and the enemies indexed in the broadphase.
+     *
+     * @param projectile The projectile to check.
+     */
+    private void handleCollisions(ActiveActorDestructible projectile) {
+        ActorBody projectileBody = projectile.getBody();
+        double dx = displacementOf(projectile);
+        if (dx != 0) {
+            handleSweptCollisions(projectile, projectileBody, dx);
+            return;
+        }
+        enemyBroadphase.query(projectileBody.getMinX(), projectileBody.getMinY(),
+                projectileBody.getMaxX(), projectileBody.getMaxY(),
+                enemy -> handleProjectileHit(projectile, projectileBody, enemy));
     }
 
     /**
-     * Handles generic collisions between projectiles and enemies.
+     * Tests a projectile's path since the previous tick against nearby enemies and applies the
+     * hit to the enemy it reached first.
      *
-     * @param projectiles The list of projectiles to check.
-     * @param enemies     The list of enemies to check.
+     * @param projectile     The projectile being checked.
+     * @param projectileBody The projectile's body for this tick.
+     * @param dx             The horizontal distance the projectile moved this tick.
      */
-    private void handleCollisions(List<ActiveActorDestructible> projectiles, List<ActiveActorDestructible> enemies) {
-        for (ActiveActorDestructible projectile : projectiles) {
-            for (ActiveActorDestructible enemy : enemies) {
-                if (enemy instanceof BossPlane boss) {
-                    if (boss.getCustomHitbox().intersects(projectile.getBoundsInParent())) {
-                        if (!boss.isShielded()) {
-                            projectile.takeDamage();
-                            boss.takeDamage();
-                        }
+    private void handleSweptCollisions(ActiveActorDestructible projectile, ActorBody projectileBody, double dx) {
+        if (!projectileBody.hasArea()) {
+            return;
+        }
+        earliestHit = null;
+        earliestHitTime = Double.MAX_VALUE;
+        enemyBroadphase.query(Math.min(projectileBody.getMinX(), projectileBody.getMinX() - dx),
+                projectileBody.getMinY(),
+                Math.max(projectileBody.getMaxX(), projectileBody.getMaxX() - dx),
+                projectileBody.getMaxY(),
+                enemy -> {
+                    HitBoxes hitBoxes = enemy.getHitBoxes();
+                    double time = hitBoxes != null
+                            ? timeOfImpact(projectileBody, dx, hitBoxes)
+                            : timeOfImpact(projectileBody, dx, enemy.getBody());
+                    time = refineTimeOfImpact(projectile, dx, enemy, time);
+                    if (time != SweptAabb.MISS && time < earliestHitTime) {
+                        earliestHitTime = time;
+                        earliestHit = enemy;
                     }
-                } else if (enemy.getBoundsInParent().intersects(projectile.getBoundsInParent())) {
-                    projectile.takeDamage();
-                    enemy.takeDamage();
-                }
+                });
+
+        if (earliestHit instanceof BossPlane boss) {
+            if (!boss.isShielded()) {
+                projectile.takeDamage();
+                boss.takeDamage();
+            }
+        } else if (earliestHit != null) {
+            projectile.takeDamage();
+            earliestHit.takeDamage();
+        }
+        earliestHit = null;
+    }
+
+    /**
+     * Moves a swept hit found by the box test to the first step along the path where the sprites'
+     * opaque pixels overlap, or discards it if they never do.
+     *
+     * @param moving    The moving actor, at its position at the end of the tick.
+     * @param dx        The horizontal distance it moved this tick.
+     * @param target    The stationary actor.
+     * @param entryTime The time the boxes first touch, or {@link SweptAabb#MISS}.
+     * @return The time of the first pixel overlap, or {@link SweptAabb#MISS}.
+     */
+    private double refineTimeOfImpact(ActiveActorDestructible moving, double dx, ActiveActorDestructible target, double entryTime) {
+        ActorBody body = moving.getBody();
+        return refineTimeOfImpact(moving.getCollisionMask(), body.getMinX(), body.getMinY(), body.getWidth(), body.getHeight(),
+                dx, target, entryTime);
+    }
+
+    /**
+     * Moves a swept hit of a moving box with the given mask to the first step along its path where
+     * the opaque pixels overlap the target's, or discards it if they never do.
+     *
+     * @param mask      The moving box's mask, or null if it is opaque throughout.
+     * @param minX      The X position of the box at the end of the tick.
+     * @param minY      The Y position of the box.
+     * @param width     The width of the box.
+     * @param height    The height of the box.
+     * @param dx        The horizontal distance it moved this tick.
+     * @param target    The stationary actor.
+     * @param entryTime The time the boxes first touch, or {@link SweptAabb#MISS}.
+     * @return The time of the first pixel overlap, or {@link SweptAabb#MISS}.
+     */
+    private double refineTimeOfImpact(CollisionMask mask, double minX, double minY, double width, double height,
+                                      double dx, ActiveActorDestructible target, double entryTime) {
+        if (entryTime == SweptAabb.MISS || !pixelPerfectCollisionEnabled
+                || (mask == null && target.getCollisionMask() == null)) {
+            return entryTime;
+        }
+        double stepDistance = Math.max(1, width / 2); // Close enough that no pixel is skipped
+        double timeStep = stepDistance / Math.abs(dx);
+        for (double time = entryTime; ; time = Math.min(1, time + timeStep)) {
+            double x = minX - dx * (1 - time);
+            if (masksOverlap(mask, x, minY, width, height, target)) {
+                return time;
+            }
+            if (time >= 1) {
+                return SweptAabb.MISS;
+            }
+        }
+    }
+
+    /**
+     * Narrowphase test between two actors whose boxes overlap, using their sprites' opaque pixels.
+     * An actor without a mask is treated as opaque across its whole body.
+     *
+     * @param a  The first actor.
+     * @param ax The X position of the first actor's top-left corner.
+     * @param ay The Y position of the first actor's top-left corner.
+     * @param b  The second actor, at its body's position.
+     * @return true if the actors overlap, or if pixel-perfect collision is disabled.
+     */
+    private boolean masksOverlap(ActiveActorDestructible a, double ax, double ay, ActiveActorDestructible b) {
+        return masksOverlap(a.getCollisionMask(), ax, ay, a.getBody().getWidth(), a.getBody().getHeight(), b);
+    }
+
+    /**
+     * Narrowphase test between a box with the given mask and an actor whose box it overlaps.
+     *
+     * @param maskA   The box's mask, or null if it is opaque throughout.
+     * @param ax      The X position of the box's top-left corner.
+     * @param ay      The Y position of the box's top-left corner.
+     * @param aWidth  The width of the box.
+     * @param aHeight The height of the box.
+     * @param b       The actor, at its body's position.
+     * @return true if they overlap, or if pixel-perfect collision is disabled.
+     */
+    private boolean masksOverlap(CollisionMask maskA, double ax, double ay, double aWidth, double aHeight, ActiveActorDestructible b) {
+        CollisionMask maskB = b.getCollisionMask();
+        if (!pixelPerfectCollisionEnabled || (maskA == null && maskB == null)) {
+            return true;
+        }
+        ActorBody bodyB = b.getBody();
+        int xA = (int) Math.floor(ax);
+        int yA = (int) Math.floor(ay);
+        int xB = (int) Math.floor(bodyB.getMinX());
+        int yB = (int) Math.floor(bodyB.getMinY());
+        if (maskA != null && maskB != null) {
+            return CollisionMask.overlaps(maskA, xA, yA, maskB, xB, yB);
+        }
+        if (maskA != null) {
+            return maskA.overlapsBox(xA, yA, xB, yB, (int) Math.ceil(bodyB.getMaxX()), (int) Math.ceil(bodyB.getMaxY()));
+        }
+        return maskB.overlapsBox(xB, yB, xA, yA, (int) Math.ceil(ax + aWidth), (int) Math.ceil(ay + aHeight));
+    }
+
+    /**
+     * Narrowphase test between two actors at their bodies' positions.
+     */
+    private boolean masksOverlap(ActiveActorDestructible a, ActiveActorDestructible b) {
+        return masksOverlap(a, a.getBody().getMinX(), a.getBody().getMinY(), b);
+    }
+
+    /**
+     * Computes when a moving body first touches a target body during this tick.
+     */
+    private static double timeOfImpact(ActorBody moving, double dx, ActorBody target) {
+        return timeOfImpact(moving.getMinX(), moving.getMinY(), moving.getMaxX(), moving.getMaxY(), dx, target);
+    }
+
+    /**
+     * Computes when a moving box first touches a target body during this tick.
+     */
+    private static double timeOfImpact(double minX, double minY, double maxX, double maxY, double dx, ActorBody target) {
+        if (!target.hasArea()) {
+            return SweptAabb.MISS;
+        }
+        return SweptAabb.timeOfImpact(minX, minY, maxX, maxY, dx, 0,
+                target.getMinX(), target.getMinY(), target.getMaxX(), target.getMaxY());
+    }
+
+    /**
+     * Computes when a moving body first touches any of a target's hit boxes during this tick.
+     */
+    private static double timeOfImpact(ActorBody moving, double dx, HitBoxes target) {
+        if (target.isEmpty()) {
+            return SweptAabb.MISS;
+        }
+        double earliest = SweptAabb.MISS;
+        for (int i = 0; i < target.getCount(); i++) {
+            double time = SweptAabb.timeOfImpact(moving.getMinX(), moving.getMinY(), moving.getMaxX(), moving.getMaxY(), dx, 0,
+                    target.getMinX(i), target.getMinY(i), target.getMaxX(i), target.getMaxY(i));
+            if (time != SweptAabb.MISS && (earliest == SweptAabb.MISS || time < earliest)) {
+                earliest = time;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Determines how far a projectile moved this tick for swept collision tests.
+     *
+     * @param actor The actor to check.
+     * @return The horizontal displacement, or 0 if the actor should only be tested at its
+     *         current position.
+     */
+    private double displacementOf(ActiveActorDestructible actor) {
+        if (continuousCollisionEnabled && actor instanceof Projectile projectile) {
+            return projectile.getHorizontalVelocity();
+        }
+        return 0;
+    }
+
+    /**
+     * Exact test between a projectile and a candidate enemy, applying damage on a hit.
+     *
+     * @param projectile     The projectile being checked.
+     * @param projectileBody The projectile's body for this tick.
+     * @param enemy          The candidate enemy.
+     */
+    private void handleProjectileHit(ActiveActorDestructible projectile, ActorBody projectileBody, ActiveActorDestructible enemy) {
+        HitBoxes hitBoxes = enemy.getHitBoxes();
+        boolean hit = hitBoxes != null ? hitBoxes.intersects(projectileBody) : enemy.getBody().intersects(projectileBody);
+        if (!hit || !masksOverlap(projectile, enemy)) {
+            return;
+        }
+        if (enemy instanceof BossPlane boss) {
+            if (!boss.isShielded()) {
+                projectile.takeDamage();
+                boss.takeDamage();
             }
+        } else {
+            projectile.takeDamage();
+            enemy.takeDamage();
         }
     }
 
@@ -107,8 +466,8 @@ public class CollisionManager {
      * Handles collisions between enemy projectiles and the user's plane.
      */
     private void handleEnemyProjectileCollisions() {
-        actorManager.getEnemyProjectiles().forEach(projectile -> {
-            if (projectile.getBoundsInParent().intersects(user.getBoundsInParent())) {
+        actorManager.forEachEnemyProjectile(projectile -> {
+            if (hitsUser(projectile)) {
                 user.takeDamage();
                 projectile.destroy();
                 soundManager.playCrashSound(); // Play crash sound
@@ -117,13 +476,74 @@ public class CollisionManager {
         });
     }
 
+    /**
+     * Handles enemy fire entities hitting the user's plane. Runs as a system of the
+     * {@link EnemyFireManager}'s world, after the projectiles have moved, and destroys each
+     * projectile that hits.
+     *
+     * @param store          The enemy fire entities.
+     * @param projectileMask The mask of the projectile sprite, or null if it is opaque throughout.
+     */
+    public void handleEnemyFireCollisions(EntityStore store, CollisionMask projectileMask) {
+        for (int i = 0; i < store.size(); i++) {
+            int id = store.idAt(i);
+            if (!store.isDestroyed(id) && entityHitsUser(store, id, projectileMask)) {
+                user.takeDamage();
+                store.destroy(id);
+                soundManager.playCrashSound(); // Play crash sound
+                shakeScreen(); // Trigger screen shake
+            }
+        }
+    }
+
+    /**
+     * Determines whether an enemy fire entity reached the user's plane this tick, with the same
+     * swept and pixel-perfect tests as projectile actors.
+     *
+     * @param store The enemy fire entities.
+     * @param id    The entity to check.
+     * @param mask  The mask of the projectile sprite, or null if it is opaque throughout.
+     * @return true if the projectile touches the user's plane.
+     */
+    private boolean entityHitsUser(EntityStore store, int id, CollisionMask mask) {
+        double minX = store.getX(id);
+        double minY = store.getY(id);
+        double width = store.getWidth(id);
+        double height = store.getHeight(id);
+        double dx = continuousCollisionEnabled ? store.getVelocityX(id) : 0;
+        if (dx == 0) {
+            return user.getBody().intersects(minX, minY, minX + width, minY + height)
+                    && masksOverlap(mask, minX, minY, width, height, user);
+        }
+        return width > 0 && height > 0 && refineTimeOfImpact(mask, minX, minY, width, height, dx, user,
+                timeOfImpact(minX, minY, minX + width, minY + height, dx, user.getBody())) != SweptAabb.MISS;
+    }
+
+    /**
+     * Determines whether an enemy projectile reached the user's plane this tick.
+     *
+     * @param projectile The enemy projectile to check.
+     * @return true if the projectile touches the user's plane.
+     */
+    private boolean hitsUser(ActiveActorDestructible projectile) {
+        ActorBody projectileBody = projectile.getBody();
+        double dx = displacementOf(projectile);
+        if (dx == 0) {
+            return projectileBody.intersects(user.getBody()) && masksOverlap(projectile, user);
+        }
+        return projectileBody.hasArea()
+                && refineTimeOfImpact(projectile, dx, user, timeOfImpact(projectileBody, dx, user.getBody())) != SweptAabb.MISS;
+    }
+
     /**
      * Handles plane-to-plane collisions between friendly and enemy units.
      */
     private void handlePlaneCollisions() {
-        actorManager.getFriendlyUnits().forEach(friendly ->
-                actorManager.getEnemyUnits().forEach(enemy -> handleCollision(friendly, enemy))
-        );
+        actorManager.forEachFriendlyUnit(friendly -> {
+            ActorBody body = friendly.getBody();
+            enemyBroadphase.query(body.getMinX(), body.getMinY(), body.getMaxX(), body.getMaxY(),
+                    enemy -> handleCollision(friendly, enemy));
+        });
     }
 
     /**
@@ -133,7 +553,7 @@ public class CollisionManager {
      * @param enemy    The enemy unit involved in the collision.
      */
     private void handleCollision(ActiveActorDestructible friendly, ActiveActorDestructible enemy) {
-        if (friendly instanceof UserPlane && friendly.getBoundsInParent().intersects(enemy.getBoundsInParent())) {
+        if (friendly instanceof UserPlane && friendly.getBody().intersects(enemy.getBody()) && masksOverlap(friendly, enemy)) {
             friendly.takeDamage();
             enemy.takeDamage();
             soundManager.playCrashSound(); // Play crash sound
@@ -146,12 +566,14 @@ public class CollisionManager {
      * Activates the power-up upon collection and removes it from the scene.
      */
     private void handlePowerUpCollisions() {
-        actorManager.getPowerUps().forEach(powerUp -> {
-            if (powerUp.getBoundsInParent().intersects(user.getBoundsInParent())) {
+        actorManager.forEachPowerUp(powerUp -> {
+            if (powerUp.getBody().intersects(user.getBody())) {
                 if (powerUp instanceof SpreadshotPowerUp spreadshot) {
                     spreadshot.activate(user); // Activate spreadshot
+                    eventLog.recordPowerUp(GameEventLog.PowerUpKind.SPREADSHOT);
                 } else if (powerUp instanceof PowerUp defaultPowerUp) {
                     defaultPowerUp.activate(user); // Activate default power-ups
+                    eventLog.recordPowerUp(GameEventLog.PowerUpKind.DEFAULT);
                 }
                 powerUp.destroy(); // Remove power-up after collection
             }
@@ -162,6 +584,9 @@ public class CollisionManager {
      * Triggers a screen shake effect when a collision occurs.
      */
     private void shakeScreen() {
+        if (!screenShakeEnabled) {
+            return;
+        }
         final double amplitude = 10; // How far the screen moves
         final int cycles = 5; // Number of back-and-forth movements
         Timeline timeline = new Timeline();
@@ -180,6 +605,17 @@ public class CollisionManager {
      * @return true if the enemy has moved beyond the screen width, false otherwise.
      */
     private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return Math.abs(enemy.getTranslateX()) > screenWidth;
+        return Math.abs(enemy.getBody().getOffsetX()) > screenWidth;
+    }
+
+    /**
+     * Determines if an actor has moved completely off either horizontal edge of the screen.
+     *
+     * @param actor The actor to check.
+     * @return true if the actor is no longer visible horizontally, false otherwise.
+     */
+    private boolean isOutOfBounds(ActiveActorDestructible actor) {
+        ActorBody body = actor.getBody();
+        return body.getMinX() > screenWidth || body.getMaxX() < 0;
     }
-}
\ No newline at end of file
+}
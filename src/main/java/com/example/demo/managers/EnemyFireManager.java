@@ -0,0 +1,165 @@
+package com.example.demo.managers;
+
+import com.example.demo.actors.plane.FighterPlane;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.ecs.EntityStore;
+import com.example.demo.ecs.LifetimeSystem;
+import com.example.demo.ecs.MovementSystem;
+import com.example.demo.ecs.RenderSyncSystem;
+import com.example.demo.ecs.World;
+import com.example.demo.model.CollisionMask;
+import com.example.demo.model.Faction;
+import com.example.demo.rendering.RenderMode;
+import com.example.demo.utils.CollisionMaskCache;
+import com.example.demo.utils.atlas.AtlasSprite;
+import com.example.demo.utils.atlas.SpriteAtlas;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+/**
+ * Runs the projectiles fired by enemy fighters as entities of an ECS {@link World} rather than as
+ * actors.
+ * <p>
+ * Fighters still decide when and where to fire, and hand the position of each shot to this manager
+ * as a {@link FighterPlane.ShotHandler}; the shot is created as an entity sized like an
+ * {@link EnemyProjectile}, so no projectile actor is ever made for it. Each tick the world moves the
+ * projectiles, lets the {@link CollisionManager} test them against the user's plane, and drops
+ * those that hit or left the screen. Boss fireballs stay actors.
+ * </p>
+ * <p>
+ * In {@link RenderMode#SCENE_GRAPH} a {@link RenderSyncSystem} shows each projectile with a node in
+ * a layer of its own, reusing the hidden nodes of removed projectiles, and the whole layer is
+ * shifted between steps for render interpolation, as every projectile moves at the same speed. In
+ * {@link RenderMode#CANVAS} the sprite batch draws the projectiles from the store, and
+ * {@link RenderMode#HEADLESS} creates no nodes at all.
+ * </p>
+ */
+public class EnemyFireManager implements FighterPlane.ShotHandler {
+
+    private static final String IMAGE_PATH = "/com/example/demo/images/enemyFire.png";
+    private static final int KIND = 1;
+
+    private final EntityStore store = new EntityStore();
+    private final World world = new World(store);
+    private final Group layer = new Group();
+    private final AtlasSprite sprite; // Null if the image is missing
+    private final CollisionMask collisionMask;
+    private final double projectileWidth;
+    private final double projectileHeight;
+    private double renderOffsetX;
+
+    /**
+     * Constructs the enemy fire of a level.
+     *
+     * @param collisionManager The collision manager testing the projectiles against the user's plane.
+     * @param renderMode       How the level draws its gameplay actors.
+     * @param screenWidth      The width of the screen.
+     * @param screenHeight     The height of the screen.
+     */
+    public EnemyFireManager(CollisionManager collisionManager, RenderMode renderMode, double screenWidth, double screenHeight) {
+        this.sprite = SpriteAtlas.getInstance().getSprite(IMAGE_PATH, 0, EnemyProjectile.IMAGE_HEIGHT);
+        this.collisionMask = CollisionMaskCache.getInstance().getMask(IMAGE_PATH, EnemyProjectile.IMAGE_HEIGHT);
+        // Sized as an EnemyProjectile actor would be: fitted to its height, or empty without a sprite
+        boolean hasSize = sprite != null && sprite.getWidth() > 0 && sprite.getHeight() > 0;
+        this.projectileHeight = hasSize ? EnemyProjectile.IMAGE_HEIGHT : 0;
+        this.projectileWidth = hasSize ? sprite.getWidth() * EnemyProjectile.IMAGE_HEIGHT / sprite.getHeight() : 0;
+        world.addSystem(new MovementSystem())
+                .addSystem(entities -> collisionManager.handleEnemyFireCollisions(entities, collisionMask))
+                .addSystem(new LifetimeSystem(0, 0, screenWidth, screenHeight));
+        if (renderMode == RenderMode.SCENE_GRAPH) {
+            world.addRenderSystem(new RenderSyncSystem(store, layer, this::createNode));
+        }
+    }
+
+    /**
+     * Creates a projectile fired by an enemy fighter as an entity.
+     *
+     * @param x The X position of the projectile's top-left corner.
+     * @param y The Y position of the projectile's top-left corner.
+     */
+    @Override
+    public void fire(double x, double y) {
+        int id = store.create(x, y, projectileWidth, projectileHeight);
+        store.setVelocity(id, EnemyProjectile.HORIZONTAL_VELOCITY, 0);
+        store.setFaction(id, Faction.ENEMY);
+        store.setKind(id, KIND);
+        store.setHealth(id, 1);
+    }
+
+    /**
+     * Runs one simulation step: moves the projectiles, applies their hits and removes the spent ones.
+     */
+    public void tick() {
+        world.tick();
+    }
+
+    /**
+     * Pushes the simulated positions into the projectiles' nodes, once per simulation step.
+     */
+    public void syncNodes() {
+        world.render();
+    }
+
+    /**
+     * Draws the projectiles between their previous and current simulated positions.
+     *
+     * @param alpha The interpolation factor between the previous and the current simulation step.
+     */
+    public void interpolate(double alpha) {
+        renderOffsetX = -EnemyProjectile.HORIZONTAL_VELOCITY * (1 - alpha);
+        layer.setTranslateX(renderOffsetX);
+    }
+
+    /**
+     * Creates the node showing a projectile.
+     *
+     * @param kind The entity's kind.
+     * @return An image view of the projectile sprite, or null if the sprite is missing.
+     */
+    private Node createNode(int kind) {
+        if (sprite == null) {
+            return null;
+        }
+        ImageView view = new ImageView();
+        sprite.applyTo(view);
+        view.setFitHeight(EnemyProjectile.IMAGE_HEIGHT);
+        view.setPreserveRatio(true);
+        return view;
+    }
+
+    /**
+     * @return The group holding the projectiles' nodes in scene graph mode.
+     */
+    public Group getLayer() {
+        return layer;
+    }
+
+    /**
+     * @return The projectiles' components.
+     */
+    public EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return The projectile sprite, or null if its image is missing.
+     */
+    public AtlasSprite getSprite() {
+        return sprite;
+    }
+
+    /**
+     * @return The horizontal distance the projectiles are drawn from their simulated positions.
+     */
+    public double getRenderOffsetX() {
+        return renderOffsetX;
+    }
+
+    /**
+     * @return The number of projectiles in flight.
+     */
+    public int getProjectileCount() {
+        return store.size();
+    }
+}
@@ -5,11 +5,10 @@ import com.example.demo.actors.plane.FighterPlane;
 import com.example.demo.actors.plane.BossPlane;
 
 import com.example.demo.actors.factory.FighterPlaneFactory;
+import com.example.demo.utils.GameRandom;
 
 import javafx.scene.Group;
 
-import java.util.Random;
-
 /**
  * Manages enemy-related functionalities, such as spawning, firing projectiles, and keeping track of active enemies.
  * This class works with {@link ActorManager} and a factory pattern to create and manage enemies dynamically.
@@ -20,11 +19,21 @@ public class EnemyManager {
     private final FighterPlaneFactory fighterPlaneFactory; // Factory for creating FighterPlane instances
     private final double screenWidth;
     private final double enemyMaximumYPosition;
-    private final Random random = new Random();
     private final double spawnProbability; // Probability of spawning an enemy
     private final int maxEnemies; // Maximum number of enemies allowed on the screen
+    private final EnemyFireManager enemyFireManager; // Null to keep fighters' shots as actors
 
     public EnemyManager(ActorManager actorManager, Group root, FighterPlaneFactory fighterPlaneFactory, double screenWidth, double enemyMaximumYPosition, double spawnProbability, int maxEnemies) {
+        this(actorManager, root, fighterPlaneFactory, screenWidth, enemyMaximumYPosition, spawnProbability, maxEnemies, null);
+    }
+
+    /**
+     * Constructs an enemy manager that hands the projectiles fired by enemy fighters to an {@link EnemyFireManager}.
+     *
+     * @param enemyFireManager Runs the fighters' projectiles as entities, or null to add them as actors.
+     */
+    public EnemyManager(ActorManager actorManager, Group root, FighterPlaneFactory fighterPlaneFactory, double screenWidth, double enemyMaximumYPosition, double spawnProbability, int maxEnemies,
+                        EnemyFireManager enemyFireManager) {
         this.actorManager = actorManager;
         this.root = root;
         this.fighterPlaneFactory = fighterPlaneFactory;
@@ -32,13 +41,14 @@ public class EnemyManager {
         this.enemyMaximumYPosition = enemyMaximumYPosition;
         this.spawnProbability = spawnProbability;
         this.maxEnemies = maxEnemies;
+        this.enemyFireManager = enemyFireManager;
     }
 
     /**
      * Spawns enemies if conditions are met.
      */
     public void spawnEnemies() {
-        if (actorManager.getEnemyUnits().size() < maxEnemies && random.nextDouble() < spawnProbability) {
+        if (actorManager.getEnemyUnitCount() < maxEnemies && GameRandom.current().chance(GameRandom.Stream.SPAWNING, spawnProbability)) {
             ActiveActorDestructible enemy = createEnemy();
             if (enemy != null) {
                 actorManager.addEnemyUnit(enemy, root);
@@ -54,17 +64,19 @@ public class EnemyManager {
 
 
     /**
-     * Handles enemy firing logic.
+     * Handles enemy firing logic. Fighters that can fire their shots straight into the enemy fire
+     * manager, if there is one, do so without creating a projectile actor; the others, such as
+     * the boss with its fireballs, fire projectile actors.
      */
     public void generateEnemyFire() {
-        for (ActiveActorDestructible enemy : actorManager.getEnemyUnits()) {
-            if (enemy instanceof FighterPlane fighter) {
+        actorManager.forEachEnemyUnit(enemy -> {
+            if (enemy instanceof FighterPlane fighter && (enemyFireManager == null || !fighter.fireShot(enemyFireManager))) {
                 ActiveActorDestructible projectile = fighter.fireProjectile();
                 if (projectile != null) {
                     actorManager.addEnemyProjectile(projectile, root);
                 }
             }
-        }
+        });
     }
 
     /**
@@ -83,6 +95,6 @@ public class EnemyManager {
      * @return The number of active enemies.
      */
     public int getCurrentEnemyCount() {
-        return actorManager.getEnemyUnits().size();
+        return actorManager.getEnemyUnitCount();
     }
 }
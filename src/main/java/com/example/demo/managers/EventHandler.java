@@ -1,5 +1,7 @@
 package com.example.demo.managers;
 
+import com.example.demo.rendering.RenderMode;
+import com.example.demo.replay.ReplaySession;
 import com.example.demo.sounds.SoundManager;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.screens.GameOverScreen;
@@ -27,6 +29,11 @@ public class EventHandler {
     public void handleWin() {
         if (!gameStateManager.isWin()) { // Prevent duplicate calls
             GameLoopManager.getInstance().stop();
+            ReplaySession.getInstance().finish(); // Save the session's recording, if one is being made
+            if (isHeadless()) {
+                gameStateManager.changeState(GameStateManager.GameState.WIN);
+                return; // No music or screens without a window
+            }
             soundManager.stopBackgroundMusic();
             soundManager.playBackgroundMusic(SoundManager.WIN_GAME_MUSIC);
             gameStateManager.changeState(GameStateManager.GameState.WIN);
@@ -47,6 +54,11 @@ public class EventHandler {
     public void handleLose() {
         if (!gameStateManager.isGameOver()) { // Prevent duplicate calls
             GameLoopManager.getInstance().stop();
+            ReplaySession.getInstance().finish(); // Save the session's recording, if one is being made
+            if (isHeadless()) {
+                gameStateManager.changeState(GameStateManager.GameState.GAME_OVER);
+                return; // No music or screens without a window
+            }
             soundManager.stopBackgroundMusic();
             soundManager.playBackgroundMusic(SoundManager.GAME_OVER_MUSIC);
             gameStateManager.changeState(GameStateManager.GameState.GAME_OVER);
@@ -60,4 +72,11 @@ public class EventHandler {
             levelParent.getRoot().getChildren().add(gameOverScreen);
         }
     }
+
+    /**
+     * @return true if the level is simulated without a window.
+     */
+    private boolean isHeadless() {
+        return levelParent.getRenderMode() == RenderMode.HEADLESS;
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.demo.managers;
+
+/**
+ * Converts variable frame timestamps into a whole number of fixed simulation steps.
+ * <p>
+ * Elapsed time is accumulated on every frame and paid out in steps of a fixed length, so the
+ * simulation advances at the same rate regardless of the display refresh rate. The time left over
+ * after the last step is exposed as an interpolation factor for rendering. The number of steps
+ * paid out per frame is capped; if the simulation falls further behind than that (for example
+ * after the window was dragged or the machine stalled) the surplus time is dropped instead of
+ * being caught up over the following frames.
+ * </p>
+ */
+public class FixedStepAccumulator {
+
+    private static final long NO_TIMESTAMP = -1;
+
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+
+    private long lastTimestamp = NO_TIMESTAMP;
+    private long accumulatedNanos;
+    private long droppedSteps;
+
+    /**
+     * Constructs an accumulator.
+     *
+     * @param stepNanos       The length of one simulation step in nanoseconds.
+     * @param maxCatchUpSteps The maximum number of steps paid out for a single frame.
+     */
+    public FixedStepAccumulator(long stepNanos, int maxCatchUpSteps) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Step length must be positive: " + stepNanos);
+        }
+        if (maxCatchUpSteps < 1) {
+            throw new IllegalArgumentException("At least one catch-up step is required: " + maxCatchUpSteps);
+        }
+        this.stepNanos = stepNanos;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    /**
+     * Records a new frame and returns how many simulation steps should run for it.
+     * The first frame after construction or {@link #reset()} only establishes the time base.
+     *
+     * @param timestampNanos The frame timestamp in nanoseconds.
+     * @return The number of simulation steps to run, between 0 and the catch-up limit.
+     */
+    public int advance(long timestampNanos) {
+        if (lastTimestamp == NO_TIMESTAMP) {
+            lastTimestamp = timestampNanos;
+            return 0;
+        }
+        accumulatedNanos += Math.max(0, timestampNanos - lastTimestamp);
+        lastTimestamp = timestampNanos;
+
+        int steps = (int) Math.min(accumulatedNanos / stepNanos, maxCatchUpSteps);
+        accumulatedNanos -= steps * stepNanos;
+        if (accumulatedNanos >= stepNanos) {
+            droppedSteps += accumulatedNanos / stepNanos;
+            accumulatedNanos %= stepNanos;
+        }
+        return steps;
+    }
+
+    /**
+     * Retrieves how far the current frame lies between the last simulation step and the next one.
+     *
+     * @return A value in [0, 1) used to interpolate between the previous and current states.
+     */
+    public double getAlpha() {
+        return (double) accumulatedNanos / stepNanos;
+    }
+
+    /**
+     * Discards accumulated time so that the next frame starts a new time base. Used when the loop
+     * is started or resumed so the paused interval is not simulated.
+     */
+    public void reset() {
+        lastTimestamp = NO_TIMESTAMP;
+        accumulatedNanos = 0;
+    }
+
+    /**
+     * @return The length of one simulation step in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * @return The number of steps skipped because the catch-up limit was exceeded.
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
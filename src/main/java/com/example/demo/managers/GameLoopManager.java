@@ -1,20 +1,55 @@
 package com.example.demo.managers;
 
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
 
+import java.util.function.DoubleConsumer;
+
 /**
- * Manages the game loop using a {@link Timeline}.
+ * Manages the game loop.
  * <p>
  * This class provides methods to start, stop, pause, and resume the game loop,
  * allowing for precise control over game state transitions.
  * </p>
+ * <p>
+ * Two loop modes are available. {@link LoopMode#TIMELINE} runs the update task from a
+ * {@link Timeline} key frame, coupling the simulation to the frame duration, and calls the render
+ * task after every step with an interpolation factor of 1.
+ * {@link LoopMode#FIXED_STEP} (the default) runs from an {@link AnimationTimer} on every display
+ * pulse and uses a {@link FixedStepAccumulator} to run the update task at the fixed simulation
+ * rate, then calls the render task with the interpolation factor so the display can be drawn
+ * between simulation states.
+ * {@link LoopMode#UNTHROTTLED} also runs from the {@link AnimationTimer}, but runs simulation steps
+ * back to back for most of each pulse instead of at the fixed rate, rendering once per pulse. It is
+ * meant for replaying recorded sessions as fast as possible.
+ * </p>
  */
 public class GameLoopManager {
 
+    /**
+     * Enumeration of the available loop drivers.
+     */
+    public enum LoopMode {
+        TIMELINE,
+        FIXED_STEP,
+        UNTHROTTLED
+    }
+
+    private static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+    private static final long UNTHROTTLED_PULSE_BUDGET_NANOS = 12_000_000; // Leaves time in a 60 Hz pulse to draw
+    private static final DoubleConsumer NO_RENDER_TASK = alpha -> { };
+
     private static GameLoopManager instance; // Singleton instance
     private Timeline timeline;
+    private AnimationTimer animationTimer; // Created on first use of the fixed-step mode
+    private FixedStepAccumulator accumulator;
+    private Runnable updateTask;
+    private DoubleConsumer renderTask = NO_RENDER_TASK;
+    private LoopMode loopMode = LoopMode.FIXED_STEP;
+    private int maxCatchUpSteps = DEFAULT_MAX_CATCH_UP_STEPS;
+    private boolean running = false;
     private boolean paused = false; // Track whether the game loop is paused
 
     /**
@@ -39,51 +74,107 @@ public class GameLoopManager {
 
     /**
      * Initializes the game loop with the specified frame duration and update task.
+     * Any render task set for a previous level is cleared.
      *
-     * @param frameDuration The duration of each frame in milliseconds.
-     * @param updateTask    The task to run on each frame.
+     * @param frameDuration The duration of each simulation step.
+     * @param updateTask    The task to run on each simulation step.
      */
     public void initialize(Duration frameDuration, Runnable updateTask) {
+        this.updateTask = updateTask;
+        this.renderTask = NO_RENDER_TASK;
         timeline.getKeyFrames().clear(); // Clear any existing frames
-        KeyFrame keyFrame = new KeyFrame(frameDuration, e -> updateTask.run());
+        KeyFrame keyFrame = new KeyFrame(frameDuration, e -> {
+            updateTask.run();
+            renderTask.accept(1.0); // No interpolation: draw the state just simulated
+        });
         timeline.getKeyFrames().add(keyFrame);
+        accumulator = new FixedStepAccumulator(Math.round(frameDuration.toMillis() * 1_000_000), maxCatchUpSteps);
+    }
+
+    /**
+     * Sets the task called once per display pulse in {@link LoopMode#FIXED_STEP} mode, after any
+     * simulation steps for that pulse have run, or after every step in {@link LoopMode#TIMELINE} mode.
+     * The task receives the interpolation factor between the previous and the current simulation state.
+     *
+     * @param renderTask The task to run on each display pulse, or null for none.
+     */
+    public void setRenderTask(DoubleConsumer renderTask) {
+        this.renderTask = renderTask != null ? renderTask : NO_RENDER_TASK;
+    }
+
+    /**
+     * Selects how the loop is driven. Takes effect the next time the loop is started or resumed.
+     *
+     * @param loopMode The loop mode to use.
+     */
+    public void setLoopMode(LoopMode loopMode) {
+        this.loopMode = loopMode;
+    }
+
+    /**
+     * @return The loop mode used when the loop is started.
+     */
+    public LoopMode getLoopMode() {
+        return loopMode;
+    }
+
+    /**
+     * Sets the maximum number of simulation steps run for a single display pulse in
+     * {@link LoopMode#FIXED_STEP} mode. Time beyond that is dropped so a slow frame cannot
+     * snowball into ever longer catch-up work. Takes effect on the next {@link #initialize}.
+     *
+     * @param maxCatchUpSteps The maximum number of steps per pulse; must be at least 1.
+     */
+    public void setMaxCatchUpSteps(int maxCatchUpSteps) {
+        if (maxCatchUpSteps < 1) {
+            throw new IllegalArgumentException("At least one catch-up step is required: " + maxCatchUpSteps);
+        }
+        this.maxCatchUpSteps = maxCatchUpSteps;
     }
 
     /**
      * Starts the game loop.
-     * Resets the paused state and begins playing the timeline.
+     * Resets the paused state and begins driving the update task.
      */
     public void start() {
         paused = false;
-        timeline.play();
+        running = true;
+        play();
     }
 
     /**
      * Stops the game loop.
-     * Resets the paused state and stops the timeline.
+     * Resets the paused state and stops the loop driver.
      */
     public void stop() {
         paused = false;
+        running = false;
         timeline.stop();
+        if (animationTimer != null) {
+            animationTimer.stop();
+        }
     }
 
     /**
      * Pauses the game loop.
-     * Sets the paused state and pauses the timeline.
+     * Sets the paused state and pauses the loop driver.
      */
     public void pause() {
         paused = true;
         timeline.pause();
+        if (animationTimer != null) {
+            animationTimer.stop();
+        }
     }
 
     /**
      * Resumes the game loop if it was paused.
-     * Resets the paused state and resumes the timeline.
+     * Resets the paused state and resumes the loop driver.
      */
     public void resume() {
         if (paused) {
             paused = false;
-            timeline.play();
+            play();
         }
     }
 
@@ -95,4 +186,57 @@ public class GameLoopManager {
     public boolean isPaused() {
         return paused;
     }
+
+    /**
+     * Starts the driver for the selected loop mode.
+     */
+    private void play() {
+        if (loopMode == LoopMode.TIMELINE) {
+            timeline.play();
+            return;
+        }
+        accumulator.reset(); // Do not simulate the time spent stopped or paused
+        if (animationTimer == null) {
+            animationTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    handlePulse(now);
+                }
+            };
+        }
+        animationTimer.start();
+    }
+
+    /**
+     * Runs the simulation steps owed for a display pulse, then renders.
+     *
+     * @param now The pulse timestamp in nanoseconds.
+     */
+    private void handlePulse(long now) {
+        if (loopMode == LoopMode.UNTHROTTLED) {
+            runUnthrottledSteps();
+            return;
+        }
+        int steps = accumulator.advance(now);
+        for (int i = 0; i < steps && running && !paused; i++) {
+            updateTask.run();
+        }
+        if (running && !paused) {
+            renderTask.accept(accumulator.getAlpha());
+        }
+    }
+
+    /**
+     * Runs simulation steps back to back until the pulse's time budget is spent, then renders
+     * the last state simulated.
+     */
+    private void runUnthrottledSteps() {
+        long deadline = System.nanoTime() + UNTHROTTLED_PULSE_BUDGET_NANOS;
+        while (running && !paused && System.nanoTime() < deadline) {
+            updateTask.run();
+        }
+        if (running && !paused) {
+            renderTask.accept(1.0);
+        }
+    }
 }
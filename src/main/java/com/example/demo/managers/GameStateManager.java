@@ -1,5 +1,7 @@
 package com.example.demo.managers;
 
+import com.example.demo.events.GameEventLog;
+
 import java.beans.PropertyChangeSupport;
 
 /**
@@ -67,6 +69,9 @@ public class GameStateManager {
         }
         GameState oldState = this.currentState;
         this.currentState = newState;
+        if (oldState != newState) {
+            GameEventLog.getInstance().recordStateChange(oldState, newState);
+        }
 
         // Notify listeners of the state change
         support.firePropertyChange("gameState", oldState, newState);
@@ -3,6 +3,8 @@ package com.example.demo.managers;
 import com.example.demo.actors.plane.UserPlane;
 import com.example.demo.levels.LevelParent;
 
+import com.example.demo.replay.InputAction;
+import com.example.demo.replay.ReplaySession;
 import com.example.demo.sounds.SoundManager;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
@@ -16,15 +18,22 @@ import java.util.Set;
  * This class tracks key presses, processes input in the game loop,
  * and executes corresponding actions, such as movement, firing projectiles, and pausing the game.
  * </p>
+ * <p>
+ * Movement and firing are applied once per tick from an input mask of {@link InputAction}s, which
+ * passes through the {@link ReplaySession} so it can be recorded or replaced by a replay. Pressing
+ * fire only requests a shot; the shot is fired on the next tick.
+ * </p>
  */
 public class InputManager {
 
     private final UserPlane user;
     private final LevelParent levelParent;
     private final SoundManager soundManager;
+    private final ReplaySession replaySession;
     private static final int MOVEMENT_SPEED = 2;
 
     private final Set<KeyCode> pressedKeys = new HashSet<>(); // Key State Tracker
+    private boolean fireRequested = false; // Set by a fire key press, consumed by the next tick
 
     /**
      * Constructs an {@link InputManager} instance.
@@ -36,6 +45,7 @@ public class InputManager {
         this.user = user;
         this.levelParent = levelParent;
         this.soundManager = SoundManager.getInstance();
+        this.replaySession = ReplaySession.getInstance();
     }
 
     /**
@@ -50,15 +60,16 @@ public class InputManager {
     public void initializeInputHandlers(Scene scene) {
         scene.setOnKeyPressed(event -> {
             pressedKeys.add(event.getCode()); // Add key to tracker
+            if (event.getCode() == KeyCode.F3) {
+                levelParent.toggleProfilerOverlay(); // Available in any state, including the countdown
+                return;
+            }
             if (levelParent.isCountdownInProgress() || !GameStateManager.getInstance().isState(GameStateManager.GameState.PLAYING)) {
                 return;
             }
 
             switch (event.getCode()) {
-                case SPACE -> {
-                    levelParent.fireProjectile(); // Fire projectile
-                    soundManager.playShootSound(); // Play shooting sound effect
-                }
+                case SPACE -> fireRequested = true; // Fired on the next tick
                 case ESCAPE -> {
                     GameStateManager gameStateManager = GameStateManager.getInstance();
                     if (!gameStateManager.isGameOver() && !gameStateManager.isWin() && !GameLoopManager.getInstance().isPaused()) {
@@ -81,26 +92,66 @@ public class InputManager {
      */
     public void processInput() {
         if (levelParent.isCountdownInProgress() || !GameStateManager.getInstance().isState(GameStateManager.GameState.PLAYING)) {
+            fireRequested = false;
             return; // Ignore input if not playing
         }
 
+        int input = replaySession.nextInput(readLiveInput());
+        applyInput(input);
+    }
+
+    /**
+     * Reads the input mask from the keys currently held and any pending fire request.
+     *
+     * @return The bits of the {@link InputAction}s requested by the player.
+     */
+    private int readLiveInput() {
+        int input = 0;
+        if (pressedKeys.contains(KeyCode.UP)) {
+            input |= InputAction.UP.mask();
+        }
+        if (pressedKeys.contains(KeyCode.DOWN)) {
+            input |= InputAction.DOWN.mask();
+        }
+        if (pressedKeys.contains(KeyCode.LEFT)) {
+            input |= InputAction.LEFT.mask();
+        }
+        if (pressedKeys.contains(KeyCode.RIGHT)) {
+            input |= InputAction.RIGHT.mask();
+        }
+        if (fireRequested) {
+            input |= InputAction.FIRE.mask();
+            fireRequested = false;
+        }
+        return input;
+    }
+
+    /**
+     * Moves the user's plane and fires according to an input mask.
+     *
+     * @param input The bits of the {@link InputAction}s to apply for this tick.
+     */
+    private void applyInput(int input) {
         // Reset movement
         user.stopVerticalMovement();
         user.stopHorizontalMovement();
 
-        // Process movement keys
-        if (pressedKeys.contains(KeyCode.UP)) {
+        if (InputAction.UP.isSetIn(input)) {
             user.setVerticalVelocity(-MOVEMENT_SPEED); // Move up
         }
-        if (pressedKeys.contains(KeyCode.DOWN)) {
+        if (InputAction.DOWN.isSetIn(input)) {
             user.setVerticalVelocity(MOVEMENT_SPEED); // Move down
         }
-        if (pressedKeys.contains(KeyCode.LEFT)) {
+        if (InputAction.LEFT.isSetIn(input)) {
             user.setHorizontalVelocity(-MOVEMENT_SPEED); // Move left
         }
-        if (pressedKeys.contains(KeyCode.RIGHT)) {
+        if (InputAction.RIGHT.isSetIn(input)) {
             user.setHorizontalVelocity(MOVEMENT_SPEED); // Move right
         }
+        if (InputAction.FIRE.isSetIn(input)) {
+            levelParent.fireProjectile(); // Fire projectile
+            soundManager.playShootSound(); // Play shooting sound effect
+        }
     }
 
 }
@@ -0,0 +1,101 @@
+package com.example.demo.managers;
+
+import javafx.scene.Node;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smooths actor movement between fixed simulation steps.
+ * <p>
+ * After each simulation step the actor bodies are synced into their nodes and the translation of
+ * every tracked node is captured between {@link #beginCapture()} and {@link #endCapture()}, keeping
+ * the previous and current values. On each display pulse {@link #apply(double)} moves the nodes to
+ * a point between those two states. The simulation reads actor bodies rather than nodes, and the
+ * next sync overwrites the interpolated translation before it is captured, so nothing has to be
+ * put back between steps.
+ * </p>
+ * <p>
+ * Nodes are tracked by identity. A node that is not captured during a step is forgotten.
+ * </p>
+ */
+public class RenderInterpolator {
+
+    private final Map<Node, State> states = new IdentityHashMap<>();
+    private int captureStamp;
+
+    /**
+     * Starts capturing the state produced by a simulation step.
+     */
+    public void beginCapture() {
+        captureStamp++;
+    }
+
+    /**
+     * Captures the current translation of each node. A node seen for the first time starts with
+     * identical previous and current states, so it is drawn where it was spawned.
+     *
+     * @param nodes The nodes to capture.
+     */
+    public void capture(List<? extends Node> nodes) {
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            State state = states.get(node);
+            if (state == null) {
+                state = new State(node);
+                states.put(node, state);
+            } else {
+                state.previousX = state.currentX;
+                state.previousY = state.currentY;
+            }
+            state.currentX = node.getTranslateX();
+            state.currentY = node.getTranslateY();
+            state.stamp = captureStamp;
+        }
+    }
+
+    /**
+     * Finishes a capture, forgetting every node that was not captured since {@link #beginCapture()}.
+     */
+    public void endCapture() {
+        states.values().removeIf(state -> state.stamp != captureStamp);
+    }
+
+    /**
+     * Moves every tracked node between its previous and current state.
+     *
+     * @param alpha The interpolation factor; 0 is the previous state and 1 the current state.
+     */
+    public void apply(double alpha) {
+        for (State state : states.values()) {
+            state.node.setTranslateX(state.previousX + (state.currentX - state.previousX) * alpha);
+            state.node.setTranslateY(state.previousY + (state.currentY - state.previousY) * alpha);
+        }
+    }
+
+    /**
+     * @return The number of nodes currently tracked.
+     */
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * Previous and current simulated translation of a single node.
+     */
+    private static final class State {
+        private final Node node;
+        private double previousX;
+        private double previousY;
+        private double currentX;
+        private double currentY;
+        private int stamp;
+
+        private State(Node node) {
+            this.node = node;
+            this.previousX = node.getTranslateX();
+            this.previousY = node.getTranslateY();
+        }
+    }
+}
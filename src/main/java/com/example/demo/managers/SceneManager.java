@@ -23,13 +23,13 @@ import javafx.scene.image.ImageView;
 public class SceneManager {
 
     private final Group root;
-    private final Scene scene;
+    private Scene scene; // Created on first use, so headless levels never create one
     private final ImageView background;
     private final double screenWidth;
     private final double screenHeight;
 
     private ImageView pauseButton;
-    private final AudioControlPanel audioControlPanel;
+    private AudioControlPanel audioControlPanel; // Created with the scene's controls
     private final SoundManager soundManager;
     private PauseManager pauseManager;
     private final LevelParent levelParent; // Reference to LevelParent
@@ -38,15 +38,13 @@ public class SceneManager {
     public SceneManager(String backgroundImageName, double screenHeight, double screenWidth, SoundManager soundManager,
                         PauseManager pauseManager, LevelParent levelParent) {
         this.root = new Group();
-        this.scene = new Scene(root, screenWidth, screenHeight);
-        this.background = new ImageView(new Image(MenuView.getResourceOrThrow(backgroundImageName).toExternalForm()));
+        this.background = new ImageView(MenuView.getImageOrThrow(backgroundImageName));
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
         this.gameLoopManager = GameLoopManager.getInstance();
         this.soundManager = soundManager;
         this.pauseManager = pauseManager;
         this.levelParent = levelParent; // Store LevelParent instance
-        this.audioControlPanel = new AudioControlPanel(levelParent);
     }
 
     /**
@@ -58,7 +56,7 @@ public class SceneManager {
         root.getChildren().clear(); // Clear all children from the root before initializing
         initializeBackground(); // Set up the background and add to root
         addControlPanel();
-        return scene; // Return the configured scene
+        return getScene(); // Return the configured scene
     }
 
     /**
@@ -82,6 +80,9 @@ public class SceneManager {
         addPauseButton(null);
 
         // Add the pause button and audio control panel to the HBox
+        if (audioControlPanel == null) {
+            audioControlPanel = new AudioControlPanel(levelParent);
+        }
         controlPanel.getChildren().add(audioControlPanel);
         controlPanel.getChildren().add(pauseButton);
 
@@ -95,7 +96,7 @@ public class SceneManager {
      * @param pauseAction The action to execute when the pause button is clicked.
      */
     public void addPauseButton(Runnable pauseAction) {
-        Image pauseImage = new Image(MenuView.getResourceOrThrow("/com/example/demo/images/pause.png").toExternalForm());
+        Image pauseImage = MenuView.getImageOrThrow("/com/example/demo/images/pause.png", 50, 50);
         pauseButton = new ImageView(pauseImage);
 
         pauseButton.setFitWidth(50);
@@ -151,11 +152,14 @@ public class SceneManager {
     }
 
     /**
-     * Retrieves the {@link Scene} managed by this class.
+     * Retrieves the {@link Scene} managed by this class, creating it on first use.
      *
      * @return The {@link Scene}.
      */
     public Scene getScene() {
+        if (scene == null) {
+            scene = new Scene(root, screenWidth, screenHeight);
+        }
         return scene;
     }
 
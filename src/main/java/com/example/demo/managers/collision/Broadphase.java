@@ -0,0 +1,49 @@
+package com.example.demo.managers.collision;
+
+import java.util.function.Consumer;
+
+/**
+ * Coarse collision stage that narrows down which pairs of objects need an exact intersection test.
+ * <p>
+ * Implementations are rebuilt every tick: {@link #clear()} is called, every collision target is
+ * {@link #insert inserted} with its axis-aligned bounding box, and then {@link #query} is used to
+ * visit the targets that may overlap a given box. A query may report targets that do not actually
+ * overlap, but never misses one that does and never reports the same target twice.
+ * </p>
+ *
+ * @param <T> The type of object stored in the broadphase.
+ */
+public interface Broadphase<T> {
+
+    /**
+     * Removes every inserted target.
+     */
+    void clear();
+
+    /**
+     * Inserts a target with the given bounding box.
+     *
+     * @param target The target to insert.
+     * @param minX   The left edge of the target's bounding box.
+     * @param minY   The top edge of the target's bounding box.
+     * @param maxX   The right edge of the target's bounding box.
+     * @param maxY   The bottom edge of the target's bounding box.
+     */
+    void insert(T target, double minX, double minY, double maxX, double maxY);
+
+    /**
+     * Visits every inserted target whose bounding box may overlap the given box.
+     *
+     * @param minX    The left edge of the query box.
+     * @param minY    The top edge of the query box.
+     * @param maxX    The right edge of the query box.
+     * @param maxY    The bottom edge of the query box.
+     * @param visitor The callback invoked once for each candidate target.
+     */
+    void query(double minX, double minY, double maxX, double maxY, Consumer<? super T> visitor);
+
+    /**
+     * @return The number of targets currently inserted.
+     */
+    int size();
+}
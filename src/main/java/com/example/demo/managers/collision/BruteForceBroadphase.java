@@ -0,0 +1,41 @@
+package com.example.demo.managers.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reference {@link Broadphase} that reports every inserted target for every query.
+ * <p>
+ * This reproduces the original all-pairs behaviour and is kept so results from faster
+ * implementations can be compared against it.
+ * </p>
+ *
+ * @param <T> The type of object stored in the broadphase.
+ */
+public class BruteForceBroadphase<T> implements Broadphase<T> {
+
+    private final List<T> targets = new ArrayList<>();
+
+    @Override
+    public void clear() {
+        targets.clear();
+    }
+
+    @Override
+    public void insert(T target, double minX, double minY, double maxX, double maxY) {
+        targets.add(target);
+    }
+
+    @Override
+    public void query(double minX, double minY, double maxX, double maxY, Consumer<? super T> visitor) {
+        for (int i = 0; i < targets.size(); i++) {
+            visitor.accept(targets.get(i));
+        }
+    }
+
+    @Override
+    public int size() {
+        return targets.size();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.managers.collision;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * {@link Broadphase} backed by a uniform grid covering the screen.
+ * <p>
+ * Each target is registered in every cell its bounding box touches, and a query only visits
+ * targets registered in the cells the query box touches. Boxes that extend past the screen are
+ * clamped to the border cells, so off-screen targets are still found. All storage is reused
+ * between ticks, so rebuilding the grid does not allocate once it has grown to its working size.
+ * </p>
+ *
+ * @param <T> The type of object stored in the broadphase.
+ */
+public class SpatialHashBroadphase<T> implements Broadphase<T> {
+
+    private static final int CELLS_ALONG_LONGEST_EDGE = 16;
+    private static final int INITIAL_CELL_CAPACITY = 4;
+    private static final int INITIAL_TARGET_CAPACITY = 32;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[][] cellTargets;
+    private final int[] cellCounts;
+
+    private Object[] targets = new Object[INITIAL_TARGET_CAPACITY];
+    private int[] visitStamps = new int[INITIAL_TARGET_CAPACITY];
+    private int targetCount;
+    private int queryStamp;
+
+    /**
+     * Constructs a grid for the given screen size, choosing a cell size that splits the longest
+     * edge of the screen into a fixed number of cells.
+     *
+     * @param screenWidth  The width of the screen.
+     * @param screenHeight The height of the screen.
+     */
+    public SpatialHashBroadphase(double screenWidth, double screenHeight) {
+        this(screenWidth, screenHeight, Math.max(screenWidth, screenHeight) / CELLS_ALONG_LONGEST_EDGE);
+    }
+
+    /**
+     * Constructs a grid for the given screen size and cell size.
+     *
+     * @param screenWidth  The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @param cellSize     The edge length of a grid cell.
+     */
+    public SpatialHashBroadphase(double screenWidth, double screenHeight, double cellSize) {
+        if (screenWidth <= 0 || screenHeight <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Screen and cell sizes must be positive.");
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(screenWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(screenHeight / cellSize));
+        this.cellTargets = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        Arrays.fill(targets, 0, targetCount, null);
+        targetCount = 0;
+    }
+
+    @Override
+    public void insert(T target, double minX, double minY, double maxX, double maxY) {
+        int index = addTarget(target);
+        int firstColumn = column(minX);
+        int lastColumn = column(maxX);
+        int firstRow = row(minY);
+        int lastRow = row(maxY);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                addToCell(row * columns + column, index);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void query(double minX, double minY, double maxX, double maxY, Consumer<? super T> visitor) {
+        int stamp = nextQueryStamp();
+        int firstColumn = column(minX);
+        int lastColumn = column(maxX);
+        int firstRow = row(minY);
+        int lastRow = row(maxY);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                int[] cellContents = cellTargets[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int index = cellContents[i];
+                    if (visitStamps[index] != stamp) {
+                        visitStamps[index] = stamp;
+                        visitor.accept((T) targets[index]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return targetCount;
+    }
+
+    /**
+     * @return The edge length of a grid cell.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Stores a target and returns its index, growing the target arrays if needed.
+     */
+    private int addTarget(T target) {
+        if (targetCount == targets.length) {
+            targets = Arrays.copyOf(targets, targetCount * 2);
+            visitStamps = Arrays.copyOf(visitStamps, targetCount * 2);
+        }
+        targets[targetCount] = target;
+        visitStamps[targetCount] = 0;
+        return targetCount++;
+    }
+
+    /**
+     * Appends a target index to a cell, growing the cell if needed.
+     */
+    private void addToCell(int cell, int index) {
+        int count = cellCounts[cell];
+        if (count == cellTargets[cell].length) {
+            cellTargets[cell] = Arrays.copyOf(cellTargets[cell], count * 2);
+        }
+        cellTargets[cell][count] = index;
+        cellCounts[cell] = count + 1;
+    }
+
+    /**
+     * Returns a stamp that has not been used by any earlier query since the stamps were last reset.
+     */
+    private int nextQueryStamp() {
+        queryStamp++;
+        if (queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamps, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int cell, int cellCount) {
+        return Math.max(0, Math.min(cellCount - 1, cell));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.managers.collision;
+
+/**
+ * Continuous intersection tests for axis-aligned boxes that moved in a straight line during a tick.
+ * <p>
+ * A moving box is described by its bounds at the end of the tick and the displacement it covered
+ * during that tick. The tests consider every position along that path, so a fast, thin box cannot
+ * pass through a target between two ticks without being detected.
+ * </p>
+ */
+public final class SweptAabb {
+
+    /**
+     * Returned by {@link #timeOfImpact} when the moving box never touches the target.
+     */
+    public static final double MISS = -1;
+
+    private SweptAabb() {
+        // Utility class
+    }
+
+    /**
+     * Computes when a moving box first touches a stationary target during the tick.
+     *
+     * @param minX       The left edge of the moving box at the end of the tick.
+     * @param minY       The top edge of the moving box at the end of the tick.
+     * @param maxX       The right edge of the moving box at the end of the tick.
+     * @param maxY       The bottom edge of the moving box at the end of the tick.
+     * @param dx         The horizontal distance the box moved during the tick.
+     * @param dy         The vertical distance the box moved during the tick.
+     * @param targetMinX The left edge of the target.
+     * @param targetMinY The top edge of the target.
+     * @param targetMaxX The right edge of the target.
+     * @param targetMaxY The bottom edge of the target.
+     * @return The fraction of the tick, between 0 and 1, at which the boxes first touch,
+     *         or {@link #MISS} if they never do.
+     */
+    public static double timeOfImpact(double minX, double minY, double maxX, double maxY,
+                                      double dx, double dy,
+                                      double targetMinX, double targetMinY, double targetMaxX, double targetMaxY) {
+        // Work from the start of the tick so time runs forward from 0 to 1
+        double startMinX = minX - dx;
+        double startMaxX = maxX - dx;
+        double startMinY = minY - dy;
+        double startMaxY = maxY - dy;
+
+        double entry = 0;
+        double exit = 1;
+
+        if (dx == 0) {
+            if (startMaxX < targetMinX || startMinX > targetMaxX) {
+                return MISS;
+            }
+        } else {
+            double entryX = ((dx > 0 ? targetMinX - startMaxX : targetMaxX - startMinX)) / dx;
+            double exitX = ((dx > 0 ? targetMaxX - startMinX : targetMinX - startMaxX)) / dx;
+            entry = Math.max(entry, entryX);
+            exit = Math.min(exit, exitX);
+        }
+
+        if (dy == 0) {
+            if (startMaxY < targetMinY || startMinY > targetMaxY) {
+                return MISS;
+            }
+        } else {
+            double entryY = ((dy > 0 ? targetMinY - startMaxY : targetMaxY - startMinY)) / dy;
+            double exitY = ((dy > 0 ? targetMaxY - startMinY : targetMinY - startMaxY)) / dy;
+            entry = Math.max(entry, entryY);
+            exit = Math.min(exit, exitY);
+        }
+
+        return entry <= exit ? entry : MISS;
+    }
+
+    /**
+     * Determines whether a moving box touches a stationary target at any point during the tick.
+     *
+     * @see #timeOfImpact
+     */
+    public static boolean intersects(double minX, double minY, double maxX, double maxY,
+                                     double dx, double dy,
+                                     double targetMinX, double targetMinY, double targetMaxX, double targetMaxY) {
+        return timeOfImpact(minX, minY, maxX, maxY, dx, dy, targetMinX, targetMinY, targetMaxX, targetMaxY) != MISS;
+    }
+}
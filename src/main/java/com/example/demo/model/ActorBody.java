@@ -0,0 +1,285 @@
+package com.example.demo.model;
+
+/**
+ * Plain-Java simulation state of an actor.
+ * <p>
+ * A body stores the position, per-tick velocity, size, health and faction of an actor in plain
+ * fields, so movement and collision checks never touch JavaFX properties and can run without a
+ * display or off the FX application thread. The position is split into an origin, set when the
+ * actor is placed, and an offset accumulated by movement, mirroring the layout and translate
+ * properties of the node the body is rendered with.
+ * </p>
+ * <p>
+ * Velocity is the displacement since the last call to {@link #beginTick()}, so it reflects every
+ * movement applied during the current tick, including movement that was reverted.
+ * </p>
+ */
+public class ActorBody {
+
+    private double originX;
+    private double originY;
+    private double offsetX;
+    private double offsetY;
+    private double previousX;
+    private double previousY;
+
+    private double width;
+    private double height;
+
+    private int health;
+    private int maxHealth;
+    private Faction faction = Faction.NEUTRAL;
+
+    /**
+     * Constructs a body with the given origin and no offset.
+     *
+     * @param originX The X coordinate of the body's origin.
+     * @param originY The Y coordinate of the body's origin.
+     */
+    public ActorBody(double originX, double originY) {
+        setOrigin(originX, originY);
+    }
+
+    /**
+     * Places the body at a new origin, clearing its offset and velocity.
+     *
+     * @param originX The X coordinate of the new origin.
+     * @param originY The Y coordinate of the new origin.
+     */
+    public void setOrigin(double originX, double originY) {
+        this.originX = originX;
+        this.originY = originY;
+        this.offsetX = 0;
+        this.offsetY = 0;
+        beginTick();
+    }
+
+    /**
+     * Marks the start of a simulation tick by remembering the current position.
+     */
+    public void beginTick() {
+        previousX = getX();
+        previousY = getY();
+    }
+
+    /**
+     * Moves the body by the given distance.
+     *
+     * @param dx The horizontal distance.
+     * @param dy The vertical distance.
+     */
+    public void moveBy(double dx, double dy) {
+        offsetX += dx;
+        offsetY += dy;
+    }
+
+    /**
+     * Sets the horizontal offset from the origin.
+     *
+     * @param offsetX The new horizontal offset.
+     */
+    public void setOffsetX(double offsetX) {
+        this.offsetX = offsetX;
+    }
+
+    /**
+     * Sets the vertical offset from the origin.
+     *
+     * @param offsetY The new vertical offset.
+     */
+    public void setOffsetY(double offsetY) {
+        this.offsetY = offsetY;
+    }
+
+    /**
+     * Sets the size of the body's bounding box.
+     *
+     * @param width  The width of the body.
+     * @param height The height of the body.
+     */
+    public void setSize(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Sets the current and maximum health of the body.
+     *
+     * @param health The initial health, also used as the maximum health.
+     */
+    public void initializeHealth(int health) {
+        this.health = health;
+        this.maxHealth = health;
+    }
+
+    /**
+     * Reduces the body's health by one.
+     *
+     * @return true if the health has reached zero.
+     */
+    public boolean damage() {
+        health--;
+        return health <= 0;
+    }
+
+    /**
+     * Sets the faction the body belongs to.
+     *
+     * @param faction The faction of the body.
+     */
+    public void setFaction(Faction faction) {
+        this.faction = faction;
+    }
+
+    /**
+     * Determines whether this body's bounding box overlaps another's. Edges that touch count as
+     * overlapping; bodies without an area never overlap anything.
+     *
+     * @param other The other body.
+     * @return true if the bounding boxes overlap.
+     */
+    public boolean intersects(ActorBody other) {
+        return other.hasArea() && intersects(other.getMinX(), other.getMinY(), other.getMaxX(), other.getMaxY());
+    }
+
+    /**
+     * Determines whether this body's bounding box overlaps the given box.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @return true if the bounding boxes overlap.
+     */
+    public boolean intersects(double minX, double minY, double maxX, double maxY) {
+        return hasArea()
+                && getMinX() <= maxX && getMaxX() >= minX
+                && getMinY() <= maxY && getMaxY() >= minY;
+    }
+
+    /**
+     * @return true if the body has a positive width and height.
+     */
+    public boolean hasArea() {
+        return width > 0 && height > 0;
+    }
+
+    /**
+     * @return The X coordinate of the body's top-left corner.
+     */
+    public double getX() {
+        return originX + offsetX;
+    }
+
+    /**
+     * @return The Y coordinate of the body's top-left corner.
+     */
+    public double getY() {
+        return originY + offsetY;
+    }
+
+    /**
+     * @return The left edge of the bounding box.
+     */
+    public double getMinX() {
+        return getX();
+    }
+
+    /**
+     * @return The top edge of the bounding box.
+     */
+    public double getMinY() {
+        return getY();
+    }
+
+    /**
+     * @return The right edge of the bounding box.
+     */
+    public double getMaxX() {
+        return getX() + width;
+    }
+
+    /**
+     * @return The bottom edge of the bounding box.
+     */
+    public double getMaxY() {
+        return getY() + height;
+    }
+
+    /**
+     * @return The X coordinate of the origin.
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * @return The Y coordinate of the origin.
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * @return The horizontal offset from the origin.
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * @return The vertical offset from the origin.
+     */
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * @return The horizontal distance moved since the start of the tick.
+     */
+    public double getVelocityX() {
+        return getX() - previousX;
+    }
+
+    /**
+     * @return The vertical distance moved since the start of the tick.
+     */
+    public double getVelocityY() {
+        return getY() - previousY;
+    }
+
+    /**
+     * @return The width of the bounding box.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The height of the bounding box.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * @return The current health.
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * @return The maximum health.
+     */
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    /**
+     * @return The faction the body belongs to.
+     */
+    public Faction getFaction() {
+        return faction;
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.demo.model;
+
+/**
+ * The opaque pixels of a sprite at the size it is displayed at, packed one bit per pixel.
+ * <p>
+ * Each row is stored in {@code ceil(width / 64)} longs, with column {@code x} at bit {@code x % 64}
+ * of word {@code x / 64}; bits beyond the width are always clear. Two masks are tested by ANDing
+ * whole words over the rows they share, so a candidate pair costs a few dozen 64-bit operations
+ * once the bounding boxes are known to overlap.
+ * </p>
+ */
+public final class CollisionMask {
+
+    private static final int WORD_BITS = 64;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    private CollisionMask(int width, int height, long[] bits) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = wordsFor(width);
+        this.bits = bits;
+    }
+
+    /**
+     * Builds a mask by scaling an image's alpha channel to the given size. A mask pixel is set if
+     * any source pixel it covers has an alpha of at least the threshold, so thin opaque details
+     * survive downscaling.
+     *
+     * @param argb         The source pixels in ARGB form, row by row.
+     * @param sourceWidth  The width of the source image.
+     * @param sourceHeight The height of the source image.
+     * @param width        The width of the mask.
+     * @param height       The height of the mask.
+     * @param threshold    The alpha, from 1 to 255, at which a pixel counts as opaque.
+     * @return The mask.
+     */
+    public static CollisionMask fromArgb(int[] argb, int sourceWidth, int sourceHeight, int width, int height, int threshold) {
+        if (width < 1 || height < 1 || sourceWidth < 1 || sourceHeight < 1) {
+            throw new IllegalArgumentException("Mask and source sizes must be positive.");
+        }
+        if (argb.length < sourceWidth * sourceHeight) {
+            throw new IllegalArgumentException("Not enough pixels for a " + sourceWidth + "x" + sourceHeight + " image.");
+        }
+        int wordsPerRow = wordsFor(width);
+        long[] bits = new long[wordsPerRow * height];
+        for (int y = 0; y < height; y++) {
+            int sourceMinY = (int) ((long) y * sourceHeight / height);
+            int sourceMaxY = Math.max(sourceMinY + 1, (int) ((long) (y + 1) * sourceHeight / height));
+            for (int x = 0; x < width; x++) {
+                int sourceMinX = (int) ((long) x * sourceWidth / width);
+                int sourceMaxX = Math.max(sourceMinX + 1, (int) ((long) (x + 1) * sourceWidth / width));
+                if (anyOpaque(argb, sourceWidth, sourceMinX, sourceMinY, sourceMaxX, sourceMaxY, threshold)) {
+                    bits[y * wordsPerRow + x / WORD_BITS] |= 1L << (x % WORD_BITS);
+                }
+            }
+        }
+        return new CollisionMask(width, height, bits);
+    }
+
+    /**
+     * Determines whether two masks share an opaque pixel when placed at the given positions.
+     *
+     * @param a  The first mask.
+     * @param ax The X position of the first mask's top-left pixel.
+     * @param ay The Y position of the first mask's top-left pixel.
+     * @param b  The second mask.
+     * @param bx The X position of the second mask's top-left pixel.
+     * @param by The Y position of the second mask's top-left pixel.
+     * @return true if the masks overlap.
+     */
+    public static boolean overlaps(CollisionMask a, int ax, int ay, CollisionMask b, int bx, int by) {
+        int shiftX = bx - ax; // Column of b's left edge in a's coordinates
+        int firstColumn = Math.max(0, shiftX);
+        int lastColumn = Math.min(a.width, shiftX + b.width); // Exclusive
+        int firstRow = Math.max(ay, by);
+        int lastRow = Math.min(ay + a.height, by + b.height); // Exclusive
+        if (firstColumn >= lastColumn || firstRow >= lastRow) {
+            return false;
+        }
+        int firstWord = firstColumn / WORD_BITS;
+        int lastWord = (lastColumn - 1) / WORD_BITS;
+        for (int row = firstRow; row < lastRow; row++) {
+            int rowA = (row - ay) * a.wordsPerRow;
+            int rowB = (row - by) * b.wordsPerRow;
+            for (int word = firstWord; word <= lastWord; word++) {
+                // Columns of a outside b read as clear bits from b, so no extra masking is needed
+                if ((a.bits[rowA + word] & b.extract(rowB, word * WORD_BITS - shiftX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the mask has an opaque pixel inside a box.
+     *
+     * @param x    The X position of the mask's top-left pixel.
+     * @param y    The Y position of the mask's top-left pixel.
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box, exclusive.
+     * @param maxY The bottom edge of the box, exclusive.
+     * @return true if an opaque pixel lies in the box.
+     */
+    public boolean overlapsBox(int x, int y, int minX, int minY, int maxX, int maxY) {
+        int firstColumn = Math.max(0, minX - x);
+        int lastColumn = Math.min(width, maxX - x); // Exclusive
+        int firstRow = Math.max(0, minY - y);
+        int lastRow = Math.min(height, maxY - y); // Exclusive
+        if (firstColumn >= lastColumn || firstRow >= lastRow) {
+            return false;
+        }
+        int firstWord = firstColumn / WORD_BITS;
+        int lastWord = (lastColumn - 1) / WORD_BITS;
+        long firstMask = -1L << (firstColumn % WORD_BITS);
+        long lastMask = -1L >>> (WORD_BITS - 1 - (lastColumn - 1) % WORD_BITS);
+        for (int row = firstRow; row < lastRow; row++) {
+            int offset = row * wordsPerRow;
+            for (int word = firstWord; word <= lastWord; word++) {
+                long value = bits[offset + word];
+                if (word == firstWord) {
+                    value &= firstMask;
+                }
+                if (word == lastWord) {
+                    value &= lastMask;
+                }
+                if (value != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a single pixel.
+     *
+     * @param x The column.
+     * @param y The row.
+     * @return true if the pixel is opaque; pixels outside the mask are not.
+     */
+    public boolean isSet(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + x / WORD_BITS] & (1L << (x % WORD_BITS))) != 0;
+    }
+
+    /**
+     * @return true if the mask has no opaque pixel.
+     */
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Reads the 64 bits of a row starting at the given column, with columns outside the mask clear.
+     */
+    private long extract(int rowOffset, int startColumn) {
+        int word = Math.floorDiv(startColumn, WORD_BITS);
+        int shift = Math.floorMod(startColumn, WORD_BITS);
+        long low = wordAt(rowOffset, word);
+        if (shift == 0) {
+            return low;
+        }
+        return (low >>> shift) | (wordAt(rowOffset, word + 1) << (WORD_BITS - shift));
+    }
+
+    private long wordAt(int rowOffset, int word) {
+        return word >= 0 && word < wordsPerRow ? bits[rowOffset + word] : 0;
+    }
+
+    private static boolean anyOpaque(int[] argb, int stride, int minX, int minY, int maxX, int maxY, int threshold) {
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                if ((argb[y * stride + x] >>> 24) >= threshold) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int wordsFor(int width) {
+        return (width + WORD_BITS - 1) / WORD_BITS;
+    }
+}
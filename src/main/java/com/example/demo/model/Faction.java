@@ -0,0 +1,10 @@
+package com.example.demo.model;
+
+/**
+ * Enumeration of the sides an actor can belong to.
+ */
+public enum Faction {
+    FRIENDLY,
+    ENEMY,
+    NEUTRAL
+}
@@ -0,0 +1,159 @@
+package com.example.demo.model;
+
+/**
+ * A {@link HitShape} placed at a body's position, kept as plain coordinate arrays.
+ * <p>
+ * {@link #update(ActorBody)} recomputes every box from the body once per tick, after the actor has
+ * moved, and also keeps the union of the boxes so most queries can be rejected with one test.
+ * Queries only read the cached coordinates and never allocate.
+ * </p>
+ */
+public class HitBoxes {
+
+    private final HitShape shape;
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+
+    private boolean empty = true;
+    private double boundsMinX;
+    private double boundsMinY;
+    private double boundsMaxX;
+    private double boundsMaxY;
+
+    /**
+     * Constructs hit boxes for a shape. They are empty until first updated.
+     *
+     * @param shape The shape to place.
+     */
+    public HitBoxes(HitShape shape) {
+        this.shape = shape;
+        int count = shape.getBoxCount();
+        this.minX = new double[count];
+        this.minY = new double[count];
+        this.maxX = new double[count];
+        this.maxY = new double[count];
+    }
+
+    /**
+     * Places the boxes at the body's current position and size. A body without an area has no
+     * hit boxes.
+     *
+     * @param body The body the shape belongs to.
+     */
+    public void update(ActorBody body) {
+        empty = !body.hasArea();
+        if (empty) {
+            return;
+        }
+        double x = body.getMinX();
+        double y = body.getMinY();
+        double width = body.getWidth();
+        double height = body.getHeight();
+        boundsMinX = Double.MAX_VALUE;
+        boundsMinY = Double.MAX_VALUE;
+        boundsMaxX = -Double.MAX_VALUE;
+        boundsMaxY = -Double.MAX_VALUE;
+        for (int i = 0; i < minX.length; i++) {
+            minX[i] = x + shape.getLeft(i) * width;
+            minY[i] = y + shape.getTop(i) * height;
+            maxX[i] = x + shape.getRight(i) * width;
+            maxY[i] = y + shape.getBottom(i) * height;
+            boundsMinX = Math.min(boundsMinX, minX[i]);
+            boundsMinY = Math.min(boundsMinY, minY[i]);
+            boundsMaxX = Math.max(boundsMaxX, maxX[i]);
+            boundsMaxY = Math.max(boundsMaxY, maxY[i]);
+        }
+    }
+
+    /**
+     * Determines whether any box overlaps the given box. Edges that touch count as overlapping.
+     *
+     * @param otherMinX The left edge of the box.
+     * @param otherMinY The top edge of the box.
+     * @param otherMaxX The right edge of the box.
+     * @param otherMaxY The bottom edge of the box.
+     * @return true if a hit box overlaps the box.
+     */
+    public boolean intersects(double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+        if (empty || boundsMinX > otherMaxX || boundsMaxX < otherMinX
+                || boundsMinY > otherMaxY || boundsMaxY < otherMinY) {
+            return false;
+        }
+        for (int i = 0; i < minX.length; i++) {
+            if (minX[i] <= otherMaxX && maxX[i] >= otherMinX && minY[i] <= otherMaxY && maxY[i] >= otherMinY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether any box overlaps a body's bounding box.
+     *
+     * @param body The body to test.
+     * @return true if a hit box overlaps the body.
+     */
+    public boolean intersects(ActorBody body) {
+        return body.hasArea() && intersects(body.getMinX(), body.getMinY(), body.getMaxX(), body.getMaxY());
+    }
+
+    /**
+     * @return true if there are no boxes to hit, because the body has no area or was never placed.
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * @return The number of boxes.
+     */
+    public int getCount() {
+        return minX.length;
+    }
+
+    public double getMinX(int box) {
+        return minX[box];
+    }
+
+    public double getMinY(int box) {
+        return minY[box];
+    }
+
+    public double getMaxX(int box) {
+        return maxX[box];
+    }
+
+    public double getMaxY(int box) {
+        return maxY[box];
+    }
+
+    /**
+     * @return The left edge of the union of the boxes.
+     */
+    public double getBoundsMinX() {
+        return boundsMinX;
+    }
+
+    /**
+     * @return The top edge of the union of the boxes.
+     */
+    public double getBoundsMinY() {
+        return boundsMinY;
+    }
+
+    /**
+     * @return The right edge of the union of the boxes.
+     */
+    public double getBoundsMaxX() {
+        return boundsMaxX;
+    }
+
+    /**
+     * @return The bottom edge of the union of the boxes.
+     */
+    public double getBoundsMaxY() {
+        return boundsMaxY;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.model;
+
+import java.util.Arrays;
+
+/**
+ * The shape an actor can be hit in, as one or more boxes placed relative to its body.
+ * <p>
+ * Each box is given by four fractions of the body's width and height: its left, top, right and
+ * bottom edges, measured from the body's top-left corner. Boxes must lie inside the body, so a test
+ * against the body's bounds is always a safe first check. A shape is immutable and can be shared by
+ * every actor of a kind; {@link HitBoxes} places it at a body's current position.
+ * </p>
+ */
+public final class HitShape {
+
+    private static final int VALUES_PER_BOX = 4;
+
+    private final double[] fractions;
+
+    private HitShape(double[] fractions) {
+        this.fractions = fractions;
+    }
+
+    /**
+     * Creates a shape from groups of four fractions, one group per box.
+     *
+     * @param fractions The left, top, right and bottom fractions of each box, in order.
+     * @return The shape.
+     * @throws IllegalArgumentException if there are no boxes, the fractions are not in groups of four,
+     *                                  or a box is empty or reaches outside the body.
+     */
+    public static HitShape of(double... fractions) {
+        if (fractions.length == 0 || fractions.length % VALUES_PER_BOX != 0) {
+            throw new IllegalArgumentException("A hit shape needs four fractions per box: " + fractions.length);
+        }
+        for (int i = 0; i < fractions.length; i += VALUES_PER_BOX) {
+            double left = fractions[i];
+            double top = fractions[i + 1];
+            double right = fractions[i + 2];
+            double bottom = fractions[i + 3];
+            if (left < 0 || top < 0 || right > 1 || bottom > 1 || left >= right || top >= bottom) {
+                throw new IllegalArgumentException("Invalid hit box " + (i / VALUES_PER_BOX) + ": "
+                        + Arrays.toString(Arrays.copyOfRange(fractions, i, i + VALUES_PER_BOX)));
+            }
+        }
+        return new HitShape(fractions.clone());
+    }
+
+    /**
+     * Creates a single-box shape that leaves the given fractions of the body free on each side.
+     *
+     * @param insetX The fraction of the width left out on the left and on the right.
+     * @param insetY The fraction of the height left out at the top and at the bottom.
+     * @return The shape.
+     */
+    public static HitShape inset(double insetX, double insetY) {
+        return of(insetX, insetY, 1 - insetX, 1 - insetY);
+    }
+
+    /**
+     * @return The number of boxes in the shape.
+     */
+    public int getBoxCount() {
+        return fractions.length / VALUES_PER_BOX;
+    }
+
+    double getLeft(int box) {
+        return fractions[box * VALUES_PER_BOX];
+    }
+
+    double getTop(int box) {
+        return fractions[box * VALUES_PER_BOX + 1];
+    }
+
+    double getRight(int box) {
+        return fractions[box * VALUES_PER_BOX + 2];
+    }
+
+    double getBottom(int box) {
+        return fractions[box * VALUES_PER_BOX + 3];
+    }
+}
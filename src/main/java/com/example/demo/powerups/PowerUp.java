@@ -76,7 +76,7 @@ public class PowerUp extends ActiveActorDestructible {
      * @return True if the power-up is out of bounds, false otherwise.
      */
     private boolean isOutOfBounds() {
-        return getTranslateY() > SCREEN_HEIGHT;
+        return getBody().getOffsetY() > SCREEN_HEIGHT;
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.example.demo.powerups;
 
-import javafx.scene.image.Image;
+import com.example.demo.utils.atlas.AtlasSprite;
+import com.example.demo.utils.atlas.SpriteAtlas;
 import javafx.scene.image.ImageView;
 
 /**
@@ -25,10 +26,10 @@ public class ShieldImage extends ImageView {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
 
-		// Safely load the shield image
-		java.net.URL resource = getClass().getResource(IMAGE_NAME);
-		if (resource != null) {
-			this.setImage(new Image(resource.toExternalForm())); // Load the image if resource exists
+		// Safely load the shield image from the shared atlas
+		AtlasSprite sprite = SpriteAtlas.getInstance().getSprite(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE);
+		if (sprite != null) {
+			sprite.applyTo(this);
 		} else {
 			System.err.println("Warning: Shield image resource not found at " + IMAGE_NAME);
 		}
@@ -0,0 +1,98 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent duration samples of one tick phase and reports percentiles over them.
+ * <p>
+ * Samples are stored in a fixed ring buffer, so recording never allocates and old ticks fall out
+ * of the statistics once the window is full. Percentiles are computed on demand from a sorted copy,
+ * which is cheap at the window size and only needed when the statistics are displayed.
+ * </p>
+ */
+public class PhaseHistogram {
+
+    private final long[] samples;
+    private final long[] sorted; // Scratch buffer reused by percentile queries
+    private int next;
+    private int count;
+
+    /**
+     * Constructs an empty histogram.
+     *
+     * @param windowSize The number of most recent samples kept.
+     */
+    public PhaseHistogram(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.samples = new long[windowSize];
+        this.sorted = new long[windowSize];
+    }
+
+    /**
+     * Records a sample, replacing the oldest one once the window is full.
+     *
+     * @param nanos The phase duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * Returns the duration below which the given fraction of the recorded samples fall,
+     * using the nearest-rank method.
+     *
+     * @param fraction The percentile as a fraction between 0 and 1, e.g. 0.99 for p99.
+     * @return The percentile in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long percentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1: " + fraction);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int) Math.ceil(fraction * count);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * @return The longest recorded duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long max() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    /**
+     * @return The most recently recorded duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long last() {
+        return count == 0 ? 0 : samples[(next - 1 + samples.length) % samples.length];
+    }
+
+    /**
+     * @return The number of samples currently in the window.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Discards all recorded samples.
+     */
+    public void reset() {
+        next = 0;
+        count = 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event emitted for every profiled game tick.
+ * <p>
+ * The event is created and committed at the end of the tick, only if Flight Recorder is recording
+ * it, so profiling without a recording allocates nothing. Its {@code tick} field holds the length
+ * of the whole tick and each other field the time spent in one {@link TickPhase}, so a recording
+ * shows which phase made a slow tick slow.
+ * </p>
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Game Loop"})
+@Description("One simulation step of the game loop, broken down by phase")
+@StackTrace(false)
+class TickEvent extends jdk.jfr.Event {
+
+    @Label("Tick")
+    @Timespan
+    long tick;
+
+    @Label("Input")
+    @Timespan
+    long input;
+
+    @Label("Enemy Update")
+    @Timespan
+    long enemyUpdate;
+
+    @Label("Actor Update")
+    @Timespan
+    long actorUpdate;
+
+    @Label("Collisions")
+    @Timespan
+    long collisions;
+
+    @Label("Enemy Fire")
+    @Timespan
+    long enemyFire;
+
+    @Label("Cleanup")
+    @Timespan
+    long cleanup;
+
+    @Label("UI")
+    @Timespan
+    long ui;
+
+    @Label("Game Over Check")
+    @Timespan
+    long gameOverCheck;
+
+    /**
+     * Copies the durations of a tick and its phases into the event fields.
+     *
+     * @param tickNanos  The duration of the whole tick.
+     * @param phaseNanos The duration of each phase, indexed by {@link TickPhase#ordinal()}.
+     */
+    void setDurations(long tickNanos, long[] phaseNanos) {
+        tick = tickNanos;
+        input = phaseNanos[TickPhase.INPUT.ordinal()];
+        enemyUpdate = phaseNanos[TickPhase.ENEMY_UPDATE.ordinal()];
+        actorUpdate = phaseNanos[TickPhase.ACTOR_UPDATE.ordinal()];
+        collisions = phaseNanos[TickPhase.COLLISIONS.ordinal()];
+        enemyFire = phaseNanos[TickPhase.ENEMY_FIRE.ordinal()];
+        cleanup = phaseNanos[TickPhase.CLEANUP.ordinal()];
+        ui = phaseNanos[TickPhase.UI.ordinal()];
+        gameOverCheck = phaseNanos[TickPhase.GAME_OVER_CHECK.ordinal()];
+    }
+}
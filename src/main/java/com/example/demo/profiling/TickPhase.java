@@ -0,0 +1,28 @@
+package com.example.demo.profiling;
+
+/**
+ * Enumeration of the phases run by a level on every game tick, in the order they run.
+ */
+public enum TickPhase {
+    INPUT("Input"),
+    ENEMY_UPDATE("Enemies"),
+    ACTOR_UPDATE("Actors"),
+    COLLISIONS("Collisions"),
+    ENEMY_FIRE("Enemy fire"),
+    CLEANUP("Cleanup"),
+    UI("UI"),
+    GAME_OVER_CHECK("Game over");
+
+    private final String label;
+
+    TickPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return The short name shown for this phase in the profiler overlay.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures how long each {@link TickPhase} of the game tick takes.
+ * <p>
+ * A tick is bracketed by {@link #beginTick()} and {@link #endTick()}, and {@link #mark(TickPhase)}
+ * is called after each phase to attribute the time since the previous mark to that phase.
+ * Durations are kept in a {@link PhaseHistogram} per phase, plus one for the whole tick, and every
+ * tick is also emitted as a {@link TickEvent} when Flight Recorder is recording it.
+ * </p>
+ */
+public class TickProfiler {
+
+    /**
+     * The number of recent ticks the statistics are computed over.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 256;
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final LongSupplier clock;
+    private final PhaseHistogram[] phaseHistograms = new PhaseHistogram[PHASES.length];
+    private final PhaseHistogram tickHistogram;
+    private final long[] currentTick = new long[PHASES.length];
+
+    private boolean enabled = true;
+    private boolean inTick;
+    private long tickStart;
+    private long lastMark;
+
+    /**
+     * Constructs a profiler timed by {@link System#nanoTime()}.
+     */
+    public TickProfiler() {
+        this(System::nanoTime, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a profiler.
+     *
+     * @param clock      The source of nanosecond timestamps.
+     * @param windowSize The number of recent ticks the statistics are computed over.
+     */
+    public TickProfiler(LongSupplier clock, int windowSize) {
+        this.clock = clock;
+        for (TickPhase phase : PHASES) {
+            phaseHistograms[phase.ordinal()] = new PhaseHistogram(windowSize);
+        }
+        this.tickHistogram = new PhaseHistogram(windowSize);
+    }
+
+    /**
+     * Starts timing a tick.
+     */
+    public void beginTick() {
+        if (!enabled) {
+            return;
+        }
+        tickStart = clock.getAsLong();
+        lastMark = tickStart;
+        inTick = true;
+    }
+
+    /**
+     * Attributes the time since the previous mark, or since the tick began, to the given phase.
+     *
+     * @param phase The phase that has just finished.
+     */
+    public void mark(TickPhase phase) {
+        if (!inTick) {
+            return;
+        }
+        long now = clock.getAsLong();
+        currentTick[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Finishes timing the current tick and records its phase durations.
+     */
+    public void endTick() {
+        if (!inTick) {
+            return;
+        }
+        inTick = false;
+        for (int i = 0; i < currentTick.length; i++) {
+            phaseHistograms[i].record(currentTick[i]);
+        }
+        tickHistogram.record(lastMark - tickStart);
+
+        TickEvent event = new TickEvent(); // Never escapes, so the JIT can drop it when not recording
+        if (event.shouldCommit()) {
+            event.setDurations(lastMark - tickStart, currentTick);
+            event.commit();
+        }
+        Arrays.fill(currentTick, 0);
+    }
+
+    /**
+     * Turns profiling on or off. While off, ticks are not timed and no events are emitted.
+     *
+     * @param enabled true to profile ticks, false otherwise.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            inTick = false;
+            Arrays.fill(currentTick, 0);
+        }
+    }
+
+    /**
+     * @return true if ticks are being profiled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param phase The phase to look up.
+     * @return The recent durations of the given phase.
+     */
+    public PhaseHistogram getHistogram(TickPhase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    /**
+     * @return The recent durations of whole ticks.
+     */
+    public PhaseHistogram getTickHistogram() {
+        return tickHistogram;
+    }
+
+    /**
+     * Discards all recorded statistics.
+     */
+    public void reset() {
+        for (PhaseHistogram histogram : phaseHistograms) {
+            histogram.reset();
+        }
+        tickHistogram.reset();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.rendering;
+
+/**
+ * Enumeration of the ways a level can draw its gameplay actors.
+ * <p>
+ * {@link #SCENE_GRAPH} adds every actor to the level's root {@link javafx.scene.Group} as its own node.
+ * {@link #CANVAS} keeps actors out of the scene graph and draws them all onto a single
+ * {@link javafx.scene.canvas.Canvas} with a {@link SpriteBatchRenderer} once per frame.
+ * HUD elements are nodes in both modes.
+ * {@link #HEADLESS} draws nothing: the level is only simulated, without a scene, window or
+ * animations, so it can be stepped by a runner as fast as the simulation allows.
+ * </p>
+ */
+public enum RenderMode {
+    SCENE_GRAPH,
+    CANVAS,
+    HEADLESS
+}
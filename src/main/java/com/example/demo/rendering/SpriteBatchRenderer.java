@@ -0,0 +1,127 @@
+package com.example.demo.rendering;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.ecs.EntityStore;
+import com.example.demo.managers.ActorManager;
+import com.example.demo.managers.EnemyFireManager;
+import com.example.demo.utils.atlas.AtlasSprite;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+
+import java.util.function.Consumer;
+
+/**
+ * Draws every gameplay actor onto one {@link Canvas} in a single pass.
+ * <p>
+ * Used by {@link RenderMode#CANVAS}. Actors are still {@link javafx.scene.image.ImageView}s, but they
+ * are never attached to the scene graph; each frame the canvas is cleared and every visible actor's
+ * image is drawn at the node's current position and size, including any viewport into a shared
+ * image and any effect set on the node. Actors are drawn by category: friendly units, enemy units,
+ * user projectiles, enemy projectiles, then power-ups. The enemy fire entities, which have no
+ * nodes, are drawn with the enemy projectiles from their positions in the entity store.
+ * </p>
+ */
+public class SpriteBatchRenderer {
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final Consumer<ActiveActorDestructible> drawActor = this::draw; // Cached to avoid allocating per frame
+
+    /**
+     * Constructs a renderer with a canvas covering the gameplay area.
+     *
+     * @param width  The width of the canvas.
+     * @param height The height of the canvas.
+     */
+    public SpriteBatchRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.canvas.setMouseTransparent(true);
+        this.graphics = canvas.getGraphicsContext2D();
+    }
+
+    /**
+     * Clears the canvas and draws every actor managed by the given {@link ActorManager}, and the
+     * enemy fire entities.
+     *
+     * @param actorManager     The manager holding the actors to draw.
+     * @param enemyFireManager The manager holding the enemy fire entities to draw.
+     */
+    public void render(ActorManager actorManager, EnemyFireManager enemyFireManager) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        actorManager.forEachFriendlyUnit(drawActor);
+        actorManager.forEachEnemyUnit(drawActor);
+        actorManager.forEachUserProjectile(drawActor);
+        actorManager.forEachEnemyProjectile(drawActor);
+        drawEntities(enemyFireManager);
+        actorManager.forEachPowerUp(drawActor);
+    }
+
+    /**
+     * Draws every enemy fire entity with the projectile sprite, at its interpolated position.
+     *
+     * @param enemyFireManager The manager holding the entities.
+     */
+    private void drawEntities(EnemyFireManager enemyFireManager) {
+        AtlasSprite sprite = enemyFireManager.getSprite();
+        if (sprite == null) {
+            return;
+        }
+        Image image = sprite.getImage();
+        Rectangle2D viewport = sprite.getViewport();
+        double offsetX = enemyFireManager.getRenderOffsetX();
+        EntityStore store = enemyFireManager.getStore();
+        for (int i = 0; i < store.size(); i++) {
+            int id = store.idAt(i);
+            double x = store.getX(id) + offsetX;
+            if (viewport != null) {
+                graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                        x, store.getY(id), store.getWidth(id), store.getHeight(id));
+            } else {
+                graphics.drawImage(image, x, store.getY(id), store.getWidth(id), store.getHeight(id));
+            }
+        }
+    }
+
+    /**
+     * Draws one actor at its node position.
+     *
+     * @param actor The actor to draw.
+     */
+    private void draw(ActiveActorDestructible actor) {
+        Image image = actor.getImage();
+        if (image == null || !actor.isVisible()) {
+            return;
+        }
+        Bounds bounds = actor.getLayoutBounds(); // Fit size, preserving the image's aspect ratio
+        double x = actor.getLayoutX() + actor.getTranslateX() + bounds.getMinX();
+        double y = actor.getLayoutY() + actor.getTranslateY() + bounds.getMinY();
+
+        Effect effect = actor.getEffect();
+        if (effect != null) {
+            graphics.setEffect(effect);
+        }
+        Rectangle2D viewport = actor.getViewport();
+        if (viewport != null) {
+            graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                    x, y, bounds.getWidth(), bounds.getHeight());
+        } else {
+            graphics.drawImage(image, x, y, bounds.getWidth(), bounds.getHeight());
+        }
+        if (effect != null) {
+            graphics.setEffect(null);
+        }
+    }
+
+    /**
+     * Gets the canvas the actors are drawn onto.
+     *
+     * @return The canvas node to place in the scene graph.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.replay;
+
+/**
+ * Enumeration of the player actions read on every game tick.
+ * <p>
+ * The actions held during a tick are packed into a bit mask, one bit per action, which is what
+ * {@link InputRecorder} records and {@link ReplayDriver} plays back.
+ * </p>
+ */
+public enum InputAction {
+    UP,
+    DOWN,
+    LEFT,
+    RIGHT,
+    FIRE;
+
+    /**
+     * @return The bit that represents this action in an input mask.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Checks whether this action is set in an input mask.
+     *
+     * @param input The input mask of a tick.
+     * @return true if the mask contains this action, false otherwise.
+     */
+    public boolean isSetIn(int input) {
+        return (input & mask()) != 0;
+    }
+}
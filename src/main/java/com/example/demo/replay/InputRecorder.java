@@ -0,0 +1,55 @@
+package com.example.demo.replay;
+
+import java.util.Arrays;
+
+/**
+ * Records the input mask of every game tick so the session can be replayed.
+ */
+public class InputRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024; // About 50 seconds of ticks
+
+    private final long seed;
+    private final String startLevel;
+    private byte[] inputs = new byte[INITIAL_CAPACITY];
+    private int tickCount;
+
+    /**
+     * Constructs a recorder for a session.
+     *
+     * @param seed       The session seed the game is running with.
+     * @param startLevel The class name of the level the session starts in.
+     */
+    public InputRecorder(long seed, String startLevel) {
+        this.seed = seed;
+        this.startLevel = startLevel;
+    }
+
+    /**
+     * Records the input of the next tick.
+     *
+     * @param input The bits of the {@link InputAction}s held during the tick.
+     */
+    public void record(int input) {
+        if (tickCount == inputs.length) {
+            inputs = Arrays.copyOf(inputs, inputs.length * 2);
+        }
+        inputs[tickCount++] = (byte) input;
+    }
+
+    /**
+     * @return The number of ticks recorded so far.
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Creates a recording of the ticks recorded so far. Recording may continue afterwards.
+     *
+     * @return The recording.
+     */
+    public InputRecording toRecording() {
+        return new InputRecording(seed, startLevel, Arrays.copyOf(inputs, tickCount));
+    }
+}
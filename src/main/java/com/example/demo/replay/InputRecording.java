@@ -0,0 +1,199 @@
+package com.example.demo.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A recorded play session: the session seed, the level it started in and the input mask of every tick.
+ * <p>
+ * Recordings are stored in a compact binary format. After a short header the inputs are run-length
+ * encoded, since the held keys rarely change from one tick to the next:
+ * </p>
+ * <pre>
+ * int    magic ("CWRP")
+ * byte   format version
+ * long   session seed
+ * UTF    class name of the starting level
+ * int    number of ticks
+ * runs   (byte input mask, varint run length) until every tick is covered
+ * </pre>
+ */
+public final class InputRecording {
+
+    private static final int MAGIC = 0x43575250; // "CWRP"
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final String startLevel;
+    private final byte[] inputs;
+
+    /**
+     * Constructs a recording. The input array is used as is, not copied.
+     *
+     * @param seed       The session seed the recording was made with.
+     * @param startLevel The class name of the level the recording starts in.
+     * @param inputs     The input mask of every tick, in order.
+     */
+    InputRecording(long seed, String startLevel, byte[] inputs) {
+        this.seed = seed;
+        this.startLevel = startLevel;
+        this.inputs = inputs;
+    }
+
+    /**
+     * @return The session seed the recording was made with.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The class name of the level the recording starts in.
+     */
+    public String getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * @return The number of recorded ticks.
+     */
+    public int getTickCount() {
+        return inputs.length;
+    }
+
+    /**
+     * Returns the input mask recorded for a tick.
+     *
+     * @param tick The index of the tick, from 0.
+     * @return The bits of the {@link InputAction}s held during that tick.
+     */
+    public int getInput(int tick) {
+        return inputs[tick] & 0xFF;
+    }
+
+    /**
+     * Writes the recording to a file, replacing any existing file.
+     *
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param path The file to read.
+     * @return The recording stored in the file.
+     * @throws IOException If the file cannot be read or is not a recording.
+     */
+    public static InputRecording load(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return readFrom(in);
+        }
+    }
+
+    /**
+     * Writes the recording to a stream. The stream is flushed but not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        data.writeUTF(startLevel);
+        data.writeInt(inputs.length);
+
+        int tick = 0;
+        while (tick < inputs.length) {
+            int runStart = tick;
+            while (tick < inputs.length && inputs[tick] == inputs[runStart]) {
+                tick++;
+            }
+            data.writeByte(inputs[runStart]);
+            writeVarInt(data, tick - runStart);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param in The stream to read from.
+     * @return The recording read.
+     * @throws IOException If reading fails or the stream does not hold a valid recording.
+     */
+    public static InputRecording readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input recording.");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        long seed = data.readLong();
+        String startLevel = data.readUTF();
+        int tickCount = data.readInt();
+        if (tickCount < 0) {
+            throw new IOException("Invalid tick count: " + tickCount);
+        }
+
+        byte[] inputs = new byte[tickCount];
+        int tick = 0;
+        while (tick < tickCount) {
+            byte input = data.readByte();
+            int runLength = readVarInt(data);
+            if (runLength <= 0 || runLength > tickCount - tick) {
+                throw new IOException("Invalid run length " + runLength + " at tick " + tick);
+            }
+            for (int end = tick + runLength; tick < end; tick++) {
+                inputs[tick] = input;
+            }
+        }
+        return new InputRecording(seed, startLevel, inputs);
+    }
+
+    /**
+     * Writes a non-negative int in 7-bit groups, low group first, so short runs take one byte.
+     */
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt}.
+     */
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed run length.");
+    }
+}
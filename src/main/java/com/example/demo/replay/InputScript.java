@@ -0,0 +1,125 @@
+package com.example.demo.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scripted input pattern, repeated for as many ticks as needed.
+ * <p>
+ * A script is a comma-separated list of steps. Each step names the actions held, joined with
+ * {@code +} ({@code IDLE} for none), and the number of ticks they are held for after a {@code *},
+ * for example {@code UP+FIRE*30,IDLE*10,DOWN+FIRE*30}. A step without a count lasts one tick.
+ * </p>
+ */
+public final class InputScript {
+
+    private static final String IDLE = "IDLE";
+
+    private final int[] inputs;
+    private final int[] durations;
+    private final int cycleLength;
+
+    private InputScript(int[] inputs, int[] durations) {
+        this.inputs = inputs;
+        this.durations = durations;
+        int length = 0;
+        for (int duration : durations) {
+            length += duration;
+        }
+        this.cycleLength = length;
+    }
+
+    /**
+     * Parses a script.
+     *
+     * @param script The script text.
+     * @return The parsed script.
+     * @throws IllegalArgumentException If the script is empty or a step is malformed.
+     */
+    public static InputScript parse(String script) {
+        List<int[]> steps = new ArrayList<>();
+        for (String step : script.split(",")) {
+            step = step.trim();
+            if (step.isEmpty()) {
+                continue;
+            }
+            int star = step.indexOf('*');
+            String actions = star < 0 ? step : step.substring(0, star).trim();
+            int duration = star < 0 ? 1 : parseDuration(step.substring(star + 1).trim(), step);
+            steps.add(new int[] {parseActions(actions, step), duration});
+        }
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Input script has no steps.");
+        }
+
+        int[] inputs = new int[steps.size()];
+        int[] durations = new int[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            inputs[i] = steps.get(i)[0];
+            durations[i] = steps.get(i)[1];
+        }
+        return new InputScript(inputs, durations);
+    }
+
+    /**
+     * @return The number of ticks one pass through the script takes.
+     */
+    public int getCycleLength() {
+        return cycleLength;
+    }
+
+    /**
+     * Creates a recording that repeats the script for the given number of ticks.
+     *
+     * @param seed       The session seed to run with.
+     * @param startLevel The class name of the level to start in.
+     * @param tickCount  The number of ticks to fill.
+     * @return The recording.
+     */
+    public InputRecording toRecording(long seed, String startLevel, int tickCount) {
+        InputRecorder recorder = new InputRecorder(seed, startLevel);
+        int step = 0;
+        int remaining = durations[0];
+        for (int tick = 0; tick < tickCount; tick++) {
+            recorder.record(inputs[step]);
+            if (--remaining == 0) {
+                step = (step + 1) % inputs.length;
+                remaining = durations[step];
+            }
+        }
+        return recorder.toRecording();
+    }
+
+    /**
+     * Parses the actions of a step into an input mask.
+     */
+    private static int parseActions(String actions, String step) {
+        if (actions.equalsIgnoreCase(IDLE)) {
+            return 0;
+        }
+        int input = 0;
+        for (String name : actions.split("\\+")) {
+            try {
+                input |= InputAction.valueOf(name.trim().toUpperCase()).mask();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown action '" + name.trim() + "' in step '" + step + "'");
+            }
+        }
+        return input;
+    }
+
+    /**
+     * Parses the tick count of a step.
+     */
+    private static int parseDuration(String duration, String step) {
+        try {
+            int ticks = Integer.parseInt(duration);
+            if (ticks > 0) {
+                return ticks;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid tick count in step '" + step + "'");
+    }
+}
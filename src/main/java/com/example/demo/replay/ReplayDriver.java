@@ -0,0 +1,66 @@
+package com.example.demo.replay;
+
+/**
+ * Plays a recording back one tick at a time.
+ * <p>
+ * The level's {@link com.example.demo.managers.InputManager} asks the driver for the input of each
+ * tick instead of reading the keyboard. Once the recording runs out, no keys are held.
+ * </p>
+ */
+public class ReplayDriver {
+
+    private final InputRecording recording;
+    private final ReplaySpeed speed;
+    private int tick;
+
+    /**
+     * Constructs a driver that plays a recording from its first tick.
+     *
+     * @param recording The recording to play.
+     * @param speed     The speed to play it at.
+     */
+    public ReplayDriver(InputRecording recording, ReplaySpeed speed) {
+        this.recording = recording;
+        this.speed = speed;
+    }
+
+    /**
+     * Returns the input of the next tick and advances the replay.
+     *
+     * @return The recorded input mask, or 0 once the recording has run out.
+     */
+    public int nextInput() {
+        if (isFinished()) {
+            return 0;
+        }
+        return recording.getInput(tick++);
+    }
+
+    /**
+     * @return true if every recorded tick has been played, false otherwise.
+     */
+    public boolean isFinished() {
+        return tick >= recording.getTickCount();
+    }
+
+    /**
+     * @return The number of ticks played so far.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return The recording being played.
+     */
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * @return The speed the recording is played at.
+     */
+    public ReplaySpeed getSpeed() {
+        return speed;
+    }
+}
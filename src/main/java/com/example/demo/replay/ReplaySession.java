@@ -0,0 +1,189 @@
+package com.example.demo.replay;
+
+import com.example.demo.events.GameEventLog;
+import com.example.demo.managers.GameLoopManager;
+import com.example.demo.utils.GameRandom;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Records or replays the input of a game session.
+ * <p>
+ * A session is set up when the game is launched, from system properties:
+ * {@code -Ddemo.record=<file>} records every tick's input together with the session seed, and
+ * {@code -Ddemo.replay=<file>} plays such a file back instead of reading the keyboard, at the
+ * speed named by {@code -Ddemo.replaySpeed} ({@link ReplaySpeed#REAL_TIME} by default).
+ * Because every random number is drawn from {@link GameRandom}, replaying the inputs with the
+ * recorded seed reproduces the session tick for tick. Starting and finishing a replay and saving a
+ * recording are reported to the {@link GameEventLog}; only failures are printed.
+ * </p>
+ */
+public final class ReplaySession {
+
+    public static final String RECORD_PROPERTY = "demo.record";
+    public static final String REPLAY_PROPERTY = "demo.replay";
+    public static final String REPLAY_SPEED_PROPERTY = "demo.replaySpeed";
+
+    private static ReplaySession instance; // Singleton instance
+
+    private InputRecorder recorder;
+    private Path recordingPath;
+    private ReplayDriver replayDriver;
+    private GameLoopManager.LoopMode liveLoopMode; // Restored when a replay ends
+    private boolean replayEndReported;
+
+    /**
+     * Private constructor to enforce Singleton pattern.
+     */
+    private ReplaySession() {
+    }
+
+    /**
+     * Returns the singleton instance of ReplaySession.
+     *
+     * @return The singleton instance of ReplaySession.
+     */
+    public static synchronized ReplaySession getInstance() {
+        if (instance == null) {
+            instance = new ReplaySession();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts recording or replaying as requested by the system properties. Any previous session
+     * is finished first. Must be called before the first level is constructed, since replaying
+     * changes the session seed.
+     *
+     * @param startLevel The class name of the level the game would start in.
+     * @return The class name of the level to start in, which is the recording's starting level when replaying.
+     */
+    public String begin(String startLevel) {
+        finish();
+        String replayFile = System.getProperty(REPLAY_PROPERTY);
+        if (replayFile != null && !replayFile.isBlank()) {
+            try {
+                InputRecording recording = InputRecording.load(Path.of(replayFile));
+                startReplay(recording, readReplaySpeed());
+                GameEventLog.getInstance().recordReplayStart(recording.getTickCount());
+                return recording.getStartLevel();
+            } catch (IOException e) {
+                System.err.println("Could not load replay '" + replayFile + "': " + e.getMessage());
+            }
+        }
+        String recordFile = System.getProperty(RECORD_PROPERTY);
+        if (recordFile != null && !recordFile.isBlank()) {
+            startRecording(Path.of(recordFile), startLevel);
+        }
+        return startLevel;
+    }
+
+    /**
+     * Starts recording the input of every tick. The recording is written when the session finishes.
+     *
+     * @param path       The file to write the recording to.
+     * @param startLevel The class name of the level the session starts in.
+     */
+    public void startRecording(Path path, String startLevel) {
+        stopReplay();
+        recorder = new InputRecorder(GameRandom.getSessionSeed(), startLevel);
+        recordingPath = path;
+    }
+
+    /**
+     * Starts replaying a recording: restores its session seed and drives the game loop at the
+     * requested speed.
+     *
+     * @param recording The recording to replay.
+     * @param speed     The speed to replay it at.
+     */
+    public void startReplay(InputRecording recording, ReplaySpeed speed) {
+        recorder = null;
+        stopReplay();
+        GameRandom.setSessionSeed(recording.getSeed());
+        GameLoopManager gameLoopManager = GameLoopManager.getInstance();
+        liveLoopMode = gameLoopManager.getLoopMode();
+        gameLoopManager.setLoopMode(speed.getLoopMode());
+        replayDriver = new ReplayDriver(recording, speed);
+        replayEndReported = false;
+    }
+
+    /**
+     * Returns the input to apply for the current tick. While replaying this is the recorded input
+     * and the live input is ignored; while recording the live input is recorded.
+     *
+     * @param liveInput The input mask read from the keyboard.
+     * @return The input mask to apply.
+     */
+    public int nextInput(int liveInput) {
+        if (replayDriver != null) {
+            if (replayDriver.isFinished() && !replayEndReported) {
+                replayEndReported = true;
+                GameEventLog.getInstance().recordReplayEnd(replayDriver.getTick());
+            }
+            return replayDriver.nextInput();
+        }
+        if (recorder != null) {
+            recorder.record(liveInput);
+        }
+        return liveInput;
+    }
+
+    /**
+     * @return true if a recording is being replayed, false otherwise.
+     */
+    public boolean isReplaying() {
+        return replayDriver != null;
+    }
+
+    /**
+     * @return true if input is being recorded, false otherwise.
+     */
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * Ends the session: writes the recording, if one is being made, and stops any replay.
+     */
+    public void finish() {
+        if (recorder != null) {
+            try {
+                recorder.toRecording().save(recordingPath);
+                GameEventLog.getInstance().recordRecordingSaved(recorder.getTickCount());
+            } catch (IOException e) {
+                System.err.println("Could not save recording '" + recordingPath + "': " + e.getMessage());
+            }
+            recorder = null;
+        }
+        stopReplay();
+    }
+
+    /**
+     * Stops any replay and restores the loop mode used for live play.
+     */
+    private void stopReplay() {
+        if (replayDriver != null) {
+            GameLoopManager.getInstance().setLoopMode(liveLoopMode);
+            replayDriver = null;
+        }
+    }
+
+    /**
+     * Reads the replay speed from the {@code demo.replaySpeed} system property.
+     *
+     * @return The speed named by the property, or {@link ReplaySpeed#REAL_TIME} if it is unset or invalid.
+     */
+    private static ReplaySpeed readReplaySpeed() {
+        String value = System.getProperty(REPLAY_SPEED_PROPERTY);
+        if (value != null) {
+            try {
+                return ReplaySpeed.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown replay speed '" + value + "', using " + ReplaySpeed.REAL_TIME);
+            }
+        }
+        return ReplaySpeed.REAL_TIME;
+    }
+}
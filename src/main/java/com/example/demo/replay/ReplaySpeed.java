@@ -0,0 +1,31 @@
+package com.example.demo.replay;
+
+import com.example.demo.managers.GameLoopManager;
+
+/**
+ * Enumeration of the speeds a recording can be replayed at.
+ */
+public enum ReplaySpeed {
+    /**
+     * Ticks run at the normal game rate.
+     */
+    REAL_TIME(GameLoopManager.LoopMode.FIXED_STEP),
+
+    /**
+     * Ticks run back to back, as fast as the simulation allows.
+     */
+    UNTHROTTLED(GameLoopManager.LoopMode.UNTHROTTLED);
+
+    private final GameLoopManager.LoopMode loopMode;
+
+    ReplaySpeed(GameLoopManager.LoopMode loopMode) {
+        this.loopMode = loopMode;
+    }
+
+    /**
+     * @return The loop mode that drives the game at this speed.
+     */
+    public GameLoopManager.LoopMode getLoopMode() {
+        return loopMode;
+    }
+}
@@ -2,7 +2,7 @@ package com.example.demo.screens;
 
 import com.example.demo.sounds.SoundManager;
 import com.example.demo.levels.LevelParent;
-import com.example.demo.levels.LevelOne;
+import com.example.demo.levels.DataDrivenLevel;
 import com.example.demo.levels.LevelTwo;
 import com.example.demo.levels.LevelThree;
 
@@ -25,10 +25,10 @@ public class AudioControlPanel extends HBox {
         this.currentLevel = currentLevel; // Set the current level
 
         // Load images
-        this.musicIcon = new Image(MenuView.getResourceOrThrow("/com/example/demo/images/music.png").toExternalForm());
-        this.unmuteMusicIcon = new Image(MenuView.getResourceOrThrow("/com/example/demo/images/unmutemusic.png").toExternalForm());
-        this.soundIcon = new Image(MenuView.getResourceOrThrow("/com/example/demo/images/speaker.png").toExternalForm());
-        this.unmuteSoundIcon = new Image(MenuView.getResourceOrThrow("/com/example/demo/images/unmuteeffect.png").toExternalForm());
+        this.musicIcon = MenuView.getImageOrThrow("/com/example/demo/images/music.png", 30, 30);
+        this.unmuteMusicIcon = MenuView.getImageOrThrow("/com/example/demo/images/unmutemusic.png", 30, 30);
+        this.soundIcon = MenuView.getImageOrThrow("/com/example/demo/images/speaker.png", 30, 30);
+        this.unmuteSoundIcon = MenuView.getImageOrThrow("/com/example/demo/images/unmuteeffect.png", 30, 30);
 
         // Initialize buttons
         // Declare as local variables inside the constructor
@@ -62,7 +62,7 @@ public class AudioControlPanel extends HBox {
     }
 
     private String getCurrentLevelMusic() {
-        if (currentLevel instanceof LevelOne) return SoundManager.LEVEL_ONE_MUSIC;
+        if (currentLevel instanceof DataDrivenLevel level && level.getPlan().getMusic() != null) return level.getPlan().getMusic();
         if (currentLevel instanceof LevelTwo) return SoundManager.LEVEL_TWO_MUSIC;
         if (currentLevel instanceof LevelThree) return SoundManager.LEVEL_THREE_MUSIC;
         return SoundManager.MENU_MUSIC;
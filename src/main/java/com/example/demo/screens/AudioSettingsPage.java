@@ -13,8 +13,6 @@ import javafx.stage.Stage;
 import javafx.animation.ScaleTransition;
 import javafx.util.Duration;
 
-import java.net.URL;
-
 /**
  * The {@code AudioSettingsPage} class handles the display and functionality of the
  * audio settings overlay, allowing users to mute/unmute background music and sound effects.
@@ -60,7 +58,7 @@ public class AudioSettingsPage {
         title.setStyle("-fx-font-size: 26px; -fx-font-weight: bold; -fx-fill: #34495e; -fx-font-family: 'Verdana';");
 
         // Mute Background Music Button with Icon
-        ImageView musicIcon = new ImageView(soundManager.isBackgroundMusicMuted() ? unmuteMusicImage : new Image(getResourceOrThrow("/com/example/demo/images/music.png").toExternalForm()));
+        ImageView musicIcon = new ImageView(soundManager.isBackgroundMusicMuted() ? unmuteMusicImage : MenuView.getImageOrThrow("/com/example/demo/images/music.png", 30, 30));
         musicIcon.setFitHeight(30);
         musicIcon.setFitWidth(30);
 
@@ -73,7 +71,7 @@ public class AudioSettingsPage {
         addHoverEffect(muteBackgroundMusicButton);
 
         // Mute Sound Effects Button with Icon
-        ImageView speakerIcon = new ImageView(soundManager.isSoundEffectsMuted() ? unmuteSoundImage : new Image(getResourceOrThrow("/com/example/demo/images/speaker.png").toExternalForm()));
+        ImageView speakerIcon = new ImageView(soundManager.isSoundEffectsMuted() ? unmuteSoundImage : MenuView.getImageOrThrow("/com/example/demo/images/speaker.png", 30, 30));
         speakerIcon.setFitHeight(30);
         speakerIcon.setFitWidth(30);
 
@@ -113,7 +111,7 @@ public class AudioSettingsPage {
         if (soundManager.isBackgroundMusicMuted()) {
             soundManager.unmuteBackgroundMusic(SoundManager.MENU_MUSIC);
             button.setText("Mute Background Music");
-            musicIcon.setImage(new Image(getResourceOrThrow("/com/example/demo/images/music.png").toExternalForm()));
+            musicIcon.setImage(MenuView.getImageOrThrow("/com/example/demo/images/music.png", 30, 30));
             soundManager.playBackgroundMusic(SoundManager.MENU_MUSIC);
         } else {
             soundManager.muteBackgroundMusic();
@@ -133,7 +131,7 @@ public class AudioSettingsPage {
         if (soundManager.isSoundEffectsMuted()) {
             soundManager.unmuteSoundEffects();
             button.setText("Mute Sound Effects");
-            speakerIcon.setImage(new Image(getResourceOrThrow("/com/example/demo/images/speaker.png").toExternalForm()));
+            speakerIcon.setImage(MenuView.getImageOrThrow("/com/example/demo/images/speaker.png", 30, 30));
         } else {
             soundManager.muteSoundEffects();
             button.setText("Unmute Sound Effects");
@@ -177,18 +175,4 @@ public class AudioSettingsPage {
             scaleDown.playFromStart(); // Start the "scale down" animation
         });
     }
-
-    /**
-     * Retrieves a resource or throws an exception if not found.
-     *
-     * @param resourcePath the resource path
-     * @return the resource URL
-     */
-    private URL getResourceOrThrow(String resourcePath) {
-        URL resourceUrl = getClass().getResource(resourcePath);
-        if (resourceUrl == null) {
-            throw new IllegalArgumentException("Resource not found: " + resourcePath);
-        }
-        return resourceUrl;
-    }
 }
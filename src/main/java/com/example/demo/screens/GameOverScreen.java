@@ -148,7 +148,7 @@ public class GameOverScreen extends Group {
 	private ImageView loadImageView(String imagePath) {
 		ImageView imageView = new ImageView();
 		try {
-			Image image = new Image(getClass().getResource(imagePath).toExternalForm());
+			Image image = MenuView.getImageOrThrow(imagePath);
 			imageView.setImage(image);
 			imageView.setFitWidth(30); // Set icon width
 			imageView.setFitHeight(30); // Set icon height
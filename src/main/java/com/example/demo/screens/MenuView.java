@@ -1,6 +1,7 @@
 package com.example.demo.screens;
 
 import com.example.demo.sounds.SoundManager;
+import com.example.demo.utils.SpriteCache;
 
 
 import javafx.geometry.Pos;
@@ -40,11 +41,11 @@ public class MenuView {
         this.soundManager = SoundManager.getInstance();
 
         // Preload images
-        this.instructionsImage = new Image(getResourceOrThrow("/com/example/demo/images/instructions.png").toExternalForm());
-        this.settingsImage = new Image(getResourceOrThrow("/com/example/demo/images/settings.png").toExternalForm());
+        this.instructionsImage = getImageOrThrow("/com/example/demo/images/instructions.png", 100, 100);
+        this.settingsImage = getImageOrThrow("/com/example/demo/images/settings.png", 100, 100);
         // In the constructor
-        this.unmuteMusicImage = new Image(getResourceOrThrow("/com/example/demo/images/unmutemusic.png").toExternalForm());
-        this.unmuteSoundImage = new Image(getResourceOrThrow("/com/example/demo/images/unmuteeffect.png").toExternalForm());
+        this.unmuteMusicImage = getImageOrThrow("/com/example/demo/images/unmutemusic.png", 30, 30);
+        this.unmuteSoundImage = getImageOrThrow("/com/example/demo/images/unmuteeffect.png", 30, 30);
     }
 
     /**
@@ -83,7 +84,7 @@ public class MenuView {
      */
     private Button createExitButton() {
         // Load the exit icon
-        ImageView exitIcon = new ImageView(new Image(getResourceOrThrow("/com/example/demo/images/cross.png").toExternalForm()));
+        ImageView exitIcon = new ImageView(getImageOrThrow("/com/example/demo/images/cross.png", 60, 60));
         exitIcon.setFitHeight(60);
         exitIcon.setFitWidth(60);
 
@@ -120,7 +121,7 @@ public class MenuView {
      */
     private StackPane createRootPane() {
         StackPane root = new StackPane();
-        Image backgroundImage = new Image(getResourceOrThrow("/com/example/demo/images/background1.jpeg").toExternalForm());
+        Image backgroundImage = getImageOrThrow("/com/example/demo/images/background1.jpeg");
 
         BackgroundImage background = new BackgroundImage(
                 backgroundImage,
@@ -237,4 +238,35 @@ public class MenuView {
         }
         return resourceUrl;
     }
+
+    /**
+     * Retrieves a shared image from the {@link SpriteCache} or throws an exception if not found.
+     *
+     * @param resourcePath The resource path.
+     * @return The cached image.
+     */
+    public static Image getImageOrThrow(String resourcePath) {
+        Image image = SpriteCache.getInstance().getImage(resourcePath);
+        if (image == null) {
+            throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        }
+        return image;
+    }
+
+    /**
+     * Retrieves a shared image decoded to fit the given size from the {@link SpriteCache},
+     * or throws an exception if not found.
+     *
+     * @param resourcePath The resource path.
+     * @param width        The width the image is displayed at.
+     * @param height       The height the image is displayed at.
+     * @return The cached image.
+     */
+    public static Image getImageOrThrow(String resourcePath, double width, double height) {
+        Image image = SpriteCache.getInstance().getImage(resourcePath, width, height);
+        if (image == null) {
+            throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        }
+        return image;
+    }
 }
@@ -165,6 +165,6 @@ public class PauseScreen {
      * @return The loaded Image instance.
      */
     private Image loadImage(String imagePath) {
-        return new Image(getClass().getResource(imagePath).toExternalForm());
+        return MenuView.getImageOrThrow(imagePath);
     }
 }
@@ -177,10 +177,6 @@ public class WinScreen extends Group {
 	 * @throws IllegalArgumentException if the image cannot be loaded.
 	 */
 	private Image loadImage(String imagePath) {
-		java.net.URL imageUrl = getClass().getResource(imagePath);
-		if (imageUrl == null) {
-			throw new IllegalArgumentException("Image not found: " + imagePath);
-		}
-		return new Image(imageUrl.toExternalForm());
+		return MenuView.getImageOrThrow(imagePath);
 	}
 }
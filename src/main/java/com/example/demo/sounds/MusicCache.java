@@ -0,0 +1,145 @@
+package com.example.demo.sounds;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A small least-recently-used cache of music players that are ready to play, keyed by track path.
+ * <p>
+ * Players are created by the loader outside the cache's lock, so preparing a track on a background
+ * thread never blocks a lookup on the JavaFX application thread. When the cache grows past its
+ * capacity the least recently used players are disposed, skipping any that the owner reports as
+ * still in use, such as the track currently playing or fading out.
+ * </p>
+ *
+ * @param <P> The type of player.
+ */
+class MusicCache<P> {
+
+    private final int capacity;
+    private final Function<String, P> loader;
+    private final Consumer<P> disposer;
+    private final Predicate<P> inUse;
+    private final Map<String, P> players = new LinkedHashMap<>(8, 0.75f, true);
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Constructs a music cache.
+     *
+     * @param capacity The number of players kept; at least 1.
+     * @param loader   Creates the player for a track, returning null if it cannot be loaded.
+     * @param disposer Releases an evicted player.
+     * @param inUse    Tells whether a player is in use and must not be evicted.
+     */
+    MusicCache(int capacity, Function<String, P> loader, Consumer<P> disposer, Predicate<P> inUse) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Music cache must hold at least one player.");
+        }
+        this.capacity = capacity;
+        this.loader = loader;
+        this.disposer = disposer;
+        this.inUse = inUse;
+    }
+
+    /**
+     * Returns the player for a track, loading it on the calling thread if it is not ready.
+     *
+     * @param path The track's resource path.
+     * @return The player, or null if the track cannot be loaded.
+     */
+    P get(String path) {
+        synchronized (this) {
+            P player = players.get(path);
+            if (player != null) {
+                hitCount++;
+                return player;
+            }
+            missCount++;
+        }
+        return load(path);
+    }
+
+    /**
+     * Loads a track if it is not ready yet, marking it as recently used either way.
+     *
+     * @param path The track's resource path.
+     */
+    void prepare(String path) {
+        synchronized (this) {
+            if (players.get(path) != null) {
+                return;
+            }
+        }
+        load(path);
+    }
+
+    /**
+     * Checks whether a track is ready to play without loading.
+     *
+     * @param path The track's resource path.
+     * @return true if the track's player is cached.
+     */
+    synchronized boolean isReady(String path) {
+        return players.containsKey(path);
+    }
+
+    /**
+     * @return The number of cached players.
+     */
+    synchronized int size() {
+        return players.size();
+    }
+
+    /**
+     * @return The number of lookups served by a ready player.
+     */
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return The number of lookups that had to load the track.
+     */
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Loads a track outside the lock and adds it, unless another thread added it first.
+     */
+    private P load(String path) {
+        P loaded = loader.apply(path);
+        if (loaded == null) {
+            return null;
+        }
+        P existing;
+        P result;
+        List<P> evicted = new ArrayList<>();
+        synchronized (this) {
+            existing = players.putIfAbsent(path, loaded);
+            result = existing != null ? existing : loaded;
+            players.get(path); // Mark as most recently used
+            Iterator<Map.Entry<String, P>> eldest = players.entrySet().iterator();
+            while (players.size() > capacity && eldest.hasNext()) {
+                Map.Entry<String, P> entry = eldest.next();
+                if (!entry.getKey().equals(path) && !inUse.test(entry.getValue())) {
+                    evicted.add(entry.getValue());
+                    eldest.remove();
+                }
+            }
+        }
+        if (existing != null) {
+            disposer.accept(loaded); // Lost the race to another thread
+        }
+        evicted.forEach(disposer);
+        return result;
+    }
+}
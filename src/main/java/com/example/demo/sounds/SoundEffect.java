@@ -0,0 +1,177 @@
+package com.example.demo.sounds;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * A sound effect played through a fixed pool of voices.
+ * <p>
+ * Each voice is its own {@link AudioClip}, so the number of copies of the effect that can sound at
+ * once is bounded by the pool size. Triggers arriving sooner than the minimum retrigger interval
+ * after the previous accepted one are dropped, and when every voice is busy the one that started
+ * longest ago is stopped and reused.
+ * </p>
+ * <p>
+ * {@link #tryTrigger()} is called by the game and only decides whether a trigger is accepted;
+ * {@link #playVoice()} starts the sound and is meant to run on the sound-effect thread.
+ * </p>
+ */
+public class SoundEffect {
+
+    /**
+     * A single playable copy of an effect.
+     */
+    interface Voice {
+        void play();
+
+        void stop();
+
+        boolean isPlaying();
+    }
+
+    private final Voice[] voices;
+    private final long[] startTimes;
+    private final long minimumIntervalNanos;
+    private final LongSupplier clock;
+
+    private long lastTriggerTime;
+    private boolean triggered = false;
+    private long droppedCount;
+    private long stolenCount;
+
+    /**
+     * Constructs a sound effect.
+     *
+     * @param voices               The voices the effect is played through; at least one.
+     * @param minimumIntervalNanos The minimum time between two accepted triggers, in nanoseconds.
+     * @param clock                The time source, in nanoseconds.
+     */
+    SoundEffect(List<? extends Voice> voices, long minimumIntervalNanos, LongSupplier clock) {
+        if (voices.isEmpty()) {
+            throw new IllegalArgumentException("A sound effect needs at least one voice.");
+        }
+        this.voices = voices.toArray(new Voice[0]);
+        this.startTimes = new long[this.voices.length];
+        this.minimumIntervalNanos = minimumIntervalNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Loads a sound effect from an audio resource.
+     *
+     * @param resource          The audio resource.
+     * @param voiceCount        The number of voices in the pool.
+     * @param minimumIntervalMs The minimum time between two accepted triggers, in milliseconds.
+     * @param volume            The volume of every voice, between 0 and 1.
+     * @return The loaded sound effect.
+     */
+    public static SoundEffect load(URL resource, int voiceCount, long minimumIntervalMs, double volume) {
+        List<Voice> voices = new ArrayList<>(voiceCount);
+        for (int i = 0; i < voiceCount; i++) {
+            AudioClip clip = new AudioClip(resource.toExternalForm());
+            clip.setVolume(volume);
+            voices.add(new ClipVoice(clip));
+        }
+        return new SoundEffect(voices, minimumIntervalMs * 1_000_000, System::nanoTime);
+    }
+
+    /**
+     * Decides whether a trigger is accepted, rate limiting the effect.
+     *
+     * @return true if the effect should be played, false if the trigger is dropped.
+     */
+    public synchronized boolean tryTrigger() {
+        long now = clock.getAsLong();
+        if (triggered && now - lastTriggerTime < minimumIntervalNanos) {
+            droppedCount++;
+            return false;
+        }
+        triggered = true;
+        lastTriggerTime = now;
+        return true;
+    }
+
+    /**
+     * Plays the effect on an idle voice, or on the voice that started longest ago if all are busy.
+     */
+    public synchronized void playVoice() {
+        int chosen = -1;
+        int oldest = 0;
+        for (int i = 0; i < voices.length; i++) {
+            if (!voices[i].isPlaying()) {
+                chosen = i;
+                break;
+            }
+            if (startTimes[i] < startTimes[oldest]) {
+                oldest = i;
+            }
+        }
+        if (chosen < 0) {
+            chosen = oldest;
+            voices[chosen].stop(); // Steal the voice
+            stolenCount++;
+        }
+        startTimes[chosen] = clock.getAsLong();
+        voices[chosen].play();
+    }
+
+    /**
+     * Stops every voice.
+     */
+    public synchronized void stop() {
+        for (Voice voice : voices) {
+            voice.stop();
+        }
+    }
+
+    /**
+     * @return The number of voices in the pool.
+     */
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    /**
+     * @return The number of triggers dropped by the rate limit.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return The number of times a busy voice was stopped to play the effect again.
+     */
+    public synchronized long getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * A voice backed by its own audio clip.
+     */
+    private static final class ClipVoice implements Voice {
+        private final AudioClip clip;
+
+        private ClipVoice(AudioClip clip) {
+            this.clip = clip;
+        }
+
+        @Override
+        public void play() {
+            clip.play();
+        }
+
+        @Override
+        public void stop() {
+            clip.stop();
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return clip.isPlaying();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.example.demo.sounds;
 
-import javafx.scene.media.AudioClip;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Manages background music and sound effects for the game.
@@ -14,13 +24,44 @@ import java.net.URL;
  * It uses a Singleton pattern to ensure a single instance of the sound manager
  * across the application.
  * </p>
+ * <p>
+ * Sound effects are {@link SoundEffect}s with a small pool of voices and a minimum retrigger
+ * interval, so rapid fire cannot stack up an unbounded number of overlapping sounds. Accepted
+ * triggers are played on a dedicated sound-effect thread rather than the JavaFX application thread.
+ * </p>
+ * <p>
+ * Background music players are kept in a small {@link MusicCache} once loaded, so switching back to
+ * the menu, a level or a result screen reuses a ready player instead of loading the track again.
+ * Tracks can be prepared ahead of time on a dedicated music-loading thread, and switching tracks
+ * fades the old one out while the new one fades in.
+ * </p>
  */
 public class SoundManager {
     private static SoundManager instance; // Singleton instance
-    private MediaPlayer mediaPlayer; // For background music
-    private AudioClip shootingSound; // For shooting sound effect
-    private AudioClip crashSound; // For crash sound effect
+    private volatile MediaPlayer mediaPlayer; // For background music
+    private final Set<MediaPlayer> audiblePlayers = ConcurrentHashMap.newKeySet(); // Playing or fading out
+    private final Map<MediaPlayer, Timeline> fades = new HashMap<>(); // Only used on the JavaFX thread
+    private final MusicCache<MediaPlayer> musicCache =
+            new MusicCache<>(MUSIC_CACHE_CAPACITY, this::createMediaPlayer, MediaPlayer::dispose, audiblePlayers::contains);
+    private final ExecutorService musicExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "music-loader");
+        thread.setDaemon(true); // Never keep the application alive
+        return thread;
+    });
+    private SoundEffect shootingSound; // For shooting sound effect
+    private SoundEffect crashSound; // For crash sound effect
+    private final ExecutorService effectExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sound-effects");
+        thread.setDaemon(true); // Never keep the application alive
+        return thread;
+    });
     private static final double DEFAULT_VOLUME = 0.5; // Default volume (50%)
+    private static final int MUSIC_CACHE_CAPACITY = 5; // Menu, current and next level, game over and win
+    private static final Duration CROSSFADE_DURATION = Duration.millis(600);
+    private static final int SHOOT_VOICES = 4;
+    private static final long SHOOT_MINIMUM_INTERVAL_MS = 60; // About the length of a tap on the fire key
+    private static final int CRASH_VOICES = 3;
+    private static final long CRASH_MINIMUM_INTERVAL_MS = 100;
     private boolean isBackgroundMusicMuted = false;
     private boolean isSoundEffectsMuted = false;
 
@@ -46,7 +87,7 @@ public class SoundManager {
      *
      * @return Singleton instance of SoundManager.
      */
-    public static SoundManager getInstance() {
+    public static synchronized SoundManager getInstance() {
         if (instance == null) {
             instance = new SoundManager();
         }
@@ -57,26 +98,39 @@ public class SoundManager {
      * Initializes sound effects for quick playback.
      */
     private void initializeSoundEffects() {
-        shootingSound = loadAudioClip(SHOOT_SOUND);
-        crashSound = loadAudioClip(CRASH_SOUND);
+        shootingSound = loadSoundEffect(SHOOT_SOUND, SHOOT_VOICES, SHOOT_MINIMUM_INTERVAL_MS);
+        crashSound = loadSoundEffect(CRASH_SOUND, CRASH_VOICES, CRASH_MINIMUM_INTERVAL_MS);
     }
 
     /**
-     * Plays background music from the specified file path.
+     * Plays background music from the specified file path, fading it in over any music that is
+     * fading out. A track that is already playing keeps playing.
      *
      * @param audioFilePath Path to the audio file.
      */
     public void playBackgroundMusic(String audioFilePath) {
         try {
-            stopBackgroundMusic(); // Stop any currently playing music
-            mediaPlayer = createMediaPlayer(audioFilePath);
-            if (mediaPlayer != null) {
-                mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Loop background music
-                mediaPlayer.setVolume(isBackgroundMusicMuted ? 0 : DEFAULT_VOLUME);
-                if (!isBackgroundMusicMuted) {
-                    mediaPlayer.play();
+            MediaPlayer player = musicCache.get(audioFilePath); // Loads here only if it was not prepared
+            if (player == null) {
+                return;
+            }
+            if (player != mediaPlayer) {
+                stopBackgroundMusic(); // Fade out any currently playing music
+                mediaPlayer = player;
+                boolean fadingOut = !audiblePlayers.add(player);
+                player.setCycleCount(MediaPlayer.INDEFINITE); // Loop background music
+                if (fadingOut) {
+                    player.seek(Duration.ZERO); // Restart a track caught while fading out
+                } else {
+                    player.setVolume(0);
                 }
             }
+            if (isBackgroundMusicMuted) {
+                fade(player, 0, null);
+                return;
+            }
+            player.play();
+            fade(player, DEFAULT_VOLUME, null);
         } catch (Exception e) {
             System.err.println("Error playing background music: " + e.getMessage());
         }
@@ -84,13 +138,82 @@ public class SoundManager {
 
 
     /**
-     * Stops the currently playing background music.
+     * Creates the player for the given background music ahead of time, so that a later
+     * {@link #playBackgroundMusic(String)} call for the same file starts without loading it.
+     * Loads on the calling thread, so it is meant to be called from a background thread.
+     *
+     * @param audioFilePath Path to the audio file.
+     */
+    public void prepareBackgroundMusic(String audioFilePath) {
+        musicCache.prepare(audioFilePath);
+    }
+
+    /**
+     * Prepares background music on the music-loading thread and returns immediately.
+     *
+     * @param audioFilePaths Paths to the audio files, in the order they should be loaded.
+     */
+    public void prepareBackgroundMusicAsync(String... audioFilePaths) {
+        for (String audioFilePath : audioFilePaths) {
+            musicExecutor.execute(() -> prepareBackgroundMusic(audioFilePath));
+        }
+    }
+
+    /**
+     * Checks whether the given background music is ready to play without loading.
+     *
+     * @param audioFilePath Path to the audio file.
+     * @return true if the track's player is cached.
+     */
+    public boolean isBackgroundMusicReady(String audioFilePath) {
+        return musicCache.isReady(audioFilePath);
+    }
+
+    /**
+     * Stops the currently playing background music, fading it out. The player stays cached so the
+     * track can be played again without loading it.
      */
     public void stopBackgroundMusic() {
-        if (mediaPlayer != null) {
-            mediaPlayer.stop();
+        MediaPlayer player = mediaPlayer;
+        if (player != null) {
             mediaPlayer = null; // Clear the reference
+            fade(player, 0, () -> {
+                player.stop();
+                audiblePlayers.remove(player);
+            });
+        }
+    }
+
+    /**
+     * Moves a player's volume to the target over the crossfade duration, replacing any fade already
+     * running on it. Off the JavaFX application thread the volume is set at once.
+     *
+     * @param player       The player to fade.
+     * @param targetVolume The volume to reach.
+     * @param onFinished   Run when the target is reached, or null.
+     */
+    private void fade(MediaPlayer player, double targetVolume, Runnable onFinished) {
+        if (!Platform.isFxApplicationThread()) {
+            player.setVolume(targetVolume);
+            if (onFinished != null) {
+                onFinished.run();
+            }
+            return;
+        }
+        Timeline running = fades.remove(player);
+        if (running != null) {
+            running.stop();
         }
+        Timeline timeline = new Timeline(
+                new KeyFrame(CROSSFADE_DURATION, new KeyValue(player.volumeProperty(), targetVolume)));
+        timeline.setOnFinished(e -> {
+            fades.remove(player);
+            if (onFinished != null) {
+                onFinished.run();
+            }
+        });
+        fades.put(player, timeline);
+        timeline.play();
     }
 
     /**
@@ -115,36 +238,44 @@ public class SoundManager {
      * Plays the shooting sound effect if sound effects are not muted.
      */
     public void playShootSound() {
-        if (!isSoundEffectsMuted && shootingSound != null) {
-            shootingSound.play();
-        }
+        playSoundEffect(shootingSound);
     }
 
     /**
      * Plays the crash sound effect if sound effects are not muted.
      */
     public void playCrashSound() {
-        if (!isSoundEffectsMuted && crashSound != null) {
-            crashSound.play();
+        playSoundEffect(crashSound);
+    }
+
+    /**
+     * Plays a sound effect on the sound-effect thread, unless sound effects are muted or the
+     * effect was triggered too recently.
+     *
+     * @param effect The effect to play, or null if it failed to load.
+     */
+    private void playSoundEffect(SoundEffect effect) {
+        if (!isSoundEffectsMuted && effect != null && effect.tryTrigger()) {
+            effectExecutor.execute(effect::playVoice);
         }
     }
 
 
     /**
-     * Loads an audio clip for sound effects.
+     * Loads a sound effect with a pool of voices.
      *
-     * @param filePath Path to the audio file.
-     * @return Loaded AudioClip, or null if loading fails.
+     * @param filePath          Path to the audio file.
+     * @param voices            The number of copies of the effect that may sound at once.
+     * @param minimumIntervalMs The minimum time between two plays of the effect, in milliseconds.
+     * @return Loaded SoundEffect, or null if loading fails.
      */
-    private AudioClip loadAudioClip(String filePath) {
+    private SoundEffect loadSoundEffect(String filePath, int voices, long minimumIntervalMs) {
         try {
             URL resource = getClass().getResource(filePath);
             if (resource == null) {
                 throw new IllegalArgumentException("Audio file not found: " + filePath);
             }
-            AudioClip audioClip = new AudioClip(resource.toExternalForm());
-            audioClip.setVolume(DEFAULT_VOLUME);
-            return audioClip;
+            return SoundEffect.load(resource, voices, minimumIntervalMs, DEFAULT_VOLUME);
         } catch (Exception e) {
             System.err.println("Error loading audio clip: " + filePath + " - " + e.getMessage());
             return null;
@@ -173,17 +304,19 @@ public class SoundManager {
 
     public void muteBackgroundMusic() {
         isBackgroundMusicMuted = true;
-        if (mediaPlayer != null) {
-            mediaPlayer.setVolume(0);
+        MediaPlayer player = mediaPlayer;
+        if (player != null) {
+            fade(player, 0, null);
         }
     }
 
     public void unmuteBackgroundMusic(String currentMusicFile) {
         isBackgroundMusicMuted = false;
-        if (mediaPlayer != null) {
-            mediaPlayer.setVolume(DEFAULT_VOLUME);
-            if (mediaPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
-                mediaPlayer.play();
+        MediaPlayer player = mediaPlayer;
+        if (player != null) {
+            fade(player, DEFAULT_VOLUME, null);
+            if (player.getStatus() != MediaPlayer.Status.PLAYING) {
+                player.play();
             }
         } else {
             playBackgroundMusic(currentMusicFile); // Ensure music starts if not already playing
@@ -0,0 +1,332 @@
+package com.example.demo.tools;
+
+import com.example.demo.levels.DataDrivenLevel;
+import com.example.demo.levels.LevelFactory;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.managers.GameStateManager;
+import com.example.demo.rendering.RenderMode;
+import com.example.demo.replay.InputRecording;
+import com.example.demo.replay.InputScript;
+import com.example.demo.replay.ReplaySession;
+import com.example.demo.replay.ReplaySpeed;
+import com.example.demo.sounds.SoundManager;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.SpriteCache;
+import com.example.demo.utils.atlas.SpriteAtlas;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line tool that simulates levels headless, as fast as possible, and reports throughput.
+ * <p>
+ * Levels are built in {@link RenderMode#HEADLESS} with placeholder sprites, so no window is opened
+ * and the JavaFX toolkit is not started. Ticks are run back to back with
+ * {@link LevelParent#advanceTick()} instead of the game loop, fed by a scripted input pattern or a
+ * recorded session, and the run continues into the next level when one is completed. At the end
+ * the ticks per second, the allocation rate and the final game state are printed.
+ * </p>
+ * <pre>
+ * HeadlessRunner [--level &lt;class|file&gt;] [--ticks &lt;n&gt;] [--seed &lt;n&gt;] [--script &lt;script&gt;]
+ *                [--replay &lt;file&gt;] [--min-tps &lt;n&gt;]
+ * </pre>
+ * <p>
+ * With {@code --min-tps} the tool exits with status 1 when the throughput falls below the given
+ * rate, so it can gate throughput regressions in a build.
+ * </p>
+ */
+public final class HeadlessRunner implements PropertyChangeListener {
+
+    private static final String DEFAULT_LEVEL = LevelFactory.FIRST_LEVEL;
+    private static final String DEFAULT_SCRIPT = "UP+FIRE*30,FIRE*10,DOWN+FIRE*30,RIGHT*5,LEFT*5";
+    private static final int DEFAULT_TICKS = 72_000; // One hour of game time
+    private static final double GAME_SECONDS_PER_TICK = 0.05; // The levels' fixed 50 ms simulation step
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    private LevelParent nextLevel; // Set when the running level is completed
+
+    private HeadlessRunner() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args The options described in the class documentation.
+     */
+    public static void main(String[] args) {
+        Map<String, String> options;
+        InputRecording recording;
+        int ticks;
+        double minimumTicksPerSecond;
+        try {
+            options = parseOptions(args);
+            ticks = Integer.parseInt(options.getOrDefault("ticks", String.valueOf(DEFAULT_TICKS)));
+            minimumTicksPerSecond = Double.parseDouble(options.getOrDefault("min-tps", "0"));
+            if (options.containsKey("replay")) {
+                recording = InputRecording.load(Path.of(options.get("replay")));
+            } else {
+                long seed = options.containsKey("seed") ? Long.parseLong(options.get("seed")) : GameRandom.getSessionSeed();
+                InputScript script = InputScript.parse(options.getOrDefault("script", DEFAULT_SCRIPT));
+                recording = script.toRecording(seed, options.getOrDefault("level", DEFAULT_LEVEL), ticks);
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: HeadlessRunner [--level <class|file>] [--ticks <n>] [--seed <n>] [--script <script>] "
+                    + "[--replay <file>] [--min-tps <n>]");
+            System.exit(2);
+            return;
+        }
+
+        Report report;
+        try {
+            report = run(recording, ticks);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            System.err.println("Could not create level " + recording.getStartLevel() + ": " + e);
+            System.exit(2);
+            return;
+        }
+        System.out.println(report);
+        if (report.getTicksPerSecond() < minimumTicksPerSecond) {
+            System.err.printf("Throughput of %.0f ticks/s is below the required %.0f ticks/s%n",
+                    report.getTicksPerSecond(), minimumTicksPerSecond);
+            System.exit(1);
+        }
+        System.exit(0); // The sound system may have started non-daemon threads
+    }
+
+    /**
+     * Simulates a recorded or scripted session headless, starting from the recording's level and
+     * seed, until the recording runs out, the tick limit is reached, or the game is won or lost.
+     * Render mode, sprite and sound settings changed for the run are restored afterwards.
+     *
+     * @param recording The input to play, one mask per tick.
+     * @param maxTicks  The maximum number of ticks to simulate.
+     * @return The results of the run.
+     * @throws ReflectiveOperationException If the starting level cannot be created.
+     */
+    public static Report run(InputRecording recording, int maxTicks) throws ReflectiveOperationException {
+        String previousRenderMode = System.setProperty(LevelParent.RENDER_MODE_PROPERTY, RenderMode.HEADLESS.name());
+        SpriteCache spriteCache = SpriteCache.getInstance();
+        spriteCache.setPlaceholderImages(true);
+        SoundManager soundManager = SoundManager.getInstance();
+        boolean soundEffectsMuted = soundManager.isSoundEffectsMuted();
+        soundManager.muteSoundEffects();
+        ReplaySession replaySession = ReplaySession.getInstance();
+        replaySession.startReplay(recording, ReplaySpeed.UNTHROTTLED);
+        try {
+            return new HeadlessRunner().simulate(recording.getStartLevel(), Math.min(maxTicks, recording.getTickCount()));
+        } finally {
+            replaySession.finish();
+            if (!soundEffectsMuted) {
+                soundManager.unmuteSoundEffects();
+            }
+            spriteCache.setPlaceholderImages(false);
+            spriteCache.clear(); // Drop the placeholders so they are never drawn
+            SpriteAtlas.getInstance().clear();
+            if (previousRenderMode == null) {
+                System.clearProperty(LevelParent.RENDER_MODE_PROPERTY);
+            } else {
+                System.setProperty(LevelParent.RENDER_MODE_PROPERTY, previousRenderMode);
+            }
+        }
+    }
+
+    /**
+     * Runs the tick loop.
+     *
+     * @param levelName The class name or level file of the level to start in.
+     * @param tickLimit The number of ticks to run at most.
+     * @return The results of the run.
+     * @throws ReflectiveOperationException If the starting level cannot be created.
+     */
+    private Report simulate(String levelName, int tickLimit) throws ReflectiveOperationException {
+        GameStateManager gameStateManager = GameStateManager.getInstance();
+        LevelParent level = startLevel(LevelFactory.create(levelName, SCREEN_HEIGHT, SCREEN_WIDTH));
+        int levelsCompleted = 0;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long[] collectionsBefore = collectionStatistics();
+        long startTime = System.nanoTime();
+
+        int ticks = 0;
+        while (ticks < tickLimit && gameStateManager.isState(GameStateManager.GameState.PLAYING)) {
+            level.advanceTick();
+            ticks++;
+            if (nextLevel != null) {
+                level = startLevel(nextLevel);
+                nextLevel = null;
+                levelsCompleted++;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long[] collectionsAfter = collectionStatistics();
+        return new Report(ticks, elapsedNanos, allocatedBytes,
+                collectionsAfter[0] - collectionsBefore[0], collectionsAfter[1] - collectionsBefore[1],
+                levelName(level), gameStateManager.getState(),
+                level.getKillCount(), level.getUserHealth(), levelsCompleted);
+    }
+
+    /**
+     * Starts a level for stepping and listens for it being completed.
+     */
+    private LevelParent startLevel(LevelParent level) {
+        level.addPropertyChangeListener(this);
+        level.startSimulation();
+        return level;
+    }
+
+    /**
+     * Names a level for the report: a level file by the name in its plan, a level class by its simple name.
+     */
+    private static String levelName(LevelParent level) {
+        return level instanceof DataDrivenLevel dataDrivenLevel ? dataDrivenLevel.getPlan().getName() : level.getClass().getSimpleName();
+    }
+
+    /**
+     * Receives the next level from a completed headless level.
+     *
+     * @param evt The property change carrying the next level.
+     */
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        if (LevelParent.NEXT_LEVEL_PROPERTY.equals(evt.getPropertyName())) {
+            nextLevel = (LevelParent) evt.getNewValue();
+        }
+    }
+
+    /**
+     * @return The total number of garbage collections and the total time spent in them, in milliseconds.
+     */
+    private static long[] collectionStatistics() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[] {count, time};
+    }
+
+    /**
+     * Parses {@code --name value} pairs.
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected an option and its value at '" + args[i] + "'");
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * The results of a headless run.
+     */
+    public static final class Report {
+        private final int ticks;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+        private final long collections;
+        private final long collectionMillis;
+        private final String finalLevel;
+        private final GameStateManager.GameState finalState;
+        private final int killCount;
+        private final int userHealth;
+        private final int levelsCompleted;
+
+        private Report(int ticks, long elapsedNanos, long allocatedBytes, long collections, long collectionMillis,
+                       String finalLevel, GameStateManager.GameState finalState, int killCount, int userHealth,
+                       int levelsCompleted) {
+            this.ticks = ticks;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.collections = collections;
+            this.collectionMillis = collectionMillis;
+            this.finalLevel = finalLevel;
+            this.finalState = finalState;
+            this.killCount = killCount;
+            this.userHealth = userHealth;
+            this.levelsCompleted = levelsCompleted;
+        }
+
+        /**
+         * @return The number of ticks simulated.
+         */
+        public int getTicks() {
+            return ticks;
+        }
+
+        /**
+         * @return The number of ticks simulated per second of wall-clock time.
+         */
+        public double getTicksPerSecond() {
+            return elapsedNanos > 0 ? ticks * 1e9 / elapsedNanos : 0;
+        }
+
+        /**
+         * @return The number of bytes allocated by the simulation thread during the run.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return The name of the level the run ended in: its plan name for a level file, or its simple class name.
+         */
+        public String getFinalLevel() {
+            return finalLevel;
+        }
+
+        /**
+         * @return The game state the run ended in.
+         */
+        public GameStateManager.GameState getFinalState() {
+            return finalState;
+        }
+
+        /**
+         * @return The kill count in the level the run ended in.
+         */
+        public int getKillCount() {
+            return killCount;
+        }
+
+        /**
+         * @return The user's health when the run ended.
+         */
+        public int getUserHealth() {
+            return userHealth;
+        }
+
+        /**
+         * @return The number of levels completed during the run.
+         */
+        public int getLevelsCompleted() {
+            return levelsCompleted;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("Simulated %d ticks (%.0f s of game time) in %.2f s: %.0f ticks/s%n"
+                            + "Allocated %.1f MB (%d bytes/tick, %.1f MB/s), %d collections taking %d ms%n"
+                            + "Final state: %s, %s, %d kills, %d health, %d levels completed",
+                    ticks, ticks * GAME_SECONDS_PER_TICK, seconds, getTicksPerSecond(),
+                    allocatedBytes / 1e6, ticks > 0 ? allocatedBytes / ticks : 0, seconds > 0 ? allocatedBytes / 1e6 / seconds : 0,
+                    collections, collectionMillis,
+                    finalLevel, finalState, killCount, userHealth, levelsCompleted);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.tools;
+
+import com.example.demo.utils.SpriteVariants;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Build-time tool that writes copies of the game's sprites scaled down to the heights they are
+ * displayed at, plus an index of the copies for {@link com.example.demo.utils.SpriteVariants}.
+ * <p>
+ * Run by Maven in the {@code process-classes} phase. Sprites are reduced by repeated halving with
+ * bilinear filtering before the final step, which keeps thin features from aliasing the way a
+ * single large bilinear step would. Heights at or above a sprite's natural height are skipped.
+ * </p>
+ */
+public final class SpritePrescaler {
+
+    private SpritePrescaler() {
+        // Utility class
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args The variant manifest, the source image directory and the output directory.
+     * @throws IOException If an image cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: SpritePrescaler <manifest> <image directory> <output directory>");
+            System.exit(2);
+        }
+        Path manifestPath = Path.of(args[0]);
+        Path imageDirectory = Path.of(args[1]);
+        Path outputDirectory = Path.of(args[2]);
+
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+        }
+        Files.createDirectories(outputDirectory);
+
+        StringBuilder index = new StringBuilder("# Generated by SpritePrescaler: name=naturalWidthxnaturalHeight:height,...\n");
+        int written = 0;
+        int sprites = 0;
+        for (String name : new TreeSet<>(manifest.stringPropertyNames())) {
+            BufferedImage source = readImage(imageDirectory.resolve(name));
+            int[] heights = parseHeights(manifest.getProperty(name));
+            StringBuilder variants = new StringBuilder();
+            for (int height : heights) {
+                if (height >= source.getHeight()) {
+                    continue; // The original is already small enough
+                }
+                BufferedImage scaled = scaleToHeight(source, height);
+                try (OutputStream out = Files.newOutputStream(outputDirectory.resolve(SpriteVariants.variantName(name, height)))) {
+                    ImageIO.write(scaled, "png", out);
+                }
+                variants.append(variants.isEmpty() ? "" : ",").append(height);
+                written++;
+            }
+            if (!variants.isEmpty()) {
+                index.append(name).append('=').append(source.getWidth()).append('x').append(source.getHeight())
+                        .append(':').append(variants).append('\n');
+                sprites++;
+            }
+        }
+
+        Files.writeString(outputDirectory.resolve(SpriteVariants.INDEX_FILE), index, StandardCharsets.UTF_8);
+        System.out.println("SpritePrescaler: wrote " + written + " variants of " + sprites + " sprites to " + outputDirectory);
+    }
+
+    private static BufferedImage readImage(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                throw new IOException("Unsupported image format: " + path);
+            }
+            return image;
+        }
+    }
+
+    private static int[] parseHeights(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Scales an image down to the given height, keeping its aspect ratio.
+     *
+     * @param source The image to scale.
+     * @param height The target height; must be below the source height.
+     * @return The scaled image, with an alpha channel.
+     */
+    static BufferedImage scaleToHeight(BufferedImage source, int height) {
+        int width = Math.max(1, (int) Math.round((double) source.getWidth() * height / source.getHeight()));
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            // Halve until within a factor of two of the target, then take the final step
+            currentWidth = currentWidth / 2 >= width ? currentWidth / 2 : width;
+            currentHeight = currentHeight / 2 >= height ? currentHeight / 2 : height;
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.utils;
+
+import com.example.demo.model.CollisionMask;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of sprite {@link CollisionMask}s.
+ * <p>
+ * A mask is built once per image and display height from the image's alpha channel, read with
+ * ImageIO rather than through the JavaFX decoder. The masks are therefore the same whether sprites
+ * are decoded for display or replaced by placeholders for headless simulation, so collisions do
+ * not depend on how a level is run. Images that cannot be read, or have no opaque pixel, have no
+ * mask and collide by their bounding box.
+ * </p>
+ * <p>
+ * Masks are read from the smallest pre-scaled copy of the sprite listed in {@link SpriteVariants},
+ * like the displayed image, rather than from the full-size original. They are built outside the
+ * cache's lock, so the {@link com.example.demo.levels.LevelPreloader} can build a level's masks in
+ * the background without holding up lookups from the game.
+ * </p>
+ */
+public class CollisionMaskCache {
+
+    private static final int ALPHA_THRESHOLD = 128; // Half-transparent edges count as opaque
+
+    private static CollisionMaskCache instance; // Singleton instance
+
+    private final Map<String, CollisionMask> masks = new HashMap<>(); // Null values mark images without a mask
+    private final SpriteVariants variants;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private CollisionMaskCache() {
+        this(SpriteVariants.load());
+    }
+
+    /**
+     * Constructs a cache reading masks through the given sprite copies.
+     *
+     * @param variants The index of pre-scaled sprite copies.
+     */
+    CollisionMaskCache(SpriteVariants variants) {
+        this.variants = variants;
+    }
+
+    /**
+     * Returns the singleton instance of the CollisionMaskCache.
+     *
+     * @return The singleton instance of CollisionMaskCache.
+     */
+    public static synchronized CollisionMaskCache getInstance() {
+        if (instance == null) {
+            instance = new CollisionMaskCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the mask of an image displayed at the given height with its aspect ratio preserved,
+     * building it on first request.
+     *
+     * @param resourcePath  The absolute classpath location of the image.
+     * @param displayHeight The height the image is displayed at.
+     * @return The mask, or null if the image has none.
+     */
+    public CollisionMask getMask(String resourcePath, int displayHeight) {
+        String key = resourcePath + '@' + displayHeight;
+        synchronized (this) {
+            if (masks.containsKey(key)) {
+                return masks.get(key);
+            }
+        }
+        CollisionMask mask = buildMask(resourcePath, displayHeight);
+        synchronized (this) {
+            masks.putIfAbsent(key, mask); // Keep the first mask if another thread built it meanwhile
+            return masks.get(key);
+        }
+    }
+
+    /**
+     * @return The number of images looked up so far, with or without a mask.
+     */
+    public synchronized int size() {
+        return masks.size();
+    }
+
+    /**
+     * Forgets every mask.
+     */
+    public synchronized void clear() {
+        masks.clear();
+    }
+
+    /**
+     * Finds the image a mask is read from: the pre-scaled copy decoded for the display height, or
+     * the original if there is no such copy.
+     *
+     * @param resourcePath  The absolute classpath location of the image.
+     * @param displayHeight The height the image is displayed at.
+     * @return The image resource, or null if the image does not exist.
+     */
+    URL findSource(String resourcePath, int displayHeight) {
+        URL resource = getClass().getResource(variants.resolve(resourcePath, 0, displayHeight));
+        return resource != null ? resource : getClass().getResource(resourcePath); // Copy missing, use the original
+    }
+
+    /**
+     * Reads an image and scales its alpha channel into a mask.
+     */
+    private CollisionMask buildMask(String resourcePath, int displayHeight) {
+        URL resource = findSource(resourcePath, displayHeight);
+        if (resource == null || displayHeight < 1) {
+            return null;
+        }
+        try {
+            BufferedImage image = ImageIO.read(resource);
+            if (image == null || !image.getColorModel().hasAlpha()) {
+                return null; // Unknown format, or fully opaque so the bounding box is exact
+            }
+            int sourceWidth = image.getWidth();
+            int sourceHeight = image.getHeight();
+            int[] argb = image.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+            int width = Math.max(1, (int) Math.round((double) sourceWidth * displayHeight / sourceHeight));
+            CollisionMask mask = CollisionMask.fromArgb(argb, sourceWidth, sourceHeight, width, displayHeight, ALPHA_THRESHOLD);
+            return mask.isEmpty() ? null : mask;
+        } catch (IOException e) {
+            System.err.println("Could not build collision mask for " + resourcePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
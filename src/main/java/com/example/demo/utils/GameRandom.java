@@ -0,0 +1,178 @@
+package com.example.demo.utils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seedable source of all gameplay randomness.
+ * <p>
+ * Each level draws from its own {@code GameRandom}, seeded from the session seed and the level
+ * name, so a run can be reproduced exactly by starting with the same session seed. Draws are split
+ * into independent {@link Stream}s, one per subsystem, each backed by its own
+ * {@link SplittableRandom}; a subsystem drawing more or fewer numbers does not shift the sequence
+ * seen by the others. Unlike {@link Math#random()}, no generator is shared across threads.
+ * </p>
+ * <p>
+ * The session seed is read from the {@code demo.seed} system property, or chosen at random. The
+ * game writes it to the game event log when a session starts, so a run can be replayed.
+ * Instances are not thread-safe and are meant to be used from the game loop only.
+ * </p>
+ */
+public final class GameRandom {
+
+    /**
+     * The subsystems that draw random numbers, each with its own independent sequence.
+     */
+    public enum Stream {
+        SPAWNING,
+        ENEMY_FIRE,
+        BOSS,
+        POWER_UPS
+    }
+
+    private static final String SEED_PROPERTY = "demo.seed";
+    private static final long LEVEL_SEED_MULTIPLIER = 0x9E3779B97F4A7C15L; // Golden ratio, spreads name hashes
+
+    private static long sessionSeed = readSessionSeed();
+    private static GameRandom current = new GameRandom(sessionSeed);
+
+    private final long seed;
+    private final SplittableRandom[] streams = new SplittableRandom[Stream.values().length];
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed The seed every stream is derived from.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams[stream.ordinal()] = root.split(); // Split in a fixed order so every stream is reproducible
+        }
+    }
+
+    /**
+     * Returns the generator of the level being played.
+     *
+     * @return The current generator.
+     */
+    public static GameRandom current() {
+        return current;
+    }
+
+    /**
+     * Replaces the current generator with one seeded for the given level.
+     *
+     * @param levelName A name identifying the level.
+     * @return The new current generator.
+     */
+    public static GameRandom startLevel(String levelName) {
+        current = new GameRandom(sessionSeed ^ levelName.hashCode() * LEVEL_SEED_MULTIPLIER);
+        return current;
+    }
+
+    /**
+     * Sets the session seed levels derive their generators from, and makes a generator seeded
+     * with it current.
+     *
+     * @param seed The new session seed.
+     */
+    public static void setSessionSeed(long seed) {
+        sessionSeed = seed;
+        current = new GameRandom(seed);
+    }
+
+    /**
+     * @return The seed levels derive their generators from.
+     */
+    public static long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    /**
+     * Reads the session seed from the system property, or picks one at random.
+     *
+     * @return The session seed.
+     */
+    private static long readSessionSeed() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring invalid " + SEED_PROPERTY + " '" + value + "'");
+            }
+        }
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * @return The seed this generator was created with.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns a uniformly distributed value between 0 (inclusive) and 1 (exclusive).
+     *
+     * @param stream The subsystem drawing the value.
+     * @return The next value of the stream.
+     */
+    public double nextDouble(Stream stream) {
+        return streams[stream.ordinal()].nextDouble();
+    }
+
+    /**
+     * Returns a uniformly distributed value between the given bounds.
+     *
+     * @param stream The subsystem drawing the value.
+     * @param origin The least value that can be returned.
+     * @param bound  The upper bound (exclusive); must be greater than the origin.
+     * @return The next value of the stream.
+     */
+    public double nextDouble(Stream stream, double origin, double bound) {
+        return streams[stream.ordinal()].nextDouble(origin, bound);
+    }
+
+    /**
+     * Returns a uniformly distributed value between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param stream The subsystem drawing the value.
+     * @param bound  The upper bound; must be positive.
+     * @return The next value of the stream.
+     */
+    public int nextInt(Stream stream, int bound) {
+        return streams[stream.ordinal()].nextInt(bound);
+    }
+
+    /**
+     * Returns true with the given probability.
+     *
+     * @param stream      The subsystem drawing the value.
+     * @param probability The probability of returning true, between 0 and 1.
+     * @return true if the event happens this time.
+     */
+    public boolean chance(Stream stream, double probability) {
+        return streams[stream.ordinal()].nextDouble() < probability;
+    }
+
+    /**
+     * Shuffles a list in place with the Fisher–Yates algorithm, so the permutation depends only
+     * on the stream and not on the JDK's {@link java.util.Collections#shuffle} implementation.
+     *
+     * @param stream The subsystem drawing the values.
+     * @param list   The list to shuffle.
+     * @param <T>    The element type.
+     */
+    public <T> void shuffle(Stream stream, List<T> list) {
+        SplittableRandom random = streams[stream.ordinal()];
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            if (j != i) {
+                list.set(i, list.set(j, list.get(i)));
+            }
+        }
+    }
+}
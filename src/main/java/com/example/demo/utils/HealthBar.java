@@ -3,6 +3,7 @@ package com.example.demo.utils;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.scene.effect.Glow;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
@@ -125,6 +126,9 @@ public class HealthBar {
      * @param healthPercentage The new health as a percentage (0.0 - 1.0).
      */
     public void animateHealth(double healthPercentage) {
+        if (!Platform.isFxApplicationThread()) {
+            return; // Animations need the JavaFX pulse; a headless simulation only keeps the final width
+        }
         Timeline timeline = new Timeline();
         KeyValue keyValue = new KeyValue(healthBar.widthProperty(), width * healthPercentage);
         KeyFrame keyFrame = new KeyFrame(Duration.millis(300), keyValue);
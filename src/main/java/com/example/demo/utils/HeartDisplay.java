@@ -1,6 +1,8 @@
 package com.example.demo.utils;
 
-import javafx.scene.image.Image;
+import com.example.demo.events.GameEventLog;
+import com.example.demo.utils.atlas.AtlasSprite;
+import com.example.demo.utils.atlas.SpriteAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -67,13 +69,14 @@ public class HeartDisplay {
 	 * @return The ImageView for the heart, or null if the image resource is not found.
 	 */
 	private ImageView createHeartImageView() {
-		java.net.URL imageUrl = getClass().getResource(HEART_IMAGE_NAME);
-		if (imageUrl == null) {
-			System.err.println("Heart image resource not found: " + HEART_IMAGE_NAME);
+		AtlasSprite heartSprite = SpriteAtlas.getInstance().getSprite(HEART_IMAGE_NAME, 0, HEART_HEIGHT);
+		if (heartSprite == null) {
+			GameEventLog.getInstance().warnOnce("Heart image resource not found: " + HEART_IMAGE_NAME);
 			return null; // Return null to skip adding the heart
 		}
 
-		ImageView heart = new ImageView(new Image(imageUrl.toExternalForm()));
+		ImageView heart = new ImageView();
+		heartSprite.applyTo(heart);
 		heart.setFitHeight(HEART_HEIGHT);
 		heart.setPreserveRatio(true);
 		return heart;
@@ -0,0 +1,111 @@
+package com.example.demo.utils;
+
+import com.example.demo.profiling.PhaseHistogram;
+import com.example.demo.profiling.TickPhase;
+import com.example.demo.profiling.TickProfiler;
+import javafx.scene.text.Text;
+
+/**
+ * Represents an on-screen table of tick phase timings.
+ * <p>
+ * Shows the p50, p99 and maximum duration of every {@link TickPhase} and of the whole tick, in
+ * milliseconds, as reported by a {@link TickProfiler}. The overlay is hidden by default and only
+ * refreshes its text every few ticks while visible, so it adds no work to the tick when hidden.
+ * </p>
+ */
+public class ProfilerOverlay {
+
+    private static final int REFRESH_INTERVAL_TICKS = 10; // Refresh twice a second at 20 ticks per second
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Text display; // Text object to show the timings
+    private final StringBuilder text = new StringBuilder();
+    private int ticksSinceRefresh;
+
+    /**
+     * Constructor to initialize the profiler overlay.
+     *
+     * @param x The X-coordinate of the overlay on the screen.
+     * @param y The Y-coordinate of the overlay on the screen.
+     */
+    public ProfilerOverlay(double x, double y) {
+        this.display = createDisplay(x, y);
+    }
+
+    /**
+     * Creates the Text object for displaying the timings.
+     *
+     * @param x The X-coordinate of the overlay on the screen.
+     * @param y The Y-coordinate of the overlay on the screen.
+     * @return A styled, initially hidden Text object.
+     */
+    private Text createDisplay(double x, double y) {
+        Text overlay = new Text();
+        overlay.setX(x);
+        overlay.setY(y);
+        overlay.setStyle("-fx-font-family: monospace; -fx-font-size: 13px; -fx-fill: lime;");
+        overlay.setMouseTransparent(true);
+        overlay.setVisible(false);
+        return overlay;
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        display.setVisible(!display.isVisible());
+        if (display.isVisible()) {
+            display.toFront(); // Stay above actors added since the overlay was created
+            ticksSinceRefresh = REFRESH_INTERVAL_TICKS;
+        }
+    }
+
+    /**
+     * @return true if the overlay is shown.
+     */
+    public boolean isVisible() {
+        return display.isVisible();
+    }
+
+    /**
+     * Called once per tick; refreshes the timings every few ticks while the overlay is shown.
+     *
+     * @param profiler The profiler to read the timings from.
+     */
+    public void update(TickProfiler profiler) {
+        if (!display.isVisible() || ++ticksSinceRefresh < REFRESH_INTERVAL_TICKS) {
+            return;
+        }
+        ticksSinceRefresh = 0;
+
+        text.setLength(0);
+        text.append(String.format("%-11s %6s %6s %6s%n", "ms", "p50", "p99", "max"));
+        for (TickPhase phase : TickPhase.values()) {
+            appendRow(phase.getLabel(), profiler.getHistogram(phase));
+        }
+        appendRow("Tick", profiler.getTickHistogram());
+        display.setText(text.toString());
+    }
+
+    /**
+     * Appends one line of timings to the overlay text.
+     *
+     * @param label     The row label.
+     * @param histogram The durations to summarize.
+     */
+    private void appendRow(String label, PhaseHistogram histogram) {
+        text.append(String.format("%-11s %6.2f %6.2f %6.2f%n", label,
+                histogram.percentile(0.5) / NANOS_PER_MILLI,
+                histogram.percentile(0.99) / NANOS_PER_MILLI,
+                histogram.max() / NANOS_PER_MILLI));
+    }
+
+    /**
+     * Gets the Text object for displaying the timings.
+     *
+     * @return The Text object.
+     */
+    public Text getDisplay() {
+        return display;
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.demo.utils;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide cache of decoded sprite images.
+ * <p>
+ * Images are keyed by their resource path and the size they were requested at, so every
+ * actor of the same type shares a single decoded {@link Image} instead of decoding the
+ * resource again on construction. The cache is bounded and evicts the least recently used
+ * entry once the limit is reached. Hit, miss and eviction counters are kept for diagnostics.
+ * </p>
+ * <p>
+ * Images requested below their natural size are decoded from the smallest pre-scaled copy
+ * listed in the {@link SpriteVariants} index that still covers the requested size.
+ * </p>
+ * <p>
+ * The cache is safe to use from any thread; images are decoded outside the lock so that
+ * background preloading does not stall lookups on the JavaFX application thread.
+ * </p>
+ * <p>
+ * For headless simulation the cache can serve blank placeholder images instead. They have the
+ * size the decoded image would have, read from the image header, so actor bounds and collisions
+ * are unchanged, but nothing is decoded and the JavaFX toolkit does not need to be running.
+ * </p>
+ */
+public class SpriteCache {
+
+    private static final int DEFAULT_MAXIMUM_ENTRIES = 64;
+    private static final double NATURAL_SIZE = 0;
+
+    private static SpriteCache instance; // Singleton instance
+
+    private final Map<SpriteKey, Image> images;
+    private final SpriteVariants variants = SpriteVariants.load();
+    private int maximumEntries = DEFAULT_MAXIMUM_ENTRIES;
+    private volatile boolean placeholderImages = false;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private SpriteCache() {
+        this.images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SpriteKey, Image> eldest) {
+                if (size() > maximumEntries) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the singleton instance of the SpriteCache.
+     *
+     * @return The singleton instance of SpriteCache.
+     */
+    public static synchronized SpriteCache getInstance() {
+        if (instance == null) {
+            instance = new SpriteCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves an image decoded at its natural size.
+     *
+     * @param resourcePath The absolute classpath location of the image.
+     * @return The shared image, or null if the resource does not exist.
+     */
+    public Image getImage(String resourcePath) {
+        return getImage(resourcePath, NATURAL_SIZE, NATURAL_SIZE);
+    }
+
+    /**
+     * Retrieves an image decoded to fit the requested size while preserving its aspect ratio.
+     * A requested dimension of 0 leaves that dimension unconstrained.
+     *
+     * @param resourcePath    The absolute classpath location of the image.
+     * @param requestedWidth  The width to decode the image at, or 0.
+     * @param requestedHeight The height to decode the image at, or 0.
+     * @return The shared image, or null if the resource does not exist.
+     */
+    public Image getImage(String resourcePath, double requestedWidth, double requestedHeight) {
+        SpriteKey key = new SpriteKey(resourcePath, requestedWidth, requestedHeight);
+        synchronized (this) {
+            Image image = images.get(key);
+            if (image != null) {
+                hitCount++;
+                return image;
+            }
+            missCount++;
+        }
+
+        Image image = loadImage(key); // Decoded outside the lock so a preloading thread never blocks the FX thread
+        if (image == null) {
+            return null;
+        }
+        synchronized (this) {
+            Image existing = images.putIfAbsent(key, image);
+            return existing != null ? existing : image; // Another thread may have decoded it first
+        }
+    }
+
+    /**
+     * Decodes the image identified by the given key.
+     *
+     * @param key The cache key describing the resource and requested size.
+     * @return The decoded image, or null if the resource does not exist.
+     */
+    private Image loadImage(SpriteKey key) {
+        URL resource = SpriteCache.class.getResource(variants.resolve(key.resourcePath, key.requestedWidth, key.requestedHeight));
+        if (resource == null) {
+            resource = SpriteCache.class.getResource(key.resourcePath); // Copy missing, fall back to the original
+        }
+        if (resource == null) {
+            return null;
+        }
+        if (placeholderImages) {
+            return createPlaceholder(resource, key.requestedWidth, key.requestedHeight);
+        }
+        return new Image(resource.toExternalForm(), key.requestedWidth, key.requestedHeight, true, true);
+    }
+
+    /**
+     * Creates a blank image of the size the resource would be decoded at.
+     *
+     * @param resource        The image resource.
+     * @param requestedWidth  The width the image is requested at, or 0.
+     * @param requestedHeight The height the image is requested at, or 0.
+     * @return A transparent image of the decoded size.
+     */
+    private static Image createPlaceholder(URL resource, double requestedWidth, double requestedHeight) {
+        int[] size = readImageSize(resource);
+        double width = size != null ? size[0] : Math.max(1, requestedWidth);
+        double height = size != null ? size[1] : Math.max(1, requestedHeight);
+
+        double scale = 1; // Same fit as decoding with the aspect ratio preserved
+        if (requestedWidth > 0 && requestedHeight > 0) {
+            scale = Math.min(requestedWidth / width, requestedHeight / height);
+        } else if (requestedWidth > 0) {
+            scale = requestedWidth / width;
+        } else if (requestedHeight > 0) {
+            scale = requestedHeight / height;
+        }
+        return new WritableImage((int) Math.max(1, Math.round(width * scale)), (int) Math.max(1, Math.round(height * scale)));
+    }
+
+    /**
+     * Reads the pixel size of an image from its header without decoding it.
+     *
+     * @param resource The image resource.
+     * @return The width and height, or null if the format is not recognised.
+     */
+    private static int[] readImageSize(URL resource) {
+        try (InputStream in = resource.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                return new int[] {reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Serves blank images of the decoded size instead of decoding resources, for simulating levels
+     * without the JavaFX toolkit. Only affects images loaded afterwards; use {@link #clear()} to drop
+     * images already cached.
+     *
+     * @param placeholderImages true to serve placeholder images.
+     */
+    public void setPlaceholderImages(boolean placeholderImages) {
+        this.placeholderImages = placeholderImages;
+    }
+
+    /**
+     * Sets the maximum number of images retained by the cache.
+     *
+     * @param maximumEntries The new limit; must be at least 1.
+     */
+    public synchronized void setMaximumEntries(int maximumEntries) {
+        if (maximumEntries < 1) {
+            throw new IllegalArgumentException("Sprite cache must hold at least one entry.");
+        }
+        this.maximumEntries = maximumEntries;
+    }
+
+    /**
+     * Removes every cached image and resets the counters.
+     */
+    public synchronized void clear() {
+        images.clear();
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    /**
+     * @return The number of images currently cached.
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * @return The number of lookups served from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return The number of lookups that required decoding the resource.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return The number of images evicted to stay within the size limit.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Identifies a cached image by resource path and requested size.
+     */
+    private static final class SpriteKey {
+        private final String resourcePath;
+        private final double requestedWidth;
+        private final double requestedHeight;
+
+        private SpriteKey(String resourcePath, double requestedWidth, double requestedHeight) {
+            this.resourcePath = Objects.requireNonNull(resourcePath, "Resource path cannot be null.");
+            this.requestedWidth = requestedWidth;
+            this.requestedHeight = requestedHeight;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SpriteKey key)) {
+                return false;
+            }
+            return resourcePath.equals(key.resourcePath)
+                    && Double.compare(requestedWidth, key.requestedWidth) == 0
+                    && Double.compare(requestedHeight, key.requestedHeight) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourcePath, requestedWidth, requestedHeight);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the pre-scaled sprite copies written by the build, used to decode the smallest copy
+ * of a sprite that still covers the size it is displayed at.
+ * <p>
+ * The index lives next to the copies in {@value #VARIANT_LOCATION}. When it is missing, for example
+ * when running from an IDE without the Maven build, every request resolves to the original image.
+ * </p>
+ */
+public final class SpriteVariants {
+
+    /**
+     * The directory holding the original sprites.
+     */
+    public static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    /**
+     * The directory holding the pre-scaled copies and their index.
+     */
+    public static final String VARIANT_LOCATION = IMAGE_LOCATION + "scaled/";
+
+    /**
+     * The name of the index file inside {@link #VARIANT_LOCATION}.
+     */
+    public static final String INDEX_FILE = "index.properties";
+
+    private static final double ROUNDING_TOLERANCE = 0.5; // A copy half a pixel short is still sharp enough
+
+    private final Map<String, Entry> entries;
+
+    /**
+     * Constructs an index over the given entries.
+     *
+     * @param entries The pre-scaled copies of each sprite, keyed by file name.
+     */
+    SpriteVariants(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the index generated by the build.
+     *
+     * @return The index, or an empty index if the build has not generated one.
+     */
+    public static SpriteVariants load() {
+        Map<String, Entry> entries = new HashMap<>();
+        try (InputStream in = SpriteVariants.class.getResourceAsStream(VARIANT_LOCATION + INDEX_FILE)) {
+            if (in != null) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    parseLine(line, entries);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable sprite variant index: " + e.getMessage());
+            entries.clear();
+        }
+        return new SpriteVariants(entries);
+    }
+
+    /**
+     * Parses one {@code name=naturalWidthxnaturalHeight:height,...} line of the index.
+     */
+    static void parseLine(String line, Map<String, Entry> entries) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+            return;
+        }
+        int equals = line.indexOf('=');
+        int colon = line.indexOf(':', equals);
+        int times = line.indexOf('x', equals);
+        String name = line.substring(0, equals);
+        int naturalWidth = Integer.parseInt(line.substring(equals + 1, times));
+        int naturalHeight = Integer.parseInt(line.substring(times + 1, colon));
+        int[] heights = Arrays.stream(line.substring(colon + 1).split(",")).mapToInt(Integer::parseInt).sorted().toArray();
+        entries.put(name, new Entry(naturalWidth, naturalHeight, heights));
+    }
+
+    /**
+     * Returns the resource to decode for a sprite requested at the given size.
+     *
+     * @param resourcePath    The absolute classpath location of the original image.
+     * @param requestedWidth  The width the image is requested at, or 0.
+     * @param requestedHeight The height the image is requested at, or 0.
+     * @return The location of the smallest sufficient copy, or the original location if there is none.
+     */
+    public String resolve(String resourcePath, double requestedWidth, double requestedHeight) {
+        if (!resourcePath.startsWith(IMAGE_LOCATION)) {
+            return resourcePath;
+        }
+        String name = resourcePath.substring(IMAGE_LOCATION.length());
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return resourcePath;
+        }
+        int height = selectHeight(entry.naturalWidth, entry.naturalHeight, entry.heights, requestedWidth, requestedHeight);
+        return height < 0 ? resourcePath : VARIANT_LOCATION + variantName(name, height);
+    }
+
+    /**
+     * Picks the smallest available height that covers a sprite fitted into the requested size
+     * with its aspect ratio preserved.
+     *
+     * @param naturalWidth    The width of the original image.
+     * @param naturalHeight   The height of the original image.
+     * @param heights         The heights of the available copies, in ascending order.
+     * @param requestedWidth  The width the image is requested at, or 0 if unconstrained.
+     * @param requestedHeight The height the image is requested at, or 0 if unconstrained.
+     * @return The chosen height, or -1 if the original should be used.
+     */
+    static int selectHeight(int naturalWidth, int naturalHeight, int[] heights, double requestedWidth, double requestedHeight) {
+        double scale = Double.POSITIVE_INFINITY;
+        if (requestedWidth > 0) {
+            scale = Math.min(scale, requestedWidth / naturalWidth);
+        }
+        if (requestedHeight > 0) {
+            scale = Math.min(scale, requestedHeight / naturalHeight);
+        }
+        if (scale == Double.POSITIVE_INFINITY || scale >= 1) {
+            return -1; // Natural size or larger
+        }
+        double neededHeight = scale * naturalHeight - ROUNDING_TOLERANCE;
+        for (int height : heights) {
+            if (height >= neededHeight && height < naturalHeight) {
+                return height;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the file name of a sprite copy.
+     *
+     * @param name   The file name of the original sprite.
+     * @param height The height of the copy.
+     * @return The file name of the copy, always a PNG.
+     */
+    public static String variantName(String name, int height) {
+        int dot = name.lastIndexOf('.');
+        String base = dot < 0 ? name : name.substring(0, dot);
+        return base + "-" + height + ".png";
+    }
+
+    /**
+     * The natural size of a sprite and the heights of its copies.
+     */
+    static final class Entry {
+        private final int naturalWidth;
+        private final int naturalHeight;
+        private final int[] heights;
+
+        Entry(int naturalWidth, int naturalHeight, int[] heights) {
+            this.naturalWidth = naturalWidth;
+            this.naturalHeight = naturalHeight;
+            this.heights = heights;
+        }
+    }
+}
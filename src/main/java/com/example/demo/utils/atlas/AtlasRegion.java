@@ -0,0 +1,59 @@
+package com.example.demo.utils.atlas;
+
+/**
+ * A rectangle of pixels allocated inside an atlas texture.
+ */
+public final class AtlasRegion {
+
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    /**
+     * Constructs a region.
+     *
+     * @param x      The left edge of the region in the atlas.
+     * @param y      The top edge of the region in the atlas.
+     * @param width  The width of the region.
+     * @param height The height of the region.
+     */
+    public AtlasRegion(int x, int y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Determines whether this region shares any pixel with another.
+     *
+     * @param other The region to test against.
+     * @return true if the regions overlap, false otherwise.
+     */
+    public boolean overlaps(AtlasRegion other) {
+        return x < other.x + other.width && other.x < x + width
+                && y < other.y + other.height && other.y < y + height;
+    }
+
+    @Override
+    public String toString() {
+        return "AtlasRegion[" + x + ", " + y + ", " + width + "x" + height + "]";
+    }
+}
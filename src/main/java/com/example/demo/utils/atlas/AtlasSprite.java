@@ -0,0 +1,65 @@
+package com.example.demo.utils.atlas;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * A sprite as it should be displayed: the image holding its pixels and, for sprites packed into
+ * an atlas, the viewport selecting them.
+ */
+public final class AtlasSprite {
+
+    private final Image image;
+    private final Rectangle2D viewport;
+
+    /**
+     * Constructs a sprite.
+     *
+     * @param image    The image holding the sprite's pixels.
+     * @param viewport The sprite's rectangle inside the image, or null if the sprite is the whole image.
+     */
+    AtlasSprite(Image image, Rectangle2D viewport) {
+        this.image = image;
+        this.viewport = viewport;
+    }
+
+    /**
+     * Displays this sprite in the given view.
+     *
+     * @param view The view to show the sprite in.
+     */
+    public void applyTo(ImageView view) {
+        view.setImage(image);
+        view.setViewport(viewport);
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public Rectangle2D getViewport() {
+        return viewport;
+    }
+
+    /**
+     * @return The width of the sprite in pixels.
+     */
+    public double getWidth() {
+        return viewport != null ? viewport.getWidth() : image.getWidth();
+    }
+
+    /**
+     * @return The height of the sprite in pixels.
+     */
+    public double getHeight() {
+        return viewport != null ? viewport.getHeight() : image.getHeight();
+    }
+
+    /**
+     * @return true if the sprite is a region of a shared atlas texture.
+     */
+    public boolean isPacked() {
+        return viewport != null;
+    }
+}
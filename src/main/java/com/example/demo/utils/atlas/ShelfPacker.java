@@ -0,0 +1,103 @@
+package com.example.demo.utils.atlas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocates rectangles inside a fixed-size texture, one at a time, using shelf packing.
+ * <p>
+ * The texture is filled with horizontal shelves stacked from the top. A rectangle goes on the
+ * shelf that fits it with the least wasted height; if none does, a new shelf as tall as the
+ * rectangle is opened below the last one. Rectangles are separated by a padding gap so that
+ * filtering at a sprite's edge never samples its neighbour. Allocations are never freed, which
+ * suits a set of sprites that is requested once and then kept for the lifetime of the game.
+ * </p>
+ */
+public class ShelfPacker {
+
+    private final int width;
+    private final int height;
+    private final int padding;
+    private final List<Shelf> shelves = new ArrayList<>();
+    private int usedHeight;
+
+    /**
+     * Constructs an empty packer.
+     *
+     * @param width   The width of the texture.
+     * @param height  The height of the texture.
+     * @param padding The gap left between rectangles.
+     */
+    public ShelfPacker(int width, int height, int padding) {
+        if (width < 1 || height < 1 || padding < 0) {
+            throw new IllegalArgumentException("Invalid packer size: " + width + "x" + height + ", padding " + padding);
+        }
+        this.width = width;
+        this.height = height;
+        this.padding = padding;
+    }
+
+    /**
+     * Allocates a rectangle of the given size.
+     *
+     * @param rectWidth  The width of the rectangle.
+     * @param rectHeight The height of the rectangle.
+     * @return The allocated region, or null if the texture has no room left for it.
+     */
+    public AtlasRegion allocate(int rectWidth, int rectHeight) {
+        if (rectWidth < 1 || rectHeight < 1) {
+            throw new IllegalArgumentException("Invalid rectangle size: " + rectWidth + "x" + rectHeight);
+        }
+        int paddedWidth = rectWidth + padding;
+        int paddedHeight = rectHeight + padding;
+
+        Shelf best = null;
+        for (Shelf shelf : shelves) {
+            if (shelf.height >= paddedHeight && shelf.nextX + paddedWidth <= width + padding
+                    && (best == null || shelf.height < best.height)) {
+                best = shelf;
+            }
+        }
+        if (best == null) {
+            if (paddedWidth > width + padding || usedHeight + paddedHeight > height + padding) {
+                return null;
+            }
+            best = new Shelf(usedHeight, paddedHeight);
+            shelves.add(best);
+            usedHeight += paddedHeight;
+        }
+
+        AtlasRegion region = new AtlasRegion(best.nextX, best.y, rectWidth, rectHeight);
+        best.nextX += paddedWidth;
+        return region;
+    }
+
+    /**
+     * @return The height of the texture covered by shelves so far.
+     */
+    public int getUsedHeight() {
+        return Math.min(usedHeight, height);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * A row of rectangles sharing the same top edge.
+     */
+    private static final class Shelf {
+        private final int y;
+        private final int height;
+        private int nextX;
+
+        private Shelf(int y, int height) {
+            this.y = y;
+            this.height = height;
+        }
+    }
+}
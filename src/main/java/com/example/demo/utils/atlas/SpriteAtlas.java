@@ -0,0 +1,139 @@
+package com.example.demo.utils.atlas;
+
+import com.example.demo.utils.SpriteCache;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Packs sprites into one shared texture as they are first requested.
+ * <p>
+ * Each sprite is decoded once through the {@link SpriteCache} at the size it is displayed at, then
+ * copied into a free region of the atlas allocated by a {@link ShelfPacker}. Every view showing a
+ * packed sprite references the same atlas image and selects its region with a viewport, so the
+ * renderer uploads and binds a single texture for all of them. Sprites larger than
+ * {@value #MAXIMUM_PACKED_SIZE} pixels, or requested once the atlas is full, are returned as
+ * standalone images instead.
+ * </p>
+ */
+public class SpriteAtlas {
+
+    private static final int ATLAS_SIZE = 1024;
+    private static final int MAXIMUM_PACKED_SIZE = 512;
+    private static final int PADDING = 1; // Keeps filtering at sprite edges from sampling neighbours
+    private static final double NATURAL_SIZE = 0;
+
+    private static SpriteAtlas instance; // Singleton instance
+
+    private final Map<String, AtlasSprite> sprites = new HashMap<>();
+    private WritableImage texture; // Created with the first packed sprite
+    private ShelfPacker packer;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private SpriteAtlas() {
+        this.packer = new ShelfPacker(ATLAS_SIZE, ATLAS_SIZE, PADDING);
+    }
+
+    /**
+     * Returns the singleton instance of the SpriteAtlas.
+     *
+     * @return The singleton instance of SpriteAtlas.
+     */
+    public static synchronized SpriteAtlas getInstance() {
+        if (instance == null) {
+            instance = new SpriteAtlas();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves a sprite at its natural size.
+     *
+     * @param resourcePath The absolute classpath location of the image.
+     * @return The sprite, or null if the resource does not exist.
+     */
+    public AtlasSprite getSprite(String resourcePath) {
+        return getSprite(resourcePath, NATURAL_SIZE, NATURAL_SIZE);
+    }
+
+    /**
+     * Retrieves a sprite decoded to fit the requested size while preserving its aspect ratio,
+     * packing it into the atlas on first request.
+     * A requested dimension of 0 leaves that dimension unconstrained.
+     *
+     * @param resourcePath    The absolute classpath location of the image.
+     * @param requestedWidth  The width to decode the image at, or 0.
+     * @param requestedHeight The height to decode the image at, or 0.
+     * @return The sprite, or null if the resource does not exist.
+     */
+    public synchronized AtlasSprite getSprite(String resourcePath, double requestedWidth, double requestedHeight) {
+        String key = resourcePath + '@' + requestedWidth + 'x' + requestedHeight;
+        AtlasSprite sprite = sprites.get(key);
+        if (sprite != null) {
+            return sprite;
+        }
+
+        Image image = SpriteCache.getInstance().getImage(resourcePath, requestedWidth, requestedHeight);
+        if (image == null) {
+            return null;
+        }
+        sprite = pack(image);
+        sprites.put(key, sprite);
+        return sprite;
+    }
+
+    /**
+     * Copies a decoded image into the atlas if it fits.
+     *
+     * @param image The decoded sprite image.
+     * @return The packed sprite, or a standalone sprite if the image cannot be packed.
+     */
+    private AtlasSprite pack(Image image) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        PixelReader pixels = image.getPixelReader();
+        if (width < 1 || height < 1 || width > MAXIMUM_PACKED_SIZE || height > MAXIMUM_PACKED_SIZE || pixels == null) {
+            return new AtlasSprite(image, null);
+        }
+
+        AtlasRegion region = packer.allocate(width, height);
+        if (region == null) {
+            return new AtlasSprite(image, null); // Atlas full
+        }
+        if (texture == null) {
+            texture = new WritableImage(packer.getWidth(), packer.getHeight());
+        }
+        texture.getPixelWriter().setPixels(region.getX(), region.getY(), width, height, pixels, 0, 0);
+        return new AtlasSprite(texture, new Rectangle2D(region.getX(), region.getY(), width, height));
+    }
+
+    /**
+     * @return The number of distinct sprites requested so far, packed or not.
+     */
+    public synchronized int size() {
+        return sprites.size();
+    }
+
+    /**
+     * @return The atlas texture, or null if nothing has been packed yet.
+     */
+    public synchronized Image getTexture() {
+        return texture;
+    }
+
+    /**
+     * Forgets every sprite and starts a new, empty atlas. Views still showing sprites
+     * from the previous atlas keep working, as they hold their own reference to it.
+     */
+    public synchronized void clear() {
+        sprites.clear();
+        texture = null;
+        packer = new ShelfPacker(ATLAS_SIZE, ATLAS_SIZE, PADDING);
+    }
+}
@@ -4,25 +4,46 @@ module com.example.demo {
     requires java.desktop;
     requires javafx.media;
     requires java.logging;
+    requires jdk.jfr;
+    requires jdk.management;
 
     exports com.example.demo.controller;
+    exports com.example.demo.ecs;
+    exports com.example.demo.events;
     exports com.example.demo.actors;
     exports com.example.demo.actors.plane;
     exports com.example.demo.actors.projectile;
     exports com.example.demo.levels;
+    exports com.example.demo.levels.plan;
+    exports com.example.demo.levels.waves;
     exports com.example.demo.powerups;
     exports com.example.demo.sounds;
     exports com.example.demo.utils;
+    exports com.example.demo.utils.atlas;
     exports com.example.demo.managers;
+    exports com.example.demo.managers.collision;
+    exports com.example.demo.model;
+    exports com.example.demo.profiling;
+    exports com.example.demo.rendering;
+    exports com.example.demo.replay;
     exports com.example.demo.screens;
 
     opens com.example.demo.actors to javafx.fxml;
+    opens com.example.demo.events to javafx.fxml;
     opens com.example.demo.actors.plane to javafx.fxml;
     opens com.example.demo.actors.projectile to javafx.fxml;
     opens com.example.demo.levels to javafx.fxml;
+    opens com.example.demo.levels.plan to javafx.fxml;
+    opens com.example.demo.levels.waves to javafx.fxml;
     opens com.example.demo.powerups to javafx.fxml;
     opens com.example.demo.sounds to javafx.fxml;
     opens com.example.demo.utils to javafx.fxml;
+    opens com.example.demo.utils.atlas to javafx.fxml;
     opens com.example.demo.managers to javafx.fxml;
+    opens com.example.demo.managers.collision to javafx.fxml;
+    opens com.example.demo.model to javafx.fxml;
+    opens com.example.demo.profiling to javafx.fxml;
+    opens com.example.demo.rendering to javafx.fxml;
+    opens com.example.demo.replay to javafx.fxml;
     opens com.example.demo.screens to javafx.fxml;
 }
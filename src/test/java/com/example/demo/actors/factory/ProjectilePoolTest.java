@@ -0,0 +1,63 @@
+package com.example.demo.actors.factory;
+
+import com.example.demo.JavaFXInitializer;
+import com.example.demo.actors.projectile.Projectile;
+import com.example.demo.actors.projectile.UserProjectile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolTest {
+
+    private ProjectilePool pool;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize(); // Ensure JavaFX is initialized
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ProjectilePool();
+    }
+
+    @Test
+    void releasedProjectileIsReusedAndReset() {
+        Projectile projectile = pool.acquire(ProjectileFactory.ProjectileType.USER, 10, 20);
+        projectile.updateActor();
+        projectile.setVisible(false);
+        projectile.destroy();
+        pool.release(projectile);
+
+        Projectile reused = pool.acquire(ProjectileFactory.ProjectileType.USER, 30, 40);
+
+        assertSame(projectile, reused, "Released projectile should be handed out again.");
+        assertFalse(reused.isDestroyed(), "Reused projectile should no longer be destroyed.");
+        assertTrue(reused.isVisible(), "Reused projectile should be visible.");
+        assertEquals(0, reused.getTranslateX(), "Reused projectile translation should be cleared.");
+        assertEquals(30, reused.getLayoutX(), "Reused projectile should start at the new X position.");
+        assertEquals(40, reused.getLayoutY(), "Reused projectile should start at the new Y position.");
+        assertEquals(1, pool.getReusedCount(ProjectileFactory.ProjectileType.USER), "Reuse should be counted.");
+    }
+
+    @Test
+    void emptyFreeListCountsAsExhausted() {
+        pool.acquire(ProjectileFactory.ProjectileType.ENEMY, 0, 0);
+        pool.acquire(ProjectileFactory.ProjectileType.ENEMY, 0, 0);
+
+        assertEquals(2, pool.getExhaustedCount(ProjectileFactory.ProjectileType.ENEMY), "Each allocation should count as exhaustion.");
+        assertEquals(2, pool.getCreatedCount(ProjectileFactory.ProjectileType.ENEMY), "Each allocation should be counted.");
+    }
+
+    @Test
+    void releaseBeyondCapacityIsDiscarded() {
+        pool.setCapacity(ProjectileFactory.ProjectileType.USER, 1);
+        pool.release(new UserProjectile(0, 0));
+        pool.release(new UserProjectile(0, 0));
+
+        assertEquals(1, pool.getAvailableCount(ProjectileFactory.ProjectileType.USER), "Free list should respect its capacity.");
+        assertEquals(1, pool.getDiscardedCount(ProjectileFactory.ProjectileType.USER), "Overflowing release should be discarded.");
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.actors.plane;
 
 import com.example.demo.JavaFXInitializer;
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.model.HitShape;
 import javafx.application.Platform;
 import javafx.geometry.Bounds;
 import javafx.scene.shape.Rectangle;
@@ -142,6 +143,42 @@ class BossPlaneTest {
         latch.await(); // Wait for JavaFX thread to complete
     }
 
+    @Test
+    void bodyHasTheSpriteSize() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            assertEquals(400, bossPlane.getBody().getWidth(), 1e-9, "The 800x600 sprite is shown 300 pixels high.");
+            assertEquals(300, bossPlane.getBody().getHeight(), 1e-9);
+
+            bossPlane.setSprite("/com/example/demo/images/jetplane.png", 500, 300);
+            assertEquals(300, bossPlane.getBody().getWidth(), 1e-9, "The square sprite is fitted into the 500x300 box.");
+            assertEquals(300, bossPlane.getBody().getHeight(), 1e-9);
+            assertEquals(300, bossPlane.getCollisionMask().getWidth(), "The mask should be rebuilt for the new sprite.");
+
+            bossPlane.setSprite("/com/example/demo/images/missing.png", 100, 100);
+            assertEquals(300, bossPlane.getBody().getWidth(), 1e-9, "A missing sprite should leave the body as it was.");
+            latch.countDown();
+        });
+        latch.await(); // Wait for JavaFX thread to complete
+    }
+
+    @Test
+    void hitShapeIsReplacedWithTheSprite() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            bossPlane.setSprite("/com/example/demo/images/jetplane.png", 500, 300);
+            assertNull(bossPlane.getHitBoxes(), "A sprite without a hit shape should be hit anywhere in its body.");
+            assertEquals(300, bossPlane.getCustomHitbox().getWidth(), 1e-9);
+
+            bossPlane.setSprite("/com/example/demo/images/jetplane.png", 500, 300, HitShape.inset(0.1, 0.2));
+            Bounds hitbox = bossPlane.getCustomHitbox();
+            assertEquals(240, hitbox.getWidth(), 1e-9, "The new shape should be scaled to the new body.");
+            assertEquals(180, hitbox.getHeight(), 1e-9);
+            latch.countDown();
+        });
+        latch.await(); // Wait for JavaFX thread to complete
+    }
+
     @Test
     void getHealthBarBackground() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,94 @@
+package com.example.demo.ecs;
+
+import com.example.demo.model.Faction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityStoreTest {
+
+    @Test
+    void newEntityHasDefaultComponents() {
+        EntityStore store = new EntityStore();
+        int id = store.create(10, 20, 30, 40);
+
+        assertEquals(10, store.getX(id));
+        assertEquals(20, store.getY(id));
+        assertEquals(30, store.getWidth(id));
+        assertEquals(40, store.getHeight(id));
+        assertEquals(Faction.NEUTRAL, store.getFaction(id));
+        assertEquals(0, store.getHealth(id));
+        assertFalse(store.isDestroyed(id));
+    }
+
+    @Test
+    void removalCompactsAndKeepsOrder() {
+        EntityStore store = new EntityStore();
+        int first = store.create(1, 0, 1, 1);
+        int second = store.create(2, 0, 1, 1);
+        int third = store.create(3, 0, 1, 1);
+        List<Integer> removed = new ArrayList<>();
+        store.setRemovalListener(removed::add);
+
+        store.destroy(second);
+        assertTrue(store.contains(second), "A destroyed entity should stay until the end of the tick.");
+        assertEquals(1, store.removeDestroyed());
+
+        assertEquals(List.of(second), removed);
+        assertEquals(2, store.size());
+        assertFalse(store.contains(second));
+        assertEquals(0, store.indexOf(first));
+        assertEquals(1, store.indexOf(third));
+        assertEquals(3, store.getX(third), "Components should move with the entity.");
+    }
+
+    @Test
+    void reusedSlotGetsANewId() {
+        EntityStore store = new EntityStore();
+        int old = store.create(0, 0, 1, 1);
+        store.destroy(old);
+        store.removeDestroyed();
+
+        int reused = store.create(5, 5, 1, 1);
+
+        assertEquals(EntityStore.slotOf(old), EntityStore.slotOf(reused));
+        assertNotEquals(old, reused);
+        assertFalse(store.contains(old), "A stale id should not reach the entity reusing its slot.");
+        assertThrows(IllegalArgumentException.class, () -> store.getX(old));
+    }
+
+    @Test
+    void idsAreNeverReusedWhenASlotRunsOutOfGenerations() {
+        EntityStore store = new EntityStore(1);
+        int first = store.create(0, 0, 1, 1);
+        Set<Integer> ids = new HashSet<>(List.of(first));
+        for (int i = 0; i < 5000; i++) {
+            store.destroy(store.idAt(0));
+            store.removeDestroyed();
+            assertTrue(ids.add(store.create(i, 0, 1, 1)), "Every id should be new, however often its slot was reused.");
+        }
+
+        assertFalse(store.contains(first));
+        assertTrue(store.idAt(0) > 0);
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        EntityStore store = new EntityStore(2);
+        int[] ids = new int[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = store.create(i, 0, 1, 1);
+            store.setHealth(ids[i], i);
+        }
+
+        assertEquals(1000, store.size());
+        assertTrue(store.capacity() >= 1000);
+        assertEquals(999, store.getX(ids[999]));
+        assertEquals(500, store.getHealth(ids[500]));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.ecs;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldTest {
+
+    private static final int ENEMY = 1;
+
+    @Test
+    void movementAndBoundsRemoveEntitiesLeavingTheWorld() {
+        World world = new World().addSystem(new MovementSystem()).addSystem(new LifetimeSystem(0, 0, 100, 100));
+        EntityStore store = world.getStore();
+        int leaving = store.create(5, 50, 10, 10);
+        store.setVelocity(leaving, -6, 0);
+        int staying = store.create(50, 50, 10, 10);
+        store.setVelocity(staying, 1, 1);
+
+        for (int i = 0; i < 3; i++) {
+            world.tick();
+        }
+
+        assertFalse(store.contains(leaving));
+        assertEquals(53, store.getX(staying));
+        assertEquals(53, store.getY(staying));
+    }
+
+    @Test
+    void lifetimeRunsOut() {
+        World world = new World().addSystem(new LifetimeSystem(0, 0, 100, 100));
+        int id = world.getStore().create(50, 50, 1, 1);
+        world.getStore().setLifetime(id, 2);
+
+        world.tick();
+        assertTrue(world.getStore().contains(id));
+        world.tick();
+        assertFalse(world.getStore().contains(id));
+    }
+
+    @Test
+    void scalesToTensOfThousandsOfEntities() {
+        World world = new World()
+                .addSystem(new MovementSystem())
+                .addSystem(new LifetimeSystem(0, 0, 1300, 750));
+        EntityStore store = world.getStore();
+        for (int i = 0; i < 20_000; i++) {
+            int id = store.create((i * 37) % 1300, (i * 53) % 750, 8, 8);
+            store.setVelocity(id, i % 2 == 0 ? 3 : -3, 0);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            world.tick();
+        }
+
+        assertTrue(store.size() < 20_000, "Departing entities should have been removed.");
+    }
+
+    @Test
+    void systemsRunInOrderAndDestroyedEntitiesAreRemovedAfterThem() {
+        World world = new World()
+                .addSystem(new MovementSystem())
+                .addSystem(entities -> {
+                    for (int i = 0; i < entities.size(); i++) {
+                        if (entities.getX(entities.idAt(i)) < 50) {
+                            entities.destroy(entities.idAt(i));
+                        }
+                    }
+                });
+        EntityStore store = world.getStore();
+        int crossing = store.create(52, 0, 1, 1);
+        store.setVelocity(crossing, -5, 0);
+
+        world.tick();
+
+        assertFalse(store.contains(crossing), "The second system should see the first system's movement.");
+    }
+
+    @Test
+    void renderSystemKeepsNodesInStepWithEntities() {
+        EntityStore store = new EntityStore();
+        Group root = new Group();
+        RenderSyncSystem render = new RenderSyncSystem(store, root, kind -> kind == ENEMY ? new Rectangle(10, 10) : null);
+        World world = new World(store).addSystem(new MovementSystem()).addRenderSystem(render);
+        int enemy = store.create(100, 50, 10, 10);
+        store.setKind(enemy, ENEMY);
+        store.setVelocity(enemy, -5, 0);
+        store.create(0, 0, 1, 1); // Kind 0 is not drawn
+
+        world.tick();
+        world.render();
+
+        assertEquals(1, root.getChildren().size());
+        assertEquals(95, root.getChildren().get(0).getLayoutX());
+
+        Node node = root.getChildren().get(0);
+        store.destroy(enemy);
+        world.tick();
+        world.render();
+
+        assertFalse(node.isVisible(), "The node of a removed entity should be hidden.");
+        assertEquals(0, render.getNodeCount());
+        assertEquals(1, render.getFreeNodeCount());
+
+        int next = store.create(40, 30, 10, 10);
+        store.setKind(next, ENEMY);
+        world.render();
+
+        assertEquals(1, root.getChildren().size(), "A new entity should reuse the free node.");
+        assertSame(node, root.getChildren().get(0));
+        assertTrue(node.isVisible());
+        assertEquals(40, node.getLayoutX());
+        assertEquals(0, render.getFreeNodeCount());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingTest {
+
+    @Test
+    void eventsAreDrainedInOrder() {
+        EventRing ring = new EventRing(8);
+        ring.offer(10, GameEventType.KILL, 1, 0);
+        ring.offer(20, GameEventType.DAMAGE, 0, 4);
+
+        List<String> drained = new ArrayList<>();
+        int count = ring.drain((time, type, first, second) -> drained.add(time + " " + type + " " + first + " " + second), 10);
+
+        assertEquals(2, count);
+        assertEquals(List.of("10 KILL 1 0", "20 DAMAGE 0 4"), drained);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void fullRingDropsNewEvents() {
+        EventRing ring = new EventRing(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i, GameEventType.SPAWN, 1, i));
+        }
+
+        assertFalse(ring.offer(4, GameEventType.SPAWN, 1, 4), "A full ring should reject the event.");
+        ring.drain((time, type, first, second) -> { }, 1);
+        assertTrue(ring.offer(4, GameEventType.SPAWN, 1, 4), "A drained slot should be reusable.");
+    }
+
+    @Test
+    void drainRespectsMaximumCount() {
+        EventRing ring = new EventRing(8);
+        for (int i = 0; i < 5; i++) {
+            ring.offer(i, GameEventType.KILL, i, 0);
+        }
+
+        assertEquals(3, ring.drain((time, type, first, second) -> { }, 3));
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    void eventsSurviveWrapAround() {
+        EventRing ring = new EventRing(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ring.offer(i, GameEventType.KILL, i, 0);
+            ring.drain((time, type, first, second) -> drained.add(first), 4);
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drained);
+    }
+
+    @Test
+    void consumerThreadSeesEveryEventInOrder() throws InterruptedException {
+        EventRing ring = new EventRing(64);
+        int total = 100_000;
+        long[] received = new long[1];
+        boolean[] ordered = {true};
+        Thread consumer = new Thread(() -> {
+            while (received[0] < total) {
+                ring.drain((time, type, first, second) -> {
+                    if (first != received[0]) {
+                        ordered[0] = false;
+                    }
+                    received[0]++;
+                }, 32);
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < total; i++) {
+            while (!ring.offer(i, GameEventType.KILL, i, 0)) {
+                Thread.onSpinWait();
+            }
+        }
+        consumer.join(10_000);
+
+        assertEquals(total, received[0], "Every event should reach the consumer.");
+        assertTrue(ordered[0], "Events should arrive in the order they were offered.");
+    }
+
+    @Test
+    void capacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRing(6));
+    }
+}
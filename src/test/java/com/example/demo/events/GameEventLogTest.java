@@ -0,0 +1,118 @@
+package com.example.demo.events;
+
+import com.example.demo.managers.GameStateManager;
+import com.example.demo.model.Faction;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventLogTest {
+
+    private long now = 0;
+
+    @Test
+    void eventsAreWrittenAsJsonLines() {
+        StringWriter output = new StringWriter();
+        GameEventLog log = new GameEventLog(output, null, 16, () -> now);
+
+        now = 1_500_000;
+        log.recordKill(3);
+        now = 2_000_000;
+        log.recordDamage(Faction.FRIENDLY, 4);
+        log.recordStateChange(GameStateManager.GameState.PLAYING, GameStateManager.GameState.GAME_OVER);
+        log.drainAll();
+
+        assertEquals("""
+                {"t":1500,"type":"KILL","kills":3}
+                {"t":2000,"type":"DAMAGE","faction":"FRIENDLY","health":4}
+                {"t":2000,"type":"STATE_CHANGE","from":"PLAYING","to":"GAME_OVER"}
+                """, output.toString());
+    }
+
+    @Test
+    void enumValuesAreWrittenByName() {
+        StringBuilder json = new StringBuilder();
+        GameEventLog.appendJson(json, 0, GameEventType.POWER_UP, GameEventLog.PowerUpKind.SPREADSHOT.ordinal(), 0);
+        assertEquals("{\"t\":0,\"type\":\"POWER_UP\",\"powerUp\":\"SPREADSHOT\"}", json.toString());
+
+        json.setLength(0);
+        GameEventLog.appendJson(json, 0, GameEventType.STATE_CHANGE, -1, 0);
+        assertEquals("{\"t\":0,\"type\":\"STATE_CHANGE\",\"from\":null,\"to\":\"PLAYING\"}", json.toString());
+    }
+
+    @Test
+    void sessionSeedIsWrittenWhole() {
+        StringWriter output = new StringWriter();
+        GameEventLog log = new GameEventLog(output, null, 16, () -> now);
+
+        log.recordSessionStart(-6_017_244_209_431_522_513L);
+        log.recordSessionStart(42);
+        log.recordReplayStart(1200);
+        log.drainAll();
+
+        assertEquals("""
+                {"t":0,"type":"SESSION_START","seed":-6017244209431522513}
+                {"t":0,"type":"SESSION_START","seed":42}
+                {"t":0,"type":"REPLAY_START","ticks":1200}
+                """, output.toString());
+    }
+
+    @Test
+    void warningsArePrintedOnceToTheConsole() {
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        GameEventLog log = new GameEventLog(null, new PrintStream(console, true), 16, () -> now);
+
+        log.warnOnce("Image resource not found: /a.png");
+        log.warnOnce("Image resource not found: /a.png");
+        log.warnOnce("Image resource not found: /b.png");
+
+        assertEquals(String.format("WARN Image resource not found: /a.png%n"
+                + "WARN Image resource not found: /b.png%n"), console.toString());
+    }
+
+    @Test
+    void warningsAreSilentWithoutConsole() {
+        GameEventLog log = new GameEventLog(new StringWriter(), null, 16, () -> now);
+
+        assertDoesNotThrow(() -> log.warnOnce("Image resource not found: /a.png"));
+    }
+
+    @Test
+    void disabledLogIgnoresEvents() {
+        GameEventLog log = new GameEventLog(null, null, 16, () -> now);
+
+        assertFalse(log.isEnabled());
+        assertDoesNotThrow(() -> log.recordKill(1));
+        assertEquals(0, log.getDroppedCount());
+    }
+
+    @Test
+    void eventsBeyondCapacityAreCounted() {
+        StringWriter output = new StringWriter();
+        GameEventLog log = new GameEventLog(output, null, 2, () -> now);
+
+        for (int i = 1; i <= 5; i++) {
+            log.recordKill(i);
+        }
+        log.drainAll();
+
+        assertEquals(3, log.getDroppedCount());
+        assertEquals(2, output.toString().lines().count());
+    }
+
+    @Test
+    void closedLogIgnoresLaterEvents() {
+        StringWriter output = new StringWriter();
+        GameEventLog log = new GameEventLog(output, null, 16, () -> now);
+
+        log.recordKill(1);
+        log.close();
+        log.recordKill(2);
+
+        assertEquals(1, output.toString().lines().count(), "Events buffered before closing should still be written.");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.levels;
+
+import com.example.demo.utils.SpriteVariants;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LevelAssetsTest {
+
+    @Test
+    void actorSpritesUseTheActorImageLocation() {
+        LevelAssets assets = new LevelAssets(null).sprite("fireball.png", 75);
+
+        LevelAssets.ImageRequest sprite = assets.getImages().get(0);
+        assertEquals("/com/example/demo/images/fireball.png", sprite.getResourcePath());
+        assertEquals(0, sprite.getWidth(), "Actors constrain only the height.");
+        assertEquals(75, sprite.getHeight());
+        assertTrue(sprite.isPacked(), "Actor sprites are shown through the atlas.");
+        assertTrue(sprite.isActorSprite(), "Actor sprites have their collision masks built with them.");
+    }
+
+    @Test
+    void replacementActorSpritesKeepTheirBox() {
+        LevelAssets assets = new LevelAssets(null)
+                .actorSprite("/com/example/demo/images/jetplane.png", 500, 300)
+                .sprite("/com/example/demo/images/shield.png", 200, 200);
+
+        LevelAssets.ImageRequest jet = assets.getImages().get(0);
+        assertEquals(500, jet.getWidth());
+        assertEquals(300, jet.getHeight());
+        assertTrue(jet.isPacked());
+        assertTrue(jet.isActorSprite());
+        assertFalse(assets.getImages().get(1).isActorSprite(), "Other sprites do not collide.");
+    }
+
+    @Test
+    void plainImagesAreNotPacked() {
+        LevelAssets assets = new LevelAssets("/music.mp3")
+                .image("/background.jpg")
+                .image("/icon.png", 30, 30);
+
+        List<LevelAssets.ImageRequest> images = assets.getImages();
+        assertEquals(2, images.size());
+        assertFalse(images.get(0).isPacked());
+        assertFalse(images.get(1).isPacked());
+        assertEquals("/music.mp3", assets.getMusicPath());
+    }
+
+    @Test
+    void everyLevelDeclaresItsMusic() {
+        assertNotNull(LevelFactory.assetsOf(LevelFactory.FIRST_LEVEL).getMusicPath());
+        assertNotNull(LevelTwo.ASSETS.getMusicPath());
+        assertNotNull(LevelThree.ASSETS.getMusicPath());
+    }
+
+    @Test
+    void everyLevelImageExists() {
+        for (LevelAssets assets : List.of(LevelFactory.assetsOf(LevelFactory.FIRST_LEVEL), LevelTwo.ASSETS, LevelThree.ASSETS)) {
+            for (LevelAssets.ImageRequest image : assets.getImages()) {
+                assertNotNull(LevelAssets.class.getResource(image.getResourcePath()),
+                        "Missing image, or wrong case in its name: " + image.getResourcePath());
+            }
+        }
+    }
+
+    @Test
+    void resizedSpritesHavePrescaledCopies() {
+        assumeTrue(LevelAssets.class.getResource(SpriteVariants.VARIANT_LOCATION + SpriteVariants.INDEX_FILE) != null,
+                "The build has not pre-scaled the sprites.");
+        SpriteVariants variants = SpriteVariants.load();
+        for (LevelAssets assets : List.of(LevelFactory.assetsOf(LevelFactory.FIRST_LEVEL), LevelTwo.ASSETS, LevelThree.ASSETS)) {
+            for (LevelAssets.ImageRequest image : assets.getImages()) {
+                if (image.isPacked() && (image.getWidth() > 0 || image.getHeight() > 0)) {
+                    assertNotEquals(image.getResourcePath(),
+                            variants.resolve(image.getResourcePath(), image.getWidth(), image.getHeight()),
+                            "No pre-scaled copy in sprite-variants.properties for " + image.getResourcePath());
+                }
+            }
+        }
+    }
+}
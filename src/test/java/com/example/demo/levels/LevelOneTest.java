@@ -10,7 +10,7 @@ import com.example.demo.JavaFXInitializer;
 
 class LevelOneTest {
 
-    private LevelOne levelOne;
+    private LevelParent levelOne;
 
     @BeforeAll
     static void initializeJavaFX() {
@@ -18,8 +18,8 @@ class LevelOneTest {
     }
 
     @BeforeEach
-    void setUp() {
-        levelOne = new LevelOne(600, 800); // Initialize LevelOne with screen height and width
+    void setUp() throws ReflectiveOperationException {
+        levelOne = LevelFactory.create(LevelFactory.FIRST_LEVEL, 600, 800); // Level one from its level file
     }
 
     @Test
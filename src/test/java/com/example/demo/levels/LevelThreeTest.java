@@ -47,6 +47,23 @@ class LevelThreeTest {
         latch.await(); // Wait for JavaFX thread to complete
     }
 
+    @Test
+    void finalBossEntersAfterTheMessageHasRunForThreeSeconds() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            levelThree.displayFinalBossMessage();
+            for (int tick = 1; tick < 60; tick++) { // Three seconds at 20 ticks per second
+                levelThree.spawnEnemyUnits();
+            }
+            assertFalse(levelThree.isFinalBossSpawned(), "The boss should wait for the message to finish.");
+
+            levelThree.spawnEnemyUnits();
+            assertTrue(levelThree.isFinalBossSpawned(), "The boss should enter once the message has finished.");
+            latch.countDown();
+        });
+        latch.await(); // Wait for JavaFX thread to complete
+    }
+
     @Test
     void pauseFinalBossMessage() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,83 @@
+package com.example.demo.levels.plan;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelPlanLoaderTest {
+
+    private static final byte[] LEVEL = "background /bg.png\nkills 4\nwaves\nspawn 0 FIGHTER COLUMN 4 0\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void compilesEachFileOnce() {
+        LevelPlanLoader loader = new LevelPlanLoader(null);
+
+        LevelPlan first = loader.load(LEVEL);
+        LevelPlan second = loader.load(LEVEL.clone());
+
+        assertSame(first, second, "The same contents should give the cached plan.");
+        assertEquals(1, loader.getCompileCount());
+    }
+
+    @Test
+    void editedFileIsCompiledAgain() {
+        LevelPlanLoader loader = new LevelPlanLoader(null);
+        loader.load(LEVEL);
+
+        LevelPlan edited = loader.load("background /bg.png\nkills 9\nboss default\n".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(9, edited.getKillTarget());
+        assertEquals(2, loader.getCompileCount());
+    }
+
+    @Test
+    void laterSessionsReadTheCacheFile() {
+        LevelPlan compiled = new LevelPlanLoader(cacheDirectory).load(LEVEL);
+        assertTrue(Files.isRegularFile(cacheDirectory.resolve(LevelPlanLoader.hash(LEVEL) + ".plan")));
+
+        LevelPlanLoader nextSession = new LevelPlanLoader(cacheDirectory);
+        LevelPlan cached = nextSession.load(LEVEL);
+
+        assertEquals(compiled, cached);
+        assertEquals(0, nextSession.getCompileCount());
+        assertEquals(1, nextSession.getCacheFileHitCount());
+    }
+
+    @Test
+    void damagedCacheFileIsReplaced() throws IOException {
+        Path cacheFile = cacheDirectory.resolve(LevelPlanLoader.hash(LEVEL) + ".plan");
+        Files.write(cacheFile, new byte[] {0, 1, 2});
+
+        LevelPlanLoader loader = new LevelPlanLoader(cacheDirectory);
+        LevelPlan plan = loader.load(LEVEL);
+
+        assertEquals(4, plan.getKillTarget());
+        assertEquals(1, loader.getCompileCount());
+        assertEquals(plan, new LevelPlanLoader(cacheDirectory).load(LEVEL), "The cache file should have been rewritten.");
+    }
+
+    @Test
+    void loadsBundledLevelFiles() {
+        LevelPlan plan = new LevelPlanLoader(null).load("/com/example/demo/levels/skirmish.level");
+
+        assertEquals("Skirmish", plan.getName());
+        assertNotNull(plan.getBoss());
+
+        LevelPlan levelOne = new LevelPlanLoader(null).load("/com/example/demo/levels/levelone.level");
+        assertEquals(10, levelOne.getKillTarget());
+        assertEquals("com.example.demo.levels.LevelTwo", levelOne.getNextLevel());
+        assertTrue(levelOne.getWaves().isLooping());
+        assertEquals(5, levelOne.getWaves().getMaxAlive(), "Level One should keep its cap of five fighters on screen.");
+        assertThrows(IllegalArgumentException.class, () -> new LevelPlanLoader(null).load("/no/such.level"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.levels.plan;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelPlanTest {
+
+    private static final String LEVEL = """
+            # A test level
+            name Test Run
+            background /com/example/demo/images/background2.jpg
+            music /com/example/demo/audios/levelonemusic.mp3
+            health 3
+            kills 7
+            boss /com/example/demo/images/jetplane.png 500 300
+            powerup spreadshot 0.05
+            next com.example.demo.levels.LevelTwo
+            waves
+            lanes 6
+            wave after-clear
+            spawn 1 FIGHTER WEDGE 5 2 0.5
+            """;
+
+    @Test
+    void parsesEveryDirective() {
+        LevelPlan plan = LevelPlan.parse(LEVEL);
+
+        assertEquals("Test Run", plan.getName());
+        assertEquals("/com/example/demo/images/background2.jpg", plan.getBackground());
+        assertEquals("/com/example/demo/audios/levelonemusic.mp3", plan.getMusic());
+        assertEquals(3, plan.getPlayerHealth());
+        assertEquals(7, plan.getKillTarget());
+        assertEquals(new LevelPlan.Boss("/com/example/demo/images/jetplane.png", 500, 300), plan.getBoss());
+        assertEquals(List.of(new LevelPlan.PowerUpChance(PowerUpType.SPREADSHOT, 0.05)), plan.getPowerUps());
+        assertEquals("com.example.demo.levels.LevelTwo", plan.getNextLevel());
+        assertEquals(6, plan.getWaves().getLaneCount());
+        assertEquals(5, plan.getWaves().getEnemyCount());
+    }
+
+    @Test
+    void bossLevelDefaultsToOneKill() {
+        LevelPlan plan = LevelPlan.parse("background /bg.png\nboss default\n");
+
+        assertEquals(1, plan.getKillTarget());
+        assertNull(plan.getBoss().imagePath());
+        assertNull(plan.getWaves());
+        assertNull(plan.getNextLevel(), "A level without 'next' should win the game.");
+    }
+
+    @Test
+    void rejectsIncompleteOrMalformedFiles() {
+        assertThrows(IllegalArgumentException.class, () -> LevelPlan.parse("kills 5\nwaves\nspawn 0 FIGHTER STREAM 1 0"),
+                "A background is required.");
+        assertThrows(IllegalArgumentException.class, () -> LevelPlan.parse("background /bg.png\nkills 5\n"),
+                "A level must spawn something.");
+        assertThrows(IllegalArgumentException.class, () -> LevelPlan.parse("background /bg.png\nboss big\n"));
+        assertThrows(IllegalArgumentException.class, () -> LevelPlan.parse("background /bg.png\nboss default\npowerup SHIELD 0.1"));
+        assertThrows(IllegalArgumentException.class, () -> LevelPlan.parse("background /bg.png\nboss default\npowerup SPREADSHOT 2"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> LevelPlan.parse("background /bg.png\nkills 5\nwaves\nwave\nspawn 0 FIGHTER LOOP 1 0\n"));
+        assertTrue(e.getMessage().contains("line 5"), "Wave errors should give the level file's line: " + e.getMessage());
+    }
+
+    @Test
+    void binaryFormRoundTrips() throws IOException {
+        LevelPlan plan = LevelPlan.parse(LEVEL);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        plan.writeTo(out);
+
+        LevelPlan read = LevelPlan.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(plan, read);
+    }
+
+    @Test
+    void binaryFormIsChecked() {
+        assertThrows(IOException.class, () -> LevelPlan.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+}
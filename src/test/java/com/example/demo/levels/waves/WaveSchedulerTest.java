@@ -0,0 +1,110 @@
+package com.example.demo.levels.waves;
+
+import com.example.demo.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveSchedulerTest {
+
+    private static final int TICKS_PER_SECOND = 20;
+
+    @Test
+    void spawnsAreReleasedOnTheirTickInTimeOrder() {
+        WaveScheduler scheduler = schedule("""
+                spawn 1.0 BASIC_FIGHTER STREAM 1 0
+                spawn 0.5 FIGHTER STREAM 2 3 0.25
+                """);
+        List<String> spawned = new ArrayList<>();
+
+        for (int tick = 0; tick < 25; tick++) {
+            int current = tick;
+            scheduler.advance(0, (type, lane) -> spawned.add(current + ":" + type + "@" + lane));
+        }
+
+        assertEquals(List.of("10:FIGHTER@3", "15:FIGHTER@3", "20:BASIC_FIGHTER@0"), spawned);
+        assertTrue(scheduler.isFinished());
+        assertEquals(3, scheduler.getSpawnedCount());
+    }
+
+    @Test
+    void afterClearWaveWaitsForAnEmptyScreen() {
+        WaveScheduler scheduler = schedule("""
+                wave
+                spawn 0 FIGHTER COLUMN 2 0
+                wave after-clear
+                spawn 0 FIGHTER STREAM 1 5
+                """);
+        List<Integer> lanes = new ArrayList<>();
+
+        scheduler.advance(0, (type, lane) -> lanes.add(lane));
+        for (int tick = 0; tick < 100; tick++) {
+            scheduler.advance(2, (type, lane) -> lanes.add(lane));
+        }
+        assertEquals(List.of(0, 1), lanes, "The second wave should wait while enemies remain.");
+
+        scheduler.advance(0, (type, lane) -> lanes.add(lane));
+        assertEquals(List.of(0, 1, 5), lanes);
+        assertEquals(1, scheduler.getWaveIndex());
+        assertTrue(scheduler.isFinished());
+    }
+
+    @Test
+    void loopingTimelineStartsOver() {
+        WaveScheduler scheduler = schedule("""
+                loop
+                spawn 0.1 FIGHTER STREAM 1 2
+                """);
+        int[] spawned = new int[1];
+
+        for (int tick = 0; tick < 30; tick++) {
+            scheduler.advance(0, (type, lane) -> spawned[0]++);
+        }
+
+        assertFalse(scheduler.isFinished());
+        assertEquals(10, spawned[0], "A spawn at tick 2 should repeat every 3 ticks.");
+    }
+
+    @Test
+    void maxAliveHoldsSpawnsUntilEnemiesLeave() {
+        WaveScheduler scheduler = schedule("""
+                max-alive 2
+                spawn 0 FIGHTER COLUMN 3 0
+                spawn 0.5 FIGHTER STREAM 1 5
+                """);
+        List<Integer> lanes = new ArrayList<>();
+
+        scheduler.advance(0, (type, lane) -> lanes.add(lane));
+        assertEquals(List.of(0, 1), lanes, "Only two of the column should spawn under a limit of two.");
+
+        for (int tick = 0; tick < 50; tick++) {
+            scheduler.advance(2, (type, lane) -> lanes.add(lane));
+        }
+        assertEquals(List.of(0, 1), lanes, "Nothing should spawn while the screen is full.");
+
+        scheduler.advance(1, (type, lane) -> lanes.add(lane));
+        assertEquals(List.of(0, 1, 2), lanes);
+        for (int tick = 0; tick < 9; tick++) {
+            scheduler.advance(1, (type, lane) -> lanes.add(lane));
+        }
+        assertEquals(List.of(0, 1, 2), lanes, "The held clock should keep the next spawn's delay.");
+        scheduler.advance(1, (type, lane) -> lanes.add(lane));
+        assertEquals(List.of(0, 1, 2, 5), lanes);
+    }
+
+    @Test
+    void finishedSchedulerSpawnsNothing() {
+        WaveScheduler scheduler = schedule("spawn 0 FIGHTER STREAM 1 0");
+        scheduler.advance(0, (type, lane) -> { });
+
+        scheduler.advance(0, (type, lane) -> fail("Nothing should spawn after the timeline ends."));
+        assertEquals(1, scheduler.size());
+    }
+
+    private static WaveScheduler schedule(String text) {
+        return WaveTimeline.parse(text).schedule(TICKS_PER_SECOND, new GameRandom(3));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.levels.waves;
+
+import com.example.demo.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveTimelineTest {
+
+    @Test
+    void parsesDirectivesAndIgnoresComments() {
+        WaveTimeline timeline = WaveTimeline.parse("""
+                # A comment
+                lanes 5
+                loop
+                max-alive 4
+                wave
+                spawn 0 FIGHTER STREAM 3 1 0.5   # Trailing comment
+                wave after-clear
+                spawn 1 basic_fighter column 2 0
+                """);
+
+        assertEquals(5, timeline.getLaneCount());
+        assertTrue(timeline.isLooping());
+        assertEquals(4, timeline.getMaxAlive());
+        assertEquals(2, timeline.getWaveCount());
+        assertEquals(5, timeline.getEnemyCount());
+    }
+
+    @Test
+    void reportsTheLineOfAMalformedDirective() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> WaveTimeline.parse("wave\nspawn 1 FIGHTER SPIRAL 3 0\n"));
+        assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("spawn -1 FIGHTER STREAM 3 0"));
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("spawn 1 FIGHTER STREAM 0 0"));
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("wave later\nspawn 1 FIGHTER STREAM 1 0"));
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("lanes 4\nspawn 1 FIGHTER STREAM 1 4"));
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("fly 1 FIGHTER"));
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("max-alive 0\nspawn 1 FIGHTER STREAM 1 0"));
+    }
+
+    @Test
+    void timelineWithoutSpawnsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WaveTimeline.parse("lanes 4\nwave\n"));
+    }
+
+    @Test
+    void bundledTimelinesLoad() {
+        WaveTimeline levelThree = WaveTimeline.load("/com/example/demo/waves/levelthree.waves");
+        assertEquals(3, levelThree.getWaveCount());
+        assertEquals(24, levelThree.getEnemyCount(), "Level Three's waves should add up to its kill target.");
+    }
+
+    @Test
+    void formationsLayOutTheirLanes() {
+        assertEquals(List.of(2, 3, 4), lanesOf("lanes 8\nspawn 0 FIGHTER COLUMN 3 2"));
+        assertEquals(List.of(5, 6, 7), lanesOf("lanes 8\nspawn 0 FIGHTER COLUMN 3 7"), "A column should not run past the last lane.");
+        assertEquals(List.of(4, 3, 5, 2, 6), lanesOf("lanes 8\nspawn 0 FIGHTER WEDGE 5 4 1"));
+        assertEquals(List.of(6, 6, 6), lanesOf("lanes 8\nspawn 0 FIGHTER STREAM 3 6 1"));
+    }
+
+    @Test
+    void randomLanesAreReproducibleForASeed() {
+        String text = "lanes 8\nspawn 0 FIGHTER SCATTER 6 random 0.1\nspawn 1 FIGHTER WEDGE 3 random 0.1";
+
+        List<Integer> first = lanesOf(WaveTimeline.parse(text).schedule(20, new GameRandom(99)));
+        List<Integer> second = lanesOf(WaveTimeline.parse(text).schedule(20, new GameRandom(99)));
+
+        assertEquals(first, second);
+        assertTrue(first.stream().allMatch(lane -> lane >= 0 && lane < 8));
+    }
+
+    @Test
+    void loopingTimelineDrawsNewRandomLanesOnEveryPass() {
+        WaveScheduler scheduler = WaveTimeline.parse("lanes 8\nloop\nspawn 0 FIGHTER SCATTER 6 random 0.1")
+                .schedule(20, new GameRandom(7));
+        List<Integer> lanes = new ArrayList<>();
+
+        while (lanes.size() < 12) {
+            scheduler.advance(0, (type, lane) -> lanes.add(lane));
+        }
+
+        assertNotEquals(lanes.subList(0, 6), lanes.subList(6, 12), "The second pass should not replay the first pass's lanes.");
+    }
+
+    @Test
+    void groupWithARandomLaneMovesOnEveryPass() {
+        WaveScheduler scheduler = WaveTimeline.parse("lanes 8\nloop\nspawn 0 FIGHTER STREAM 1 random")
+                .schedule(20, new GameRandom(7));
+        List<Integer> lanes = new ArrayList<>();
+
+        while (lanes.size() < 10) {
+            scheduler.advance(0, (type, lane) -> lanes.add(lane));
+        }
+
+        assertTrue(lanes.stream().distinct().count() > 1, "A random group lane should be drawn again on every pass: " + lanes);
+    }
+
+    private static List<Integer> lanesOf(String text) {
+        return lanesOf(WaveTimeline.parse(text).schedule(20, new GameRandom(1)));
+    }
+
+    private static List<Integer> lanesOf(WaveScheduler scheduler) {
+        List<Integer> lanes = new ArrayList<>();
+        while (!scheduler.isFinished()) {
+            scheduler.advance(0, (type, lane) -> lanes.add(lane));
+        }
+        return lanes;
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.demo.managers;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.rendering.RenderMode;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import com.example.demo.JavaFXInitializer;
 
@@ -193,4 +196,93 @@ class ActorManagerTest {
         assertFalse(actorManager.getFriendlyUnits().contains(actor), "Destroyed actors should be cleaned up.");
         assertFalse(root.getChildren().contains(actor), "Destroyed actors should be removed from the scene graph.");
     }
+
+    @Test
+    void getEnemyUnitsReturnsUnmodifiableLiveView() {
+        ActiveActorDestructible enemy = createActor("enemyplane.png");
+        var view = actorManager.getEnemyUnits();
+
+        actorManager.addEnemyUnit(enemy, root);
+
+        assertTrue(view.contains(enemy), "View should reflect actors added after it was obtained.");
+        assertEquals(1, actorManager.getEnemyUnitCount(), "Count should match the number of enemies.");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(enemy), "View should be read-only.");
+    }
+
+    @Test
+    void forEachVisitsOnlyActorsPresentWhenVisitStarted() {
+        actorManager.addEnemyUnit(createActor("enemyplane.png"), root);
+        int[] visited = {0};
+
+        actorManager.forEachEnemyUnit(enemy -> {
+            visited[0]++;
+            actorManager.addEnemyUnit(createActor("enemyplane.png"), root);
+        });
+
+        assertEquals(1, visited[0], "Actors added during a visit should not be visited.");
+        assertEquals(2, actorManager.getEnemyUnitCount(), "Actor added during the visit should be registered.");
+    }
+
+    @Test
+    void addingSameActorTwiceRegistersItOnce() {
+        ActiveActorDestructible enemy = createActor("enemyplane.png");
+
+        actorManager.addEnemyUnit(enemy, root);
+        actorManager.addEnemyUnit(enemy, root);
+
+        assertEquals(1, actorManager.getEnemyUnitCount(), "Duplicate registration should be ignored.");
+        assertEquals(1, root.getChildren().size(), "Actor should be added to the scene graph once.");
+    }
+
+    @Test
+    void cleanUpKeepsSurvivorsInOrder() {
+        ActiveActorDestructible first = createActor("enemyplane.png");
+        ActiveActorDestructible destroyed = createActor("enemyplane.png");
+        ActiveActorDestructible last = createActor("enemyplane.png");
+        actorManager.addEnemyUnit(first, root);
+        actorManager.addEnemyUnit(destroyed, root);
+        actorManager.addEnemyUnit(last, root);
+
+        destroyed.destroy();
+        actorManager.cleanUpDestroyedActors(root);
+
+        assertEquals(List.of(first, last), actorManager.getEnemyUnits(), "Survivors should keep their order.");
+        assertFalse(root.getChildren().contains(destroyed), "Destroyed actor should leave the scene graph.");
+
+        actorManager.addEnemyUnit(destroyed, root);
+        assertEquals(3, actorManager.getEnemyUnitCount(), "A cleaned-up actor can be registered again.");
+    }
+
+    @Test
+    void canvasModeTracksActorsWithoutAttachingNodes() {
+        ActorManager canvasManager = new ActorManager(RenderMode.CANVAS);
+        ActiveActorDestructible enemy = createActor("enemyplane.png");
+
+        canvasManager.addEnemyUnit(enemy, root);
+        assertEquals(1, canvasManager.getEnemyUnitCount(), "Enemy should be tracked.");
+        assertTrue(root.getChildren().isEmpty(), "Canvas mode should not add actors to the scene graph.");
+
+        enemy.destroy();
+        canvasManager.cleanUpDestroyedActors(root);
+        assertEquals(0, canvasManager.getEnemyUnitCount(), "Destroyed enemy should be removed.");
+    }
+
+    private ActiveActorDestructible createActor(String imageName) {
+        return new ActiveActorDestructible(imageName, 10, 0, 0) {
+            @Override
+            public void updatePosition() {
+                // No movement needed
+            }
+
+            @Override
+            public void updateActor() {
+                updatePosition();
+            }
+
+            @Override
+            public void takeDamage() {
+                destroy();
+            }
+        };
+    }
 }
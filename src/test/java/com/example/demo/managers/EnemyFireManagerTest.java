@@ -0,0 +1,107 @@
+package com.example.demo.managers;
+
+import com.example.demo.actors.plane.EnemyPlane;
+import com.example.demo.actors.plane.UserPlane;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.model.ActorBody;
+import com.example.demo.rendering.RenderMode;
+import com.example.demo.sounds.SoundManager;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.SpriteCache;
+import com.example.demo.utils.atlas.SpriteAtlas;
+import javafx.scene.Group;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnemyFireManagerTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    private UserPlane user;
+    private EnemyFireManager enemyFireManager;
+
+    @BeforeAll
+    static void useHeadlessAssets() {
+        SpriteCache.getInstance().setPlaceholderImages(true); // No JavaFX toolkit needed
+        SoundManager.getInstance().muteSoundEffects();
+    }
+
+    @AfterAll
+    static void restoreAssets() {
+        SpriteCache.getInstance().setPlaceholderImages(false);
+        SpriteCache.getInstance().clear();
+        SpriteAtlas.getInstance().clear();
+        SoundManager.getInstance().unmuteSoundEffects();
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = new UserPlane(3);
+        CollisionManager collisionManager = new CollisionManager(new ActorManager(), user, new Group(), SCREEN_WIDTH, SCREEN_HEIGHT);
+        collisionManager.setScreenShakeEnabled(false);
+        collisionManager.setPixelPerfectCollisionEnabled(false); // Placeholder sprites have no shape
+        enemyFireManager = new EnemyFireManager(collisionManager, RenderMode.HEADLESS, SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    @Test
+    void projectileThatReachesTheUserHitsOnceAndIsRemoved() {
+        ActorBody userBody = user.getBody();
+        enemyFireManager.fire(userBody.getMaxX() + 5, userBody.getMinY() + userBody.getHeight() / 2);
+        assertEquals(1, enemyFireManager.getProjectileCount());
+
+        enemyFireManager.tick();
+
+        assertEquals(2, user.getHealth(), "The projectile should have hit the user.");
+        assertEquals(0, enemyFireManager.getProjectileCount(), "A projectile that hit should be removed.");
+    }
+
+    @Test
+    void projectileThatMissesIsRemovedOnceOffScreen() {
+        enemyFireManager.fire(100, SCREEN_HEIGHT - 60);
+
+        for (int tick = 0; tick < 100 && enemyFireManager.getProjectileCount() > 0; tick++) {
+            enemyFireManager.tick();
+        }
+
+        assertEquals(0, enemyFireManager.getProjectileCount());
+        assertEquals(3, user.getHealth());
+    }
+
+    @Test
+    void projectileIsSizedLikeAnEnemyProjectileActor() {
+        EnemyProjectile actor = new EnemyProjectile(600, 100);
+        enemyFireManager.fire(600, 100);
+
+        int id = enemyFireManager.getStore().idAt(0);
+        assertEquals(actor.getBody().getWidth(), enemyFireManager.getStore().getWidth(id), 1e-9);
+        assertEquals(actor.getBody().getHeight(), enemyFireManager.getStore().getHeight(id), 1e-9);
+        assertEquals(EnemyProjectile.HORIZONTAL_VELOCITY, enemyFireManager.getStore().getVelocityX(id));
+    }
+
+    @Test
+    void fightersFireStraightIntoTheStore() {
+        EnemyPlane fighter = new EnemyPlane(800, 300);
+        GameRandom.setSessionSeed(5);
+
+        for (int tick = 0; tick < 1000; tick++) {
+            assertTrue(fighter.fireShot(enemyFireManager));
+        }
+
+        assertTrue(enemyFireManager.getProjectileCount() > 0, "A fighter firing at 1% per tick should have fired in 1000 ticks.");
+    }
+
+    @Test
+    void headlessModeCreatesNoNodes() {
+        enemyFireManager.fire(600, 100);
+        enemyFireManager.tick();
+        enemyFireManager.syncNodes();
+
+        assertEquals(1, enemyFireManager.getProjectileCount());
+        assertTrue(enemyFireManager.getLayer().getChildren().isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepAccumulatorTest {
+
+    private static final long STEP = 50_000_000L; // 50 ms
+
+    @Test
+    void firstFrameOnlyEstablishesTimeBase() {
+        FixedStepAccumulator accumulator = new FixedStepAccumulator(STEP, 5);
+
+        assertEquals(0, accumulator.advance(1_000_000_000L), "First frame should not run any steps.");
+    }
+
+    @Test
+    void fastFramesAccumulateIntoSingleStep() {
+        FixedStepAccumulator accumulator = new FixedStepAccumulator(STEP, 5);
+        long frame = 16_666_667L; // 60 Hz display
+        long now = 0;
+        accumulator.advance(now);
+
+        int steps = 0;
+        for (int i = 0; i < 3; i++) {
+            now += frame;
+            steps += accumulator.advance(now);
+        }
+
+        assertEquals(1, steps, "Three 60 Hz frames should pay out one 20 Hz step.");
+        assertEquals(0.0, accumulator.getAlpha(), 1e-6, "No time should be left over after exactly one step.");
+    }
+
+    @Test
+    void alphaReportsFractionOfNextStep() {
+        FixedStepAccumulator accumulator = new FixedStepAccumulator(STEP, 5);
+        accumulator.advance(0);
+        accumulator.advance(STEP + STEP / 4);
+
+        assertEquals(0.25, accumulator.getAlpha(), 1e-9, "Leftover time should be exposed as alpha.");
+    }
+
+    @Test
+    void longStallIsCappedAndSurplusDropped() {
+        FixedStepAccumulator accumulator = new FixedStepAccumulator(STEP, 3);
+        accumulator.advance(0);
+
+        assertEquals(3, accumulator.advance(10 * STEP), "Catch-up should be limited.");
+        assertEquals(7, accumulator.getDroppedSteps(), "Steps beyond the limit should be dropped.");
+        assertEquals(1, accumulator.advance(11 * STEP), "The next frame should run normally.");
+    }
+
+    @Test
+    void resetDiscardsElapsedTime() {
+        FixedStepAccumulator accumulator = new FixedStepAccumulator(STEP, 5);
+        accumulator.advance(0);
+        accumulator.reset();
+
+        assertEquals(0, accumulator.advance(100 * STEP), "Time before a reset should not be simulated.");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.managers;
+
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderInterpolatorTest {
+
+    private RenderInterpolator interpolator;
+    private Rectangle node;
+
+    @BeforeEach
+    void setUp() {
+        interpolator = new RenderInterpolator();
+        node = new Rectangle(10, 10);
+    }
+
+    private void step(double translateX) {
+        node.setTranslateX(translateX);
+        interpolator.beginCapture();
+        interpolator.capture(List.of(node));
+        interpolator.endCapture();
+    }
+
+    @Test
+    void applyInterpolatesBetweenSteps() {
+        step(0);
+        step(20);
+
+        interpolator.apply(0.25);
+
+        assertEquals(5, node.getTranslateX(), 1e-9, "Node should be drawn a quarter of the way to its new position.");
+    }
+
+    @Test
+    void nextStepCapturesSyncedPositionNotInterpolatedOne() {
+        step(0);
+        step(20);
+        interpolator.apply(0.5);
+
+        step(40);
+        interpolator.apply(0);
+
+        assertEquals(20, node.getTranslateX(), 1e-9, "Interpolation should start from the last synced position.");
+    }
+
+    @Test
+    void newNodeIsDrawnAtItsSpawnPosition() {
+        node.setTranslateX(30);
+        interpolator.beginCapture();
+        interpolator.capture(List.of(node));
+        interpolator.endCapture();
+
+        interpolator.apply(0.5);
+
+        assertEquals(30, node.getTranslateX(), 1e-9, "A node without history should not move.");
+    }
+
+    @Test
+    void nodesMissingFromCaptureAreForgotten() {
+        step(0);
+        interpolator.beginCapture();
+        interpolator.capture(List.of());
+        interpolator.endCapture();
+
+        assertEquals(0, interpolator.size(), "Removed nodes should no longer be tracked.");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.managers.collision;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashBroadphaseTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    private SpatialHashBroadphase<String> broadphase;
+
+    @BeforeEach
+    void setUp() {
+        broadphase = new SpatialHashBroadphase<>(SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    @Test
+    void queryFindsOverlappingTargetsOnly() {
+        broadphase.insert("near", 100, 100, 150, 150);
+        broadphase.insert("far", 1100, 600, 1200, 700);
+
+        List<String> found = new ArrayList<>();
+        broadphase.query(120, 120, 130, 130, found::add);
+
+        assertEquals(List.of("near"), found, "Only targets in nearby cells should be visited.");
+    }
+
+    @Test
+    void targetSpanningCellsIsVisitedOnce() {
+        broadphase.insert("wide", 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+
+        List<String> found = new ArrayList<>();
+        broadphase.query(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, found::add);
+
+        assertEquals(1, found.size(), "A target registered in many cells should be visited once per query.");
+    }
+
+    @Test
+    void offScreenTargetsAreClampedToBorderCells() {
+        broadphase.insert("offscreen", SCREEN_WIDTH + 50, -80, SCREEN_WIDTH + 120, -10);
+
+        List<String> found = new ArrayList<>();
+        broadphase.query(SCREEN_WIDTH + 60, -70, SCREEN_WIDTH + 70, -60, found::add);
+
+        assertEquals(List.of("offscreen"), found, "Targets outside the screen should still be found.");
+    }
+
+    @Test
+    void clearRemovesAllTargets() {
+        broadphase.insert("a", 10, 10, 20, 20);
+        broadphase.clear();
+
+        List<String> found = new ArrayList<>();
+        broadphase.query(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, found::add);
+
+        assertEquals(0, broadphase.size(), "Clear should empty the broadphase.");
+        assertTrue(found.isEmpty(), "Cleared targets should not be visited.");
+    }
+
+    @Test
+    void candidatesIncludeEveryOverlapFoundByBruteForce() {
+        Random random = new Random(42);
+        BruteForceBroadphase<String> reference = new BruteForceBroadphase<>();
+        List<double[]> boxes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * SCREEN_WIDTH;
+            double y = random.nextDouble() * SCREEN_HEIGHT;
+            double[] box = {x, y, x + 20 + random.nextDouble() * 150, y + 20 + random.nextDouble() * 100};
+            boxes.add(box);
+            broadphase.insert("enemy" + i, box[0], box[1], box[2], box[3]);
+            reference.insert("enemy" + i, box[0], box[1], box[2], box[3]);
+        }
+
+        for (int q = 0; q < 100; q++) {
+            double x = random.nextDouble() * SCREEN_WIDTH;
+            double y = random.nextDouble() * SCREEN_HEIGHT;
+            double[] query = {x, y, x + 60, y + 20};
+
+            Set<String> expected = new HashSet<>();
+            reference.query(query[0], query[1], query[2], query[3], target -> {
+                double[] box = boxes.get(Integer.parseInt(target.substring("enemy".length())));
+                if (box[0] <= query[2] && box[2] >= query[0] && box[1] <= query[3] && box[3] >= query[1]) {
+                    expected.add(target);
+                }
+            });
+            Set<String> candidates = new HashSet<>();
+            broadphase.query(query[0], query[1], query[2], query[3], candidates::add);
+
+            assertTrue(candidates.containsAll(expected), "Spatial hash must not miss an overlapping target.");
+        }
+    }
+}
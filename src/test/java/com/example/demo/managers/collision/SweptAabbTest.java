@@ -0,0 +1,49 @@
+package com.example.demo.managers.collision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweptAabbTest {
+
+    @Test
+    void fastBoxPassingThroughThinTargetIsDetected() {
+        // Box ends to the right of a 2px wide target after moving 15px in one tick
+        assertTrue(SweptAabb.intersects(112, 0, 117, 10, 15, 0, 105, 0, 107, 10),
+                "A box that jumped over the target during the tick should still hit it.");
+    }
+
+    @Test
+    void discreteOverlapIsNotRequired() {
+        double time = SweptAabb.timeOfImpact(112, 0, 117, 10, 15, 0, 105, 0, 107, 10);
+
+        assertTrue(time > 0 && time < 1, "Impact should happen partway through the tick.");
+        assertEquals(3.0 / 15.0, time, 1e-9, "Impact time should match the distance to the target's near edge.");
+    }
+
+    @Test
+    void leftwardMotionIsDetected() {
+        assertTrue(SweptAabb.intersects(0, 0, 5, 10, -15, 0, 10, 0, 12, 10),
+                "A box moving left through the target should hit it.");
+    }
+
+    @Test
+    void targetOutsidePathIsMissed() {
+        assertEquals(SweptAabb.MISS, SweptAabb.timeOfImpact(112, 0, 117, 10, 15, 0, 50, 0, 60, 10),
+                "A target behind the starting position should not be hit.");
+        assertEquals(SweptAabb.MISS, SweptAabb.timeOfImpact(112, 0, 117, 10, 15, 0, 105, 20, 107, 30),
+                "A target outside the vertical extent should not be hit.");
+    }
+
+    @Test
+    void overlapAtStartOfTickHasZeroTime() {
+        assertEquals(0, SweptAabb.timeOfImpact(20, 0, 30, 10, 5, 0, 10, 0, 20, 10),
+                "Boxes already touching at the start of the tick should report time 0.");
+    }
+
+    @Test
+    void stationaryBoxFallsBackToOverlapTest() {
+        assertTrue(SweptAabb.intersects(0, 0, 10, 10, 0, 0, 5, 5, 15, 15), "Overlapping boxes should intersect.");
+        assertFalse(SweptAabb.intersects(0, 0, 10, 10, 0, 0, 11, 0, 20, 10), "Separated boxes should not intersect.");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorBodyTest {
+
+    private ActorBody body;
+
+    @BeforeEach
+    void setUp() {
+        body = new ActorBody(100, 50);
+        body.setSize(40, 20);
+    }
+
+    @Test
+    void positionCombinesOriginAndOffset() {
+        body.moveBy(15, -5);
+
+        assertEquals(115, body.getX(), "X should include the horizontal offset.");
+        assertEquals(45, body.getY(), "Y should include the vertical offset.");
+        assertEquals(155, body.getMaxX(), "Right edge should add the width.");
+        assertEquals(65, body.getMaxY(), "Bottom edge should add the height.");
+    }
+
+    @Test
+    void velocityIsDisplacementSinceTickStart() {
+        body.moveBy(10, 0);
+        body.beginTick();
+        body.moveBy(-15, 3);
+
+        assertEquals(-15, body.getVelocityX(), "Velocity should only cover the current tick.");
+        assertEquals(3, body.getVelocityY(), "Vertical velocity should only cover the current tick.");
+    }
+
+    @Test
+    void setOriginClearsOffsetAndVelocity() {
+        body.moveBy(30, 30);
+        body.setOrigin(0, 0);
+
+        assertEquals(0, body.getX(), "New origin should replace the old position.");
+        assertEquals(0, body.getOffsetX(), "Offset should be cleared.");
+        assertEquals(0, body.getVelocityX(), "Velocity should be cleared.");
+    }
+
+    @Test
+    void intersectsMatchesOverlappingBoxes() {
+        ActorBody touching = new ActorBody(140, 70);
+        touching.setSize(10, 10);
+        ActorBody apart = new ActorBody(141, 50);
+        apart.setSize(10, 10);
+
+        assertTrue(body.intersects(touching), "Touching edges should count as overlapping.");
+        assertFalse(body.intersects(apart), "Separated boxes should not overlap.");
+    }
+
+    @Test
+    void bodyWithoutAreaNeverIntersects() {
+        ActorBody empty = new ActorBody(110, 55);
+
+        assertFalse(body.intersects(empty), "A body without a size should not be hit.");
+        assertFalse(empty.intersects(body), "A body without a size should not hit anything.");
+    }
+
+    @Test
+    void damageReportsWhenHealthRunsOut() {
+        body.initializeHealth(2);
+
+        assertFalse(body.damage(), "Health should remain after the first hit.");
+        assertTrue(body.damage(), "Second hit should exhaust the health.");
+        assertEquals(2, body.getMaxHealth(), "Maximum health should be unchanged.");
+    }
+
+    @Test
+    void defaultFactionIsNeutral() {
+        assertEquals(Faction.NEUTRAL, body.getFaction(), "Bodies should start neutral.");
+        body.setFaction(Faction.ENEMY);
+        assertEquals(Faction.ENEMY, body.getFaction(), "Faction should be updatable.");
+    }
+}
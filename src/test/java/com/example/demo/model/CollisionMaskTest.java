@@ -0,0 +1,115 @@
+package com.example.demo.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionMaskTest {
+
+    private static final int OPAQUE = 0xFF000000;
+
+    /**
+     * Builds a mask at source size from rows of '#' (opaque) and '.' (transparent).
+     */
+    private static CollisionMask mask(String... rows) {
+        int width = rows[0].length();
+        int[] argb = new int[width * rows.length];
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < width; x++) {
+                argb[y * width + x] = rows[y].charAt(x) == '#' ? OPAQUE : 0;
+            }
+        }
+        return CollisionMask.fromArgb(argb, width, rows.length, width, rows.length, 128);
+    }
+
+    /**
+     * Builds a fully opaque mask.
+     */
+    private static CollisionMask solid(int width, int height) {
+        int[] argb = new int[width * height];
+        java.util.Arrays.fill(argb, OPAQUE);
+        return CollisionMask.fromArgb(argb, width, height, width, height, 128);
+    }
+
+    @Test
+    void pixelsFollowAlphaThreshold() {
+        int[] argb = {0x7F000000, 0x80000000};
+        CollisionMask mask = CollisionMask.fromArgb(argb, 2, 1, 2, 1, 128);
+
+        assertFalse(mask.isSet(0, 0), "Alpha below the threshold should be transparent.");
+        assertTrue(mask.isSet(1, 0), "Alpha at the threshold should be opaque.");
+        assertFalse(mask.isSet(5, 0), "Pixels outside the mask should be transparent.");
+    }
+
+    @Test
+    void downscalingKeepsThinDetails() {
+        CollisionMask mask = CollisionMask.fromArgb(new int[] {
+                0, 0, 0, OPAQUE,
+                0, 0, 0, 0}, 4, 2, 2, 1, 128);
+
+        assertFalse(mask.isSet(0, 0));
+        assertTrue(mask.isSet(1, 0), "A single opaque source pixel should set the pixel covering it.");
+    }
+
+    @Test
+    void transparentCornersDoNotOverlap() {
+        CollisionMask diagonal = mask(
+                "#...",
+                ".#..",
+                "..#.",
+                "...#");
+        CollisionMask dot = mask("#");
+
+        assertFalse(CollisionMask.overlaps(diagonal, 0, 0, dot, 3, 0), "The top-right corner is transparent.");
+        assertTrue(CollisionMask.overlaps(diagonal, 0, 0, dot, 2, 2), "The diagonal is opaque.");
+        assertTrue(CollisionMask.overlaps(dot, 12, 7, diagonal, 11, 6), "Overlap should not depend on argument order.");
+    }
+
+    @Test
+    void overlapWorksAcrossWordBoundaries() {
+        CollisionMask wide = solid(130, 2);
+        CollisionMask dot = mask("#");
+
+        assertTrue(CollisionMask.overlaps(wide, 0, 0, dot, 127, 1));
+        assertTrue(CollisionMask.overlaps(dot, 64, 0, wide, 0, 0));
+        assertFalse(CollisionMask.overlaps(wide, 0, 0, dot, 130, 0), "A pixel just past the right edge should miss.");
+        assertFalse(CollisionMask.overlaps(wide, 0, 0, dot, -1, 0), "A pixel just before the left edge should miss.");
+    }
+
+    @Test
+    void shiftedMasksCompareTheRightColumns() {
+        CollisionMask left = mask("#.......................................................................#");
+        CollisionMask right = mask("......#");
+
+        assertFalse(CollisionMask.overlaps(left, 0, 0, right, 60, 0), "Column 66 of the first mask is clear.");
+        assertTrue(CollisionMask.overlaps(left, 0, 0, right, 66, 0), "Column 72 of the first mask is set.");
+        assertTrue(CollisionMask.overlaps(right, 0, 0, left, -66, 0));
+    }
+
+    @Test
+    void disjointPlacementsDoNotOverlap() {
+        CollisionMask a = solid(10, 10);
+
+        assertFalse(CollisionMask.overlaps(a, 0, 0, a, 10, 0), "Touching edges do not share a pixel.");
+        assertFalse(CollisionMask.overlaps(a, 0, 0, a, 0, 10));
+    }
+
+    @Test
+    void boxOverlapOnlyCountsOpaquePixels() {
+        CollisionMask ring = mask(
+                "####",
+                "#..#",
+                "#..#",
+                "####");
+
+        assertFalse(ring.overlapsBox(100, 100, 101, 101, 103, 103), "The hole should not be hit.");
+        assertTrue(ring.overlapsBox(100, 100, 101, 101, 104, 103), "The right edge should be hit.");
+        assertFalse(ring.overlapsBox(100, 100, 0, 0, 100, 100), "A box outside the mask should miss.");
+    }
+
+    @Test
+    void emptyMaskIsDetected() {
+        assertTrue(mask("....").isEmpty());
+        assertFalse(mask("..#.").isEmpty());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HitBoxesTest {
+
+    private ActorBody body;
+    private HitBoxes hitBoxes;
+
+    @BeforeEach
+    void setUp() {
+        body = new ActorBody(100, 100);
+        body.setSize(200, 100);
+        // A wide box across the middle and a small one on top of it
+        hitBoxes = new HitBoxes(HitShape.of(
+                0.1, 0.4, 0.9, 0.6,
+                0.5, 0.2, 0.7, 0.4));
+        hitBoxes.update(body);
+    }
+
+    @Test
+    void boxesArePlacedRelativeToBody() {
+        assertEquals(2, hitBoxes.getCount());
+        assertEquals(120, hitBoxes.getMinX(0), 1e-9);
+        assertEquals(140, hitBoxes.getMinY(0), 1e-9);
+        assertEquals(280, hitBoxes.getMaxX(0), 1e-9);
+        assertEquals(160, hitBoxes.getMaxY(0), 1e-9);
+        assertEquals(120, hitBoxes.getBoundsMinY(), 1e-9, "Bounds should enclose every box.");
+    }
+
+    @Test
+    void boxesFollowBodyAfterUpdate() {
+        body.moveBy(50, -20);
+        assertEquals(120, hitBoxes.getMinX(0), 1e-9, "Boxes should only move when updated.");
+
+        hitBoxes.update(body);
+
+        assertEquals(170, hitBoxes.getMinX(0), 1e-9);
+        assertEquals(120, hitBoxes.getMinY(0), 1e-9);
+    }
+
+    @Test
+    void onlyTheBoxesAreHit() {
+        assertTrue(hitBoxes.intersects(150, 150, 155, 155), "A point in the wide box should hit.");
+        assertTrue(hitBoxes.intersects(210, 125, 215, 130), "A point in the small box should hit.");
+        assertFalse(hitBoxes.intersects(130, 125, 135, 130), "A point inside the body but outside the boxes should miss.");
+        assertFalse(hitBoxes.intersects(0, 0, 10, 10), "A point outside the body should miss.");
+    }
+
+    @Test
+    void bodyWithoutAreaHasNoBoxes() {
+        body.setSize(0, 0);
+        hitBoxes.update(body);
+
+        assertTrue(hitBoxes.isEmpty());
+        assertFalse(hitBoxes.intersects(0, 0, 1000, 1000));
+    }
+
+    @Test
+    void insetShapeLeavesMarginsFree() {
+        HitBoxes inset = new HitBoxes(HitShape.inset(0.25, 0.25));
+        inset.update(body);
+
+        assertEquals(150, inset.getMinX(0), 1e-9);
+        assertEquals(250, inset.getMaxX(0), 1e-9);
+        assertEquals(125, inset.getMinY(0), 1e-9);
+        assertEquals(175, inset.getMaxY(0), 1e-9);
+    }
+
+    @Test
+    void invalidShapesAreRejected() {
+        assertThrows(IllegalArgumentException.class, HitShape::of, "A shape needs at least one box.");
+        assertThrows(IllegalArgumentException.class, () -> HitShape.of(0, 0, 1), "Fractions come in fours.");
+        assertThrows(IllegalArgumentException.class, () -> HitShape.of(0.5, 0, 0.4, 1), "Boxes must not be inverted.");
+        assertThrows(IllegalArgumentException.class, () -> HitShape.of(-0.1, 0, 1, 1), "Boxes must stay inside the body.");
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        PhaseHistogram histogram = new PhaseHistogram(8);
+
+        assertEquals(0, histogram.percentile(0.5), "An empty histogram should report a zero percentile.");
+        assertEquals(0, histogram.max(), "An empty histogram should report a zero maximum.");
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        PhaseHistogram histogram = new PhaseHistogram(100);
+        for (int i = 100; i >= 1; i--) {
+            histogram.record(i);
+        }
+
+        assertEquals(50, histogram.percentile(0.5), "p50 of 1..100 should be 50.");
+        assertEquals(99, histogram.percentile(0.99), "p99 of 1..100 should be 99.");
+        assertEquals(1, histogram.percentile(0), "p0 should be the smallest sample.");
+        assertEquals(100, histogram.max(), "Max should be the largest sample.");
+    }
+
+    @Test
+    void oldSamplesLeaveTheWindow() {
+        PhaseHistogram histogram = new PhaseHistogram(3);
+        histogram.record(1_000);
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+
+        assertEquals(3, histogram.getCount(), "The window should hold at most its size.");
+        assertEquals(3, histogram.max(), "The evicted spike should no longer count towards the maximum.");
+        assertEquals(3, histogram.last(), "The last sample should be the most recent one.");
+    }
+
+    @Test
+    void invalidPercentileIsRejected() {
+        PhaseHistogram histogram = new PhaseHistogram(3);
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.5));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickProfilerTest {
+
+    private long now;
+
+    private TickProfiler createProfiler() {
+        return new TickProfiler(() -> now, 16);
+    }
+
+    @Test
+    void marksAttributeElapsedTimeToPhases() {
+        TickProfiler profiler = createProfiler();
+
+        profiler.beginTick();
+        now += 100;
+        profiler.mark(TickPhase.INPUT);
+        now += 2_000;
+        profiler.mark(TickPhase.COLLISIONS);
+        now += 30;
+        profiler.mark(TickPhase.CLEANUP);
+        profiler.endTick();
+
+        assertEquals(100, profiler.getHistogram(TickPhase.INPUT).last(), "Input should get the time up to its mark.");
+        assertEquals(2_000, profiler.getHistogram(TickPhase.COLLISIONS).last(), "Collisions should get the time since the input mark.");
+        assertEquals(30, profiler.getHistogram(TickPhase.CLEANUP).last(), "Cleanup should get the time since the collisions mark.");
+        assertEquals(0, profiler.getHistogram(TickPhase.UI).last(), "Unmarked phases should record zero.");
+        assertEquals(2_130, profiler.getTickHistogram().last(), "The tick should cover every marked phase.");
+    }
+
+    @Test
+    void phaseDurationsDoNotLeakIntoNextTick() {
+        TickProfiler profiler = createProfiler();
+        for (int i = 0; i < 2; i++) {
+            profiler.beginTick();
+            now += 50;
+            profiler.mark(TickPhase.ACTOR_UPDATE);
+            profiler.endTick();
+        }
+
+        assertEquals(2, profiler.getHistogram(TickPhase.ACTOR_UPDATE).getCount(), "Each tick should record one sample.");
+        assertEquals(50, profiler.getHistogram(TickPhase.ACTOR_UPDATE).max(), "Each tick should start from zero.");
+    }
+
+    @Test
+    void disabledProfilerRecordsNothing() {
+        TickProfiler profiler = createProfiler();
+        profiler.setEnabled(false);
+
+        profiler.beginTick();
+        now += 50;
+        profiler.mark(TickPhase.INPUT);
+        profiler.endTick();
+
+        assertEquals(0, profiler.getTickHistogram().getCount(), "A disabled profiler should not record ticks.");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRecordingTest {
+
+    private static final String START_LEVEL = "com.example.demo.levels.LevelOne";
+
+    @Test
+    void roundTripPreservesSeedLevelAndInputs() throws IOException {
+        InputRecorder recorder = new InputRecorder(-42L, START_LEVEL);
+        int[] inputs = {0, 0, InputAction.UP.mask(), InputAction.UP.mask() | InputAction.FIRE.mask(), 0, InputAction.RIGHT.mask()};
+        for (int input : inputs) {
+            recorder.record(input);
+        }
+
+        InputRecording copy = roundTrip(recorder.toRecording());
+
+        assertEquals(-42L, copy.getSeed());
+        assertEquals(START_LEVEL, copy.getStartLevel());
+        assertEquals(inputs.length, copy.getTickCount());
+        for (int tick = 0; tick < inputs.length; tick++) {
+            assertEquals(inputs[tick], copy.getInput(tick), "Input of tick " + tick + " should survive the round trip.");
+        }
+    }
+
+    @Test
+    void longRunsAreEncodedCompactly() throws IOException {
+        InputRecorder recorder = new InputRecorder(1L, START_LEVEL);
+        for (int tick = 0; tick < 100_000; tick++) {
+            recorder.record(tick < 50_000 ? 0 : InputAction.LEFT.mask()); // Two runs, longer than the initial capacity
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toRecording().writeTo(out);
+        InputRecording copy = InputRecording.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertTrue(out.size() < 100, "Two runs should take a few bytes, not one per tick: " + out.size());
+        assertEquals(100_000, copy.getTickCount());
+        assertEquals(0, copy.getInput(49_999));
+        assertEquals(InputAction.LEFT.mask(), copy.getInput(50_000));
+    }
+
+    @Test
+    void emptyRecordingRoundTrips() throws IOException {
+        InputRecording copy = roundTrip(new InputRecorder(7L, START_LEVEL).toRecording());
+
+        assertEquals(0, copy.getTickCount());
+        assertEquals(7L, copy.getSeed());
+    }
+
+    @Test
+    void rejectsDataThatIsNotARecording() {
+        byte[] data = "not a recording at all".getBytes();
+
+        assertThrows(IOException.class, () -> InputRecording.readFrom(new ByteArrayInputStream(data)));
+    }
+
+    @Test
+    void rejectsTruncatedRecording() throws IOException {
+        InputRecorder recorder = new InputRecorder(1L, START_LEVEL);
+        recorder.record(InputAction.UP.mask());
+        recorder.record(InputAction.DOWN.mask());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toRecording().writeTo(out);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 2);
+
+        assertThrows(IOException.class, () -> InputRecording.readFrom(new ByteArrayInputStream(truncated)));
+    }
+
+    private static InputRecording roundTrip(InputRecording recording) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.writeTo(out);
+        return InputRecording.readFrom(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
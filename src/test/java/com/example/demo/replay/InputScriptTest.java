@@ -0,0 +1,32 @@
+package com.example.demo.replay;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputScriptTest {
+
+    @Test
+    void repeatsStepsForTheRequestedTicks() {
+        InputScript script = InputScript.parse("UP+FIRE*2, IDLE, down*3");
+        InputRecording recording = script.toRecording(5L, "com.example.demo.levels.LevelOne", 8);
+
+        int upAndFire = InputAction.UP.mask() | InputAction.FIRE.mask();
+        int down = InputAction.DOWN.mask();
+        int[] expected = {upAndFire, upAndFire, 0, down, down, down, upAndFire, upAndFire};
+        assertEquals(6, script.getCycleLength());
+        assertEquals(expected.length, recording.getTickCount());
+        for (int tick = 0; tick < expected.length; tick++) {
+            assertEquals(expected[tick], recording.getInput(tick), "Input of tick " + tick);
+        }
+        assertEquals(5L, recording.getSeed());
+    }
+
+    @Test
+    void rejectsMalformedScripts() {
+        assertThrows(IllegalArgumentException.class, () -> InputScript.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> InputScript.parse("JUMP*3"));
+        assertThrows(IllegalArgumentException.class, () -> InputScript.parse("UP*0"));
+        assertThrows(IllegalArgumentException.class, () -> InputScript.parse("UP*many"));
+    }
+}
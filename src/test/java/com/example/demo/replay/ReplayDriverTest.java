@@ -0,0 +1,34 @@
+package com.example.demo.replay;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayDriverTest {
+
+    @Test
+    void playsRecordedInputsInOrderThenNothing() {
+        InputRecorder recorder = new InputRecorder(3L, "com.example.demo.levels.LevelOne");
+        recorder.record(InputAction.FIRE.mask());
+        recorder.record(InputAction.DOWN.mask());
+        ReplayDriver driver = new ReplayDriver(recorder.toRecording(), ReplaySpeed.REAL_TIME);
+
+        assertEquals(InputAction.FIRE.mask(), driver.nextInput());
+        assertFalse(driver.isFinished());
+        assertEquals(InputAction.DOWN.mask(), driver.nextInput());
+        assertTrue(driver.isFinished(), "Every recorded tick has been played.");
+        assertEquals(0, driver.nextInput(), "No keys should be held once the recording runs out.");
+        assertEquals(2, driver.getTick());
+    }
+
+    @Test
+    void inputActionsUseDistinctBits() {
+        int all = 0;
+        for (InputAction action : InputAction.values()) {
+            assertEquals(0, all & action.mask(), action + " should not share a bit with another action.");
+            all |= action.mask();
+            assertTrue(action.isSetIn(all));
+        }
+        assertTrue(all <= 0xFF, "Every action should fit in the recorded byte.");
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.sounds;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MusicCacheTest {
+
+    private final List<String> loaded = new ArrayList<>();
+    private final List<String> disposed = new ArrayList<>();
+    private final Set<String> playing = new HashSet<>();
+
+    private MusicCache<String> newCache(int capacity) {
+        return new MusicCache<>(capacity, path -> {
+            loaded.add(path);
+            return path.startsWith("missing") ? null : path;
+        }, disposed::add, playing::contains);
+    }
+
+    @Test
+    void preparedTrackIsNotLoadedAgain() {
+        MusicCache<String> cache = newCache(3);
+
+        cache.prepare("menu");
+        assertEquals("menu", cache.get("menu"));
+        cache.prepare("menu");
+
+        assertEquals(List.of("menu"), loaded, "A ready track should be loaded only once.");
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void unpreparedTrackIsLoadedOnDemand() {
+        MusicCache<String> cache = newCache(3);
+
+        assertEquals("level", cache.get("level"));
+        assertTrue(cache.isReady("level"), "A track loaded on demand should stay ready.");
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void leastRecentlyUsedTrackIsDisposed() {
+        MusicCache<String> cache = newCache(2);
+
+        cache.prepare("menu");
+        cache.prepare("level");
+        cache.get("menu"); // Level is now the least recently used
+        cache.prepare("gameover");
+
+        assertEquals(List.of("level"), disposed);
+        assertTrue(cache.isReady("menu"));
+        assertFalse(cache.isReady("level"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void trackInUseIsNotEvicted() {
+        MusicCache<String> cache = newCache(2);
+
+        cache.prepare("menu");
+        cache.prepare("level");
+        playing.add("menu");
+        cache.prepare("gameover");
+
+        assertEquals(List.of("level"), disposed, "The playing track should be skipped when evicting.");
+        assertTrue(cache.isReady("menu"));
+    }
+
+    @Test
+    void cacheMayGrowWhileEveryTrackIsInUse() {
+        MusicCache<String> cache = newCache(1);
+
+        cache.prepare("menu");
+        playing.add("menu");
+        cache.prepare("level");
+
+        assertTrue(disposed.isEmpty(), "A track in use should never be disposed.");
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void trackThatFailsToLoadIsNotCached() {
+        MusicCache<String> cache = newCache(2);
+
+        assertNull(cache.get("missing"));
+        assertFalse(cache.isReady("missing"));
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> newCache(0));
+    }
+}
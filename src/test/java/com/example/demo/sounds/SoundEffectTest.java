@@ -0,0 +1,103 @@
+package com.example.demo.sounds;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEffectTest {
+
+    private static final long INTERVAL = 50;
+
+    private long now = 1_000;
+
+    @Test
+    void triggersWithinTheIntervalAreDropped() {
+        SoundEffect effect = new SoundEffect(List.of(new FakeVoice()), INTERVAL, () -> now);
+
+        assertTrue(effect.tryTrigger(), "The first trigger should be accepted.");
+        now += INTERVAL - 1;
+        assertFalse(effect.tryTrigger(), "A trigger inside the interval should be dropped.");
+        now += 1;
+        assertTrue(effect.tryTrigger(), "A trigger after the interval should be accepted.");
+        assertEquals(1, effect.getDroppedCount());
+    }
+
+    @Test
+    void idleVoicesAreUsedBeforeStealing() {
+        FakeVoice first = new FakeVoice();
+        FakeVoice second = new FakeVoice();
+        SoundEffect effect = new SoundEffect(List.of(first, second), INTERVAL, () -> now);
+
+        effect.playVoice();
+        now += 10;
+        effect.playVoice();
+
+        assertEquals(1, first.plays);
+        assertEquals(1, second.plays);
+        assertEquals(0, effect.getStolenCount(), "No voice should be stolen while one is idle.");
+    }
+
+    @Test
+    void oldestVoiceIsStolenWhenAllAreBusy() {
+        FakeVoice first = new FakeVoice();
+        FakeVoice second = new FakeVoice();
+        SoundEffect effect = new SoundEffect(List.of(first, second), INTERVAL, () -> now);
+
+        effect.playVoice(); // first
+        now += 10;
+        effect.playVoice(); // second
+        now += 10;
+        effect.playVoice(); // Both busy: first started longest ago
+        now += 10;
+        effect.playVoice(); // Now second is the oldest
+
+        assertEquals(1, first.stops);
+        assertEquals(1, second.stops);
+        assertEquals(2, first.plays);
+        assertEquals(2, second.plays);
+        assertEquals(2, effect.getStolenCount());
+    }
+
+    @Test
+    void finishedVoicesAreReused() {
+        FakeVoice only = new FakeVoice();
+        SoundEffect effect = new SoundEffect(List.of(only), INTERVAL, () -> now);
+
+        effect.playVoice();
+        only.playing = false; // Finished on its own
+        effect.playVoice();
+
+        assertEquals(0, only.stops, "A finished voice should not need stopping.");
+        assertEquals(0, effect.getStolenCount());
+    }
+
+    @Test
+    void requiresAtLeastOneVoice() {
+        assertThrows(IllegalArgumentException.class, () -> new SoundEffect(List.of(), INTERVAL, () -> now));
+    }
+
+    private static final class FakeVoice implements SoundEffect.Voice {
+        private boolean playing;
+        private int plays;
+        private int stops;
+
+        @Override
+        public void play() {
+            playing = true;
+            plays++;
+        }
+
+        @Override
+        public void stop() {
+            playing = false;
+            stops++;
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return playing;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.tools;
+
+import com.example.demo.levels.LevelFactory;
+import com.example.demo.managers.GameStateManager;
+import com.example.demo.replay.InputRecording;
+import com.example.demo.replay.InputScript;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+
+    private static final String LEVEL_ONE = LevelFactory.FIRST_LEVEL;
+
+    @Test
+    void stopsAtTheTickLimit() throws ReflectiveOperationException {
+        InputRecording recording = InputScript.parse("UP*5,DOWN*5").toRecording(11L, LEVEL_ONE, 40);
+
+        HeadlessRunner.Report report = HeadlessRunner.run(recording, 40);
+
+        assertEquals(40, report.getTicks());
+        assertEquals(GameStateManager.GameState.PLAYING, report.getFinalState(), "The game should still be running.");
+        assertEquals("Level One", report.getFinalLevel());
+    }
+
+    @Test
+    void sameSeedAndInputGiveTheSameOutcome() throws ReflectiveOperationException {
+        InputRecording recording = InputScript.parse("IDLE").toRecording(7L, LEVEL_ONE, 5_000);
+
+        HeadlessRunner.Report first = HeadlessRunner.run(recording, 5_000);
+        HeadlessRunner.Report second = HeadlessRunner.run(recording, 5_000);
+
+        assertEquals(GameStateManager.GameState.GAME_OVER, first.getFinalState(), "An idle player should eventually lose.");
+        assertTrue(first.getTicks() < 5_000, "The run should stop when the game is lost.");
+        assertEquals(first.getTicks(), second.getTicks(), "Replaying the same session should end on the same tick.");
+        assertEquals(first.getKillCount(), second.getKillCount());
+        assertEquals(first.getUserHealth(), second.getUserHealth());
+    }
+
+    @Test
+    void runsLevelFiles() throws ReflectiveOperationException {
+        InputRecording recording = InputScript.parse("UP+FIRE*20,DOWN+FIRE*20")
+                .toRecording(5L, "/com/example/demo/levels/skirmish.level", 400);
+
+        HeadlessRunner.Report report = HeadlessRunner.run(recording, 400);
+
+        assertEquals("Skirmish", report.getFinalLevel());
+        assertTrue(report.getTicks() > 0);
+    }
+
+    @Test
+    void levelFileBossWithAMissingImageKeepsTheStandardBoss(@TempDir Path directory) throws Exception {
+        Path level = directory.resolve("missing-boss.level");
+        Files.writeString(level, """
+                background /com/example/demo/images/background1.jpeg
+                boss /com/example/demo/images/missing.png 500 300
+                waves
+                wave
+                spawn 60.0 FIGHTER COLUMN 1 0
+                """);
+        InputRecording recording = InputScript.parse("FIRE").toRecording(3L, level.toString(), 10);
+
+        HeadlessRunner.Report report = HeadlessRunner.run(recording, 10);
+
+        assertEquals(10, report.getTicks());
+        assertEquals(GameStateManager.GameState.PLAYING, report.getFinalState());
+    }
+}
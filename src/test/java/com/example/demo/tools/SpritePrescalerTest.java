@@ -0,0 +1,34 @@
+package com.example.demo.tools;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpritePrescalerTest {
+
+    @Test
+    void scaledImageKeepsAspectRatio() {
+        BufferedImage source = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage scaled = SpritePrescaler.scaleToHeight(source, 50);
+
+        assertEquals(50, scaled.getHeight());
+        assertEquals(67, scaled.getWidth(), "Width should follow the 4:3 aspect ratio.");
+    }
+
+    @Test
+    void solidColourSurvivesScaling() {
+        BufferedImage source = new BufferedImage(512, 512, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 512; y++) {
+            for (int x = 0; x < 512; x++) {
+                source.setRGB(x, y, 0xFF3366CC);
+            }
+        }
+
+        BufferedImage scaled = SpritePrescaler.scaleToHeight(source, 30);
+
+        assertEquals(0xFF3366CC, scaled.getRGB(15, 15), "Filtering a uniform image should not change its colour.");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.utils;
+
+import com.example.demo.model.CollisionMask;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CollisionMaskCacheTest {
+
+    private static final String USER_PLANE = "/com/example/demo/images/userplane.png";
+
+    @Test
+    void maskIsBuiltAtDisplaySize() {
+        CollisionMask mask = CollisionMaskCache.getInstance().getMask(USER_PLANE, 150);
+
+        assertNotNull(mask, "A sprite with transparent pixels should have a mask.");
+        assertEquals(150, mask.getHeight());
+        assertEquals(200, mask.getWidth(), "The width should keep the image's aspect ratio.");
+        assertFalse(mask.isSet(0, 0), "The sprite's corner should be transparent.");
+    }
+
+    @Test
+    void maskIsBuiltOnce() {
+        CollisionMaskCache cache = CollisionMaskCache.getInstance();
+
+        assertSame(cache.getMask(USER_PLANE, 60), cache.getMask(USER_PLANE, 60));
+    }
+
+    @Test
+    void maskIsReadFromThePrescaledCopy() {
+        assumeTrue(getClass().getResource(SpriteVariants.VARIANT_LOCATION + SpriteVariants.INDEX_FILE) != null,
+                "The build has not pre-scaled the sprites.");
+        CollisionMaskCache cache = new CollisionMaskCache(SpriteVariants.load());
+
+        assertTrue(cache.findSource(USER_PLANE, 150).getPath().endsWith("/scaled/userplane-150.png"));
+        assertTrue(cache.findSource(USER_PLANE, 600).getPath().endsWith("/images/userplane.png"),
+                "Sizes without a copy should read the original.");
+    }
+
+    @Test
+    void missingCopyFallsBackToTheOriginal() {
+        Map<String, SpriteVariants.Entry> entries = new HashMap<>();
+        SpriteVariants.parseLine("userplane.png=800x600:90", entries); // Listed, but no such copy exists
+        CollisionMaskCache cache = new CollisionMaskCache(new SpriteVariants(entries));
+
+        CollisionMask mask = cache.getMask(USER_PLANE, 90);
+
+        assertNotNull(mask);
+        assertEquals(120, mask.getWidth());
+    }
+
+    @Test
+    void missingImageHasNoMask() {
+        assertNull(CollisionMaskCache.getInstance().getMask("/com/example/demo/images/missing.png", 40));
+    }
+}
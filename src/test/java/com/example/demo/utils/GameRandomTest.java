@@ -0,0 +1,65 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextDouble(GameRandom.Stream.SPAWNING), second.nextDouble(GameRandom.Stream.SPAWNING));
+        }
+    }
+
+    @Test
+    void streamsAreIndependent() {
+        GameRandom quiet = new GameRandom(7);
+        GameRandom busy = new GameRandom(7);
+        for (int i = 0; i < 50; i++) {
+            busy.nextDouble(GameRandom.Stream.ENEMY_FIRE); // Extra draws on another stream
+        }
+
+        assertEquals(quiet.nextDouble(GameRandom.Stream.SPAWNING), busy.nextDouble(GameRandom.Stream.SPAWNING),
+                "Draws on one stream should not shift another.");
+    }
+
+    @Test
+    void levelsGetDifferentButReproducibleSeeds() {
+        GameRandom.setSessionSeed(1234);
+        long levelOne = GameRandom.startLevel("LevelOne").getSeed();
+        long levelTwo = GameRandom.startLevel("LevelTwo").getSeed();
+        GameRandom.setSessionSeed(1234);
+
+        assertNotEquals(levelOne, levelTwo, "Each level should have its own seed.");
+        assertEquals(levelOne, GameRandom.startLevel("LevelOne").getSeed(), "Level seeds should follow from the session seed.");
+    }
+
+    @Test
+    void shuffleIsADeterministicPermutation() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        List<Integer> second = new ArrayList<>(first);
+
+        new GameRandom(99).shuffle(GameRandom.Stream.BOSS, first);
+        new GameRandom(99).shuffle(GameRandom.Stream.BOSS, second);
+
+        assertEquals(first, second, "The same seed should give the same permutation.");
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), first.stream().sorted().toList(), "Shuffling should keep every element.");
+    }
+
+    @Test
+    void boundedDoublesStayInRange() {
+        GameRandom random = new GameRandom(3);
+        for (int i = 0; i < 1000; i++) {
+            double value = random.nextDouble(GameRandom.Stream.ENEMY_FIRE, -100, -80);
+            assertTrue(value >= -100 && value < -80);
+        }
+    }
+}
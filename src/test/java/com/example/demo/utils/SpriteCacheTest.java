@@ -0,0 +1,71 @@
+package com.example.demo.utils;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.demo.JavaFXInitializer;
+
+class SpriteCacheTest {
+
+    private static final String HEART = "/com/example/demo/images/heart.png";
+    private static final String FIREBALL = "/com/example/demo/images/fireball.png";
+
+    private SpriteCache spriteCache;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize(); // Ensure JavaFX is initialized
+    }
+
+    @BeforeEach
+    void setUp() {
+        spriteCache = SpriteCache.getInstance();
+        spriteCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        spriteCache.setMaximumEntries(64);
+        spriteCache.clear();
+    }
+
+    @Test
+    void getImageReturnsSharedInstance() {
+        Image first = spriteCache.getImage(HEART, 0, 50);
+        Image second = spriteCache.getImage(HEART, 0, 50);
+
+        assertNotNull(first, "Existing resource should be decoded.");
+        assertSame(first, second, "Same path and size should share one decoded image.");
+        assertEquals(1, spriteCache.getMissCount(), "First lookup should be a miss.");
+        assertEquals(1, spriteCache.getHitCount(), "Second lookup should be a hit.");
+    }
+
+    @Test
+    void differentSizesAreCachedSeparately() {
+        Image small = spriteCache.getImage(HEART, 0, 20);
+        Image large = spriteCache.getImage(HEART, 0, 50);
+
+        assertNotSame(small, large, "Different requested sizes should not share an image.");
+        assertEquals(2, spriteCache.size(), "Both sizes should be cached.");
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        spriteCache.setMaximumEntries(1);
+        spriteCache.getImage(HEART, 0, 50);
+        spriteCache.getImage(FIREBALL, 0, 75);
+
+        assertEquals(1, spriteCache.size(), "Cache should respect the entry limit.");
+        assertEquals(1, spriteCache.getEvictionCount(), "Exceeding the limit should evict one entry.");
+    }
+
+    @Test
+    void missingResourceReturnsNull() {
+        assertNull(spriteCache.getImage("/com/example/demo/images/missing.png"), "Missing resource should return null.");
+        assertEquals(0, spriteCache.size(), "Missing resources should not be cached.");
+    }
+}
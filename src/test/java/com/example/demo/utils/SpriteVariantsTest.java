@@ -0,0 +1,52 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteVariantsTest {
+
+    private static final int[] HEIGHTS = {50, 150};
+
+    @Test
+    void smallestCoveringHeightIsChosen() {
+        assertEquals(50, SpriteVariants.selectHeight(800, 600, HEIGHTS, 0, 50), "An exact match should be used.");
+        assertEquals(150, SpriteVariants.selectHeight(800, 600, HEIGHTS, 0, 100), "A larger copy should be scaled down.");
+        assertEquals(50, SpriteVariants.selectHeight(800, 600, HEIGHTS, 0, 50.4), "Rounding differences should be tolerated.");
+    }
+
+    @Test
+    void boxRequestUsesConstrainingDimension() {
+        // 800x600 fitted into 200x200 is 200x150
+        assertEquals(150, SpriteVariants.selectHeight(800, 600, HEIGHTS, 200, 200));
+    }
+
+    @Test
+    void originalIsUsedWhenNoCopyCovers() {
+        assertEquals(-1, SpriteVariants.selectHeight(800, 600, HEIGHTS, 0, 300), "No copy is tall enough.");
+        assertEquals(-1, SpriteVariants.selectHeight(800, 600, HEIGHTS, 0, 0), "Natural size requests use the original.");
+        assertEquals(-1, SpriteVariants.selectHeight(800, 600, HEIGHTS, 0, 900), "Upscaled requests use the original.");
+    }
+
+    @Test
+    void resolveMapsToVariantLocation() {
+        Map<String, SpriteVariants.Entry> entries = new HashMap<>();
+        SpriteVariants.parseLine("heart.png=529x472:50", entries);
+        SpriteVariants variants = new SpriteVariants(entries);
+
+        assertEquals("/com/example/demo/images/scaled/heart-50.png",
+                variants.resolve("/com/example/demo/images/heart.png", 0, 50));
+        assertEquals("/com/example/demo/images/heart.png",
+                variants.resolve("/com/example/demo/images/heart.png", 0, 0));
+        assertEquals("/com/example/demo/images/shield.png",
+                variants.resolve("/com/example/demo/images/shield.png", 0, 50), "Sprites without copies resolve to themselves.");
+    }
+
+    @Test
+    void variantNamesAreAlwaysPng() {
+        assertEquals("exit-30.png", SpriteVariants.variantName("exit.jpg", 30));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.utils.atlas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShelfPackerTest {
+
+    @Test
+    void rectanglesShareAShelfLeftToRight() {
+        ShelfPacker packer = new ShelfPacker(100, 100, 0);
+
+        AtlasRegion first = packer.allocate(30, 20);
+        AtlasRegion second = packer.allocate(40, 20);
+
+        assertEquals(0, first.getX());
+        assertEquals(30, second.getX(), "The second rectangle should follow the first on the same shelf.");
+        assertEquals(first.getY(), second.getY());
+        assertEquals(20, packer.getUsedHeight());
+    }
+
+    @Test
+    void tallerRectangleOpensNewShelf() {
+        ShelfPacker packer = new ShelfPacker(100, 100, 0);
+        packer.allocate(30, 20);
+
+        AtlasRegion tall = packer.allocate(30, 40);
+
+        assertEquals(20, tall.getY(), "A rectangle taller than every shelf should open a new one below.");
+        assertEquals(60, packer.getUsedHeight());
+    }
+
+    @Test
+    void shortRectanglePrefersTightestShelf() {
+        ShelfPacker packer = new ShelfPacker(30, 100, 0);
+        packer.allocate(10, 50);
+        packer.allocate(25, 20); // Too wide for the first shelf, so it opens a second one
+
+        AtlasRegion small = packer.allocate(5, 15); // Fits on both shelves
+
+        assertEquals(50, small.getY(), "The shelf wasting the least height should be used.");
+    }
+
+    @Test
+    void paddingSeparatesRegions() {
+        ShelfPacker packer = new ShelfPacker(100, 100, 2);
+
+        AtlasRegion first = packer.allocate(10, 10);
+        AtlasRegion second = packer.allocate(10, 10);
+
+        assertEquals(12, second.getX(), "Regions should be separated by the padding.");
+        assertFalse(first.overlaps(second));
+    }
+
+    @Test
+    void fullAtlasReturnsNull() {
+        ShelfPacker packer = new ShelfPacker(50, 50, 0);
+
+        assertNotNull(packer.allocate(50, 50));
+        assertNull(packer.allocate(1, 1), "No room should be left.");
+        assertNull(new ShelfPacker(50, 50, 0).allocate(51, 10), "A rectangle wider than the atlas cannot fit.");
+    }
+
+    @Test
+    void manyRectanglesNeverOverlap() {
+        ShelfPacker packer = new ShelfPacker(256, 256, 1);
+        List<AtlasRegion> regions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            AtlasRegion region = packer.allocate(5 + (i * 7) % 23, 5 + (i * 11) % 17);
+            if (region != null) {
+                assertTrue(region.getX() + region.getWidth() <= 256 && region.getY() + region.getHeight() <= 256,
+                        "Regions should stay inside the atlas.");
+                regions.add(region);
+            }
+        }
+
+        for (int i = 0; i < regions.size(); i++) {
+            for (int j = i + 1; j < regions.size(); j++) {
+                assertFalse(regions.get(i).overlaps(regions.get(j)), regions.get(i) + " overlaps " + regions.get(j));
+            }
+        }
+        assertTrue(regions.size() > 100, "Most rectangles should fit.");
+    }
+}